@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.ProfilerConfig;
+
+/**
+ * Runs the Nalu benchmarks.
+ * <p>
+ * The runner accepts the command line options of JMH (for example a
+ * regular expression to select the benchmarks) and adds the GC
+ * profiler (same as '-prof gc'), in case it is not already requested,
+ * so the allocation rate of every benchmark is reported next to its
+ * score.
+ */
+public class NaluBenchmarks {
+
+  private NaluBenchmarks() {
+  }
+
+  public static void main(String[] args)
+      throws CommandLineOptionException, RunnerException {
+    CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+    ChainedOptionsBuilder optionsBuilder = new OptionsBuilder().parent(commandLineOptions);
+    if (!hasGCProfiler(commandLineOptions)) {
+      optionsBuilder.addProfiler(GCProfiler.class);
+    }
+    new Runner(optionsBuilder.build()).run();
+  }
+
+  /**
+   * Checks, if the GC profiler is requested on the command line
+   * (using its alias 'gc' or its class name).
+   *
+   * @param options the options of the command line
+   * @return true, in case the GC profiler is requested
+   */
+  private static boolean hasGCProfiler(Options options) {
+    for (ProfilerConfig profiler : options.getProfilers()) {
+      if ("gc".equals(profiler.getKlass()) ||
+          GCProfiler.class.getCanonicalName()
+                          .equals(profiler.getKlass())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+}
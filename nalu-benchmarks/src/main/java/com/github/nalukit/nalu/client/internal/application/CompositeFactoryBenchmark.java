@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.application;
+
+import com.github.nalukit.nalu.client.application.IsContext;
+import com.github.nalukit.nalu.client.component.AbstractCompositeComponent;
+import com.github.nalukit.nalu.client.component.AbstractCompositeController;
+import com.github.nalukit.nalu.client.exception.RoutingInterceptionException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Benchmarks of the composite factory: creating a composite, reusing
+ * a cached composite, reusing a global composite and storing a
+ * composite in the cache.
+ * <p>
+ * The creators mimic the creators generated by the processor.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5,
+        time = 1)
+@Measurement(iterations = 5,
+             time = 1)
+@Fork(1)
+public class CompositeFactoryBenchmark {
+
+  private static final String PARENT_CONTROLLER = "com.github.nalukit.nalu.benchmarks.ParentController";
+
+  private static final String CREATED_COMPOSITE = BenchmarkComposite.class.getCanonicalName();
+
+  private static final String CACHED_COMPOSITE = CachedBenchmarkComposite.class.getCanonicalName();
+
+  private static final String GLOBAL_COMPOSITE = GlobalBenchmarkComposite.class.getCanonicalName();
+
+  private static final String[] PARAMETERS = new String[] { "4711" };
+
+  private AbstractCompositeController<?, ?, ?> cachedComposite;
+
+  @Setup(Level.Trial)
+  public void setUp()
+      throws RoutingInterceptionException {
+    CompositeFactory.get()
+                    .registerComposite(CREATED_COMPOSITE,
+                                       new BenchmarkCompositeCreator(CREATED_COMPOSITE,
+                                                                     BenchmarkComposite::new));
+    CompositeFactory.get()
+                    .registerComposite(CACHED_COMPOSITE,
+                                       new BenchmarkCompositeCreator(CACHED_COMPOSITE,
+                                                                     CachedBenchmarkComposite::new));
+    CompositeFactory.get()
+                    .registerComposite(GLOBAL_COMPOSITE,
+                                       new BenchmarkCompositeCreator(GLOBAL_COMPOSITE,
+                                                                     GlobalBenchmarkComposite::new));
+    // create the cached composite and store it
+    this.cachedComposite = CompositeFactory.get()
+                                           .getComposite(PARENT_CONTROLLER,
+                                                         CACHED_COMPOSITE,
+                                                         false,
+                                                         PARAMETERS)
+                                           .getComposite();
+    CompositeFactory.get()
+                    .storeInCache(this.cachedComposite);
+    // create the global composite
+    CompositeFactory.get()
+                    .getComposite(PARENT_CONTROLLER,
+                                  GLOBAL_COMPOSITE,
+                                  true,
+                                  PARAMETERS);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    CompositeFactory.get()
+                    .clearControllerCache();
+  }
+
+  @Benchmark
+  public CompositeInstance createComposite()
+      throws RoutingInterceptionException {
+    return CompositeFactory.get()
+                           .getComposite(PARENT_CONTROLLER,
+                                         CREATED_COMPOSITE,
+                                         false,
+                                         PARAMETERS);
+  }
+
+  @Benchmark
+  public CompositeInstance cachedComposite()
+      throws RoutingInterceptionException {
+    return CompositeFactory.get()
+                           .getComposite(PARENT_CONTROLLER,
+                                         CACHED_COMPOSITE,
+                                         false,
+                                         PARAMETERS);
+  }
+
+  @Benchmark
+  public CompositeInstance globalComposite()
+      throws RoutingInterceptionException {
+    return CompositeFactory.get()
+                           .getComposite(PARENT_CONTROLLER,
+                                         GLOBAL_COMPOSITE,
+                                         true,
+                                         PARAMETERS);
+  }
+
+  @Benchmark
+  public AbstractCompositeController<?, ?, ?> storeAndRemoveComposite() {
+    CompositeFactory.get()
+                    .removeFromCache(this.cachedComposite);
+    CompositeFactory.get()
+                    .storeInCache(this.cachedComposite);
+    return CompositeFactory.get()
+                           .getCompositeFormStore(PARENT_CONTROLLER,
+                                                  CACHED_COMPOSITE);
+  }
+
+  static class BenchmarkContext
+      implements IsContext {
+
+  }
+
+  static class BenchmarkCompositeComponent
+      extends AbstractCompositeComponent<BenchmarkComposite, String> {
+
+    @Override
+    public void render() {
+      initElement("benchmark");
+    }
+
+  }
+
+  static class BenchmarkComposite
+      extends AbstractCompositeController<BenchmarkContext, BenchmarkCompositeComponent, String> {
+
+    private String parameter;
+
+    void setParameter(String parameter) {
+      this.parameter = parameter;
+    }
+
+  }
+
+  static class CachedBenchmarkComposite
+      extends BenchmarkComposite {
+
+  }
+
+  static class GlobalBenchmarkComposite
+      extends BenchmarkComposite {
+
+  }
+
+  static class BenchmarkCompositeCreator
+      implements IsCompositeCreator {
+
+    private final String compositeClassName;
+
+    private final Supplier<BenchmarkComposite> compositeSupplier;
+
+    BenchmarkCompositeCreator(String compositeClassName,
+                              Supplier<BenchmarkComposite> compositeSupplier) {
+      this.compositeClassName = compositeClassName;
+      this.compositeSupplier = compositeSupplier;
+    }
+
+    @Override
+    public CompositeInstance create(String parentControllerClassName) {
+      CompositeInstance compositeInstance = new CompositeInstance();
+      compositeInstance.setCompositeClassName(this.compositeClassName);
+      AbstractCompositeController<?, ?, ?> storedComposite = CompositeFactory.get()
+                                                                             .getCompositeFormStore(parentControllerClassName,
+                                                                                                    this.compositeClassName);
+      if (storedComposite == null) {
+        BenchmarkComposite composite = this.compositeSupplier.get();
+        compositeInstance.setComposite(composite);
+        composite.setParentClassName(parentControllerClassName);
+        composite.setContext(new BenchmarkContext());
+        composite.setCached(false);
+        BenchmarkCompositeComponent component = new BenchmarkCompositeComponent();
+        component.setController(composite);
+        composite.setComponent(component);
+        component.render();
+        component.bind();
+      } else {
+        compositeInstance.setComposite(storedComposite);
+        compositeInstance.setChached(true);
+        compositeInstance.getComposite()
+                         .setCached(true);
+      }
+      return compositeInstance;
+    }
+
+    @Override
+    public void setParameter(Object object,
+                             String... parms) {
+      BenchmarkComposite composite = (BenchmarkComposite) object;
+      if (parms != null && parms.length >= 1) {
+        composite.setParameter(parms[0]);
+      }
+    }
+
+  }
+
+}
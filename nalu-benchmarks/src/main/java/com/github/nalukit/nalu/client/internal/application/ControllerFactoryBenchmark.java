@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.application;
+
+import com.github.nalukit.nalu.client.application.IsContext;
+import com.github.nalukit.nalu.client.component.AbstractComponent;
+import com.github.nalukit.nalu.client.component.AbstractComponentController;
+import com.github.nalukit.nalu.client.exception.RoutingInterceptionException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Benchmarks of the controller factory: creating a controller (create,
+ * bind, render and set parameters), reusing a cached controller and
+ * storing a controller in the cache.
+ * <p>
+ * The creators mimic the creators generated by the processor.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5,
+        time = 1)
+@Measurement(iterations = 5,
+             time = 1)
+@Fork(1)
+public class ControllerFactoryBenchmark {
+
+  private static final String CREATED_CONTROLLER = BenchmarkController.class.getCanonicalName();
+
+  private static final String CACHED_CONTROLLER = CachedBenchmarkController.class.getCanonicalName();
+
+  private static final String[] PARAMETERS = new String[] { "4711" };
+
+  private BenchmarkCallback callback;
+
+  private AbstractComponentController<?, ?, ?> cachedController;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    ControllerFactory.get()
+                     .registerController(CREATED_CONTROLLER,
+                                         new BenchmarkControllerCreator(CREATED_CONTROLLER,
+                                                                        BenchmarkController::new));
+    ControllerFactory.get()
+                     .registerController(CACHED_CONTROLLER,
+                                         new BenchmarkControllerCreator(CACHED_CONTROLLER,
+                                                                        CachedBenchmarkController::new));
+    this.callback = new BenchmarkCallback();
+    // create the cached controller and store it
+    ControllerFactory.get()
+                     .controller(CACHED_CONTROLLER,
+                                 this.callback,
+                                 PARAMETERS);
+    this.cachedController = this.callback.controllerInstance.getController();
+    ControllerFactory.get()
+                     .storeInCache(this.cachedController);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    ControllerFactory.get()
+                     .clearControllerCache();
+  }
+
+  @Benchmark
+  public ControllerInstance createController() {
+    ControllerFactory.get()
+                     .controller(CREATED_CONTROLLER,
+                                 this.callback,
+                                 PARAMETERS);
+    return this.callback.controllerInstance;
+  }
+
+  @Benchmark
+  public ControllerInstance cachedController() {
+    ControllerFactory.get()
+                     .controller(CACHED_CONTROLLER,
+                                 this.callback,
+                                 PARAMETERS);
+    return this.callback.controllerInstance;
+  }
+
+  @Benchmark
+  public AbstractComponentController<?, ?, ?> storeAndRemoveController() {
+    ControllerFactory.get()
+                     .removeFromCache(this.cachedController);
+    ControllerFactory.get()
+                     .storeInCache(this.cachedController);
+    return ControllerFactory.get()
+                            .getControllerFormStore(CACHED_CONTROLLER);
+  }
+
+  static class BenchmarkContext
+      implements IsContext {
+
+  }
+
+  static class BenchmarkComponent
+      extends AbstractComponent<BenchmarkController, String> {
+
+    @Override
+    public void render() {
+      initElement("benchmark");
+    }
+
+  }
+
+  static class BenchmarkController
+      extends AbstractComponentController<BenchmarkContext, BenchmarkComponent, String> {
+
+    private String parameter;
+
+    void setParameter(String parameter) {
+      this.parameter = parameter;
+    }
+
+  }
+
+  static class CachedBenchmarkController
+      extends BenchmarkController {
+
+  }
+
+  static class BenchmarkCallback
+      implements ControllerCallback {
+
+    private ControllerInstance controllerInstance;
+
+    @Override
+    public void onRoutingInterceptionException(RoutingInterceptionException e) {
+      throw new IllegalStateException(e);
+    }
+
+    @Override
+    public void onFinish(ControllerInstance controllerInstance) {
+      this.controllerInstance = controllerInstance;
+    }
+
+  }
+
+  static class BenchmarkControllerCreator
+      implements IsControllerCreator {
+
+    private final String controllerClassName;
+
+    private final Supplier<BenchmarkController> controllerSupplier;
+
+    BenchmarkControllerCreator(String controllerClassName,
+                               Supplier<BenchmarkController> controllerSupplier) {
+      this.controllerClassName = controllerClassName;
+      this.controllerSupplier = controllerSupplier;
+    }
+
+    @Override
+    public ControllerInstance create() {
+      ControllerInstance controllerInstance = new ControllerInstance();
+      controllerInstance.setControllerClassName(this.controllerClassName);
+      AbstractComponentController<?, ?, ?> storedController = ControllerFactory.get()
+                                                                               .getControllerFormStore(this.controllerClassName);
+      if (storedController == null) {
+        BenchmarkController controller = this.controllerSupplier.get();
+        controllerInstance.setController(controller);
+        controllerInstance.setChached(false);
+        controller.setContext(new BenchmarkContext());
+        controller.setCached(false);
+      } else {
+        controllerInstance.setController(storedController);
+        controllerInstance.setChached(true);
+        controllerInstance.getController()
+                          .setCached(true);
+      }
+      return controllerInstance;
+    }
+
+    @Override
+    public void onFinishCreating(Object object) {
+      BenchmarkController controller = (BenchmarkController) object;
+      BenchmarkComponent component = new BenchmarkComponent();
+      component.setController(controller);
+      controller.setComponent(component);
+      component.render();
+      component.bind();
+    }
+
+    @Override
+    public void logBindMethodCallToConsole(AbstractComponentController<?, ?, ?> controller,
+                                           boolean isFinished) {
+    }
+
+    @Override
+    public void setParameter(Object object,
+                             String... parms) {
+      BenchmarkController controller = (BenchmarkController) object;
+      if (parms != null && parms.length >= 1) {
+        controller.setParameter(parms[0]);
+      }
+    }
+
+  }
+
+}
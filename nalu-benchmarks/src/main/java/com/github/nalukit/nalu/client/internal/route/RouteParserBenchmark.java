@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the route parser: parsing a hash (without the parse
+ * cache of the router) and generating a hash from a route.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5,
+        time = 1)
+@Measurement(iterations = 5,
+             time = 1)
+@Fork(1)
+public class RouteParserBenchmark {
+
+  @Param({ "10",
+           "100",
+           "1000",
+           "5000" })
+  private int numberOfRoutes;
+
+  private ShellConfiguration shellConfiguration;
+
+  private RouterConfiguration routerConfiguration;
+
+  /* hash of the first route of the table */
+  private String firstHash;
+
+  /* hash of the last route of the table */
+  private String lastHash;
+
+  /* hash, that does not match any route */
+  private String unknownHash;
+
+  /* route with two parameters */
+  private String routeWithParameters;
+
+  private String[] parameterValues;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    RouteTables.registerProperties();
+    this.shellConfiguration = RouteTables.createShellConfiguration();
+    this.routerConfiguration = RouteTables.createRouterConfiguration(this.numberOfRoutes);
+    // build the route tree outside of the measurement
+    this.routerConfiguration.getRouteTree();
+    this.firstHash = RouteTables.hash(0);
+    this.lastHash = RouteTables.hash(this.numberOfRoutes - 1);
+    this.unknownHash = RouteTables.SHELL + "/unknown/4711";
+    this.routeWithParameters = RouteTables.route(2);
+    this.parameterValues = RouteTables.parameterValues(2);
+  }
+
+  @Benchmark
+  public RouteResult parseFirstRoute()
+      throws RouterException {
+    return RouteParser.get()
+                      .parse(this.firstHash,
+                             this.shellConfiguration,
+                             this.routerConfiguration);
+  }
+
+  @Benchmark
+  public RouteResult parseLastRoute()
+      throws RouterException {
+    return RouteParser.get()
+                      .parse(this.lastHash,
+                             this.shellConfiguration,
+                             this.routerConfiguration);
+  }
+
+  @Benchmark
+  public RouterException parseUnknownRoute() {
+    try {
+      RouteParser.get()
+                 .parse(this.unknownHash,
+                        this.shellConfiguration,
+                        this.routerConfiguration);
+      return null;
+    } catch (RouterException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public String generate() {
+    return RouteParser.get()
+                      .generate(this.routeWithParameters,
+                                this.parameterValues);
+  }
+
+}
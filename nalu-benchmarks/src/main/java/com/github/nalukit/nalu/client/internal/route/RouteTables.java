@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import com.github.nalukit.nalu.client.internal.PropertyFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Creates synthetic route tables used by the benchmarks.
+ * <p>
+ * Every route table contains the shell '/application' and the given
+ * number of routes. Every third route has no parameter, every third
+ * route has one parameter and every third route has two parameters.
+ */
+final class RouteTables {
+
+  static final String SHELL = "/application";
+
+  private RouteTables() {
+  }
+
+  static void registerProperties() {
+    PropertyFactory.get()
+                   .register("application/route0",
+                             true,
+                             true,
+                             false,
+                             false);
+  }
+
+  static ShellConfiguration createShellConfiguration() {
+    ShellConfiguration shellConfiguration = new ShellConfiguration();
+    shellConfiguration.getShells()
+                      .add(new ShellConfig(RouteTables.SHELL,
+                                           "com.github.nalukit.nalu.benchmarks.Shell"));
+    return shellConfiguration;
+  }
+
+  static RouterConfiguration createRouterConfiguration(int numberOfRoutes) {
+    RouterConfiguration routerConfiguration = new RouterConfiguration();
+    for (int i = 0; i < numberOfRoutes; i++) {
+      routerConfiguration.addRoute(new RouteConfig(RouteTables.route(i),
+                                                   RouteTables.parameters(i),
+                                                   "content",
+                                                   "com.github.nalukit.nalu.benchmarks.Controller" + i));
+    }
+    return routerConfiguration;
+  }
+
+  /**
+   * Returns the route with the given index (containing a '*' for
+   * every parameter).
+   *
+   * @param index index of the route
+   * @return the route
+   */
+  static String route(int index) {
+    switch (index % 3) {
+      case 0:
+        return RouteTables.SHELL + "/route" + index;
+      case 1:
+        return RouteTables.SHELL + "/section" + index % 10 + "/route" + index + "/*";
+      default:
+        return RouteTables.SHELL + "/section" + index % 10 + "/route" + index + "/*/*";
+    }
+  }
+
+  /**
+   * Returns the hash of the route with the given index (the parameters
+   * are replaced with values).
+   *
+   * @param index index of the route
+   * @return the hash
+   */
+  static String hash(int index) {
+    return RouteTables.route(index)
+                      .replace("*",
+                               "4711");
+  }
+
+  /**
+   * Returns the parameter values of the route with the given index.
+   *
+   * @param index index of the route
+   * @return the parameter values
+   */
+  static String[] parameterValues(int index) {
+    String[] parameterValues = new String[index % 3];
+    Arrays.fill(parameterValues,
+                "4711");
+    return parameterValues;
+  }
+
+  private static ArrayList<String> parameters(int index) {
+    ArrayList<String> parameters = new ArrayList<>();
+    for (int i = 0; i < index % 3; i++) {
+      parameters.add("parameter" + i);
+    }
+    return parameters;
+  }
+
+}
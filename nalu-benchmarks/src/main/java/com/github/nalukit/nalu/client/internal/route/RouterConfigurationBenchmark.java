@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the route lookup of the router configuration
+ * (using the route tree) and of building the route tree.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5,
+        time = 1)
+@Measurement(iterations = 5,
+             time = 1)
+@Fork(1)
+public class RouterConfigurationBenchmark {
+
+  @Param({ "10",
+           "100",
+           "1000",
+           "5000" })
+  private int numberOfRoutes;
+
+  private RouterConfiguration routerConfiguration;
+
+  /* first route of the table */
+  private String firstRoute;
+
+  /* last route of the table */
+  private String lastRoute;
+
+  /* route, that is not part of the table */
+  private String unknownRoute;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    RouteTables.registerProperties();
+    this.routerConfiguration = RouteTables.createRouterConfiguration(this.numberOfRoutes);
+    // build the route tree outside of the measurement
+    this.routerConfiguration.getRouteTree();
+    this.firstRoute = RouteTables.route(0);
+    this.lastRoute = RouteTables.route(this.numberOfRoutes - 1);
+    this.unknownRoute = RouteTables.SHELL + "/unknown/*";
+  }
+
+  @Benchmark
+  public List<RouteConfig> matchFirstRoute() {
+    return this.routerConfiguration.match(this.firstRoute);
+  }
+
+  @Benchmark
+  public List<RouteConfig> matchLastRoute() {
+    return this.routerConfiguration.match(this.lastRoute);
+  }
+
+  @Benchmark
+  public List<RouteConfig> matchUnknownRoute() {
+    return this.routerConfiguration.match(this.unknownRoute);
+  }
+
+  @Benchmark
+  public RouteTree buildRouteTree() {
+    return new RouteTree(this.routerConfiguration.getRouters(),
+                         this.routerConfiguration.getAliases());
+  }
+
+}
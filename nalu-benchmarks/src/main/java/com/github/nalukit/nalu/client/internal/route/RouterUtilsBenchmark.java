@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of RouterUtils.match: matching a single route and
+ * searching a route table by matching every route (the way to find
+ * a route without the route tree).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5,
+        time = 1)
+@Measurement(iterations = 5,
+             time = 1)
+@Fork(1)
+public class RouterUtilsBenchmark {
+
+  @Param({ "10",
+           "100",
+           "1000",
+           "5000" })
+  private int numberOfRoutes;
+
+  /* the routes of the table (containing a '*' for every parameter) */
+  private String[] routes;
+
+  /* hash of the third route of the table (two parameters) */
+  private String hashWithParameters;
+
+  /* hash of the last route of the table */
+  private String lastHash;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    RouteTables.registerProperties();
+    this.routes = new String[this.numberOfRoutes];
+    for (int i = 0; i < this.numberOfRoutes; i++) {
+      this.routes[i] = RouteTables.route(i);
+    }
+    this.hashWithParameters = RouteTables.hash(2);
+    this.lastHash = RouteTables.hash(this.numberOfRoutes - 1);
+  }
+
+  @Benchmark
+  public boolean matchRouteWithoutParameter() {
+    return RouterUtils.match(this.routes[0],
+                             this.routes[0]);
+  }
+
+  @Benchmark
+  public boolean matchRouteWithParameters() {
+    return RouterUtils.match(this.hashWithParameters,
+                             this.routes[2]);
+  }
+
+  @Benchmark
+  public boolean matchRouteExact() {
+    return RouterUtils.match(this.routes[2],
+                             this.routes[2],
+                             true);
+  }
+
+  @Benchmark
+  public int matchLastRouteOfTable() {
+    for (int i = 0; i < this.routes.length; i++) {
+      if (RouterUtils.match(this.lastHash,
+                            this.routes[i])) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+}
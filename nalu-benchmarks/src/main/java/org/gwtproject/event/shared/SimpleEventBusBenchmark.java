@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package org.gwtproject.event.shared;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the event bus: firing an event (with and without
+ * source and using a scope) and adding and removing a handler.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5,
+        time = 1)
+@Measurement(iterations = 5,
+             time = 1)
+@Fork(1)
+public class SimpleEventBusBenchmark {
+
+  @Param({ "1",
+           "10",
+           "100" })
+  private int numberOfHandlers;
+
+  private SimpleEventBus eventBus;
+
+  /* scope of the event bus (like the one of a controller) */
+  private SimpleEventBus scope;
+
+  private Object source;
+
+  private BenchmarkEvent event;
+
+  /* number of handled events - prevents dead code elimination */
+  private long handled;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    this.eventBus = new SimpleEventBus();
+    this.scope = this.eventBus.createScope();
+    this.source = new Object();
+    this.event = new BenchmarkEvent();
+    for (int i = 0; i < this.numberOfHandlers; i++) {
+      this.eventBus.addHandler(BenchmarkEvent.TYPE,
+                               e -> this.handled++);
+      this.eventBus.addHandlerToSource(BenchmarkEvent.TYPE,
+                                       this.source,
+                                       e -> this.handled++);
+    }
+  }
+
+  @Benchmark
+  public long fireEvent() {
+    this.eventBus.fireEvent(this.event);
+    return this.handled;
+  }
+
+  @Benchmark
+  public long fireEventFromSource() {
+    this.eventBus.fireEventFromSource(this.event,
+                                      this.source);
+    return this.handled;
+  }
+
+  @Benchmark
+  public long fireEventUsingScope() {
+    this.scope.fireEvent(this.event);
+    return this.handled;
+  }
+
+  @Benchmark
+  public long addAndRemoveHandler() {
+    HandlerRegistration registration = this.eventBus.addHandler(BenchmarkEvent.TYPE,
+                                                                e -> this.handled++);
+    registration.removeHandler();
+    return this.handled;
+  }
+
+  @Benchmark
+  public long addAndResetScope() {
+    this.scope.addHandler(BenchmarkEvent.TYPE,
+                          e -> this.handled++);
+    this.scope.resetScope();
+    return this.handled;
+  }
+
+  interface BenchmarkHandler {
+
+    void onBenchmark(BenchmarkEvent event);
+
+  }
+
+  static class BenchmarkEvent
+      extends Event<BenchmarkHandler> {
+
+    static final Type<BenchmarkHandler> TYPE = new Type<>();
+
+    @Override
+    public Type<BenchmarkHandler> getAssociatedType() {
+      return TYPE;
+    }
+
+    @Override
+    protected void dispatch(BenchmarkHandler handler) {
+      handler.onBenchmark(this);
+    }
+
+  }
+
+}
@@ -25,7 +25,9 @@ import com.github.nalukit.nalu.plugin.core.web.client.model.NaluStartModel;
 import elemental2.dom.DomGlobal;
 import elemental2.dom.Location;
 import elemental2.dom.PopStateEvent;
+import jsinterop.annotations.JsFunction;
 import jsinterop.base.Js;
+import jsinterop.base.JsPropertyMap;
 
 import java.util.*;
 
@@ -236,6 +238,44 @@ public class NaluPluginCoreWeb {
     };
   }
 
+  /**
+   * Executes the task once the browser is idle.
+   * <p>
+   * In case the browser does not support requestIdleCallback,
+   * the task will be executed after the current event.
+   *
+   * @param task task to execute
+   */
+  public static void scheduleIdle(Runnable task) {
+    JsPropertyMap<Object> window = Js.asPropertyMap(DomGlobal.window);
+    if (window.has("requestIdleCallback")) {
+      RequestIdleCallbackFn requestIdleCallback = Js.uncheckedCast(window.get("requestIdleCallback"));
+      requestIdleCallback.onInvoke(deadline -> task.run());
+    } else {
+      DomGlobal.setTimeout(p -> task.run(),
+                           0);
+    }
+  }
+
+  /**
+   * Executes the task as microtask, after the current event is handled.
+   * <p>
+   * In case the browser does not support queueMicrotask,
+   * the task will be executed using a timeout.
+   *
+   * @param task task to execute
+   */
+  public static void scheduleDeferred(Runnable task) {
+    JsPropertyMap<Object> window = Js.asPropertyMap(DomGlobal.window);
+    if (window.has("queueMicrotask")) {
+      QueueMicrotaskFn queueMicrotask = Js.uncheckedCast(window.get("queueMicrotask"));
+      queueMicrotask.onInvoke(task::run);
+    } else {
+      DomGlobal.setTimeout(p -> task.run(),
+                           0);
+    }
+  }
+
   private static void handleChange(RouteChangeHandler handler,
                                    String newUrl) {
     if (newUrl.startsWith("#")) {
@@ -255,4 +295,32 @@ public class NaluPluginCoreWeb {
     }
   }
 
+  @JsFunction
+  private interface QueueMicrotaskFn {
+
+    void onInvoke(MicrotaskFn callback);
+
+  }
+
+  @JsFunction
+  private interface MicrotaskFn {
+
+    void onInvoke();
+
+  }
+
+  @JsFunction
+  private interface RequestIdleCallbackFn {
+
+    void onInvoke(IdleRequestCallbackFn callback);
+
+  }
+
+  @JsFunction
+  private interface IdleRequestCallbackFn {
+
+    void onInvoke(Object deadline);
+
+  }
+
 }
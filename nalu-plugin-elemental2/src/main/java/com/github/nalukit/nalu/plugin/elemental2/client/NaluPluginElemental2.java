@@ -16,16 +16,24 @@
 
 package com.github.nalukit.nalu.plugin.elemental2.client;
 
+import com.github.nalukit.nalu.client.application.StartupPhase;
+import com.github.nalukit.nalu.client.application.StartupTiming;
 import com.github.nalukit.nalu.client.internal.PropertyFactory;
 import com.github.nalukit.nalu.client.internal.route.ShellConfiguration;
+import com.github.nalukit.nalu.client.plugin.IsCustomConfirmPresenter;
 import com.github.nalukit.nalu.client.plugin.IsNaluProcessorPlugin;
 import com.github.nalukit.nalu.plugin.core.web.client.NaluPluginCoreWeb;
 import com.github.nalukit.nalu.plugin.core.web.client.model.NaluStartModel;
 import elemental2.core.Global;
+import elemental2.dom.DocumentFragment;
 import elemental2.dom.DomGlobal;
 import elemental2.dom.Element;
 import elemental2.dom.HTMLElement;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 public class NaluPluginElemental2
@@ -37,8 +45,20 @@ public class NaluPluginElemental2
   /* in case Nalu does not have history support */
   private RouteChangeHandler routeChangeHandler;
 
+  /* presenter used to confirm a route change in */
+  /* case a controller or composite vetoes it    */
+  /* (if null, the browser confirm will be used) */
+  private IsCustomConfirmPresenter customConfirmPresenter;
+
+  /* the running transaction (null, if there is none) */
+  private Transaction transaction;
+
+  /* resolved selectors (key: selector, value: element of the selector) */
+  private Map<String, Element> selectorCache;
+
   public NaluPluginElemental2() {
     super();
+    this.selectorCache = new HashMap<>();
   }
 
   @Override
@@ -49,7 +69,11 @@ public class NaluPluginElemental2
   @Override
   public boolean attach(String selector,
                         Object asElement) {
-    Element selectorElement = DomGlobal.document.querySelector("#" + selector);
+    if (this.transaction != null) {
+      return this.transaction.attach(selector,
+                                     (HTMLElement) asElement);
+    }
+    Element selectorElement = this.getSelectorElement(selector);
     if (selectorElement == null) {
       return false;
     } else {
@@ -63,6 +87,42 @@ public class NaluPluginElemental2
     return DomGlobal.window.confirm(message);
   }
 
+  @Override
+  public void confirm(String message,
+                      ConfirmHandler handler) {
+    if (this.customConfirmPresenter == null) {
+      if (DomGlobal.window.confirm(message)) {
+        handler.onOk();
+      } else {
+        handler.onCancel();
+      }
+    } else {
+      this.customConfirmPresenter.confirm(message,
+                                          handler);
+    }
+  }
+
+  /**
+   * Sets a custom confirm presenter. Once set, Nalu will use this
+   * presenter instead of the blocking browser confirm to ask the user
+   * whether a route change should be executed.
+   *
+   * @param customConfirmPresenter the presenter to use
+   */
+  public void setCustomConfirmPresenter(IsCustomConfirmPresenter customConfirmPresenter) {
+    this.customConfirmPresenter = customConfirmPresenter;
+  }
+
+  @Override
+  public void scheduleIdle(Runnable task) {
+    NaluPluginCoreWeb.scheduleIdle(task);
+  }
+
+  @Override
+  public void scheduleDeferred(Runnable task) {
+    NaluPluginCoreWeb.scheduleDeferred(task);
+  }
+
   @Override
   public String getStartRoute() {
     return this.naluStartModel.getStartRoute();
@@ -92,16 +152,100 @@ public class NaluPluginElemental2
 
   @Override
   public void remove(String selector) {
-    Element selectorElement = DomGlobal.document.querySelector("#" + selector);
-    if (selectorElement != null) {
-      if (selectorElement.childNodes.length > 0) {
-        for (int i = selectorElement.childNodes.asList()
-                                               .size() - 1; i > -1; i--) {
-          selectorElement.removeChild(selectorElement.childNodes.asList()
-                                                                .get(i));
-        }
+    if (this.transaction != null) {
+      this.transaction.remove(selector);
+      return;
+    }
+    NaluPluginElemental2.clear(this.getSelectorElement(selector));
+  }
+
+  @Override
+  public void beginTransaction() {
+    if (this.transaction == null) {
+      this.transaction = new Transaction();
+    }
+    this.transaction.depth++;
+  }
+
+  @Override
+  public void commitTransaction() {
+    if (this.transaction == null || --this.transaction.depth > 0) {
+      return;
+    }
+    Transaction committedTransaction = this.transaction;
+    this.transaction = null;
+    committedTransaction.commit();
+  }
+
+  @Override
+  public void onShellDetached() {
+    this.selectorCache.clear();
+  }
+
+  /**
+   * Maps the start of a startup phase to a User Timing mark.
+   *
+   * @param phase the started phase
+   */
+  @Override
+  public void onStartupPhaseStarted(StartupPhase phase) {
+    DomGlobal.performance.mark(this.getStartupMarkName(phase) + "-start");
+  }
+
+  /**
+   * Maps the end of a startup phase to a User Timing mark and
+   * measures the phase.
+   *
+   * @param timing the timing of the finished phase
+   */
+  @Override
+  public void onStartupPhaseFinished(StartupTiming timing) {
+    String markName = this.getStartupMarkName(timing.getPhase());
+    DomGlobal.performance.mark(markName + "-end");
+    DomGlobal.performance.measure(markName,
+                                  markName + "-start",
+                                  markName + "-end");
+  }
+
+  private String getStartupMarkName(StartupPhase phase) {
+    return "nalu-" + phase.name()
+                          .toLowerCase()
+                          .replace('_',
+                                   '-');
+  }
+
+  /**
+   * Returns the element of the selector.
+   * <p>
+   * Once resolved, the element is cached. The cache gets cleared in
+   * case the shell is detached. A cached element, that is no longer
+   * part of the document, is replaced by querying the selector again.
+   *
+   * @param selector the selector
+   * @return the element of the selector or null, if there is none
+   */
+  private Element getSelectorElement(String selector) {
+    Element selectorElement = this.selectorCache.get(selector);
+    // the cached element was removed from the document: query again
+    if (selectorElement != null && !DomGlobal.document.contains(selectorElement)) {
+      this.selectorCache.remove(selector);
+      selectorElement = null;
+    }
+    if (selectorElement == null) {
+      selectorElement = DomGlobal.document.querySelector("#" + selector);
+      if (selectorElement != null) {
+        this.selectorCache.put(selector,
+                               selectorElement);
       }
     }
+    return selectorElement;
+  }
+
+  private static void clear(Element selectorElement) {
+    // removes all children at once
+    if (selectorElement != null && selectorElement.hasChildNodes()) {
+      selectorElement.textContent = "";
+    }
   }
 
   @Override
@@ -124,4 +268,85 @@ public class NaluPluginElemental2
     return Global.decodeURI(route);
   }
 
+  /**
+   * Collects the DOM mutations of a transaction.
+   * <p>
+   * Elements attached to a selector of the document are collected
+   * inside a document fragment, so each selector gets updated only once.
+   * Selectors, that are part of a not yet committed element (f.e.: the
+   * selector of a composite inside the controller), are updated directly,
+   * because they are not attached to the document.
+   */
+  private class Transaction {
+
+    /* nesting level of the transaction */
+    private int depth;
+
+    /* selectors to clear */
+    private List<String> removals = new ArrayList<>();
+
+    /* elements of the selectors to append (key: selector) */
+    private Map<String, Element> targets = new LinkedHashMap<>();
+
+    /* fragments to append (key: selector) */
+    private Map<String, DocumentFragment> fragments = new LinkedHashMap<>();
+
+    private boolean attach(String selector,
+                           HTMLElement element) {
+      // is the selector part of an element that is not yet committed?
+      Element pendingSelectorElement = this.findPending(selector);
+      if (pendingSelectorElement != null) {
+        pendingSelectorElement.appendChild(element);
+        return true;
+      }
+      DocumentFragment fragment = this.fragments.get(selector);
+      if (fragment == null) {
+        Element selectorElement = NaluPluginElemental2.this.getSelectorElement(selector);
+        if (selectorElement == null) {
+          return false;
+        }
+        fragment = DomGlobal.document.createDocumentFragment();
+        this.targets.put(selector,
+                         selectorElement);
+        this.fragments.put(selector,
+                           fragment);
+      }
+      fragment.appendChild(element);
+      return true;
+    }
+
+    private void remove(String selector) {
+      // pending elements of the selector are no longer needed
+      this.targets.remove(selector);
+      this.fragments.remove(selector);
+      Element pendingSelectorElement = this.findPending(selector);
+      if (pendingSelectorElement != null) {
+        NaluPluginElemental2.clear(pendingSelectorElement);
+      } else {
+        this.removals.add(selector);
+      }
+    }
+
+    private Element findPending(String selector) {
+      for (DocumentFragment fragment : this.fragments.values()) {
+        Element selectorElement = fragment.querySelector("#" + selector);
+        if (selectorElement != null) {
+          return selectorElement;
+        }
+      }
+      return null;
+    }
+
+    private void commit() {
+      for (String selector : this.removals) {
+        NaluPluginElemental2.clear(NaluPluginElemental2.this.getSelectorElement(selector));
+      }
+      for (Map.Entry<String, Element> entry : this.targets.entrySet()) {
+        entry.getValue()
+             .appendChild(this.fragments.get(entry.getKey()));
+      }
+    }
+
+  }
+
 }
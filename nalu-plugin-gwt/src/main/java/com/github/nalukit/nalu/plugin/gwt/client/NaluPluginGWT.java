@@ -18,6 +18,7 @@ package com.github.nalukit.nalu.plugin.gwt.client;
 
 import com.github.nalukit.nalu.client.internal.PropertyFactory;
 import com.github.nalukit.nalu.client.internal.route.ShellConfiguration;
+import com.github.nalukit.nalu.client.plugin.IsCustomConfirmPresenter;
 import com.github.nalukit.nalu.client.plugin.IsNaluProcessorPlugin;
 import com.github.nalukit.nalu.plugin.core.web.client.NaluPluginCoreWeb;
 import com.github.nalukit.nalu.plugin.core.web.client.model.NaluStartModel;
@@ -28,7 +29,11 @@ import com.google.gwt.http.client.URL;
 import com.google.gwt.user.client.DOM;
 import com.google.gwt.user.client.Window;
 import com.google.gwt.user.client.ui.IsWidget;
+import com.google.gwt.user.client.ui.Widget;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 public class NaluPluginGWT
@@ -40,6 +45,14 @@ public class NaluPluginGWT
   /* in case Nalu does not have history support */
   private RouteChangeHandler routeChangeHandler;
 
+  /* presenter used to confirm a route change in */
+  /* case a controller or composite vetoes it    */
+  /* (if null, the browser confirm will be used) */
+  private IsCustomConfirmPresenter customConfirmPresenter;
+
+  /* the running transaction (null, if there is none) */
+  private Transaction transaction;
+
   public NaluPluginGWT() {
     super();
   }
@@ -57,6 +70,10 @@ public class NaluPluginGWT
                                                       .get(selector);
     if (selectorCommand == null) {
       return false;
+    } else if (this.transaction != null) {
+      this.transaction.attach(selector,
+                              ((IsWidget) asElement).asWidget());
+      return true;
     } else {
       selectorCommand.append(((IsWidget) asElement).asWidget());
       return true;
@@ -68,6 +85,42 @@ public class NaluPluginGWT
     return Window.confirm(message);
   }
 
+  @Override
+  public void confirm(String message,
+                      ConfirmHandler handler) {
+    if (this.customConfirmPresenter == null) {
+      if (Window.confirm(message)) {
+        handler.onOk();
+      } else {
+        handler.onCancel();
+      }
+    } else {
+      this.customConfirmPresenter.confirm(message,
+                                          handler);
+    }
+  }
+
+  /**
+   * Sets a custom confirm presenter. Once set, Nalu will use this
+   * presenter instead of the blocking browser confirm to ask the user
+   * whether a route change should be executed.
+   *
+   * @param customConfirmPresenter the presenter to use
+   */
+  public void setCustomConfirmPresenter(IsCustomConfirmPresenter customConfirmPresenter) {
+    this.customConfirmPresenter = customConfirmPresenter;
+  }
+
+  @Override
+  public void scheduleIdle(Runnable task) {
+    NaluPluginCoreWeb.scheduleIdle(task);
+  }
+
+  @Override
+  public void scheduleDeferred(Runnable task) {
+    NaluPluginCoreWeb.scheduleDeferred(task);
+  }
+
   @Override
   public String getStartRoute() {
     return this.naluStartModel.getStartRoute();
@@ -97,6 +150,32 @@ public class NaluPluginGWT
 
   @Override
   public void remove(String selector) {
+    if (this.transaction != null) {
+      this.transaction.remove(selector);
+      return;
+    }
+    NaluPluginGWT.clear(selector);
+  }
+
+  @Override
+  public void beginTransaction() {
+    if (this.transaction == null) {
+      this.transaction = new Transaction();
+    }
+    this.transaction.depth++;
+  }
+
+  @Override
+  public void commitTransaction() {
+    if (this.transaction == null || --this.transaction.depth > 0) {
+      return;
+    }
+    Transaction committedTransaction = this.transaction;
+    this.transaction = null;
+    committedTransaction.commit();
+  }
+
+  private static void clear(String selector) {
     Element selectorElement = DOM.getElementById(selector);
     if (selectorElement != null) {
       selectorElement.removeAllChildren();
@@ -123,4 +202,59 @@ public class NaluPluginGWT
     return URL.decode(route);
   }
 
+  /**
+   * Collects the DOM mutations of a transaction.
+   * <p>
+   * The widgets are appended selector by selector in reverse order of
+   * the first use of the selector. So the selectors of the composites,
+   * which are part of the controller, are filled before the controller
+   * gets appended and the whole widget tree is attached at once.
+   */
+  private static class Transaction {
+
+    /* nesting level of the transaction */
+    private int depth;
+
+    /* selectors to clear */
+    private List<String> removals = new ArrayList<>();
+
+    /* widgets to append (key: selector) */
+    private Map<String, List<Widget>> appends = new LinkedHashMap<>();
+
+    private void attach(String selector,
+                        Widget widget) {
+      List<Widget> widgets = this.appends.get(selector);
+      if (widgets == null) {
+        widgets = new ArrayList<>();
+        this.appends.put(selector,
+                         widgets);
+      }
+      widgets.add(widget);
+    }
+
+    private void remove(String selector) {
+      // pending widgets of the selector are no longer needed
+      this.appends.remove(selector);
+      this.removals.add(selector);
+    }
+
+    private void commit() {
+      for (String selector : this.removals) {
+        NaluPluginGWT.clear(selector);
+      }
+      List<String> selectors = new ArrayList<>(this.appends.keySet());
+      for (int i = selectors.size() - 1; i > -1; i--) {
+        SelectorCommand selectorCommand = SelectorProvider.get()
+                                                          .getSelectorCommands()
+                                                          .get(selectors.get(i));
+        if (selectorCommand != null) {
+          for (Widget widget : this.appends.get(selectors.get(i))) {
+            selectorCommand.append(widget);
+          }
+        }
+      }
+    }
+
+  }
+
 }
@@ -24,6 +24,7 @@ import com.github.nalukit.nalu.client.component.annotation.Controller;
 import com.github.nalukit.nalu.client.component.annotation.PopUpController;
 import com.github.nalukit.nalu.client.component.annotation.Shell;
 import com.github.nalukit.nalu.client.handler.annotation.Handler;
+import com.github.nalukit.nalu.client.metrics.annotation.RoutingMetrics;
 import com.github.nalukit.nalu.client.plugin.annotation.Plugin;
 import com.github.nalukit.nalu.client.plugin.annotation.Plugins;
 import com.github.nalukit.nalu.client.tracker.annotation.Tracker;
@@ -87,10 +88,16 @@ public class NaluProcessor
               PopUpController.class.getCanonicalName(),
               Plugin.class.getCanonicalName(),
               Plugins.class.getCanonicalName(),
+              RoutingMetrics.class.getCanonicalName(),
               Shell.class.getCanonicalName(),
               Tracker.class.getCanonicalName()).collect(toSet());
   }
 
+  @Override
+  public Set<String> getSupportedOptions() {
+    return of(ProcessorConstants.OPTION_LOGGING).collect(toSet());
+  }
+
   @Override
   public synchronized void init(ProcessingEnvironment processingEnv) {
     super.init(processingEnv);
@@ -131,6 +138,9 @@ public class NaluProcessor
             } else if (Tracker.class.getCanonicalName()
                                     .equals(annotation.toString())) {
               handleTrackerAnnotation(roundEnv);
+            } else if (RoutingMetrics.class.getCanonicalName()
+                                           .equals(annotation.toString())) {
+              handleRoutingMetricsAnnotation(roundEnv);
             } else if (Filters.class.getCanonicalName()
                                     .equals(annotation.toString())) {
               handleFiltersAnnotation(roundEnv);
@@ -437,6 +447,26 @@ public class NaluProcessor
     }
   }
 
+  private void handleRoutingMetricsAnnotation(RoundEnvironment roundEnv)
+      throws ProcessorException {
+    for (Element routingMetricsElement : roundEnv.getElementsAnnotatedWith(RoutingMetrics.class)) {
+      // validate routing metrics element
+      RoutingMetricsAnnotationValidator.builder()
+                                       .roundEnvironment(roundEnv)
+                                       .processingEnvironment(processingEnv)
+                                       .routingMetricsElement(routingMetricsElement)
+                                       .build()
+                                       .validate();
+      // scan routing metrics element and save data in metaModel
+      this.metaModel = RoutingMetricsAnnotationScanner.builder()
+                                                      .processingEnvironment(processingEnv)
+                                                      .metaModel(this.metaModel)
+                                                      .routingMetricsElement(routingMetricsElement)
+                                                      .build()
+                                                      .scan(roundEnv);
+    }
+  }
+
   private void setUp() {
     this.processorUtils = ProcessorUtils.builder()
                                         .processingEnvironment(processingEnv)
@@ -446,6 +476,9 @@ public class NaluProcessor
     if (!Objects.isNull(restoredModel)) {
       this.metaModel = restoredModel;
     }
+    // using '-Analu.logging=off' removes the logging from the generated sources
+    this.metaModel.setRemoveLogging("off".equals(processingEnv.getOptions()
+                                                              .get(ProcessorConstants.OPTION_LOGGING)));
   }
 
   private void generateLastRound()
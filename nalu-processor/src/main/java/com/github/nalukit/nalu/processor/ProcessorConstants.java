@@ -29,6 +29,8 @@ public class ProcessorConstants {
   public final static String PROPERTIES_POSTFIX     = ".properties";
   public final static String CREATOR_IMPL           = "CreatorImpl";
   public final static String PLUGIN_IMPL            = "PluginImpl";
+  public final static String CREATOR_FACTORY_IMPL   = "CreatorFactoryImpl";
   public final static String PROCESSOR_VERSION      = "1.3.3";
+  public final static String OPTION_LOGGING         = "nalu.logging";
   public final static String BUILD_TIME             = new SimpleDateFormat("yyyy.MM.dd-HH:mm:ss").format(new Date(System.currentTimeMillis()));
 }
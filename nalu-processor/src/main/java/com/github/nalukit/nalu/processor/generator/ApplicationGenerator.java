@@ -17,7 +17,6 @@
 package com.github.nalukit.nalu.processor.generator;
 
 import com.github.nalukit.nalu.client.application.IsApplicationLoader;
-import com.github.nalukit.nalu.client.internal.ClientLogger;
 import com.github.nalukit.nalu.client.internal.application.AbstractApplication;
 import com.github.nalukit.nalu.client.internal.application.NoApplicationLoader;
 import com.github.nalukit.nalu.processor.ProcessorConstants;
@@ -39,6 +38,8 @@ public class ApplicationGenerator {
 
   private ProcessingEnvironment processingEnvironment;
 
+  private LogStatementGenerator logStatementGenerator;
+
   @SuppressWarnings("unused")
   private ApplicationGenerator(Builder builder) {
     super();
@@ -64,6 +65,9 @@ public class ApplicationGenerator {
     if (!this.processorUtils.doesExist(metaModel.getApplication())) {
       return;
     }
+    this.logStatementGenerator = LogStatementGenerator.builder()
+                                                      .metaModel(metaModel)
+                                                      .build();
     // generate code
     TypeSpec.Builder typeSpec = TypeSpec.classBuilder(metaModel.getApplication()
                                                                .getSimpleName() + ApplicationGenerator.IMPL_NAME)
@@ -92,21 +96,18 @@ public class ApplicationGenerator {
     typeSpec.addMethod(MethodSpec.methodBuilder("logProcessorVersion")
                                  .addAnnotation(ClassName.get(Override.class))
                                  .addModifiers(Modifier.PUBLIC)
-                                 .addStatement("$T.get().logDetailed(\"\", 0)",
-                                               ClassName.get(ClientLogger.class))
-                                 .addStatement("$T.get().logDetailed(\"=================================================================================\", 0)",
-                                               ClassName.get(ClientLogger.class))
-                                 .addStatement("$T sb01 = new $T()",
-                                               ClassName.get(StringBuilder.class),
-                                               ClassName.get(StringBuilder.class))
-                                 .addStatement("sb01.append(\"Nalu processor version  >>$L<< used to generate this source\")",
-                                               ProcessorConstants.PROCESSOR_VERSION)
-                                 .addStatement("$T.get().logDetailed(sb01.toString(), 0)",
-                                               ClassName.get(ClientLogger.class))
-                                 .addStatement("$T.get().logDetailed(\"=================================================================================\", 0)",
-                                               ClassName.get(ClientLogger.class))
-                                 .addStatement("$T.get().logDetailed(\"\", 0)",
-                                               ClassName.get(ClientLogger.class))
+                                 .addCode(this.logStatementGenerator.logDetailed("",
+                                                                                 0))
+                                 .addCode(this.logStatementGenerator.logDetailed("=================================================================================",
+                                                                                 0))
+                                 .addCode(this.logStatementGenerator.logDetailed("Nalu processor version  >>" +
+                                                                                     ProcessorConstants.PROCESSOR_VERSION +
+                                                                                     "<< used to generate this source",
+                                                                                 0))
+                                 .addCode(this.logStatementGenerator.logDetailed("=================================================================================",
+                                                                                 0))
+                                 .addCode(this.logStatementGenerator.logDetailed("",
+                                                                                 0))
                                  .build());
 
     DebugGenerator.builder()
@@ -121,6 +122,12 @@ public class ApplicationGenerator {
                     .build()
                     .generate();
 
+    RoutingMetricsGenerator.builder()
+                           .metaModel(metaModel)
+                           .typeSpec(typeSpec)
+                           .build()
+                           .generate();
+
     ShellGenerator.builder()
                   .metaModel(metaModel)
                   .typeSpec(typeSpec)
@@ -139,6 +146,12 @@ public class ApplicationGenerator {
                        .build()
                        .generate();
 
+    CreatorFactoryGenerator.builder()
+                           .processingEnvironment(this.processingEnvironment)
+                           .metaModel(metaModel)
+                           .build()
+                           .generate();
+
     PopUpControllerGenerator.builder()
                             .metaModel(metaModel)
                             .typeSpec(typeSpec)
@@ -206,6 +219,9 @@ public class ApplicationGenerator {
     generateIsStayOnSide(typeSpec,
                          metaModel);
 
+    CreatorFactoryGenerator.addCreatorFactory(metaModel,
+                                              typeSpec);
+
     JavaFile javaFile = JavaFile.builder(metaModel.getGenerateToPackage(),
                                          typeSpec.build())
                                 .build();
@@ -271,23 +287,18 @@ public class ApplicationGenerator {
     typeSpec.addMethod(MethodSpec.methodBuilder("loadDefaultRoutes")
                                  .addModifiers(Modifier.PUBLIC)
                                  .addAnnotation(Override.class)
-                                 .addStatement("$T sb01 = new $T()",
-                                               ClassName.get(StringBuilder.class),
-                                               ClassName.get(StringBuilder.class))
                                  .addStatement("this.startRoute = $S",
                                                metaModel.getStartRoute())
-                                 .addStatement("sb01.append(\"found startRoute >>$L<<\")",
-                                               metaModel.getStartRoute())
-                                 .addStatement("$T.get().logDetailed(sb01.toString(), 2)",
-                                               ClassName.get(ClientLogger.class))
-                                 .addStatement("sb01 = new $T()",
-                                               ClassName.get(StringBuilder.class))
+                                 .addCode(this.logStatementGenerator.logDetailed("found startRoute >>" +
+                                                                                     metaModel.getStartRoute() +
+                                                                                     "<<",
+                                                                                 2))
                                  .addStatement("this.errorRoute = $S",
                                                metaModel.getRouteError())
-                                 .addStatement("sb01.append(\"found errorRoute >>$L<<\")",
-                                               metaModel.getRouteError())
-                                 .addStatement("$T.get().logDetailed(sb01.toString(), 2)",
-                                               ClassName.get(ClientLogger.class))
+                                 .addCode(this.logStatementGenerator.logDetailed("found errorRoute >>" +
+                                                                                     metaModel.getRouteError() +
+                                                                                     "<<",
+                                                                                 2))
                                  .build());
   }
 
@@ -16,10 +16,7 @@
 package com.github.nalukit.nalu.processor.generator;
 
 import com.github.nalukit.nalu.client.internal.application.CompositeFactory;
-import com.github.nalukit.nalu.processor.ProcessorConstants;
 import com.github.nalukit.nalu.processor.model.MetaModel;
-import com.github.nalukit.nalu.processor.model.intern.CompositeModel;
-import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.TypeSpec;
 
@@ -53,24 +50,11 @@ public class CompositeControllerGenerator {
     MethodSpec.Builder loadCompositesMethodBuilder = MethodSpec.methodBuilder("loadCompositeController")
                                                                .addModifiers(Modifier.PUBLIC)
                                                                .addAnnotation(Override.class);
-    for (CompositeModel compositeModel : this.metaModel.getCompositeModels()) {
-      loadCompositesMethodBuilder.addComment("create Composite for: " +
-                                             compositeModel.getProvider()
-                                                           .getPackage() +
-                                             "." +
-                                             compositeModel.getProvider()
-                                                           .getSimpleName())
-                                 .addStatement("$T.get().registerComposite($S, new $L(router, context, eventBus))",
-                                               ClassName.get(CompositeFactory.class),
-                                               compositeModel.getProvider()
-                                                             .getPackage() +
-                                               "." +
-                                               compositeModel.getProvider()
-                                                             .getSimpleName(),
-                                               ClassName.get(compositeModel.getProvider()
-                                                                           .getPackage(),
-                                                             compositeModel.getProvider()
-                                                                           .getSimpleName() + ProcessorConstants.CREATOR_IMPL));
+    if (!this.metaModel.getCompositeModels()
+                       .isEmpty()) {
+      loadCompositesMethodBuilder.addComment("register creator factory for the composites")
+                                 .addCode(CreatorFactoryGenerator.createRegisterStatement(this.metaModel,
+                                                                                          CompositeFactory.class));
     }
     typeSpec.addMethod(loadCompositesMethodBuilder.build());
   }
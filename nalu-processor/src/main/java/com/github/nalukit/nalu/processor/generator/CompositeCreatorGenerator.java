@@ -19,7 +19,6 @@ import com.github.nalukit.nalu.client.Router;
 import com.github.nalukit.nalu.client.component.AbstractCompositeController;
 import com.github.nalukit.nalu.client.exception.RoutingInterceptionException;
 import com.github.nalukit.nalu.client.internal.AbstractCompositeCreator;
-import com.github.nalukit.nalu.client.internal.ClientLogger;
 import com.github.nalukit.nalu.client.internal.application.CompositeFactory;
 import com.github.nalukit.nalu.client.internal.application.CompositeInstance;
 import com.github.nalukit.nalu.client.internal.application.IsCompositeCreator;
@@ -43,6 +42,8 @@ public class CompositeCreatorGenerator {
 
   private CompositeModel compositeModel;
 
+  private LogStatementGenerator logStatementGenerator;
+
   @SuppressWarnings("unused")
   private CompositeCreatorGenerator() {
   }
@@ -51,6 +52,9 @@ public class CompositeCreatorGenerator {
     this.metaModel = builder.metaModel;
     this.processingEnvironment = builder.processingEnvironment;
     this.compositeModel = builder.compositeModel;
+    this.logStatementGenerator = LogStatementGenerator.builder()
+                                                      .metaModel(builder.metaModel)
+                                                      .build();
   }
 
   public static Builder builder() {
@@ -98,9 +102,6 @@ public class CompositeCreatorGenerator {
                                                                            .build())
                                                 .returns(ClassName.get(CompositeInstance.class))
                                                 .addException(ClassName.get(RoutingInterceptionException.class))
-                                                .addStatement("$T sb01 = new $T()",
-                                                              ClassName.get(StringBuilder.class),
-                                                              ClassName.get(StringBuilder.class))
                                                 .addStatement("$T compositeInstance = new $T()",
                                                               ClassName.get(CompositeInstance.class),
                                                               ClassName.get(CompositeInstance.class))
@@ -113,11 +114,11 @@ public class CompositeCreatorGenerator {
                                                               compositeModel.getProvider()
                                                                             .getClassName());
     createMethod.beginControlFlow("if (storedComposite == null)")
-                .addStatement("sb01.append(\"composite >>$L<< --> will be created\")",
-                              compositeModel.getProvider()
-                                            .getClassName())
-                .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
-                              ClassName.get(ClientLogger.class))
+                .addCode(this.logStatementGenerator.logDetailed("composite >>" +
+                                                                    compositeModel.getProvider()
+                                                                                  .getClassName() +
+                                                                    "<< --> will be created",
+                                                                4))
                 .addStatement("$T composite = new $T()",
                               ClassName.get(compositeModel.getProvider()
                                                           .getPackage(),
@@ -134,26 +135,22 @@ public class CompositeCreatorGenerator {
                 .addStatement("composite.setEventBus(eventBus)")
                 .addStatement("composite.setRouter(router)")
                 .addStatement("composite.setCached(false)")
-                .addStatement("sb01 = new $T()",
-                              ClassName.get(StringBuilder.class))
-                .addStatement("sb01.append(\"composite >>$L<< --> created and data injected\")",
-                              compositeModel.getProvider()
-                                            .getClassName())
-                .addStatement("$T.get().logDetailed(sb01.toString(), 5)",
-                              ClassName.get(ClientLogger.class));
+                .addCode(this.logStatementGenerator.logDetailed("composite >>" +
+                                                                    compositeModel.getProvider()
+                                                                                  .getClassName() +
+                                                                    "<< --> created and data injected",
+                                                                5));
     if (compositeModel.isComponentCreator()) {
       createMethod.addStatement("$T component = composite.createComponent()",
                                 ClassName.get(compositeModel.getComponentInterface()
                                                             .getPackage(),
                                               compositeModel.getComponentInterface()
                                                             .getSimpleName()))
-                  .addStatement("sb01 = new $T()",
-                                ClassName.get(StringBuilder.class))
-                  .addStatement("sb01.append(\"component >>$L<< --> created using createComponent-Method of composite controller\")",
-                                compositeModel.getComponent()
-                                              .getClassName())
-                  .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
-                                ClassName.get(ClientLogger.class));
+                  .addCode(this.logStatementGenerator.logDetailed("component >>" +
+                                                                      compositeModel.getComponent()
+                                                                                    .getClassName() +
+                                                                      "<< --> created using createComponent-Method of composite controller",
+                                                                  4));
     } else {
       createMethod.addStatement("$T component = new $T()",
                                 ClassName.get(compositeModel.getComponentInterface()
@@ -164,46 +161,32 @@ public class CompositeCreatorGenerator {
                                                             .getPackage(),
                                               compositeModel.getComponent()
                                                             .getSimpleName()))
-                  .addStatement("sb01 = new $T()",
-                                ClassName.get(StringBuilder.class))
-                  .addStatement("sb01.append(\"component >>$L<< --> created using new\")",
-                                compositeModel.getComponent()
-                                              .getClassName())
-                  .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
-                                ClassName.get(ClientLogger.class));
+                  .addCode(this.logStatementGenerator.logDetailed("component >>" +
+                                                                      compositeModel.getComponent()
+                                                                                    .getClassName() +
+                                                                      "<< --> created using new",
+                                                                  4));
     }
     createMethod.addStatement("component.setController(composite)")
-                .addStatement("sb01 = new $T()",
-                              ClassName.get(StringBuilder.class))
-                .addStatement("sb01.append(\"component >>\").append(component.getClass().getCanonicalName()).append(\"<< --> created and controller instance injected\")")
-                .addStatement("$T.get().logDetailed(sb01.toString(), 5)",
-                              ClassName.get(ClientLogger.class))
+                .addCode(this.logStatementGenerator.logDetailed(CodeBlock.of("\"component >>\" + component.getClass().getCanonicalName() + \"<< --> created and controller instance injected\""),
+                                                                5))
                 .addStatement("composite.setComponent(component)")
-                .addStatement("sb01 = new $T()",
-                              ClassName.get(StringBuilder.class))
-                .addStatement("sb01.append(\"composite >>\").append(composite.getClass().getCanonicalName()).append(\"<< --> instance of >>\").append(component.getClass().getCanonicalName()).append(\"<< injected\")")
-                .addStatement("$T.get().logDetailed(sb01.toString(), 5)",
-                              ClassName.get(ClientLogger.class))
+                .addCode(this.logStatementGenerator.logDetailed(CodeBlock.of("\"composite >>\" + composite.getClass().getCanonicalName() + \"<< --> instance of >>\" + component.getClass().getCanonicalName() + \"<< injected\""),
+                                                                5))
                 .addStatement("component.render()")
-                .addStatement("sb01 = new $T()",
-                              ClassName.get(StringBuilder.class))
-                .addStatement("sb01.append(\"component >>\").append(component.getClass().getCanonicalName()).append(\"<< --> rendered\")")
-                .addStatement("$T.get().logDetailed(sb01.toString(), 5)",
-                              ClassName.get(ClientLogger.class))
+                .addCode(this.logStatementGenerator.logDetailed(CodeBlock.of("\"component >>\" + component.getClass().getCanonicalName() + \"<< --> rendered\""),
+                                                                5))
                 .addStatement("component.bind()")
-                .addStatement("sb01 = new $T()",
-                              ClassName.get(StringBuilder.class))
-                .addStatement("sb01.append(\"component >>\").append(component.getClass().getCanonicalName()).append(\"<< --> bound\")")
-                .addStatement("$T.get().logDetailed(sb01.toString(), 5)",
-                              ClassName.get(ClientLogger.class))
-                .addStatement("$T.get().logSimple(\"compositeModel >>$L<< created\", 4)",
-                              ClassName.get(ClientLogger.class),
-                              compositeModel.getComponent()
-                                            .getClassName());
+                .addCode(this.logStatementGenerator.logDetailed(CodeBlock.of("\"component >>\" + component.getClass().getCanonicalName() + \"<< --> bound\""),
+                                                                5))
+                .addCode(this.logStatementGenerator.logSimple("compositeModel >>" +
+                                                                  compositeModel.getComponent()
+                                                                                .getClassName() +
+                                                                  "<< created",
+                                                              4));
     createMethod.nextControlFlow("else")
-                .addStatement("sb01.append(\"composite >>\").append(storedComposite.getClass().getCanonicalName()).append(\"<< --> found in cache -> REUSE!\")")
-                .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
-                              ClassName.get(ClientLogger.class))
+                .addCode(this.logStatementGenerator.logDetailed(CodeBlock.of("\"composite >>\" + storedComposite.getClass().getCanonicalName() + \"<< --> found in cache -> REUSE!\""),
+                                                                4))
                 .addStatement("compositeInstance.setComposite(storedComposite)")
                 .addStatement("compositeInstance.setChached(true)")
                 .addStatement("compositeInstance.getComposite().setCached(true)")
@@ -232,10 +215,7 @@ public class CompositeCreatorGenerator {
                                                         ClassName.get(compositeModel.getProvider()
                                                                                     .getPackage(),
                                                                       compositeModel.getProvider()
-                                                                                    .getSimpleName()))
-                                          .addStatement("$T sb01 = new $T()",
-                                                        ClassName.get(StringBuilder.class),
-                                                        ClassName.get(StringBuilder.class));
+                                                                                    .getSimpleName()));
     // compositeModel has parameters?
     if (compositeModel.getParameterAcceptors()
                       .size() > 0) {
@@ -247,17 +227,12 @@ public class CompositeCreatorGenerator {
             compositeModel.getParameterAcceptors()
                           .size(); i++) {
           method.beginControlFlow("if (parms.length >= " + (i + 1) + ")")
-                .addStatement("sb01 = new $T()",
-                              ClassName.get(StringBuilder.class))
-                .addStatement("sb01.append(\"composite >>\").append(composite.getClass().getCanonicalName()).append(\"<< --> using method >>" +
-                                  compositeModel.getParameterAcceptors()
-                                                .get(i)
-                                                .getMethodName() +
-                                  "<< to set value >>\").append(parms[" +
-                                  i +
-                                  "]).append(\"<<\")")
-                .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
-                              ClassName.get(ClientLogger.class))
+                .addCode(this.logStatementGenerator.logDetailed(CodeBlock.of("\"composite >>\" + composite.getClass().getCanonicalName() + \"<< --> using method >>$L<< to set value >>\" + parms[$L] + \"<<\"",
+                                                                             compositeModel.getParameterAcceptors()
+                                                                                           .get(i)
+                                                                                           .getMethodName(),
+                                                                             i),
+                                                                4))
                 .addStatement("composite." +
                                   compositeModel.getParameterAcceptors()
                                                 .get(i)
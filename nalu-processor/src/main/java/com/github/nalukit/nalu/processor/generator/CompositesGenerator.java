@@ -15,7 +15,6 @@
  */
 package com.github.nalukit.nalu.processor.generator;
 
-import com.github.nalukit.nalu.client.internal.ClientLogger;
 import com.github.nalukit.nalu.client.internal.CompositeControllerReference;
 import com.github.nalukit.nalu.processor.model.MetaModel;
 import com.github.nalukit.nalu.processor.model.intern.ControllerCompositeModel;
@@ -30,6 +29,8 @@ public class CompositesGenerator {
 
   private MetaModel metaModel;
 
+  private LogStatementGenerator logStatementGenerator;
+
   private TypeSpec.Builder typeSpec;
 
   @SuppressWarnings("unused")
@@ -38,6 +39,9 @@ public class CompositesGenerator {
 
   private CompositesGenerator(Builder builder) {
     this.metaModel = builder.metaModel;
+    this.logStatementGenerator = LogStatementGenerator.builder()
+                                                      .metaModel(builder.metaModel)
+                                                      .build();
     this.typeSpec = builder.typeSpec;
   }
 
@@ -54,12 +58,8 @@ public class CompositesGenerator {
     MethodSpec.Builder loadCompositesMethodBuilder = MethodSpec.methodBuilder("loadCompositeReferences")
                                                                .addModifiers(Modifier.PUBLIC)
                                                                .addAnnotation(Override.class)
-                                                               .addStatement("$T sb01 = new $T()",
-                                                                             ClassName.get(StringBuilder.class),
-                                                                             ClassName.get(StringBuilder.class))
-                                                               .addStatement("sb01.append(\"load composite references\")")
-                                                               .addStatement("$T.get().logDetailed(sb01.toString(), 2)",
-                                                                             ClassName.get(ClientLogger.class));
+                                                               .addCode(this.logStatementGenerator.logDetailed("load composite references",
+                                                                                                               2));
     for (ControllerModel controllerModel : this.metaModel.getControllers()) {
       for (ControllerCompositeModel controllerCompositeModel : controllerModel.getComposites()) {
         loadCompositesMethodBuilder.addStatement("this.compositeControllerReferences.add(new $T($S, $S, $S, $S, $L))",
@@ -71,15 +71,15 @@ public class CompositesGenerator {
                                                                          .getClassName(),
                                                  controllerCompositeModel.getSelector(),
                                                  controllerCompositeModel.isScopeGlobal())
-                                   .addStatement("sb01 = new $T()",
-                                                 ClassName.get(StringBuilder.class))
-                                   .addStatement("sb01.append(\"register composite >>$L<< for controller >>$L<< in selector >>$L<<\")",
-                                                 controllerCompositeModel.getName(),
-                                                 controllerModel.getProvider()
-                                                                .getClassName(),
-                                                 controllerCompositeModel.getSelector())
-                                   .addStatement("$T.get().logDetailed(sb01.toString(), 3)",
-                                                 ClassName.get(ClientLogger.class));
+                                   .addCode(this.logStatementGenerator.logDetailed("register composite >>" +
+                                                                                       controllerCompositeModel.getName() +
+                                                                                       "<< for controller >>" +
+                                                                                       controllerModel.getProvider()
+                                                                                                      .getClassName() +
+                                                                                       "<< in selector >>" +
+                                                                                       controllerCompositeModel.getSelector() +
+                                                                                       "<<",
+                                                                                   3));
 
       }
     }
@@ -19,7 +19,6 @@ import com.github.nalukit.nalu.client.Router;
 import com.github.nalukit.nalu.client.component.AbstractComponentController;
 import com.github.nalukit.nalu.client.exception.RoutingInterceptionException;
 import com.github.nalukit.nalu.client.internal.AbstractControllerCreator;
-import com.github.nalukit.nalu.client.internal.ClientLogger;
 import com.github.nalukit.nalu.client.internal.application.ControllerFactory;
 import com.github.nalukit.nalu.client.internal.application.ControllerInstance;
 import com.github.nalukit.nalu.client.internal.application.IsControllerCreator;
@@ -43,6 +42,8 @@ public class ControllerCreatorGenerator {
 
   private ControllerModel controllerModel;
 
+  private LogStatementGenerator logStatementGenerator;
+
   @SuppressWarnings("unused")
   private ControllerCreatorGenerator() {
   }
@@ -51,6 +52,9 @@ public class ControllerCreatorGenerator {
     this.metaModel = builder.metaModel;
     this.processingEnvironment = builder.processingEnvironment;
     this.controllerModel = builder.controllerModel;
+    this.logStatementGenerator = LogStatementGenerator.builder()
+                                                      .metaModel(builder.metaModel)
+                                                      .build();
   }
 
   public static Builder builder() {
@@ -111,10 +115,7 @@ public class ControllerCreatorGenerator {
                                                         ClassName.get(controllerModel.getProvider()
                                                                                      .getPackage(),
                                                                       controllerModel.getProvider()
-                                                                                     .getSimpleName()))
-                                          .addStatement("$T sb01 = new $T()",
-                                                        ClassName.get(StringBuilder.class),
-                                                        ClassName.get(StringBuilder.class));
+                                                                                     .getSimpleName()));
     if (controllerModel.getParameters()
                        .size() > 0) {
       // has the model AccpetParameter ?
@@ -128,14 +129,10 @@ public class ControllerCreatorGenerator {
                                                                                    .get(i));
           if (methodName != null) {
             method.beginControlFlow("if (parms.length >= " + (i + 1) + ")")
-                  .addStatement("sb01 = new $T()",
-                                ClassName.get(StringBuilder.class))
-                  .addStatement("sb01.append(\"controller >>\").append(controller.getClass().getCanonicalName()).append(\"<< --> using method >>" +
-                                    methodName +
-                                    "<< to set value >>\").append(parms[" + i +
-                                    "]).append(\"<<\")")
-                  .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
-                                ClassName.get(ClientLogger.class))
+                  .addCode(this.logStatementGenerator.logDetailed(CodeBlock.of("\"controller >>\" + controller.getClass().getCanonicalName() + \"<< --> using method >>$L<< to set value >>\" + parms[$L] + \"<<\"",
+                                                                               methodName,
+                                                                               i),
+                                                                  4))
                   .addStatement("controller." + methodName + "(parms[" + i + "])")
                   .endControlFlow();
           }
@@ -162,21 +159,18 @@ public class ControllerCreatorGenerator {
                                                         ClassName.get(controllerModel.getProvider()
                                                                                      .getPackage(),
                                                                       controllerModel.getProvider()
-                                                                                     .getSimpleName()))
-                                          .addStatement("$T sb01 = new $T()",
-                                                        ClassName.get(StringBuilder.class),
-                                                        ClassName.get(StringBuilder.class));
+                                                                                     .getSimpleName()));
     if (controllerModel.isComponentCreator()) {
       method.addStatement("$T component = controller.createComponent()",
                           ClassName.get(controllerModel.getComponentInterface()
                                                        .getPackage(),
                                         controllerModel.getComponentInterface()
                                                        .getSimpleName()))
-            .addStatement("sb01.append(\"component >>$L<< --> created using createComponent-Method of controller\")",
-                          controllerModel.getComponent()
-                                         .getClassName())
-            .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
-                          ClassName.get(ClientLogger.class));
+            .addCode(this.logStatementGenerator.logDetailed("component >>" +
+                                                                controllerModel.getComponent()
+                                                                               .getClassName() +
+                                                                "<< --> created using createComponent-Method of controller",
+                                                            4));
     } else {
       method.addStatement("$T component = new $T()",
                           ClassName.get(controllerModel.getComponentInterface()
@@ -187,43 +181,31 @@ public class ControllerCreatorGenerator {
                                                        .getPackage(),
                                         controllerModel.getComponent()
                                                        .getSimpleName()))
-            .addStatement("sb01 = new $T()",
-                          ClassName.get(StringBuilder.class))
-            .addStatement("sb01.append(\"component >>$L<< --> created using new\")",
-                          controllerModel.getComponent()
-                                         .getClassName())
-            .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
-                          ClassName.get(ClientLogger.class));
+            .addCode(this.logStatementGenerator.logDetailed("component >>" +
+                                                                controllerModel.getComponent()
+                                                                               .getClassName() +
+                                                                "<< --> created using new",
+                                                            4));
     }
     method.addStatement("component.setController(controller)")
-          .addStatement("sb01 = new $T()",
-                        ClassName.get(StringBuilder.class))
-          .addStatement("sb01.append(\"component >>\").append(component.getClass().getCanonicalName()).append(\"<< --> created and controller instance injected\")")
-          .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
-                        ClassName.get(ClientLogger.class))
+          .addCode(this.logStatementGenerator.logDetailed(CodeBlock.of("\"component >>\" + component.getClass().getCanonicalName() + \"<< --> created and controller instance injected\""),
+                                                          4))
           .addStatement("controller.setComponent(component)")
-          .addStatement("sb01 = new $T()",
-                        ClassName.get(StringBuilder.class))
-          .addStatement("sb01.append(\"controller >>\").append(controller.getClass().getCanonicalName()).append(\"<< --> instance of >>\").append(component.getClass().getCanonicalName()).append(\"<< injected\")")
-          .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
-                        ClassName.get(ClientLogger.class))
+          .addCode(this.logStatementGenerator.logDetailed(CodeBlock.of("\"controller >>\" + controller.getClass().getCanonicalName() + \"<< --> instance of >>\" + component.getClass().getCanonicalName() + \"<< injected\""),
+                                                          4))
           .addStatement("component.render()")
-          .addStatement("sb01 = new $T()",
-                        ClassName.get(StringBuilder.class))
-          .addStatement("sb01.append(\"component >>\").append(component.getClass().getCanonicalName()).append(\"<< --> rendered\")")
-          .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
-                        ClassName.get(ClientLogger.class))
+          .addCode(this.logStatementGenerator.logDetailed(CodeBlock.of("\"component >>\" + component.getClass().getCanonicalName() + \"<< --> rendered\""),
+                                                          4))
           .addStatement("component.bind()")
-          .addStatement("sb01 = new $T()",
-                        ClassName.get(StringBuilder.class))
-          .addStatement("sb01.append(\"component >>\").append(component.getClass().getCanonicalName()).append(\"<< --> bound\")")
-          .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
-                        ClassName.get(ClientLogger.class))
-          .addStatement("$T.get().logSimple(\"controller >>$L<< created for route >>$L<<\", 3)",
-                        ClassName.get(ClientLogger.class),
-                        controllerModel.getComponent()
-                                       .getClassName(),
-                        controllerModel.getRoute());
+          .addCode(this.logStatementGenerator.logDetailed(CodeBlock.of("\"component >>\" + component.getClass().getCanonicalName() + \"<< --> bound\""),
+                                                          4))
+          .addCode(this.logStatementGenerator.logSimple("controller >>" +
+                                                            controllerModel.getComponent()
+                                                                           .getClassName() +
+                                                            "<< created for route >>" +
+                                                            controllerModel.getRoute() +
+                                                            "<<",
+                                                        3));
     return method.build();
   }
 
@@ -232,9 +214,6 @@ public class ControllerCreatorGenerator {
                                           .addAnnotation(ClassName.get(Override.class))
                                           .addModifiers(Modifier.PUBLIC)
                                           .returns(ClassName.get(ControllerInstance.class))
-                                          .addStatement("$T sb01 = new $T()",
-                                                        ClassName.get(StringBuilder.class),
-                                                        ClassName.get(StringBuilder.class))
                                           .addStatement("$T controllerInstance = new $T()",
                                                         ClassName.get(ControllerInstance.class),
                                                         ClassName.get(ControllerInstance.class))
@@ -247,14 +226,14 @@ public class ControllerCreatorGenerator {
                                                         controllerModel.getController()
                                                                        .getClassName())
                                           .beginControlFlow("if (storedController == null)")
-                                          .addStatement("sb01.append(\"controller >>$L<< --> will be created\")",
-                                                        controllerModel.getProvider()
-                                                                       .getPackage() +
-                                                            "." +
-                                                            controllerModel.getProvider()
-                                                                           .getSimpleName())
-                                          .addStatement("$T.get().logSimple(sb01.toString(), 3)",
-                                                        ClassName.get(ClientLogger.class))
+                                          .addCode(this.logStatementGenerator.logSimple("controller >>" +
+                                                                                            controllerModel.getProvider()
+                                                                                                           .getPackage() +
+                                                                                                "." +
+                                                                                                controllerModel.getProvider()
+                                                                                                               .getSimpleName() +
+                                                                                            "<< --> will be created",
+                                                                                        3))
                                           .addStatement("$T controller = new $T()",
                                                         ClassName.get(controllerModel.getProvider()
                                                                                      .getPackage(),
@@ -269,20 +248,19 @@ public class ControllerCreatorGenerator {
                                           .addStatement("controller.setContext(context)")
                                           .addStatement("controller.setEventBus(eventBus)")
                                           .addStatement("controller.setRouter(router)")
-                                          .addStatement("controller.setCached(false)")
-                                          .addStatement("sb01 = new $T()",
-                                                        ClassName.get(StringBuilder.class))
-                                          .addStatement("sb01.append(\"controller >>\").append(controller.getClass().getCanonicalName()).append(\"<< --> created and data injected\")")
-                                          .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
-                                                        ClassName.get(ClientLogger.class))
-                                          .nextControlFlow("else")
-                                          .addStatement("sb01.append(\"controller >>\").append(storedController.getClass().getCanonicalName()).append(\"<< --> found in cache -> REUSE!\")")
-                                          .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
-                                                        ClassName.get(ClientLogger.class))
-                                          .addStatement("controllerInstance.setController(storedController)")
-                                          .addStatement("controllerInstance.setChached(true)")
-                                          .addStatement("controllerInstance.getController().setCached(true)")
-                                          .endControlFlow();
+                                          .addStatement("controller.setCached(false)");
+    if (controllerModel.isReuseOnParameterChange()) {
+      method.addStatement("controller.setReuseOnParameterChange(true)");
+    }
+    method.addCode(this.logStatementGenerator.logDetailed(CodeBlock.of("\"controller >>\" + controller.getClass().getCanonicalName() + \"<< --> created and data injected\""),
+                                                          4))
+          .nextControlFlow("else")
+          .addCode(this.logStatementGenerator.logDetailed(CodeBlock.of("\"controller >>\" + storedController.getClass().getCanonicalName() + \"<< --> found in cache -> REUSE!\""),
+                                                          4))
+          .addStatement("controllerInstance.setController(storedController)")
+          .addStatement("controllerInstance.setChached(true)")
+          .addStatement("controllerInstance.getController().setCached(true)")
+          .endControlFlow();
     method.addStatement("return controllerInstance");
     return method.build();
   }
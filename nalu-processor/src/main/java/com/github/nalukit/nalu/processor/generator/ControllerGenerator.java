@@ -16,11 +16,9 @@
 package com.github.nalukit.nalu.processor.generator;
 
 import com.github.nalukit.nalu.client.component.AlwaysLoadComposite;
-import com.github.nalukit.nalu.client.internal.ClientLogger;
 import com.github.nalukit.nalu.client.internal.application.ControllerCompositeConditionFactory;
 import com.github.nalukit.nalu.client.internal.application.ControllerFactory;
 import com.github.nalukit.nalu.client.internal.route.RouteConfig;
-import com.github.nalukit.nalu.processor.ProcessorConstants;
 import com.github.nalukit.nalu.processor.model.MetaModel;
 import com.github.nalukit.nalu.processor.model.intern.ControllerModel;
 import com.squareup.javapoet.ClassName;
@@ -37,6 +35,8 @@ public class ControllerGenerator {
 
   private MetaModel metaModel;
 
+  private LogStatementGenerator logStatementGenerator;
+
   private TypeSpec.Builder typeSpec;
 
   @SuppressWarnings("unused")
@@ -45,6 +45,9 @@ public class ControllerGenerator {
 
   private ControllerGenerator(Builder builder) {
     this.metaModel = builder.metaModel;
+    this.logStatementGenerator = LogStatementGenerator.builder()
+                                                      .metaModel(builder.metaModel)
+                                                      .build();
     this.typeSpec = builder.typeSpec;
   }
 
@@ -62,26 +65,14 @@ public class ControllerGenerator {
     MethodSpec.Builder loadComponentsMethodBuilder = MethodSpec.methodBuilder("loadComponents")
                                                                .addModifiers(Modifier.PUBLIC)
                                                                .addAnnotation(Override.class);
+    if (!this.metaModel.getControllers()
+                       .isEmpty()) {
+      loadComponentsMethodBuilder.addComment("register creator factory for the controllers")
+                                 .addCode(CreatorFactoryGenerator.createRegisterStatement(this.metaModel,
+                                                                                          ControllerFactory.class));
+    }
     this.getAllComponents(this.metaModel.getControllers())
         .forEach(controllerModel -> {
-          loadComponentsMethodBuilder.addComment("create ControllerCreator for: " +
-                                                 controllerModel.getProvider()
-                                                                .getPackage() +
-                                                 "." +
-                                                 controllerModel.getProvider()
-                                                                .getSimpleName())
-                                     .addStatement("$T.get().registerController($S, new $L(router, context, eventBus))",
-                                                   ClassName.get(ControllerFactory.class),
-                                                   controllerModel.getProvider()
-                                                                  .getPackage() +
-                                                   "." +
-                                                   controllerModel.getProvider()
-                                                                  .getSimpleName(),
-                                                   ClassName.get(controllerModel.getController()
-                                                                                .getPackage(),
-                                                                 controllerModel.getController()
-                                                                                .getSimpleName() + ProcessorConstants.CREATOR_IMPL));
-
           if (controllerModel.getComposites()
                              .size() > 0) {
             List<String> generatedConditionClassNames = new ArrayList<>();
@@ -155,14 +146,10 @@ public class ControllerGenerator {
     MethodSpec.Builder loadSelectorsMethod = MethodSpec.methodBuilder("loadRoutes")
                                                        .addModifiers(Modifier.PUBLIC)
                                                        .addAnnotation(Override.class)
-                                                       .addStatement("$T sb01 = new $T()",
-                                                                     ClassName.get(StringBuilder.class),
-                                                                     ClassName.get(StringBuilder.class))
-                                                       .addStatement("sb01.append(\"load routes\")")
-                                                       .addStatement("$T.get().logDetailed(sb01.toString(), 2)",
-                                                                     ClassName.get(ClientLogger.class));
+                                                       .addCode(this.logStatementGenerator.logDetailed("load routes",
+                                                                                                       2));
     this.metaModel.getControllers()
-                  .forEach(route -> loadSelectorsMethod.addStatement("super.routerConfiguration.getRouters().add(new $T($S, $T.asList(new String[]{$L}), $S, $S))",
+                  .forEach(route -> loadSelectorsMethod.addStatement("super.routerConfiguration.addRoute(new $T($S, $T.asList(new String[]{$L}), $S, $S))",
                                                                      ClassName.get(RouteConfig.class),
                                                                      createRoute(route.getRoute()),
                                                                      ClassName.get(Arrays.class),
@@ -171,17 +158,29 @@ public class ControllerGenerator {
                                                                      route.getSelector(),
                                                                      route.getProvider()
                                                                           .getClassName())
-                                                       .addStatement("sb01 = new $T()",
-                                                                     ClassName.get(StringBuilder.class))
-                                                       .addStatement("sb01.append(\"register route >>$L<< with parameter >>$L<< for selector >>$L<< for controller >>$L<<\")",
-                                                                     createRoute(route.getRoute()),
-                                                                     createParaemter(route.getParameters(),
-                                                                                     false),
-                                                                     route.getSelector(),
-                                                                     route.getProvider()
-                                                                          .getClassName())
-                                                       .addStatement("$T.get().logDetailed(sb01.toString(), 3)",
-                                                                     ClassName.get(ClientLogger.class)));
+                                                       .addCode(this.logStatementGenerator.logDetailed("register route >>" +
+                                                                                                           createRoute(route.getRoute()) +
+                                                                                                           "<< with parameter >>" +
+                                                                                                           createParaemter(route.getParameters(),
+                                                                                                                           false) +
+                                                                                                           "<< for selector >>" +
+                                                                                                           route.getSelector() +
+                                                                                                           "<< for controller >>" +
+                                                                                                           route.getProvider()
+                                                                                                                .getClassName() +
+                                                                                                           "<<",
+                                                                                                       3)));
+    this.metaModel.getControllers()
+                  .forEach(route -> route.getAliases()
+                                         .forEach(alias -> loadSelectorsMethod.addStatement("super.routerConfiguration.addAlias($S, $S)",
+                                                                                            alias,
+                                                                                            createRoute(route.getRoute()))
+                                                                              .addCode(this.logStatementGenerator.logDetailed("register alias >>" +
+                                                                                                                                  alias +
+                                                                                                                                  "<< for route >>" +
+                                                                                                                                  createRoute(route.getRoute()) +
+                                                                                                                                  "<<",
+                                                                                                                              3))));
     typeSpec.addMethod(loadSelectorsMethod.build());
   }
 
@@ -0,0 +1,377 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+package com.github.nalukit.nalu.processor.generator;
+
+import com.github.nalukit.nalu.client.Router;
+import com.github.nalukit.nalu.client.internal.application.ControllerCreatorCallback;
+import com.github.nalukit.nalu.client.internal.application.IsCompositeCreator;
+import com.github.nalukit.nalu.client.internal.application.IsControllerCreator;
+import com.github.nalukit.nalu.client.internal.application.IsCreatorFactory;
+import com.github.nalukit.nalu.client.internal.application.IsPopUpControllerCreator;
+import com.github.nalukit.nalu.client.internal.application.IsShellCreator;
+import com.github.nalukit.nalu.processor.ProcessorConstants;
+import com.github.nalukit.nalu.processor.ProcessorException;
+import com.github.nalukit.nalu.processor.model.MetaModel;
+import com.github.nalukit.nalu.processor.model.intern.ClassNameModel;
+import com.github.nalukit.nalu.processor.util.BuildWithNaluCommentProvider;
+import com.squareup.javapoet.*;
+import org.gwtproject.event.shared.SimpleEventBus;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Modifier;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Generates the creator factory of the application.
+ * <p>
+ * The creator factory contains a switch over the class names of all
+ * controllers, composites, shells and popup controllers. A creator will
+ * be created the first time it is requested, instead of creating all
+ * creators at start up.
+ * <p>
+ * The creators of controllers marked as split point are not referenced
+ * by createControllerCreator. In case GWT is available, the creator of
+ * such a controller is created inside a GWT.runAsync-call. This way the
+ * GWT compiler moves the code of the controller into a separate fragment,
+ * that will be loaded the first time the route is called.
+ */
+public class CreatorFactoryGenerator {
+
+  private final static String GWT_PACKAGE = "com.google.gwt.core.client";
+
+  private final static String CREATOR_FACTORY = "creatorFactory";
+
+  private final static String GET_CREATOR_FACTORY = "getCreatorFactory";
+
+  private MetaModel metaModel;
+
+  private ProcessingEnvironment processingEnvironment;
+
+  @SuppressWarnings("unused")
+  private CreatorFactoryGenerator() {
+  }
+
+  private CreatorFactoryGenerator(Builder builder) {
+    this.metaModel = builder.metaModel;
+    this.processingEnvironment = builder.processingEnvironment;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Name of the creator factory of the application
+   *
+   * @param metaModel meta model of the application
+   * @return class name of the creator factory
+   */
+  static ClassName getClassName(MetaModel metaModel) {
+    return ClassName.get(metaModel.getGenerateToPackage(),
+                         metaModel.getApplication()
+                                  .getSimpleName() + ProcessorConstants.CREATOR_FACTORY_IMPL);
+  }
+
+  /**
+   * Creates the statement, that registers the creator factory.
+   * <p>
+   * All factories share one instance of the creator factory,
+   * returned by the method generated by {@link #addCreatorFactory(MetaModel, TypeSpec.Builder)}.
+   *
+   * @param metaModel    meta model of the application
+   * @param factoryClass the factory of the creators
+   * @return statement registering the creator factory
+   */
+  static CodeBlock createRegisterStatement(MetaModel metaModel,
+                                           Class<?> factoryClass) {
+    return CodeBlock.builder()
+                    .addStatement("$T.get().registerCreatorFactory(this.$L())",
+                                  ClassName.get(factoryClass),
+                                  CreatorFactoryGenerator.GET_CREATOR_FACTORY)
+                    .build();
+  }
+
+  /**
+   * Adds the field and the method, that creates the instance of
+   * the creator factory the first time it is needed, to the
+   * generated application.
+   *
+   * @param metaModel meta model of the application
+   * @param typeSpec  the generated application
+   */
+  static void addCreatorFactory(MetaModel metaModel,
+                                TypeSpec.Builder typeSpec) {
+    ClassName creatorFactory = CreatorFactoryGenerator.getClassName(metaModel);
+    typeSpec.addField(FieldSpec.builder(creatorFactory,
+                                        CreatorFactoryGenerator.CREATOR_FACTORY,
+                                        Modifier.PRIVATE)
+                               .build())
+            .addMethod(MethodSpec.methodBuilder(CreatorFactoryGenerator.GET_CREATOR_FACTORY)
+                                 .addModifiers(Modifier.PRIVATE)
+                                 .returns(creatorFactory)
+                                 .addComment("the shell, popup controller, composite and controller factory share one creator factory")
+                                 .beginControlFlow("if (this.$L == null)",
+                                                   CreatorFactoryGenerator.CREATOR_FACTORY)
+                                 .addStatement("this.$L = new $T(router, context, eventBus)",
+                                               CreatorFactoryGenerator.CREATOR_FACTORY,
+                                               creatorFactory)
+                                 .endControlFlow()
+                                 .addStatement("return this.$L",
+                                               CreatorFactoryGenerator.CREATOR_FACTORY)
+                                 .build());
+  }
+
+  public void generate()
+      throws ProcessorException {
+    Map<String, ClassName> controllerCreators = new LinkedHashMap<>();
+    Map<String, ClassName> splitPointControllerCreators = new LinkedHashMap<>();
+    this.metaModel.getControllers()
+                  .forEach(controllerModel -> {
+                    if (controllerModel.isSplitPoint()) {
+                      splitPointControllerCreators.putIfAbsent(controllerModel.getProvider()
+                                                                              .getClassName(),
+                                                               this.getCreatorClassName(controllerModel.getController()));
+                    } else {
+                      controllerCreators.putIfAbsent(controllerModel.getProvider()
+                                                                    .getClassName(),
+                                                     this.getCreatorClassName(controllerModel.getController()));
+                    }
+                  });
+    Map<String, ClassName> compositeCreators = new LinkedHashMap<>();
+    this.metaModel.getCompositeModels()
+                  .forEach(compositeModel -> compositeCreators.putIfAbsent(compositeModel.getProvider()
+                                                                                          .getClassName(),
+                                                                           this.getCreatorClassName(compositeModel.getProvider())));
+    Map<String, ClassName> shellCreators = new LinkedHashMap<>();
+    this.metaModel.getShells()
+                  .forEach(shellModel -> shellCreators.putIfAbsent(shellModel.getShell()
+                                                                             .getClassName(),
+                                                                   this.getCreatorClassName(shellModel.getShell())));
+    Map<String, ClassName> popUpControllerCreators = new LinkedHashMap<>();
+    this.metaModel.getPopUpControllers()
+                  .forEach(popUpControllerModel -> popUpControllerCreators.putIfAbsent(popUpControllerModel.getName(),
+                                                                                       this.getCreatorClassName(popUpControllerModel.getController())));
+
+    TypeSpec.Builder typeSpec = TypeSpec.classBuilder(CreatorFactoryGenerator.getClassName(this.metaModel))
+                                        .addJavadoc(BuildWithNaluCommentProvider.get()
+                                                                                .getGeneratedComment())
+                                        .addModifiers(Modifier.PUBLIC,
+                                                      Modifier.FINAL)
+                                        .addSuperinterface(ClassName.get(IsCreatorFactory.class))
+                                        .addField(FieldSpec.builder(ClassName.get(Router.class),
+                                                                    "router",
+                                                                    Modifier.PRIVATE,
+                                                                    Modifier.FINAL)
+                                                           .build())
+                                        .addField(FieldSpec.builder(this.metaModel.getContext()
+                                                                                  .getTypeName(),
+                                                                    "context",
+                                                                    Modifier.PRIVATE,
+                                                                    Modifier.FINAL)
+                                                           .build())
+                                        .addField(FieldSpec.builder(ClassName.get(SimpleEventBus.class),
+                                                                    "eventBus",
+                                                                    Modifier.PRIVATE,
+                                                                    Modifier.FINAL)
+                                                           .build());
+    typeSpec.addMethod(MethodSpec.constructorBuilder()
+                                 .addModifiers(Modifier.PUBLIC)
+                                 .addParameter(ParameterSpec.builder(ClassName.get(Router.class),
+                                                                     "router")
+                                                            .build())
+                                 .addParameter(ParameterSpec.builder(this.metaModel.getContext()
+                                                                                   .getTypeName(),
+                                                                     "context")
+                                                            .build())
+                                 .addParameter(ParameterSpec.builder(ClassName.get(SimpleEventBus.class),
+                                                                     "eventBus")
+                                                            .build())
+                                 .addStatement("this.router = router")
+                                 .addStatement("this.context = context")
+                                 .addStatement("this.eventBus = eventBus")
+                                 .build());
+    typeSpec.addMethod(this.createMethod("createControllerCreator",
+                                         "controller",
+                                         IsControllerCreator.class,
+                                         controllerCreators));
+    typeSpec.addMethod(this.createIsSplitPointMethod(splitPointControllerCreators));
+    typeSpec.addMethod(this.createLoadControllerCreatorMethod(splitPointControllerCreators));
+    typeSpec.addMethod(this.createMethod("createCompositeCreator",
+                                         "composite",
+                                         IsCompositeCreator.class,
+                                         compositeCreators));
+    typeSpec.addMethod(this.createMethod("createShellCreator",
+                                         "shell",
+                                         IsShellCreator.class,
+                                         shellCreators));
+    typeSpec.addMethod(this.createMethod("createPopUpControllerCreator",
+                                         "popUpName",
+                                         IsPopUpControllerCreator.class,
+                                         popUpControllerCreators));
+
+    JavaFile javaFile = JavaFile.builder(this.metaModel.getGenerateToPackage(),
+                                         typeSpec.build())
+                                .build();
+    try {
+      //      System.out.println(javaFile.toString());
+      javaFile.writeTo(this.processingEnvironment.getFiler());
+    } catch (IOException e) {
+      throw new ProcessorException("Unable to write generated file: >>" +
+                                       CreatorFactoryGenerator.getClassName(this.metaModel)
+                                                              .simpleName() +
+                                       "<< -> exception: " +
+                                       e.getMessage());
+    }
+  }
+
+  private MethodSpec createMethod(String methodName,
+                                  String parameterName,
+                                  Class<?> returnType,
+                                  Map<String, ClassName> creators) {
+    MethodSpec.Builder method = MethodSpec.methodBuilder(methodName)
+                                          .addAnnotation(ClassName.get(Override.class))
+                                          .addModifiers(Modifier.PUBLIC)
+                                          .addParameter(ParameterSpec.builder(String.class,
+                                                                              parameterName)
+                                                                     .build())
+                                          .returns(ClassName.get(returnType));
+    if (!creators.isEmpty()) {
+      method.beginControlFlow("switch ($L)",
+                              parameterName);
+      creators.forEach((name, creator) -> method.addCode("case $S:\n",
+                                                         name)
+                                                .addStatement("$>return new $T(this.router, this.context, this.eventBus)$<",
+                                                              creator));
+      method.endControlFlow();
+    }
+    return method.addStatement("return null")
+                 .build();
+  }
+
+  private MethodSpec createIsSplitPointMethod(Map<String, ClassName> splitPointControllerCreators) {
+    MethodSpec.Builder method = MethodSpec.methodBuilder("isSplitPoint")
+                                          .addAnnotation(ClassName.get(Override.class))
+                                          .addModifiers(Modifier.PUBLIC)
+                                          .addParameter(ParameterSpec.builder(String.class,
+                                                                              "controller")
+                                                                     .build())
+                                          .returns(boolean.class);
+    if (!splitPointControllerCreators.isEmpty()) {
+      method.beginControlFlow("switch (controller)");
+      splitPointControllerCreators.keySet()
+                                  .forEach(name -> method.addCode("case $S:\n",
+                                                                  name));
+      method.addStatement("$>return true$<")
+            .endControlFlow();
+    }
+    return method.addStatement("return false")
+                 .build();
+  }
+
+  private MethodSpec createLoadControllerCreatorMethod(Map<String, ClassName> splitPointControllerCreators) {
+    MethodSpec.Builder method = MethodSpec.methodBuilder("loadControllerCreator")
+                                          .addAnnotation(ClassName.get(Override.class))
+                                          .addModifiers(Modifier.PUBLIC)
+                                          .addParameter(ParameterSpec.builder(String.class,
+                                                                              "controller")
+                                                                     .build())
+                                          .addParameter(ParameterSpec.builder(ClassName.get(ControllerCreatorCallback.class),
+                                                                              "callback")
+                                                                     .build());
+    if (!splitPointControllerCreators.isEmpty()) {
+      boolean gwt = this.isGwtAvailable();
+      method.beginControlFlow("switch (controller)");
+      splitPointControllerCreators.forEach((name, creator) -> {
+        method.addCode("case $S:\n",
+                       name)
+              .addCode("$>");
+        if (gwt) {
+          // every call of GWT.runAsync is a split point of its own
+          method.addStatement("$T.runAsync($L)",
+                              ClassName.get(GWT_PACKAGE,
+                                            "GWT"),
+                              TypeSpec.anonymousClassBuilder("")
+                                      .addSuperinterface(ClassName.get(GWT_PACKAGE,
+                                                                       "RunAsyncCallback"))
+                                      .addMethod(MethodSpec.methodBuilder("onFailure")
+                                                           .addAnnotation(ClassName.get(Override.class))
+                                                           .addModifiers(Modifier.PUBLIC)
+                                                           .addParameter(ParameterSpec.builder(Throwable.class,
+                                                                                               "reason")
+                                                                                      .build())
+                                                           .addStatement("callback.onFailure(reason)")
+                                                           .build())
+                                      .addMethod(MethodSpec.methodBuilder("onSuccess")
+                                                           .addAnnotation(ClassName.get(Override.class))
+                                                           .addModifiers(Modifier.PUBLIC)
+                                                           .addStatement("callback.onLoad(new $T(router, context, eventBus))",
+                                                                         creator)
+                                                           .build())
+                                      .build());
+        } else {
+          // no split points without GWT: create the creator right away
+          method.addStatement("callback.onLoad(new $T(this.router, this.context, this.eventBus))",
+                              creator);
+        }
+        method.addStatement("break")
+              .addCode("$<");
+      });
+      method.endControlFlow();
+    }
+    return method.build();
+  }
+
+  private boolean isGwtAvailable() {
+    return this.processingEnvironment.getElementUtils()
+                                     .getTypeElement(GWT_PACKAGE + ".GWT") != null;
+  }
+
+  private ClassName getCreatorClassName(ClassNameModel classNameModel) {
+    return ClassName.get(classNameModel.getPackage(),
+                         classNameModel.getSimpleName() + ProcessorConstants.CREATOR_IMPL);
+  }
+
+  public static final class Builder {
+
+    MetaModel metaModel;
+
+    ProcessingEnvironment processingEnvironment;
+
+    /**
+     * Set the meta model of the currently generated application
+     *
+     * @param metaModel meta data model of the application
+     * @return the Builder
+     */
+    public Builder metaModel(MetaModel metaModel) {
+      this.metaModel = metaModel;
+      return this;
+    }
+
+    public Builder processingEnvironment(ProcessingEnvironment processingEnvironment) {
+      this.processingEnvironment = processingEnvironment;
+      return this;
+    }
+
+    public CreatorFactoryGenerator build() {
+      return new CreatorFactoryGenerator(this);
+    }
+
+  }
+
+}
@@ -48,7 +48,9 @@ public class DebugGenerator {
     MethodSpec.Builder loadDebugConfigurationMethod = MethodSpec.methodBuilder("loadDebugConfiguration")
                                                                 .addAnnotation(Override.class)
                                                                 .addModifiers(Modifier.PUBLIC);
-    if (metaModel.isHasDebugAnnotation()) {
+    // in case the logging is removed, the logger is not registered
+    if (metaModel.isHasDebugAnnotation() &&
+        !metaModel.isRemoveLogging()) {
       loadDebugConfigurationMethod.addStatement("$T.get().register($L, new $T(), $T.LogLevel.$L)",
                                                 ClassName.get(ClientLogger.class),
                                                 "true",
@@ -15,7 +15,6 @@
  */
 package com.github.nalukit.nalu.processor.generator;
 
-import com.github.nalukit.nalu.client.internal.ClientLogger;
 import com.github.nalukit.nalu.processor.ProcessorUtils;
 import com.github.nalukit.nalu.processor.model.MetaModel;
 import com.squareup.javapoet.ClassName;
@@ -33,6 +32,8 @@ public class FiltersGenerator {
 
   private MetaModel metaModel;
 
+  private LogStatementGenerator logStatementGenerator;
+
   private TypeSpec.Builder typeSpec;
 
   @SuppressWarnings("unused")
@@ -43,6 +44,9 @@ public class FiltersGenerator {
   private FiltersGenerator(Builder builder) {
     this.processingEnvironment = builder.processingEnvironment;
     this.metaModel = builder.metaModel;
+    this.logStatementGenerator = LogStatementGenerator.builder()
+                                                      .metaModel(builder.metaModel)
+                                                      .build();
     this.typeSpec = builder.typeSpec;
 
     setUp();
@@ -77,9 +81,10 @@ public class FiltersGenerator {
                                                                             this.processorUtils.createFullClassName(classNameModel.getClassName()))
                                                               .addStatement("super.routerConfiguration.getFilters().add($L)",
                                                                             this.processorUtils.createFullClassName(classNameModel.getClassName()))
-                                                              .addStatement("$T.get().logDetailed(\"AbstractApplication: filter >> $L << created\", 0)",
-                                                                            ClassName.get(ClientLogger.class),
-                                                                            this.processorUtils.createFullClassName(classNameModel.getClassName())));
+                                                              .addCode(this.logStatementGenerator.logDetailed("AbstractApplication: filter >> " +
+                                                                                                                  this.processorUtils.createFullClassName(classNameModel.getClassName()) +
+                                                                                                                  " << created",
+                                                                                                              0)));
 
     typeSpec.addMethod(loadFiltersMethod.build());
   }
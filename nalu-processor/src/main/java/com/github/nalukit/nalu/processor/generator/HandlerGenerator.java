@@ -15,7 +15,6 @@
  */
 package com.github.nalukit.nalu.processor.generator;
 
-import com.github.nalukit.nalu.client.internal.ClientLogger;
 import com.github.nalukit.nalu.processor.ProcessorUtils;
 import com.github.nalukit.nalu.processor.model.MetaModel;
 import com.squareup.javapoet.ClassName;
@@ -33,6 +32,8 @@ public class HandlerGenerator {
 
   private MetaModel metaModel;
 
+  private LogStatementGenerator logStatementGenerator;
+
   private TypeSpec.Builder typeSpec;
 
   @SuppressWarnings("unused")
@@ -41,6 +42,9 @@ public class HandlerGenerator {
 
   private HandlerGenerator(Builder builder) {
     this.metaModel = builder.metaModel;
+    this.logStatementGenerator = LogStatementGenerator.builder()
+                                                      .metaModel(builder.metaModel)
+                                                      .build();
     this.processingEnvironment = builder.processingEnvironment;
     this.typeSpec = builder.typeSpec;
     setUp();
@@ -81,9 +85,10 @@ public class HandlerGenerator {
                                                     variableName)
                                       .addStatement("$L.bind()",
                                                     variableName)
-                                      .addStatement("$T.get().logDetailed(\"AbstractController: handler >>$L<< created\", 0)",
-                                                    ClassName.get(ClientLogger.class),
-                                                    handler.getClassName());
+                                      .addCode(this.logStatementGenerator.logDetailed("AbstractController: handler >>" +
+                                                                                          handler.getClassName() +
+                                                                                          "<< created",
+                                                                                      0));
                   });
 
     typeSpec.addMethod(loadHandlersMethod.build());
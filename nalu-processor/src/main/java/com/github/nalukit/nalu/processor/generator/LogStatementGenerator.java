@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+package com.github.nalukit.nalu.processor.generator;
+
+import com.github.nalukit.nalu.client.internal.ClientLogger;
+import com.github.nalukit.nalu.processor.model.MetaModel;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+
+/**
+ * Creates the log statements of the generated sources.
+ * <p>
+ * In case the processor option 'nalu.logging' is set to 'off',
+ * all methods return an empty code block. That way the generated
+ * sources do not contain any logging code.
+ */
+public class LogStatementGenerator {
+
+  private MetaModel metaModel;
+
+  @SuppressWarnings("unused")
+  private LogStatementGenerator() {
+  }
+
+  private LogStatementGenerator(Builder builder) {
+    this.metaModel = builder.metaModel;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Creates a simple log statement with a constant message.
+   *
+   * @param message the message to log
+   * @param depth   depth of the message
+   * @return the log statement
+   */
+  public CodeBlock logSimple(String message,
+                             int depth) {
+    if (this.metaModel.isRemoveLogging()) {
+      return CodeBlock.builder()
+                      .build();
+    }
+    return CodeBlock.builder()
+                    .addStatement("$T.get().logSimple($S, $L)",
+                                  ClassName.get(ClientLogger.class),
+                                  message,
+                                  depth)
+                    .build();
+  }
+
+  /**
+   * Creates a detailed log statement with a constant message.
+   *
+   * @param message the message to log
+   * @param depth   depth of the message
+   * @return the log statement
+   */
+  public CodeBlock logDetailed(String message,
+                               int depth) {
+    if (this.metaModel.isRemoveLogging()) {
+      return CodeBlock.builder()
+                      .build();
+    }
+    return CodeBlock.builder()
+                    .addStatement("$T.get().logDetailed($S, $L)",
+                                  ClassName.get(ClientLogger.class),
+                                  message,
+                                  depth)
+                    .build();
+  }
+
+  /**
+   * Creates a detailed log statement for a message, that is
+   * created at runtime. The statement is guarded by a check
+   * of the log level, so the message is only created in case
+   * it will be logged.
+   *
+   * @param message code, that creates the message
+   * @param depth   depth of the message
+   * @return the log statement
+   */
+  public CodeBlock logDetailed(CodeBlock message,
+                               int depth) {
+    if (this.metaModel.isRemoveLogging()) {
+      return CodeBlock.builder()
+                      .build();
+    }
+    return CodeBlock.builder()
+                    .beginControlFlow("if ($T.get().isDetailedLoggingEnabled())",
+                                      ClassName.get(ClientLogger.class))
+                    .addStatement("$T.get().logDetailed($L, $L)",
+                                  ClassName.get(ClientLogger.class),
+                                  message,
+                                  depth)
+                    .endControlFlow()
+                    .build();
+  }
+
+  public static final class Builder {
+
+    MetaModel metaModel;
+
+    public Builder metaModel(MetaModel metaModel) {
+      this.metaModel = metaModel;
+      return this;
+    }
+
+    public LogStatementGenerator build() {
+      return new LogStatementGenerator(this);
+    }
+
+  }
+
+}
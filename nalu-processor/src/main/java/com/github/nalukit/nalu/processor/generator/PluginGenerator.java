@@ -18,7 +18,6 @@ package com.github.nalukit.nalu.processor.generator;
 
 import com.github.nalukit.nalu.client.Router;
 import com.github.nalukit.nalu.client.component.AlwaysLoadComposite;
-import com.github.nalukit.nalu.client.internal.ClientLogger;
 import com.github.nalukit.nalu.client.internal.CompositeControllerReference;
 import com.github.nalukit.nalu.client.internal.application.*;
 import com.github.nalukit.nalu.client.internal.route.RouteConfig;
@@ -46,6 +45,8 @@ public class PluginGenerator {
 
   private MetaModel metaModel;
 
+  private LogStatementGenerator logStatementGenerator;
+
   private ProcessingEnvironment processingEnvironment;
 
   private ProcessorUtils processorUtils;
@@ -55,6 +56,9 @@ public class PluginGenerator {
     super();
     this.processingEnvironment = builder.processingEnvironment;
     this.metaModel = builder.metaModel;
+    this.logStatementGenerator = LogStatementGenerator.builder()
+                                                      .metaModel(builder.metaModel)
+                                                      .build();
     setUp();
   }
 
@@ -161,9 +165,10 @@ public class PluginGenerator {
                                                     variableName)
                                       .addStatement("$L.bind()",
                                                     variableName)
-                                      .addStatement("$T.get().logDetailed(\"AbstractController: handler >>$L<< created\", 0)",
-                                                    ClassName.get(ClientLogger.class),
-                                                    handler.getClassName());
+                                      .addCode(this.logStatementGenerator.logDetailed("AbstractController: handler >>" +
+                                                                                          handler.getClassName() +
+                                                                                          "<< created",
+                                                                                      0));
                   });
 
     typeSpec.addMethod(loadHandlersMethod.build());
@@ -189,9 +194,10 @@ public class PluginGenerator {
                                                                             this.processorUtils.createFullClassName(classNameModel.getClassName()))
                                                               .addStatement("routerConfiguration.getFilters().add($L)",
                                                                             this.processorUtils.createFullClassName(classNameModel.getClassName()))
-                                                              .addStatement("$T.get().logDetailed(\"AbstractApplication: filter >> $L << created\", 0)",
-                                                                            ClassName.get(ClientLogger.class),
-                                                                            this.processorUtils.createFullClassName(classNameModel.getClassName())));
+                                                              .addCode(this.logStatementGenerator.logDetailed("AbstractApplication: filter >> " +
+                                                                                                                  this.processorUtils.createFullClassName(classNameModel.getClassName()) +
+                                                                                                                  " << created",
+                                                                                                              0)));
 
     typeSpec.addMethod(loadFiltersMethod.build());
   }
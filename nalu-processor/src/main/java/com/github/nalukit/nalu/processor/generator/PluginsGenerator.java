@@ -15,7 +15,6 @@
  */
 package com.github.nalukit.nalu.processor.generator;
 
-import com.github.nalukit.nalu.client.internal.ClientLogger;
 import com.github.nalukit.nalu.processor.ProcessorConstants;
 import com.github.nalukit.nalu.processor.model.MetaModel;
 import com.squareup.javapoet.ClassName;
@@ -28,6 +27,8 @@ public class PluginsGenerator {
 
   private MetaModel metaModel;
 
+  private LogStatementGenerator logStatementGenerator;
+
   private TypeSpec.Builder typeSpec;
 
   @SuppressWarnings("unused")
@@ -36,6 +37,9 @@ public class PluginsGenerator {
 
   private PluginsGenerator(Builder builder) {
     this.metaModel = builder.metaModel;
+    this.logStatementGenerator = LogStatementGenerator.builder()
+                                                      .metaModel(builder.metaModel)
+                                                      .build();
     this.typeSpec = builder.typeSpec;
   }
 
@@ -47,10 +51,7 @@ public class PluginsGenerator {
     // generate method 'generateLoadPlugins()'
     MethodSpec.Builder loadPluginMethodBuilder = MethodSpec.methodBuilder("loadPlugins")
                                                            .addModifiers(Modifier.PUBLIC)
-                                                           .addAnnotation(Override.class)
-                                                           .addStatement("$T sb01 = new $T()",
-                                                                         ClassName.get(StringBuilder.class),
-                                                                         ClassName.get(StringBuilder.class));
+                                                           .addAnnotation(Override.class);
     // are there any plugins?
     this.metaModel.getPlugins()
                   .forEach(pluginModel -> {
@@ -66,94 +67,54 @@ public class PluginsGenerator {
                                            .addComment(" Start handling Plugin: $L",
                                                        pluginModel.getClassName())
                                            .addComment("")
-                                           .addStatement("sb01 = new $T()",
-                                                         ClassName.get(StringBuilder.class))
-                                           .addStatement("sb01.append(\"load plugin >>$L<<\")",
-                                                         pluginModel.getClassName())
-                                           .addStatement("$T.get().logSimple(sb01.toString(), 1)",
-                                                         ClassName.get(ClientLogger.class))
-
-                                           .addStatement("sb01 = new $T()",
-                                                         ClassName.get(StringBuilder.class))
-                                           .addStatement("sb01.append(\"create plugin >>$L<<\")",
-                                                         pluginModel.getClassName())
-                                           .addStatement("$T.get().logDetailed(sb01.toString(), 2)",
-                                                         ClassName.get(ClientLogger.class))
+                                           .addCode(this.logStatementGenerator.logSimple("load plugin >>" +
+                                                                                             pluginModel.getClassName() +
+                                                                                             "<<",
+                                                                                         1))
+                                           .addCode(this.logStatementGenerator.logDetailed("create plugin >>" +
+                                                                                               pluginModel.getClassName() +
+                                                                                               "<<",
+                                                                                           2))
                                            .addStatement("$T $L = new $T(super.router, super.context, super.eventBus, super.alwaysLoadComposite)",
                                                          ClassName.get(pluginModel.getPackage(),
                                                                        pluginModel.getSimpleName()),
                                                          pluginInstanceName,
                                                          ClassName.get(pluginModel.getPackage(),
                                                                        pluginModel.getSimpleName() + ProcessorConstants.PLUGIN_IMPL))
-                                           .addStatement("sb01 = new $T()",
-                                                         ClassName.get(StringBuilder.class))
-                                           .addStatement("sb01.append(\"plugin >>$L<< created\")",
-                                                         pluginModel.getClassName())
-                                           .addStatement("$T.get().logDetailed(sb01.toString(), 2)",
-                                                         ClassName.get(ClientLogger.class))
-
-                                           .addStatement("sb01 = new $T()",
-                                                         ClassName.get(StringBuilder.class))
-                                           .addStatement("sb01.append(\"call >>loadPlugin<<\")")
-                                           .addStatement("$T.get().logDetailed(sb01.toString(), 3)",
-                                                         ClassName.get(ClientLogger.class))
+                                           .addCode(this.logStatementGenerator.logDetailed("plugin >>" +
+                                                                                               pluginModel.getClassName() +
+                                                                                               "<< created",
+                                                                                           2))
+                                           .addCode(this.logStatementGenerator.logDetailed("call >>loadPlugin<<",
+                                                                                           3))
                                            .addStatement("$L.loadPlugin(super.routerConfiguration)",
                                                          pluginInstanceName)
-                                           .addStatement("sb01 = new $T()",
-                                                         ClassName.get(StringBuilder.class))
-                                           .addStatement("sb01.append(\"plugin >>$L<< loaded\")",
-                                                         pluginInstanceName)
-                                           .addStatement("$T.get().logDetailed(sb01.toString(), 3)",
-                                                         ClassName.get(ClientLogger.class))
-
-                                           .addStatement("sb01 = new $T()",
-                                                         ClassName.get(StringBuilder.class))
-                                           .addStatement("sb01.append(\"call >>getShellConfigs<< and add to shellCreator config list\")")
-                                           .addStatement("$T.get().logDetailed(sb01.toString(), 3)",
-                                                         ClassName.get(ClientLogger.class))
+                                           .addCode(this.logStatementGenerator.logDetailed("plugin >>" +
+                                                                                               pluginInstanceName +
+                                                                                               "<< loaded",
+                                                                                           3))
+                                           .addCode(this.logStatementGenerator.logDetailed("call >>getShellConfigs<< and add to shellCreator config list",
+                                                                                           3))
                                            .addStatement("super.shellConfiguration.getShells().addAll($L.getShellConfigs())",
                                                          pluginInstanceName)
-                                           .addStatement("sb01 = new $T()",
-                                                         ClassName.get(StringBuilder.class))
-                                           .addStatement("sb01.append(\"called >>getShellConfigs<<\")",
-                                                         pluginInstanceName)
-                                           .addStatement("$T.get().logDetailed(sb01.toString(), 3)",
-                                                         ClassName.get(ClientLogger.class))
-
-                                           .addStatement("sb01 = new $T()",
-                                                         ClassName.get(StringBuilder.class))
-                                           .addStatement("sb01.append(\"call >>getRouteConfigs<< and add to route config list\")")
-                                           .addStatement("$T.get().logDetailed(sb01.toString(), 3)",
-                                                         ClassName.get(ClientLogger.class))
-                                           .addStatement("super.routerConfiguration.getRouters().addAll($L.getRouteConfigs())",
+                                           .addCode(this.logStatementGenerator.logDetailed("called >>getShellConfigs<<",
+                                                                                           3))
+                                           .addCode(this.logStatementGenerator.logDetailed("call >>getRouteConfigs<< and add to route config list",
+                                                                                           3))
+                                           .addStatement("super.routerConfiguration.addRoutes($L.getRouteConfigs())",
                                                          pluginInstanceName)
-                                           .addStatement("sb01 = new $T()",
-                                                         ClassName.get(StringBuilder.class))
-                                           .addStatement("sb01.append(\"called >>getRouteConfigs<<\")",
-                                                         pluginInstanceName)
-                                           .addStatement("$T.get().logDetailed(sb01.toString(), 3)",
-                                                         ClassName.get(ClientLogger.class))
-
-                                           .addStatement("sb01 = new $T()",
-                                                         ClassName.get(StringBuilder.class))
-                                           .addStatement("sb01.append(\"call >>getCompositeReferences<< and add to composite controller references\")")
-                                           .addStatement("$T.get().logDetailed(sb01.toString(), 3)",
-                                                         ClassName.get(ClientLogger.class))
+                                           .addCode(this.logStatementGenerator.logDetailed("called >>getRouteConfigs<<",
+                                                                                           3))
+                                           .addCode(this.logStatementGenerator.logDetailed("call >>getCompositeReferences<< and add to composite controller references",
+                                                                                           3))
                                            .addStatement("super.compositeControllerReferences.addAll($L.getCompositeReferences())",
                                                          pluginInstanceName)
-                                           .addStatement("sb01 = new $T()",
-                                                         ClassName.get(StringBuilder.class))
-                                           .addStatement("sb01.append(\"called >>getCompositeReferences<<\")",
-                                                         pluginInstanceName)
-                                           .addStatement("$T.get().logDetailed(sb01.toString(), 3)",
-                                                         ClassName.get(ClientLogger.class))
-
-                                           .addStatement("sb01 = new $T()",
-                                                         ClassName.get(StringBuilder.class))
-                                           .addStatement("sb01.append(\"plugin >>$L<< loaded\")",
-                                                         pluginModel.getClassName())
-                                           .addStatement("$T.get().logSimple(sb01.toString(), 2)",
-                                                         ClassName.get(ClientLogger.class));
+                                           .addCode(this.logStatementGenerator.logDetailed("called >>getCompositeReferences<<",
+                                                                                           3))
+                                           .addCode(this.logStatementGenerator.logSimple("plugin >>" +
+                                                                                             pluginModel.getClassName() +
+                                                                                             "<< loaded",
+                                                                                         2));
 
                   });
     typeSpec.addMethod(loadPluginMethodBuilder.build());
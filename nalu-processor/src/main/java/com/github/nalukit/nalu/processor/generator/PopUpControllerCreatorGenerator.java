@@ -17,7 +17,6 @@ package com.github.nalukit.nalu.processor.generator;
 
 import com.github.nalukit.nalu.client.Router;
 import com.github.nalukit.nalu.client.internal.AbstractPopUpControllerCreator;
-import com.github.nalukit.nalu.client.internal.ClientLogger;
 import com.github.nalukit.nalu.client.internal.application.IsPopUpControllerCreator;
 import com.github.nalukit.nalu.client.internal.application.PopUpControllerInstance;
 import com.github.nalukit.nalu.processor.ProcessorConstants;
@@ -40,6 +39,8 @@ public class PopUpControllerCreatorGenerator {
 
   private PopUpControllerModel popUpControllerModel;
 
+  private LogStatementGenerator logStatementGenerator;
+
   @SuppressWarnings("unused")
   private PopUpControllerCreatorGenerator() {
   }
@@ -48,6 +49,9 @@ public class PopUpControllerCreatorGenerator {
     this.metaModel = builder.metaModel;
     this.processingEnvironment = builder.processingEnvironment;
     this.popUpControllerModel = builder.popUpControllerModel;
+    this.logStatementGenerator = LogStatementGenerator.builder()
+                                                      .metaModel(builder.metaModel)
+                                                      .build();
   }
 
   public static Builder builder() {
@@ -87,23 +91,20 @@ public class PopUpControllerCreatorGenerator {
                                                 .addAnnotation(ClassName.get(Override.class))
                                                 .addModifiers(Modifier.PUBLIC)
                                                 .returns(ClassName.get(PopUpControllerInstance.class))
-                                                .addStatement("$T sb01 = new $T()",
-                                                              ClassName.get(StringBuilder.class),
-                                                              ClassName.get(StringBuilder.class))
                                                 .addStatement("$T popUpControllerInstance = new $T()",
                                                               ClassName.get(PopUpControllerInstance.class),
                                                               ClassName.get(PopUpControllerInstance.class))
                                                 .addStatement("popUpControllerInstance.setPopUpControllerClassName($S)",
                                                               popUpControllerModel.getController()
                                                                                   .getClassName())
-                                                .addStatement("sb01.append(\"popUpController >>$L<< --> will be created\")",
-                                                              popUpControllerModel.getProvider()
-                                                                                  .getPackage() +
-                                                              "." +
-                                                              popUpControllerModel.getProvider()
-                                                                                  .getSimpleName())
-                                                .addStatement("$T.get().logSimple(sb01.toString(), 3)",
-                                                              ClassName.get(ClientLogger.class))
+                                                .addCode(this.logStatementGenerator.logSimple("popUpController >>" +
+                                                                                                  popUpControllerModel.getProvider()
+                                                                                                                      .getPackage() +
+                                                                                                  "." +
+                                                                                                  popUpControllerModel.getProvider()
+                                                                                                                      .getSimpleName() +
+                                                                                                  "<< --> will be created",
+                                                                                              3))
                                                 .addStatement("$T controller = new $T()",
                                                               ClassName.get(popUpControllerModel.getProvider()
                                                                                                 .getPackage(),
@@ -119,20 +120,21 @@ public class PopUpControllerCreatorGenerator {
                                                 .addStatement("controller.setRouter(router)")
                                                 .addStatement("controller.setName($S)",
                                                               popUpControllerModel.getName())
-                                                .addStatement("sb01 = new $T()",
-                                                              ClassName.get(StringBuilder.class))
-                                                .addStatement("sb01.append(\"controller >>\").append(controller.getClass().getCanonicalName()).append(\"<< --> created and data injected\")")
-                                                .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
-                                                              ClassName.get(ClientLogger.class));
+                                                .addCode(this.logStatementGenerator.logDetailed(CodeBlock.of("\"controller >>\" + controller.getClass().getCanonicalName() + \"<< --> created and data injected\""),
+                                                                                                4));
 
     //
-    //                                                .addStatement("sb01.append(\"controller >>\").append(controller.getClass().getCanonicalName()).append(\"<< --> call bind method\")")
-    //                                                .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
+    //                                                .beginControlFlow("if ($T.get().isDetailedLoggingEnabled())",
+    //                                                                  ClassName.get(ClientLogger.class))
+    //                                                .addStatement("$T.get().logDetailed(\"controller >>\" + controller.getClass().getCanonicalName() + \"<< --> call bind method\", 4)",
     //                                                              ClassName.get(ClientLogger.class))
+    //                                                .endControlFlow()
     //
-    //                                                .addStatement("sb01.append(\"controller >>\").append(controller.getClass().getCanonicalName()).append(\"<< --> bind method called\")")
-    //                                                .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
+    //                                                .beginControlFlow("if ($T.get().isDetailedLoggingEnabled())",
+    //                                                                  ClassName.get(ClientLogger.class))
+    //                                                .addStatement("$T.get().logDetailed(\"controller >>\" + controller.getClass().getCanonicalName() + \"<< --> bind method called\", 4)",
     //                                                              ClassName.get(ClientLogger.class))
+    //                                                .endControlFlow()
     //
 
     //                                                .addStatement("$T sb01 = new $T()",
@@ -144,13 +146,11 @@ public class PopUpControllerCreatorGenerator {
                                                                   .getPackage(),
                                               popUpControllerModel.getComponentInterface()
                                                                   .getSimpleName()))
-                  .addStatement("sb01 = new $T()",
-                                ClassName.get(StringBuilder.class))
-                  .addStatement("sb01.append(\"component >>$L<< --> created using createComponent-Method of controller\")",
-                                popUpControllerModel.getComponent()
-                                                    .getClassName())
-                  .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
-                                ClassName.get(ClientLogger.class));
+                  .addCode(this.logStatementGenerator.logDetailed("component >>" +
+                                                                      popUpControllerModel.getComponent()
+                                                                                          .getClassName() +
+                                                                      "<< --> created using createComponent-Method of controller",
+                                                                  4));
     } else {
       createMethod.addStatement("$T component = new $T()",
                                 ClassName.get(popUpControllerModel.getComponentInterface()
@@ -161,43 +161,31 @@ public class PopUpControllerCreatorGenerator {
                                                                   .getPackage(),
                                               popUpControllerModel.getComponent()
                                                                   .getSimpleName()))
-                  .addStatement("sb01 = new $T()",
-                                ClassName.get(StringBuilder.class))
-                  .addStatement("sb01.append(\"component >>$L<< --> created using new\")",
-                                popUpControllerModel.getComponent()
-                                                    .getClassName())
-                  .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
-                                ClassName.get(ClientLogger.class));
+                  .addCode(this.logStatementGenerator.logDetailed("component >>" +
+                                                                      popUpControllerModel.getComponent()
+                                                                                          .getClassName() +
+                                                                      "<< --> created using new",
+                                                                  4));
     }
     createMethod.addStatement("component.setController(controller)")
-                .addStatement("sb01 = new $T()",
-                              ClassName.get(StringBuilder.class))
-                .addStatement("sb01.append(\"component >>\").append(component.getClass().getCanonicalName()).append(\"<< --> created and controller instance injected\")")
-                .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
-                              ClassName.get(ClientLogger.class))
+                .addCode(this.logStatementGenerator.logDetailed(CodeBlock.of("\"component >>\" + component.getClass().getCanonicalName() + \"<< --> created and controller instance injected\""),
+                                                                4))
                 .addStatement("controller.setComponent(component)")
-                .addStatement("sb01 = new $T()",
-                              ClassName.get(StringBuilder.class))
-                .addStatement("sb01.append(\"controller >>\").append(controller.getClass().getCanonicalName()).append(\"<< --> instance of >>\").append(component.getClass().getCanonicalName()).append(\"<< injected\")")
-                .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
-                              ClassName.get(ClientLogger.class))
+                .addCode(this.logStatementGenerator.logDetailed(CodeBlock.of("\"controller >>\" + controller.getClass().getCanonicalName() + \"<< --> instance of >>\" + component.getClass().getCanonicalName() + \"<< injected\""),
+                                                                4))
                 .addStatement("component.render()")
-                .addStatement("sb01 = new $T()",
-                              ClassName.get(StringBuilder.class))
-                .addStatement("sb01.append(\"component >>\").append(component.getClass().getCanonicalName()).append(\"<< --> rendered\")")
-                .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
-                              ClassName.get(ClientLogger.class))
+                .addCode(this.logStatementGenerator.logDetailed(CodeBlock.of("\"component >>\" + component.getClass().getCanonicalName() + \"<< --> rendered\""),
+                                                                4))
                 .addStatement("component.bind()")
-                .addStatement("sb01 = new $T()",
-                              ClassName.get(StringBuilder.class))
-                .addStatement("sb01.append(\"component >>\").append(component.getClass().getCanonicalName()).append(\"<< --> bound\")")
-                .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
-                              ClassName.get(ClientLogger.class))
-                .addStatement("$T.get().logSimple(\"controller >>$L<< created for event >>$L<<\", 3)",
-                              ClassName.get(ClientLogger.class),
-                              popUpControllerModel.getController()
-                                                  .getClassName(),
-                              popUpControllerModel.getName());
+                .addCode(this.logStatementGenerator.logDetailed(CodeBlock.of("\"component >>\" + component.getClass().getCanonicalName() + \"<< --> bound\""),
+                                                                4))
+                .addCode(this.logStatementGenerator.logSimple("controller >>" +
+                                                                  popUpControllerModel.getController()
+                                                                                      .getClassName() +
+                                                                  "<< created for event >>" +
+                                                                  popUpControllerModel.getName() +
+                                                                  "<<",
+                                                              3));
 
     createMethod.addStatement("return popUpControllerInstance");
     typeSpec.addMethod(createMethod.build());
@@ -259,27 +247,35 @@ public class PopUpControllerCreatorGenerator {
     //    finishCreateMethod.addStatement("component.setController(controller)")
     //                      .addStatement("sb01 = new $T()",
     //                                    ClassName.get(StringBuilder.class))
-    //                      .addStatement("sb01.append(\"component >>\").append(component.getClass().getCanonicalName()).append(\"<< --> created and controller instance injected\")")
-    //                      .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
+    //                      .beginControlFlow("if ($T.get().isDetailedLoggingEnabled())",
+    //                                        ClassName.get(ClientLogger.class))
+    //                      .addStatement("$T.get().logDetailed(\"component >>\" + component.getClass().getCanonicalName() + \"<< --> created and controller instance injected\", 4)",
     //                                    ClassName.get(ClientLogger.class))
+    //                      .endControlFlow()
     //                      .addStatement("controller.setComponent(component)")
     //                      .addStatement("sb01 = new $T()",
     //                                    ClassName.get(StringBuilder.class))
-    //                      .addStatement("sb01.append(\"controller >>\").append(controller.getClass().getCanonicalName()).append(\"<< --> instance of >>\").append(component.getClass().getCanonicalName()).append(\"<< injected\")")
-    //                      .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
+    //                      .beginControlFlow("if ($T.get().isDetailedLoggingEnabled())",
+    //                                        ClassName.get(ClientLogger.class))
+    //                      .addStatement("$T.get().logDetailed(\"controller >>\" + controller.getClass().getCanonicalName() + \"<< --> instance of >>\" + component.getClass().getCanonicalName() + \"<< injected\", 4)",
     //                                    ClassName.get(ClientLogger.class))
+    //                      .endControlFlow()
     //                      .addStatement("component.render()")
     //                      .addStatement("sb01 = new $T()",
     //                                    ClassName.get(StringBuilder.class))
-    //                      .addStatement("sb01.append(\"component >>\").append(component.getClass().getCanonicalName()).append(\"<< --> rendered\")")
-    //                      .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
+    //                      .beginControlFlow("if ($T.get().isDetailedLoggingEnabled())",
+    //                                        ClassName.get(ClientLogger.class))
+    //                      .addStatement("$T.get().logDetailed(\"component >>\" + component.getClass().getCanonicalName() + \"<< --> rendered\", 4)",
     //                                    ClassName.get(ClientLogger.class))
+    //                      .endControlFlow()
     //                      .addStatement("component.bind()")
     //                      .addStatement("sb01 = new $T()",
     //                                    ClassName.get(StringBuilder.class))
-    //                      .addStatement("sb01.append(\"component >>\").append(component.getClass().getCanonicalName()).append(\"<< --> bound\")")
-    //                      .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
+    //                      .beginControlFlow("if ($T.get().isDetailedLoggingEnabled())",
+    //                                        ClassName.get(ClientLogger.class))
+    //                      .addStatement("$T.get().logDetailed(\"component >>\" + component.getClass().getCanonicalName() + \"<< --> bound\", 4)",
     //                                    ClassName.get(ClientLogger.class))
+    //                      .endControlFlow()
     //                      .addStatement("$T.get().logSimple(\"controller >>$L<< created for route >>$L<<\", 3)",
     //                                    ClassName.get(ClientLogger.class),
     //                                    popUpControllerModel.getComponent()
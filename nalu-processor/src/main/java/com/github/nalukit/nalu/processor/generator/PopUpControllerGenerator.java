@@ -16,9 +16,7 @@
 package com.github.nalukit.nalu.processor.generator;
 
 import com.github.nalukit.nalu.client.internal.application.PopUpControllerFactory;
-import com.github.nalukit.nalu.processor.ProcessorConstants;
 import com.github.nalukit.nalu.processor.model.MetaModel;
-import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.TypeSpec;
 
@@ -47,23 +45,12 @@ public class PopUpControllerGenerator {
     MethodSpec.Builder loadPopUpControllerFactoryMethodBuilder = MethodSpec.methodBuilder("loadPopUpControllerFactory")
                                                                            .addModifiers(Modifier.PUBLIC)
                                                                            .addAnnotation(Override.class);
-    this.metaModel.getPopUpControllers()
-                  .forEach(popUpControllerModel -> {
-                    loadPopUpControllerFactoryMethodBuilder.addComment("create popUpControllerCreator for: " +
-                                                                       popUpControllerModel.getProvider()
-                                                                                           .getPackage() +
-                                                                       "." +
-                                                                       popUpControllerModel.getProvider()
-                                                                                           .getSimpleName())
-                                                           .addStatement("$T.get().registerPopUpController($S, new $L(router, context, eventBus))",
-                                                                         ClassName.get(PopUpControllerFactory.class),
-                                                                         popUpControllerModel.getName(),
-                                                                         ClassName.get(popUpControllerModel.getController()
-                                                                                                           .getPackage(),
-                                                                                       popUpControllerModel.getController()
-                                                                                                           .getSimpleName() + ProcessorConstants.CREATOR_IMPL));
-
-                  });
+    if (!this.metaModel.getPopUpControllers()
+                       .isEmpty()) {
+      loadPopUpControllerFactoryMethodBuilder.addComment("register creator factory for the popup controllers")
+                                             .addCode(CreatorFactoryGenerator.createRegisterStatement(this.metaModel,
+                                                                                                      PopUpControllerFactory.class));
+    }
     typeSpec.addMethod(loadPopUpControllerFactoryMethodBuilder.build());
   }
 
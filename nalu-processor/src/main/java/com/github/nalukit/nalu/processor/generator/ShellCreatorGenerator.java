@@ -18,7 +18,6 @@ package com.github.nalukit.nalu.processor.generator;
 import com.github.nalukit.nalu.client.Router;
 import com.github.nalukit.nalu.client.exception.RoutingInterceptionException;
 import com.github.nalukit.nalu.client.internal.AbstractShellCreator;
-import com.github.nalukit.nalu.client.internal.ClientLogger;
 import com.github.nalukit.nalu.client.internal.application.IsShellCreator;
 import com.github.nalukit.nalu.client.internal.application.ShellInstance;
 import com.github.nalukit.nalu.processor.ProcessorConstants;
@@ -41,6 +40,8 @@ public class ShellCreatorGenerator {
 
   private ShellModel shellModel;
 
+  private LogStatementGenerator logStatementGenerator;
+
   @SuppressWarnings("unused")
   private ShellCreatorGenerator() {
   }
@@ -49,6 +50,9 @@ public class ShellCreatorGenerator {
     this.metaModel = builder.metaModel;
     this.processingEnvironment = builder.processingEnvironment;
     this.shellModel = builder.shellModel;
+    this.logStatementGenerator = LogStatementGenerator.builder()
+                                                      .metaModel(builder.metaModel)
+                                                      .build();
   }
 
   public static Builder builder() {
@@ -88,20 +92,17 @@ public class ShellCreatorGenerator {
                                                 .addAnnotation(ClassName.get(Override.class))
                                                 .addModifiers(Modifier.PUBLIC)
                                                 .returns(ClassName.get(ShellInstance.class))
-                                                .addStatement("$T sb01 = new $T()",
-                                                              ClassName.get(StringBuilder.class),
-                                                              ClassName.get(StringBuilder.class))
                                                 .addStatement("$T shellInstance = new $T()",
                                                               ClassName.get(ShellInstance.class),
                                                               ClassName.get(ShellInstance.class))
                                                 .addStatement("shellInstance.setShellClassName($S)",
                                                               this.shellModel.getShell()
                                                                              .getClassName())
-                                                .addStatement("sb01.append(\"shell >>$L<< --> will be created\")",
-                                                              shellModel.getShell()
-                                                                        .getClassName())
-                                                .addStatement("$T.get().logSimple(sb01.toString(), 1)",
-                                                              ClassName.get(ClientLogger.class))
+                                                .addCode(this.logStatementGenerator.logSimple("shell >>" +
+                                                                                                  shellModel.getShell()
+                                                                                                            .getClassName() +
+                                                                                                  "<< --> will be created",
+                                                                                              1))
                                                 .addStatement("$T shell = new $T()",
                                                               ClassName.get(this.shellModel.getShell()
                                                                                            .getPackage(),
@@ -115,15 +116,11 @@ public class ShellCreatorGenerator {
                                                 .addStatement("shell.setContext(context)")
                                                 .addStatement("shell.setEventBus(eventBus)")
                                                 .addStatement("shell.setRouter(router)")
-                                                .addStatement("sb01 = new $T()",
-                                                              ClassName.get(StringBuilder.class))
-                                                .addStatement("sb01.append(\"shell >>$L<< --> created and data injected\")",
-                                                              this.shellModel.getShell()
-                                                                             .getClassName())
-                                                .addStatement("$T.get().logDetailed(sb01.toString(), 2)",
-                                                              ClassName.get(ClientLogger.class))
-                                                .addStatement("sb01 = new $T()",
-                                                              ClassName.get(StringBuilder.class))
+                                                .addCode(this.logStatementGenerator.logDetailed("shell >>" +
+                                                                                                    this.shellModel.getShell()
+                                                                                                                   .getClassName() +
+                                                                                                    "<< --> created and data injected",
+                                                                                                2))
                                                 .addStatement("return shellInstance");
     typeSpec.addMethod(createMethod.build());
 
@@ -15,10 +15,8 @@
  */
 package com.github.nalukit.nalu.processor.generator;
 
-import com.github.nalukit.nalu.client.internal.ClientLogger;
 import com.github.nalukit.nalu.client.internal.application.ShellFactory;
 import com.github.nalukit.nalu.client.internal.route.ShellConfig;
-import com.github.nalukit.nalu.processor.ProcessorConstants;
 import com.github.nalukit.nalu.processor.model.MetaModel;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.MethodSpec;
@@ -30,6 +28,8 @@ public class ShellGenerator {
 
   private MetaModel metaModel;
 
+  private LogStatementGenerator logStatementGenerator;
+
   private TypeSpec.Builder typeSpec;
 
   @SuppressWarnings("unused")
@@ -38,6 +38,9 @@ public class ShellGenerator {
 
   private ShellGenerator(Builder builder) {
     this.metaModel = builder.metaModel;
+    this.logStatementGenerator = LogStatementGenerator.builder()
+                                                      .metaModel(builder.metaModel)
+                                                      .build();
     this.typeSpec = builder.typeSpec;
   }
 
@@ -55,12 +58,8 @@ public class ShellGenerator {
     MethodSpec.Builder loadShellsMethodBuilder = MethodSpec.methodBuilder("loadShells")
                                                            .addModifiers(Modifier.PUBLIC)
                                                            .addAnnotation(Override.class)
-                                                           .addStatement("$T sb01 = new $T()",
-                                                                         ClassName.get(StringBuilder.class),
-                                                                         ClassName.get(StringBuilder.class))
-                                                           .addStatement("sb01.append(\"load shell references\")")
-                                                           .addStatement("$T.get().logDetailed(sb01.toString(), 2)",
-                                                                         ClassName.get(ClientLogger.class));
+                                                           .addCode(this.logStatementGenerator.logDetailed("load shell references",
+                                                                                                           2));
 
     this.metaModel.getShells()
                   .forEach(shellModel -> loadShellsMethodBuilder.addStatement("super.shellConfiguration.getShells().add(new $T($S, $S))",
@@ -68,14 +67,13 @@ public class ShellGenerator {
                                                                               "/" + shellModel.getName(),
                                                                               shellModel.getShell()
                                                                                         .getClassName())
-                                                                .addStatement("sb01 = new $T()",
-                                                                              ClassName.get(StringBuilder.class))
-                                                                .addStatement("sb01.append(\"register shell >>$L<< with class >>$L<<\")",
-                                                                              "/" + shellModel.getName(),
-                                                                              shellModel.getShell()
-                                                                                        .getClassName())
-                                                                .addStatement("$T.get().logDetailed(sb01.toString(), 3)",
-                                                                              ClassName.get(ClientLogger.class)));
+                                                                .addCode(this.logStatementGenerator.logDetailed("register shell >>" +
+                                                                                                                    "/" + shellModel.getName() +
+                                                                                                                    "<< with class >>" +
+                                                                                                                    shellModel.getShell()
+                                                                                                                              .getClassName() +
+                                                                                                                    "<<",
+                                                                                                                3)));
     typeSpec.addMethod(loadShellsMethodBuilder.build());
   }
 
@@ -84,28 +82,12 @@ public class ShellGenerator {
     MethodSpec.Builder loadShellFactoryMethodBuilder = MethodSpec.methodBuilder("loadShellFactory")
                                                                  .addModifiers(Modifier.PUBLIC)
                                                                  .addAnnotation(Override.class);
-    this.metaModel.getShells()
-                  .forEach(shellModel -> {
-                    // add return statement
-                    loadShellFactoryMethodBuilder.addComment("create ShellCreator for: " +
-                                                             shellModel.getShell()
-                                                                       .getPackage() +
-                                                             "." +
-                                                             shellModel.getShell()
-                                                                       .getSimpleName())
-                                                 .addStatement("$T.get().registerShell($S, new $L(router, context, eventBus))",
-                                                               ClassName.get(ShellFactory.class),
-                                                               shellModel.getShell()
-                                                                         .getPackage() +
-                                                               "." +
-                                                               shellModel.getShell()
-                                                                         .getSimpleName(),
-                                                               ClassName.get(shellModel.getShell()
-                                                                                       .getPackage(),
-                                                                             shellModel.getShell()
-                                                                                       .getSimpleName() + ProcessorConstants.CREATOR_IMPL));
-
-                  });
+    if (!this.metaModel.getShells()
+                       .isEmpty()) {
+      loadShellFactoryMethodBuilder.addComment("register creator factory for the shells")
+                                   .addCode(CreatorFactoryGenerator.createRegisterStatement(this.metaModel,
+                                                                                            ShellFactory.class));
+    }
     typeSpec.addMethod(loadShellFactoryMethodBuilder.build());
   }
 
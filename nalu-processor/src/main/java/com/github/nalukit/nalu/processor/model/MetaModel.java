@@ -55,10 +55,18 @@ public class MetaModel {
 
   private boolean hasDebugAnnotation;
 
+  /* flag, that indicates, that the generated */
+  /* sources should not contain any logging   */
+  private boolean removeLogging;
+
   private boolean hasTrackerAnnotation;
 
   private ClassNameModel tracker;
 
+  private boolean hasRoutingMetricsAnnotation;
+
+  private ClassNameModel routingMetrics;
+
   private String debugLogLevel;
 
   private ClassNameModel debugLogger;
@@ -121,6 +129,14 @@ public class MetaModel {
     this.hasDebugAnnotation = hasDebugAnnotation;
   }
 
+  public boolean isRemoveLogging() {
+    return removeLogging;
+  }
+
+  public void setRemoveLogging(boolean removeLogging) {
+    this.removeLogging = removeLogging;
+  }
+
   public String getDebugLogLevel() {
     if (debugLogLevel == null || "".equals(debugLogLevel)) {
       return "SIMPLE";
@@ -317,4 +333,20 @@ public class MetaModel {
     this.tracker = tracker;
   }
 
+  public boolean hasRoutingMetricsAnnotation() {
+    return hasRoutingMetricsAnnotation;
+  }
+
+  public void setHasRoutingMetricsAnnotation(boolean hasRoutingMetricsAnnotation) {
+    this.hasRoutingMetricsAnnotation = hasRoutingMetricsAnnotation;
+  }
+
+  public ClassNameModel getRoutingMetrics() {
+    return routingMetrics;
+  }
+
+  public void setRoutingMetrics(ClassNameModel routingMetrics) {
+    this.routingMetrics = routingMetrics;
+  }
+
 }
@@ -48,6 +48,13 @@ public class ControllerModel {
 
   private boolean componentCreator;
 
+  private boolean reuseOnParameterChange;
+
+  private boolean splitPoint;
+
+  /* aliases of the route (parameters replaced by '*') */
+  private List<String> aliases;
+
   public ControllerModel(String originalRoute,
                          String route,
                          String selector,
@@ -183,6 +190,33 @@ public class ControllerModel {
     this.componentCreator = componentCreator;
   }
 
+  public boolean isReuseOnParameterChange() {
+    return reuseOnParameterChange;
+  }
+
+  public void setReuseOnParameterChange(boolean reuseOnParameterChange) {
+    this.reuseOnParameterChange = reuseOnParameterChange;
+  }
+
+  public boolean isSplitPoint() {
+    return splitPoint;
+  }
+
+  public void setSplitPoint(boolean splitPoint) {
+    this.splitPoint = splitPoint;
+  }
+
+  public List<String> getAliases() {
+    if (aliases == null) {
+      aliases = new ArrayList<>();
+    }
+    return aliases;
+  }
+
+  public void setAliases(List<String> aliases) {
+    this.aliases = aliases;
+  }
+
   public boolean match(String route) {
     if (this.matchShell(route)) {
       if (this.matchRouteWithoutShell(route)) {
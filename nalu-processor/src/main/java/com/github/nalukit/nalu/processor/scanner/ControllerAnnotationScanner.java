@@ -112,17 +112,23 @@ public class ControllerAnnotationScanner {
       throw new ProcessorException("Nalu-Processor: controller >>" + controllerElement.toString() + "<< does not have a context generic!");
     }
     // save model ...
-    return new ControllerModel(annotation.route(),
-                               getRoute(annotation.route()),
-                               annotation.selector(),
-                               getParametersFromRoute(annotation.route()),
-                               new ClassNameModel(context),
-                               new ClassNameModel(controllerElement.toString()),
-                               new ClassNameModel(componentInterfaceTypeElement.toString()),
-                               new ClassNameModel(componentTypeElement.toString()),
-                               new ClassNameModel(componentTypeTypeMirror.toString()),
-                               new ClassNameModel(controllerElement.toString()),
-                               componentController);
+    ControllerModel controllerModel = new ControllerModel(annotation.route(),
+                                                          getRoute(annotation.route()),
+                                                          annotation.selector(),
+                                                          getParametersFromRoute(annotation.route()),
+                                                          new ClassNameModel(context),
+                                                          new ClassNameModel(controllerElement.toString()),
+                                                          new ClassNameModel(componentInterfaceTypeElement.toString()),
+                                                          new ClassNameModel(componentTypeElement.toString()),
+                                                          new ClassNameModel(componentTypeTypeMirror.toString()),
+                                                          new ClassNameModel(controllerElement.toString()),
+                                                          componentController);
+    controllerModel.setReuseOnParameterChange(annotation.reuseOnParameterChange());
+    controllerModel.setSplitPoint(annotation.splitPoint());
+    controllerModel.setAliases(Stream.of(annotation.aliases())
+                                     .map(this::getRoute)
+                                     .collect(Collectors.toList()));
+    return controllerModel;
   }
 
   private String getContextType(Element element)
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.processor.scanner;
+
+import com.github.nalukit.nalu.client.metrics.annotation.RoutingMetrics;
+import com.github.nalukit.nalu.processor.ProcessorException;
+import com.github.nalukit.nalu.processor.ProcessorUtils;
+import com.github.nalukit.nalu.processor.model.MetaModel;
+import com.github.nalukit.nalu.processor.model.intern.ClassNameModel;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.MirroredTypeException;
+
+import static java.util.Objects.isNull;
+
+public class RoutingMetricsAnnotationScanner {
+
+  private ProcessorUtils processorUtils;
+
+  private ProcessingEnvironment processingEnvironment;
+
+  private Element routingMetricsElement;
+
+  private MetaModel metaModel;
+
+  @SuppressWarnings("unused")
+  private RoutingMetricsAnnotationScanner(Builder builder) {
+    super();
+    this.processingEnvironment = builder.processingEnvironment;
+    this.routingMetricsElement = builder.routingMetricsElement;
+    this.metaModel = builder.metaModel;
+    setUp();
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  private void setUp() {
+    this.processorUtils = ProcessorUtils.builder()
+                                        .processingEnvironment(this.processingEnvironment)
+                                        .build();
+  }
+
+  public MetaModel scan(RoundEnvironment roundEnvironment)
+      throws ProcessorException {
+    // handle routing-metrics-annotation
+    RoutingMetrics routingMetricsAnnotation = routingMetricsElement.getAnnotation(RoutingMetrics.class);
+    if (!isNull(routingMetricsAnnotation)) {
+      this.metaModel.setHasRoutingMetricsAnnotation(true);
+      if (!isNull(getRoutingMetrics(routingMetricsAnnotation))) {
+        this.metaModel.setRoutingMetrics(new ClassNameModel(getRoutingMetrics(routingMetricsAnnotation).getQualifiedName()
+                                                                                                       .toString()));
+      }
+    } else {
+      this.metaModel.setHasRoutingMetricsAnnotation(false);
+      this.metaModel.setRoutingMetrics(null);
+    }
+    return this.metaModel;
+  }
+
+  private TypeElement getRoutingMetrics(RoutingMetrics routingMetricsAnnotation) {
+    try {
+      routingMetricsAnnotation.value();
+    } catch (MirroredTypeException exception) {
+      return (TypeElement) this.processingEnvironment.getTypeUtils()
+                                                     .asElement(exception.getTypeMirror());
+    }
+    return null;
+  }
+
+  public static class Builder {
+
+    ProcessingEnvironment processingEnvironment;
+
+    Element routingMetricsElement;
+
+    MetaModel metaModel;
+
+    public Builder processingEnvironment(ProcessingEnvironment processingEnvironment) {
+      this.processingEnvironment = processingEnvironment;
+      return this;
+    }
+
+    public Builder routingMetricsElement(Element routingMetricsElement) {
+      this.routingMetricsElement = routingMetricsElement;
+      return this;
+    }
+
+    public Builder metaModel(MetaModel metaModel) {
+      this.metaModel = metaModel;
+      return this;
+    }
+
+    public RoutingMetricsAnnotationScanner build() {
+      return new RoutingMetricsAnnotationScanner(this);
+    }
+
+  }
+
+}
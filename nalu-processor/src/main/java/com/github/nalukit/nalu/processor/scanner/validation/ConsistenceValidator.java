@@ -68,6 +68,92 @@ public class ConsistenceValidator {
     this.validateNoShellsDefined();
     // check, is there is at least one shell
     this.validateDuplicateShellName();
+    // check, that the aliases are unique and reachable
+    this.validateAliases();
+  }
+
+  private void validateAliases()
+      throws ProcessorException {
+    List<String> compareList = new ArrayList<>();
+    for (ControllerModel controllerModel : this.metaModel.getControllers()) {
+      String controllerClassName = controllerModel.getProvider()
+                                                  .getClassName();
+      for (String alias : controllerModel.getAliases()) {
+        if (compareList.contains(alias)) {
+          throw new ProcessorException("Nalu-Processor: alias >>" + alias + "<< of controller >>" + controllerClassName + "<< is duplicate! Please use another unique alias!");
+        }
+        compareList.add(alias);
+        // routes win over aliases, so an alias matched by a route will never be used
+        Optional<ControllerModel> optionalRoute = this.metaModel.getControllers()
+                                                                .stream()
+                                                                .filter(m -> this.matchAlias(m.getRoute(),
+                                                                                             alias))
+                                                                .findFirst();
+        if (optionalRoute.isPresent()) {
+          throw new ProcessorException("Nalu-Processor: alias >>" + alias + "<< of controller >>" + controllerClassName + "<< is already matched by the route >>" + optionalRoute.get()
+                                                                                                                                                                                .getOriginalRoute() + "<<");
+        }
+        // check, that the shell of the alias exists
+        if (!Objects.isNull(metaModel.getApplication())) {
+          String shellOfAlias = this.getShellFromRoute(alias);
+          Optional<String> optionalShell = this.metaModel.getShells()
+                                                         .stream()
+                                                         .map(m -> m.getName())
+                                                         .filter(s -> s.equals(shellOfAlias))
+                                                         .findFirst();
+          if (!optionalShell.isPresent()) {
+            if (this.metaModel.getPlugins()
+                              .size() > 0) {
+              this.processingEnvironment.getMessager()
+                                        .printMessage(Diagnostic.Kind.NOTE,
+                                                      "Nalu-Processor: The shell of the alias >>" + alias + "<< does not exist in this project");
+            } else {
+              throw new ProcessorException("Nalu-Processor: The shell of the alias >>" + alias + "<< does not exist!");
+            }
+          }
+        }
+      }
+    }
+  }
+
+  private boolean matchAlias(String controllerRoute,
+                             String alias) {
+    String[] routeSegments = this.split(controllerRoute);
+    String[] aliasSegments = this.split(alias);
+    // a route with less segments will never match
+    if (routeSegments.length < aliasSegments.length) {
+      return false;
+    }
+    // check the shell
+    String routeShell = routeSegments[0];
+    if (!"*".equals(routeShell)) {
+      if (routeShell.startsWith("[") && routeShell.endsWith("]")) {
+        routeShell = routeShell.substring(1,
+                                          routeShell.length() - 1);
+      }
+      if (!Arrays.asList(routeShell.split("\\|"))
+                 .contains(aliasSegments[0])) {
+        return false;
+      }
+    }
+    // a segment of the route needs to be a '*' or equal to the segment of the alias,
+    // segments of the route not existing in the alias have to be a '*'
+    for (int i = 1; i < routeSegments.length; i++) {
+      if (!"*".equals(routeSegments[i])) {
+        if (i >= aliasSegments.length || !routeSegments[i].equals(aliasSegments[i])) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  private String[] split(String route) {
+    String value = route;
+    if (value.startsWith("/")) {
+      value = value.substring(1);
+    }
+    return value.split("/");
   }
 
   private void validateDuplicateShellName()
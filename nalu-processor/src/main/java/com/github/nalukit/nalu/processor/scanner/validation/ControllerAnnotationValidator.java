@@ -90,6 +90,21 @@ public class ControllerAnnotationValidator {
     }
     // validate route
     validateRoute();
+    // validate aliases
+    List<String> aliases = new ArrayList<>();
+    for (String alias : controllerAnnotation.aliases()) {
+      if (aliases.contains(alias)) {
+        throw new ProcessorException("Nalu-Processor: controller >>" + controllerElement.toString() + "<< - alias >>" + alias + "<< is duplicate");
+      }
+      aliases.add(alias);
+      if (!alias.startsWith("/")) {
+        throw new ProcessorException("Nalu-Processor: controller >>" + controllerElement.toString() + "<< - alias >>" + alias + "<< muss begin with a '/'");
+      }
+      if (!this.getParaemtersFromRoute(alias)
+               .equals(this.getParaemtersFromRoute(controllerAnnotation.route()))) {
+        throw new ProcessorException("Nalu-Processor: controller >>" + controllerElement.toString() + "<< - alias >>" + alias + "<< needs the same parameters (same names, same order) as the route >>" + controllerAnnotation.route() + "<<");
+      }
+    }
     // AcceptParameter annotation
     List<String> paraemtersFromRoute = this.getParaemtersFromRoute(controllerAnnotation.route());
     for (Element element : this.processingEnvironment.getElementUtils()
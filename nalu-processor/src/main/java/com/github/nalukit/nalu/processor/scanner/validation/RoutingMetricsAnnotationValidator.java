@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+package com.github.nalukit.nalu.processor.scanner.validation;
+
+import com.github.nalukit.nalu.client.application.IsApplication;
+import com.github.nalukit.nalu.client.application.annotation.Application;
+import com.github.nalukit.nalu.client.metrics.AbstractRoutingMetrics;
+import com.github.nalukit.nalu.client.metrics.annotation.RoutingMetrics;
+import com.github.nalukit.nalu.processor.ProcessorException;
+import com.github.nalukit.nalu.processor.ProcessorUtils;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.MirroredTypeException;
+import java.util.Objects;
+import java.util.Set;
+
+public class RoutingMetricsAnnotationValidator {
+
+  private Element routingMetricsElement;
+
+  private ProcessorUtils processorUtils;
+
+  private ProcessingEnvironment processingEnvironment;
+
+  private RoundEnvironment roundEnvironment;
+
+  @SuppressWarnings("unused")
+  private RoutingMetricsAnnotationValidator() {
+  }
+
+  private RoutingMetricsAnnotationValidator(Builder builder) {
+    this.processingEnvironment = builder.processingEnvironment;
+    this.roundEnvironment = builder.roundEnvironment;
+    this.routingMetricsElement = builder.routingMetricsElement;
+    setUp();
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  private void setUp() {
+    this.processorUtils = ProcessorUtils.builder()
+                                        .processingEnvironment(this.processingEnvironment)
+                                        .build();
+  }
+
+  public void validate()
+      throws ProcessorException {
+    // get elements annotated with RoutingMetrics annotation
+    Set<? extends Element> elementsWithRoutingMetricsAnnotation = this.roundEnvironment.getElementsAnnotatedWith(RoutingMetrics.class);
+    // at least there should only one Application annotation!
+    if (elementsWithRoutingMetricsAnnotation.size() > 1) {
+      throw new ProcessorException("Nalu-Processor: There should be at least only one interface, that is annotated with @RoutingMetrics");
+    }
+    for (Element element : elementsWithRoutingMetricsAnnotation) {
+      if (element instanceof TypeElement) {
+        TypeElement typeElement = (TypeElement) element;
+        // @RoutingMetrics can only be used on a interface
+        if (!routingMetricsElement.getKind()
+                                  .isInterface()) {
+          throw new ProcessorException("Nalu-Processor: @RoutingMetrics can only be used on a type (interface)");
+        }
+        // @RoutingMetrics can only be used on a interface that extends IsApplication
+        if (!this.processorUtils.extendsClassOrInterface(this.processingEnvironment.getTypeUtils(),
+                                                         routingMetricsElement.asType(),
+                                                         this.processingEnvironment.getElementUtils()
+                                                                                   .getTypeElement(IsApplication.class.getCanonicalName())
+                                                                                   .asType())) {
+          throw new ProcessorException("Nalu-Processor: @RoutingMetrics can only be used on interfaces that extends IsApplication");
+        }
+        // @RoutingMetrics can only be used on a interface that has a @Application annoatation
+        if (routingMetricsElement.getAnnotation(Application.class) == null) {
+          throw new ProcessorException("Nalu-Processor: @RoutingMetrics can only be used with an interfaces annotated with @Annotation");
+        }
+        // get the value of the routing metrics annotation
+        TypeElement routingMetricsClassTypeElement = this.getRoutingMetrics(typeElement.getAnnotation(RoutingMetrics.class));
+        if (!Objects.isNull(routingMetricsClassTypeElement)) {
+          if (!this.processorUtils.extendsClassOrInterface(this.processingEnvironment.getTypeUtils(),
+                                                           routingMetricsClassTypeElement.asType(),
+                                                           this.processingEnvironment.getElementUtils()
+                                                                                     .getTypeElement(AbstractRoutingMetrics.class.getCanonicalName())
+                                                                                     .asType())) {
+            throw new ProcessorException("Nalu-Processor: value of @RoutingMetrics annotation needs to extends AbstractRoutingMetrics<C>");
+          }
+        } else {
+          throw new ProcessorException("Nalu-Processor: @RoutingMetrics needs a value of type .class which extends AbstractRoutingMetrics");
+        }
+      } else {
+        throw new ProcessorException("Nalu-Processor: @RoutingMetrics can only be used on a type (interface)");
+      }
+    }
+  }
+
+  private TypeElement getRoutingMetrics(RoutingMetrics routingMetricsAnnotation) {
+    try {
+      routingMetricsAnnotation.value();
+    } catch (MirroredTypeException exception) {
+      return (TypeElement) this.processingEnvironment.getTypeUtils()
+                                                     .asElement(exception.getTypeMirror());
+    }
+    return null;
+  }
+
+  public static final class Builder {
+
+    ProcessingEnvironment processingEnvironment;
+
+    RoundEnvironment roundEnvironment;
+
+    Element routingMetricsElement;
+
+    public Builder processingEnvironment(ProcessingEnvironment processingEnvironment) {
+      this.processingEnvironment = processingEnvironment;
+      return this;
+    }
+
+    public Builder roundEnvironment(RoundEnvironment roundEnvironment) {
+      this.roundEnvironment = roundEnvironment;
+      return this;
+    }
+
+    public Builder routingMetricsElement(Element routingMetricsElement) {
+      this.routingMetricsElement = routingMetricsElement;
+      return this;
+    }
+
+    public RoutingMetricsAnnotationValidator build() {
+      return new RoutingMetricsAnnotationValidator(this);
+    }
+
+  }
+
+}
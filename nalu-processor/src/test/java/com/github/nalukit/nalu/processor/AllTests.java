@@ -39,6 +39,7 @@ import org.junit.runners.Suite;
                  HandlerTest.class,
                  MetaModelTest.class,
                  PopUpControllerCreatorTest.class,
+                 RoutingMetricsTest.class,
                  ShellCreatorTest.class,
                  TrackerTest.class })
 public class AllTests {
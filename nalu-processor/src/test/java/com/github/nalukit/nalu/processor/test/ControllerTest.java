@@ -256,6 +256,176 @@ public class ControllerTest {
                       .hasSourceEquivalentTo(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controller/generateWithIsComponentCreator/GenerateWithIsComponentCreatorImpl.java"));
   }
 
+  @Test
+  void testControllerWithAliasOK() {
+    Compilation compilation = javac().withProcessors(new NaluProcessor())
+                                     .compile(new ArrayList<JavaFileObject>() {
+                                       {
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controller/controllerWithAliasOK/ControllerWithAliasOK.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/common/MockContext.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/common/ui/MockShell.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controller/controllerWithAliasOK/ui/content01/Content01Controller.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controller/controllerWithAliasOK/ui/content01/IContent01Component.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controller/controllerWithAliasOK/ui/content01/Content01Component.java"));
+                                       }
+                                     });
+    CompilationSubject.assertThat(compilation)
+                      .succeeded();
+    CompilationSubject.assertThat(compilation)
+                      .generatedSourceFile("com/github/nalukit/nalu/processor/controller/controllerWithAliasOK/ControllerWithAliasOKImpl")
+                      .hasSourceEquivalentTo(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controller/controllerWithAliasOK/ControllerWithAliasOKImpl.java"));
+  }
+
+  @Test
+  void testControllerWithAliasMatchedByRoute() {
+    Compilation compilation = javac().withProcessors(new NaluProcessor())
+                                     .compile(new ArrayList<JavaFileObject>() {
+                                       {
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controller/controllerWithAliasMatchedByRoute/ControllerWithAliasMatchedByRoute.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/common/MockContext.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/common/ui/MockShell.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controller/controllerWithAliasMatchedByRoute/ui/content01/Content01Controller.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controller/controllerWithAliasMatchedByRoute/ui/content01/IContent01Component.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controller/controllerWithAliasMatchedByRoute/ui/content01/Content01Component.java"));
+                                       }
+                                     });
+    CompilationSubject.assertThat(compilation)
+                      .failed();
+    CompilationSubject.assertThat(compilation)
+                      .hadErrorContaining("Nalu-Processor: alias >>/mockShell/route01/*<< of controller >>com.github.nalukit.nalu.processor.controller.controllerWithAliasMatchedByRoute.ui.content01.Content01Controller<< is already matched by the route");
+  }
+
+  @Test
+  void testControllerWithAliasShellNotExist() {
+    Compilation compilation = javac().withProcessors(new NaluProcessor())
+                                     .compile(new ArrayList<JavaFileObject>() {
+                                       {
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controller/controllerWithAliasShellNotExist/ControllerWithAliasShellNotExist.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/common/MockContext.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/common/ui/MockShell.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controller/controllerWithAliasShellNotExist/ui/content01/Content01Controller.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controller/controllerWithAliasShellNotExist/ui/content01/IContent01Component.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controller/controllerWithAliasShellNotExist/ui/content01/Content01Component.java"));
+                                       }
+                                     });
+    CompilationSubject.assertThat(compilation)
+                      .failed();
+    CompilationSubject.assertThat(compilation)
+                      .hadErrorContaining("Nalu-Processor: The shell of the alias >>/unknownShell/alias01/*<< does not exist!");
+  }
+
+  @Test
+  void testControllerWithDuplicateAlias() {
+    Compilation compilation = javac().withProcessors(new NaluProcessor())
+                                     .compile(new ArrayList<JavaFileObject>() {
+                                       {
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controller/controllerWithDuplicateAlias/ControllerWithDuplicateAlias.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/common/MockContext.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/common/ui/MockShell.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controller/controllerWithDuplicateAlias/ui/content01/Content01Controller.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controller/controllerWithDuplicateAlias/ui/content01/IContent01Component.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controller/controllerWithDuplicateAlias/ui/content01/Content01Component.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controller/controllerWithDuplicateAlias/ui/content02/Content02Controller.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controller/controllerWithDuplicateAlias/ui/content02/IContent02Component.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controller/controllerWithDuplicateAlias/ui/content02/Content02Component.java"));
+                                       }
+                                     });
+    CompilationSubject.assertThat(compilation)
+                      .failed();
+    CompilationSubject.assertThat(compilation)
+                      .hadErrorContaining("Nalu-Processor: alias >>/mockShell/alias01/*<< of controller");
+    CompilationSubject.assertThat(compilation)
+                      .hadErrorContaining("is duplicate! Please use another unique alias!");
+  }
+
+  @Test
+  void testControllerWithSplitPoint() {
+    Compilation compilation = javac().withProcessors(new NaluProcessor())
+                                     .compile(new ArrayList<JavaFileObject>() {
+                                       {
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controller/controllerWithSplitPoint/ControllerWithSplitPoint.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/common/MockContext.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/common/ui/MockShell.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controller/controllerWithSplitPoint/ui/content01/Content01Controller.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controller/controllerWithSplitPoint/ui/content01/IContent01Component.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controller/controllerWithSplitPoint/ui/content01/Content01Component.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controller/controllerWithSplitPoint/ui/content02/Content02Controller.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controller/controllerWithSplitPoint/ui/content02/IContent02Component.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controller/controllerWithSplitPoint/ui/content02/Content02Component.java"));
+                                       }
+                                     });
+    CompilationSubject.assertThat(compilation)
+                      .succeeded();
+    CompilationSubject.assertThat(compilation)
+                      .generatedSourceFile("com/github/nalukit/nalu/processor/controller/controllerWithSplitPoint/ControllerWithSplitPointCreatorFactoryImpl")
+                      .hasSourceEquivalentTo(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controller/controllerWithSplitPoint/ControllerWithSplitPointCreatorFactoryImpl.java"));
+    // the creator of the split point is only referenced by loadControllerCreator
+    CompilationSubject.assertThat(compilation)
+                      .generatedSourceFile("com/github/nalukit/nalu/processor/controller/controllerWithSplitPoint/ControllerWithSplitPointCreatorFactoryImpl")
+                      .contentsAsUtf8String()
+                      .doesNotContain("return new Content02ControllerCreatorImpl");
+  }
+
+  @Test
+  void testControllerWithReuseOnParameterChange() {
+    Compilation compilation = javac().withProcessors(new NaluProcessor())
+                                     .compile(new ArrayList<JavaFileObject>() {
+                                       {
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controller/controllerWithReuseOnParameterChange/ControllerWithReuseOnParameterChange.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/common/MockContext.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/common/ui/MockShell.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controller/controllerWithReuseOnParameterChange/ui/content01/Content01Controller.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controller/controllerWithReuseOnParameterChange/ui/content01/IContent01Component.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controller/controllerWithReuseOnParameterChange/ui/content01/Content01Component.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controller/controllerWithReuseOnParameterChange/ui/content02/Content02Controller.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controller/controllerWithReuseOnParameterChange/ui/content02/IContent02Component.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controller/controllerWithReuseOnParameterChange/ui/content02/Content02Component.java"));
+                                       }
+                                     });
+    CompilationSubject.assertThat(compilation)
+                      .succeeded();
+    // reuseOnParameterChange = true
+    CompilationSubject.assertThat(compilation)
+                      .generatedSourceFile("com/github/nalukit/nalu/processor/controller/controllerWithReuseOnParameterChange/ui/content02/Content02ControllerCreatorImpl")
+                      .contentsAsUtf8String()
+                      .contains("controller.setReuseOnParameterChange(true);");
+    // reuseOnParameterChange = false (default)
+    CompilationSubject.assertThat(compilation)
+                      .generatedSourceFile("com/github/nalukit/nalu/processor/controller/controllerWithReuseOnParameterChange/ui/content01/Content01ControllerCreatorImpl")
+                      .contentsAsUtf8String()
+                      .doesNotContain("setReuseOnParameterChange");
+  }
+
+  @Test
+  void testControllerWithSplitPointGwt() {
+    Compilation compilation = javac().withProcessors(new NaluProcessor())
+                                     .compile(new ArrayList<JavaFileObject>() {
+                                       {
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controller/controllerWithSplitPointGwt/ControllerWithSplitPointGwt.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/common/MockContext.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/common/ui/MockShell.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controller/controllerWithSplitPoint/ui/content01/Content01Controller.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controller/controllerWithSplitPoint/ui/content01/IContent01Component.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controller/controllerWithSplitPoint/ui/content01/Content01Component.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controller/controllerWithSplitPoint/ui/content02/Content02Controller.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controller/controllerWithSplitPoint/ui/content02/IContent02Component.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controller/controllerWithSplitPoint/ui/content02/Content02Component.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controller/controllerWithSplitPointGwt/gwt/GWT.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controller/controllerWithSplitPointGwt/gwt/RunAsyncCallback.java"));
+                                       }
+                                     });
+    CompilationSubject.assertThat(compilation)
+                      .succeeded();
+    CompilationSubject.assertThat(compilation)
+                      .generatedSourceFile("com/github/nalukit/nalu/processor/controller/controllerWithSplitPointGwt/ControllerWithSplitPointGwtCreatorFactoryImpl")
+                      .hasSourceEquivalentTo(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controller/controllerWithSplitPointGwt/ControllerWithSplitPointGwtCreatorFactoryImpl.java"));
+    // the creator of the split point is only referenced by loadControllerCreator
+    CompilationSubject.assertThat(compilation)
+                      .generatedSourceFile("com/github/nalukit/nalu/processor/controller/controllerWithSplitPointGwt/ControllerWithSplitPointGwtCreatorFactoryImpl")
+                      .contentsAsUtf8String()
+                      .doesNotContain("return new Content02ControllerCreatorImpl");
+  }
+
   @Test
   void testControllerWithComposite01() {
     Compilation compilation = javac().withProcessors(new NaluProcessor())
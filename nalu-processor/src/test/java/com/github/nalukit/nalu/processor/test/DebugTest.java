@@ -86,4 +86,57 @@ public class DebugTest {
                       .hadErrorContaining("Nalu-Processor: @Debug can only be used with an interfaces annotated with @Application");
   }
 
+  @Test
+  void testApplicationWithDebug() {
+    Compilation compilation = javac().withProcessors(new NaluProcessor())
+                                     .compile(new ArrayList<JavaFileObject>() {
+                                       {
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/debug/applicationWithDebug/ApplicationWithDebug.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/common/MockContext.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/common/MockLogger.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/common/ui/MockShell.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/common/ui/component01/Controller01.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/common/ui/component01/IComponent01.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/common/ui/component01/Component01.java"));
+                                       }
+                                     });
+    CompilationSubject.assertThat(compilation)
+                      .succeeded();
+    CompilationSubject.assertThat(compilation)
+                      .generatedSourceFile("com/github/nalukit/nalu/processor/debug/applicationWithDebug/ApplicationWithDebugImpl")
+                      .contentsAsUtf8String()
+                      .contains("ClientLogger.get().register(true, new MockLogger(), Debug.LogLevel.SIMPLE);");
+  }
+
+  @Test
+  void testApplicationWithDebugLoggingOff() {
+    Compilation compilation = javac().withProcessors(new NaluProcessor())
+                                     .withOptions("-Analu.logging=off")
+                                     .compile(new ArrayList<JavaFileObject>() {
+                                       {
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/debug/applicationWithDebug/ApplicationWithDebug.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/common/MockContext.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/common/MockLogger.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/common/ui/MockShell.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/common/ui/component01/Controller01.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/common/ui/component01/IComponent01.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/common/ui/component01/Component01.java"));
+                                       }
+                                     });
+    CompilationSubject.assertThat(compilation)
+                      .succeeded();
+    // no logging and no registration of the logger
+    CompilationSubject.assertThat(compilation)
+                      .generatedSourceFile("com/github/nalukit/nalu/processor/debug/applicationWithDebug/ApplicationWithDebugImpl")
+                      .hasSourceEquivalentTo(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/debug/applicationWithDebug/ApplicationWithDebugImpl.java"));
+    CompilationSubject.assertThat(compilation)
+                      .generatedSourceFile("com/github/nalukit/nalu/processor/common/ui/component01/Controller01CreatorImpl")
+                      .contentsAsUtf8String()
+                      .doesNotContain("ClientLogger");
+    CompilationSubject.assertThat(compilation)
+                      .generatedSourceFile("com/github/nalukit/nalu/processor/common/MockShellCreatorImpl")
+                      .contentsAsUtf8String()
+                      .doesNotContain("ClientLogger");
+  }
+
 }
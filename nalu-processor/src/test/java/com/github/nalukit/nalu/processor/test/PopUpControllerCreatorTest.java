@@ -51,4 +51,26 @@ public class PopUpControllerCreatorTest {
                       .hasSourceEquivalentTo(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/popUpControllerCreator/ok/PopUpController01CreatorImpl.java"));
   }
 
+  @Test
+  void testControllerCreatorLoggingOff() {
+    Compilation compilation = javac().withProcessors(new NaluProcessor())
+                                     .withOptions("-Analu.logging=off")
+                                     .compile(new ArrayList<JavaFileObject>() {
+                                       {
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/common/MockContext.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/popUpControllerCreator/ok/Controller01.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/popUpControllerCreator/ok/IComponent01.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/popUpControllerCreator/ok/Component01.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/popUpControllerCreator/ok/PopUpController01.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/popUpControllerCreator/ok/IPopUpComponent01.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/popUpControllerCreator/ok/PopUpComponent01.java"));
+                                       }
+                                     });
+    CompilationSubject.assertThat(compilation)
+                      .succeeded();
+    CompilationSubject.assertThat(compilation)
+                      .generatedSourceFile("com/github/nalukit/nalu/processor/popUpControllerCreator/ok/PopUpController01CreatorImpl")
+                      .hasSourceEquivalentTo(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/popUpControllerCreator/loggingOff/PopUpController01CreatorImpl.java"));
+  }
+
 }
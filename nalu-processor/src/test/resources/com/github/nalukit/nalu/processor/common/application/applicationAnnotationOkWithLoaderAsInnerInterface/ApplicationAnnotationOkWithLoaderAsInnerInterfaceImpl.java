@@ -11,10 +11,11 @@ import com.github.nalukit.nalu.client.tracker.IsTracker;
 import com.github.nalukit.nalu.processor.common.MockContext;
 import com.github.nalukit.nalu.processor.common.application.applicationAnnotationOkWithLoaderAsInnerInterface.ApplicationAnnotationOkWithLoaderAsInnerInterface.MyApplicationLoader;
 import java.lang.Override;
-import java.lang.StringBuilder;
 import java.util.Arrays;
 
 public final class ApplicationAnnotationOkWithLoaderAsInnerInterfaceImpl extends AbstractApplication<MockContext> implements ApplicationAnnotationOkWithLoaderAsInnerInterface {
+  private ApplicationAnnotationOkWithLoaderAsInnerInterfaceCreatorFactoryImpl creatorFactory;
+
   public ApplicationAnnotationOkWithLoaderAsInnerInterfaceImpl() {
     super();
     super.context = new com.github.nalukit.nalu.processor.common.MockContext();
@@ -24,9 +25,7 @@ public final class ApplicationAnnotationOkWithLoaderAsInnerInterfaceImpl extends
   public void logProcessorVersion() {
     ClientLogger.get().logDetailed("", 0);
     ClientLogger.get().logDetailed("=================================================================================", 0);
-    StringBuilder sb01 = new StringBuilder();
-    sb01.append("Nalu processor version  >>1.3.3<< used to generate this source");
-    ClientLogger.get().logDetailed(sb01.toString(), 0);
+    ClientLogger.get().logDetailed("Nalu processor version  >>1.3.3<< used to generate this source", 0);
     ClientLogger.get().logDetailed("=================================================================================", 0);
     ClientLogger.get().logDetailed("", 0);
   }
@@ -42,19 +41,15 @@ public final class ApplicationAnnotationOkWithLoaderAsInnerInterfaceImpl extends
 
   @Override
   public void loadShells() {
-    StringBuilder sb01 = new StringBuilder();
-    sb01.append("load shell references");
-    ClientLogger.get().logDetailed(sb01.toString(), 2);
+    ClientLogger.get().logDetailed("load shell references", 2);
     super.shellConfiguration.getShells().add(new ShellConfig("/mockShell", "com.github.nalukit.nalu.processor.common.MockShell"));
-    sb01 = new StringBuilder();
-    sb01.append("register shell >>/mockShell<< with class >>com.github.nalukit.nalu.processor.common.MockShell<<");
-    ClientLogger.get().logDetailed(sb01.toString(), 3);
+    ClientLogger.get().logDetailed("register shell >>/mockShell<< with class >>com.github.nalukit.nalu.processor.common.MockShell<<", 3);
   }
 
   @Override
   public void loadShellFactory() {
-    // create ShellCreator for: com.github.nalukit.nalu.processor.common.MockShell
-    ShellFactory.get().registerShell("com.github.nalukit.nalu.processor.common.MockShell", new com.github.nalukit.nalu.processor.common.MockShellCreatorImpl(router, context, eventBus));
+    // register creator factory for the shells
+    ShellFactory.get().registerCreatorFactory(this.getCreatorFactory());
   }
 
   @Override
@@ -63,19 +58,15 @@ public final class ApplicationAnnotationOkWithLoaderAsInnerInterfaceImpl extends
 
   @Override
   public void loadComponents() {
-    // create ControllerCreator for: com.github.nalukit.nalu.processor.common.ui.component01.Controller01
-    ControllerFactory.get().registerController("com.github.nalukit.nalu.processor.common.ui.component01.Controller01", new com.github.nalukit.nalu.processor.common.ui.component01.Controller01CreatorImpl(router, context, eventBus));
+    // register creator factory for the controllers
+    ControllerFactory.get().registerCreatorFactory(this.getCreatorFactory());
   }
 
   @Override
   public void loadRoutes() {
-    StringBuilder sb01 = new StringBuilder();
-    sb01.append("load routes");
-    ClientLogger.get().logDetailed(sb01.toString(), 2);
-    super.routerConfiguration.getRouters().add(new RouteConfig("/mockShell/route01/*", Arrays.asList(new String[]{"parameter01"}), "selector01", "com.github.nalukit.nalu.processor.common.ui.component01.Controller01"));
-    sb01 = new StringBuilder();
-    sb01.append("register route >>/mockShell/route01/*<< with parameter >>parameter01<< for selector >>selector01<< for controller >>com.github.nalukit.nalu.processor.common.ui.component01.Controller01<<");
-    ClientLogger.get().logDetailed(sb01.toString(), 3);
+    ClientLogger.get().logDetailed("load routes", 2);
+    super.routerConfiguration.addRoute(new RouteConfig("/mockShell/route01/*", Arrays.asList(new String[]{"parameter01"}), "selector01", "com.github.nalukit.nalu.processor.common.ui.component01.Controller01"));
+    ClientLogger.get().logDetailed("register route >>/mockShell/route01/*<< with parameter >>parameter01<< for selector >>selector01<< for controller >>com.github.nalukit.nalu.processor.common.ui.component01.Controller01<<", 3);
   }
 
   @Override
@@ -92,14 +83,11 @@ public final class ApplicationAnnotationOkWithLoaderAsInnerInterfaceImpl extends
 
   @Override
   public void loadCompositeReferences() {
-    StringBuilder sb01 = new StringBuilder();
-    sb01.append("load composite references");
-    ClientLogger.get().logDetailed(sb01.toString(), 2);
+    ClientLogger.get().logDetailed("load composite references", 2);
   }
 
   @Override
   public void loadPlugins() {
-    StringBuilder sb01 = new StringBuilder();
   }
 
   @Override
@@ -109,14 +97,10 @@ public final class ApplicationAnnotationOkWithLoaderAsInnerInterfaceImpl extends
 
   @Override
   public void loadDefaultRoutes() {
-    StringBuilder sb01 = new StringBuilder();
     this.startRoute = "/mockShell/route01";
-    sb01.append("found startRoute >>/mockShell/route01<<");
-    ClientLogger.get().logDetailed(sb01.toString(), 2);
-    sb01 = new StringBuilder();
+    ClientLogger.get().logDetailed("found startRoute >>/mockShell/route01<<", 2);
     this.errorRoute = "/mockShell/route01";
-    sb01.append("found errorRoute >>/mockShell/route01<<");
-    ClientLogger.get().logDetailed(sb01.toString(), 2);
+    ClientLogger.get().logDetailed("found errorRoute >>/mockShell/route01<<", 2);
   }
 
   @Override
@@ -139,4 +123,11 @@ public final class ApplicationAnnotationOkWithLoaderAsInnerInterfaceImpl extends
     return false;
   }
 
+  private ApplicationAnnotationOkWithLoaderAsInnerInterfaceCreatorFactoryImpl getCreatorFactory() {
+    // the shell, popup controller, composite and controller factory share one creator factory
+    if (this.creatorFactory == null) {
+      this.creatorFactory = new ApplicationAnnotationOkWithLoaderAsInnerInterfaceCreatorFactoryImpl(router, context, eventBus);
+    }
+    return this.creatorFactory;
+  }
 }
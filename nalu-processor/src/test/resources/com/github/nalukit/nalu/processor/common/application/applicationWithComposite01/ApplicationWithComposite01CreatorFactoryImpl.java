@@ -0,0 +1,72 @@
+package com.github.nalukit.nalu.processor.common.application.applicationWithComposite01;
+
+import com.github.nalukit.nalu.client.Router;
+import com.github.nalukit.nalu.client.internal.application.ControllerCreatorCallback;
+import com.github.nalukit.nalu.client.internal.application.IsCompositeCreator;
+import com.github.nalukit.nalu.client.internal.application.IsControllerCreator;
+import com.github.nalukit.nalu.client.internal.application.IsCreatorFactory;
+import com.github.nalukit.nalu.client.internal.application.IsPopUpControllerCreator;
+import com.github.nalukit.nalu.client.internal.application.IsShellCreator;
+import com.github.nalukit.nalu.processor.common.MockContext;
+import com.github.nalukit.nalu.processor.common.MockShellCreatorImpl;
+import com.github.nalukit.nalu.processor.common.ui.controllerWithComposite01.ControllerWithComposite01CreatorImpl;
+import com.github.nalukit.nalu.processor.common.ui.controllerWithComposite01.composite.CompositeController01CreatorImpl;
+import java.lang.Override;
+import java.lang.String;
+import org.gwtproject.event.shared.SimpleEventBus;
+
+public final class ApplicationWithComposite01CreatorFactoryImpl implements IsCreatorFactory {
+  private final Router router;
+
+  private final MockContext context;
+
+  private final SimpleEventBus eventBus;
+
+  public ApplicationWithComposite01CreatorFactoryImpl(Router router, MockContext context,
+      SimpleEventBus eventBus) {
+    this.router = router;
+    this.context = context;
+    this.eventBus = eventBus;
+  }
+
+  @Override
+  public IsControllerCreator createControllerCreator(String controller) {
+    switch (controller) {
+      case "com.github.nalukit.nalu.processor.common.ui.controllerWithComposite01.ControllerWithComposite01":
+        return new ControllerWithComposite01CreatorImpl(this.router, this.context, this.eventBus);
+    }
+    return null;
+  }
+
+  @Override
+  public boolean isSplitPoint(String controller) {
+    return false;
+  }
+
+  @Override
+  public void loadControllerCreator(String controller, ControllerCreatorCallback callback) {
+  }
+
+  @Override
+  public IsCompositeCreator createCompositeCreator(String composite) {
+    switch (composite) {
+      case "com.github.nalukit.nalu.processor.common.ui.controllerWithComposite01.composite.CompositeController01":
+        return new CompositeController01CreatorImpl(this.router, this.context, this.eventBus);
+    }
+    return null;
+  }
+
+  @Override
+  public IsShellCreator createShellCreator(String shell) {
+    switch (shell) {
+      case "com.github.nalukit.nalu.processor.common.MockShell":
+        return new MockShellCreatorImpl(this.router, this.context, this.eventBus);
+    }
+    return null;
+  }
+
+  @Override
+  public IsPopUpControllerCreator createPopUpControllerCreator(String popUpName) {
+    return null;
+  }
+}
@@ -14,10 +14,11 @@ import com.github.nalukit.nalu.client.tracker.IsTracker;
 import com.github.nalukit.nalu.processor.common.MockContext;
 import com.github.nalukit.nalu.processor.common.ui.controllerWithComposite02.CompositeCondition02;
 import java.lang.Override;
-import java.lang.StringBuilder;
 import java.util.Arrays;
 
 public final class ApplicationWithComposite02Impl extends AbstractApplication<MockContext> implements ApplicationWithComposite02 {
+  private ApplicationWithComposite02CreatorFactoryImpl creatorFactory;
+
   public ApplicationWithComposite02Impl() {
     super();
     super.context = new com.github.nalukit.nalu.processor.common.MockContext();
@@ -27,9 +28,7 @@ public final class ApplicationWithComposite02Impl extends AbstractApplication<Mo
   public void logProcessorVersion() {
     ClientLogger.get().logDetailed("", 0);
     ClientLogger.get().logDetailed("=================================================================================", 0);
-    StringBuilder sb01 = new StringBuilder();
-    sb01.append("Nalu processor version  >>1.3.3<< used to generate this source");
-    ClientLogger.get().logDetailed(sb01.toString(), 0);
+    ClientLogger.get().logDetailed("Nalu processor version  >>1.3.3<< used to generate this source", 0);
     ClientLogger.get().logDetailed("=================================================================================", 0);
     ClientLogger.get().logDetailed("", 0);
   }
@@ -45,31 +44,27 @@ public final class ApplicationWithComposite02Impl extends AbstractApplication<Mo
 
   @Override
   public void loadShells() {
-    StringBuilder sb01 = new StringBuilder();
-    sb01.append("load shell references");
-    ClientLogger.get().logDetailed(sb01.toString(), 2);
+    ClientLogger.get().logDetailed("load shell references", 2);
     super.shellConfiguration.getShells().add(new ShellConfig("/mockShell", "com.github.nalukit.nalu.processor.common.MockShell"));
-    sb01 = new StringBuilder();
-    sb01.append("register shell >>/mockShell<< with class >>com.github.nalukit.nalu.processor.common.MockShell<<");
-    ClientLogger.get().logDetailed(sb01.toString(), 3);
+    ClientLogger.get().logDetailed("register shell >>/mockShell<< with class >>com.github.nalukit.nalu.processor.common.MockShell<<", 3);
   }
 
   @Override
   public void loadShellFactory() {
-    // create ShellCreator for: com.github.nalukit.nalu.processor.common.MockShell
-    ShellFactory.get().registerShell("com.github.nalukit.nalu.processor.common.MockShell", new com.github.nalukit.nalu.processor.common.MockShellCreatorImpl(router, context, eventBus));
+    // register creator factory for the shells
+    ShellFactory.get().registerCreatorFactory(this.getCreatorFactory());
   }
 
   @Override
   public void loadCompositeController() {
-    // create Composite for: com.github.nalukit.nalu.processor.common.ui.controllerWithComposite02.composite.CompositeController02
-    CompositeFactory.get().registerComposite("com.github.nalukit.nalu.processor.common.ui.controllerWithComposite02.composite.CompositeController02", new com.github.nalukit.nalu.processor.common.ui.controllerWithComposite02.composite.CompositeController02CreatorImpl(router, context, eventBus));
+    // register creator factory for the composites
+    CompositeFactory.get().registerCreatorFactory(this.getCreatorFactory());
   }
 
   @Override
   public void loadComponents() {
-    // create ControllerCreator for: com.github.nalukit.nalu.processor.common.ui.controllerWithComposite02.ControllerWithComposite02
-    ControllerFactory.get().registerController("com.github.nalukit.nalu.processor.common.ui.controllerWithComposite02.ControllerWithComposite02", new com.github.nalukit.nalu.processor.common.ui.controllerWithComposite02.ControllerWithComposite02CreatorImpl(router, context, eventBus));
+    // register creator factory for the controllers
+    ControllerFactory.get().registerCreatorFactory(this.getCreatorFactory());
     // register conditions of composites for: com.github.nalukit.nalu.processor.common.ui.controllerWithComposite02.ControllerWithComposite02
     CompositeCondition02 compositeCondition02 = new CompositeCondition02();
     compositeCondition02.setContext(super.context);
@@ -78,13 +73,9 @@ public final class ApplicationWithComposite02Impl extends AbstractApplication<Mo
 
   @Override
   public void loadRoutes() {
-    StringBuilder sb01 = new StringBuilder();
-    sb01.append("load routes");
-    ClientLogger.get().logDetailed(sb01.toString(), 2);
-    super.routerConfiguration.getRouters().add(new RouteConfig("/mockShell/route02/*", Arrays.asList(new String[]{"parameter02"}), "selector02", "com.github.nalukit.nalu.processor.common.ui.controllerWithComposite02.ControllerWithComposite02"));
-    sb01 = new StringBuilder();
-    sb01.append("register route >>/mockShell/route02/*<< with parameter >>parameter02<< for selector >>selector02<< for controller >>com.github.nalukit.nalu.processor.common.ui.controllerWithComposite02.ControllerWithComposite02<<");
-    ClientLogger.get().logDetailed(sb01.toString(), 3);
+    ClientLogger.get().logDetailed("load routes", 2);
+    super.routerConfiguration.addRoute(new RouteConfig("/mockShell/route02/*", Arrays.asList(new String[]{"parameter02"}), "selector02", "com.github.nalukit.nalu.processor.common.ui.controllerWithComposite02.ControllerWithComposite02"));
+    ClientLogger.get().logDetailed("register route >>/mockShell/route02/*<< with parameter >>parameter02<< for selector >>selector02<< for controller >>com.github.nalukit.nalu.processor.common.ui.controllerWithComposite02.ControllerWithComposite02<<", 3);
   }
 
   @Override
@@ -101,18 +92,13 @@ public final class ApplicationWithComposite02Impl extends AbstractApplication<Mo
 
   @Override
   public void loadCompositeReferences() {
-    StringBuilder sb01 = new StringBuilder();
-    sb01.append("load composite references");
-    ClientLogger.get().logDetailed(sb01.toString(), 2);
+    ClientLogger.get().logDetailed("load composite references", 2);
     this.compositeControllerReferences.add(new CompositeControllerReference("com.github.nalukit.nalu.processor.common.ui.controllerWithComposite02.ControllerWithComposite02", "testComposite", "com.github.nalukit.nalu.processor.common.ui.controllerWithComposite02.composite.CompositeController02", "selector", false));
-    sb01 = new StringBuilder();
-    sb01.append("register composite >>testComposite<< for controller >>com.github.nalukit.nalu.processor.common.ui.controllerWithComposite02.ControllerWithComposite02<< in selector >>selector<<");
-    ClientLogger.get().logDetailed(sb01.toString(), 3);
+    ClientLogger.get().logDetailed("register composite >>testComposite<< for controller >>com.github.nalukit.nalu.processor.common.ui.controllerWithComposite02.ControllerWithComposite02<< in selector >>selector<<", 3);
   }
 
   @Override
   public void loadPlugins() {
-    StringBuilder sb01 = new StringBuilder();
   }
 
   @Override
@@ -122,14 +108,10 @@ public final class ApplicationWithComposite02Impl extends AbstractApplication<Mo
 
   @Override
   public void loadDefaultRoutes() {
-    StringBuilder sb01 = new StringBuilder();
     this.startRoute = "/mockShell/route02";
-    sb01.append("found startRoute >>/mockShell/route02<<");
-    ClientLogger.get().logDetailed(sb01.toString(), 2);
-    sb01 = new StringBuilder();
+    ClientLogger.get().logDetailed("found startRoute >>/mockShell/route02<<", 2);
     this.errorRoute = "/mockShell/route02";
-    sb01.append("found errorRoute >>/mockShell/route02<<");
-    ClientLogger.get().logDetailed(sb01.toString(), 2);
+    ClientLogger.get().logDetailed("found errorRoute >>/mockShell/route02<<", 2);
   }
 
   @Override
@@ -151,4 +133,12 @@ public final class ApplicationWithComposite02Impl extends AbstractApplication<Mo
   public boolean isStayOnSide() {
     return false;
   }
+
+  private ApplicationWithComposite02CreatorFactoryImpl getCreatorFactory() {
+    // the shell, popup controller, composite and controller factory share one creator factory
+    if (this.creatorFactory == null) {
+      this.creatorFactory = new ApplicationWithComposite02CreatorFactoryImpl(router, context, eventBus);
+    }
+    return this.creatorFactory;
+  }
 }
@@ -11,7 +11,6 @@ import com.github.nalukit.nalu.client.internal.application.IsCompositeCreator;
 import com.github.nalukit.nalu.processor.common.MockContext;
 import java.lang.Object;
 import java.lang.String;
-import java.lang.StringBuilder;
 import org.gwtproject.event.shared.SimpleEventBus;
 
 public final class CompositeCreatorImpl extends AbstractCompositeCreator<MockContext> implements IsCompositeCreator {
@@ -21,13 +20,11 @@ public final class CompositeCreatorImpl extends AbstractCompositeCreator<MockCon
 
   public CompositeInstance create(String parentControllerClassName) throws
                                                                     RoutingInterceptionException {
-    StringBuilder sb01 = new StringBuilder();
     CompositeInstance compositeInstance = new CompositeInstance();
     compositeInstance.setCompositeClassName("com.github.nalukit.nalu.processor.compositeCreator.ok.Composite");
     AbstractCompositeController<?, ?, ?> storedComposite = CompositeFactory.get().getCompositeFormStore(parentControllerClassName, "com.github.nalukit.nalu.processor.compositeCreator.ok.Composite");
     if (storedComposite == null) {
-      sb01.append("composite >>com.github.nalukit.nalu.processor.compositeCreator.ok.Composite<< --> will be created");
-      ClientLogger.get().logDetailed(sb01.toString(), 4);
+      ClientLogger.get().logDetailed("composite >>com.github.nalukit.nalu.processor.compositeCreator.ok.Composite<< --> will be created", 4);
       Composite composite = new Composite();
       compositeInstance.setComposite(composite);
       composite.setParentClassName(parentControllerClassName);
@@ -36,33 +33,30 @@ public final class CompositeCreatorImpl extends AbstractCompositeCreator<MockCon
       composite.setEventBus(eventBus);
       composite.setRouter(router);
       composite.setCached(false);
-      sb01 = new StringBuilder();
-      sb01.append("composite >>com.github.nalukit.nalu.processor.compositeCreator.ok.Composite<< --> created and data injected");
-      ClientLogger.get().logDetailed(sb01.toString(), 5);
+      ClientLogger.get().logDetailed("composite >>com.github.nalukit.nalu.processor.compositeCreator.ok.Composite<< --> created and data injected", 5);
       ICompositeComponent component = new CompositeComponent();
-      sb01 = new StringBuilder();
-      sb01.append("component >>com.github.nalukit.nalu.processor.compositeCreator.ok.CompositeComponent<< --> created using new");
-      ClientLogger.get().logDetailed(sb01.toString(), 4);
+      ClientLogger.get().logDetailed("component >>com.github.nalukit.nalu.processor.compositeCreator.ok.CompositeComponent<< --> created using new", 4);
       component.setController(composite);
-      sb01 = new StringBuilder();
-      sb01.append("component >>").append(component.getClass().getCanonicalName()).append("<< --> created and controller instance injected");
-      ClientLogger.get().logDetailed(sb01.toString(), 5);
+      if (ClientLogger.get().isDetailedLoggingEnabled()) {
+        ClientLogger.get().logDetailed("component >>" + component.getClass().getCanonicalName() + "<< --> created and controller instance injected", 5);
+      }
       composite.setComponent(component);
-      sb01 = new StringBuilder();
-      sb01.append("composite >>").append(composite.getClass().getCanonicalName()).append("<< --> instance of >>").append(component.getClass().getCanonicalName()).append("<< injected");
-      ClientLogger.get().logDetailed(sb01.toString(), 5);
+      if (ClientLogger.get().isDetailedLoggingEnabled()) {
+        ClientLogger.get().logDetailed("composite >>" + composite.getClass().getCanonicalName() + "<< --> instance of >>" + component.getClass().getCanonicalName() + "<< injected", 5);
+      }
       component.render();
-      sb01 = new StringBuilder();
-      sb01.append("component >>").append(component.getClass().getCanonicalName()).append("<< --> rendered");
-      ClientLogger.get().logDetailed(sb01.toString(), 5);
+      if (ClientLogger.get().isDetailedLoggingEnabled()) {
+        ClientLogger.get().logDetailed("component >>" + component.getClass().getCanonicalName() + "<< --> rendered", 5);
+      }
       component.bind();
-      sb01 = new StringBuilder();
-      sb01.append("component >>").append(component.getClass().getCanonicalName()).append("<< --> bound");
-      ClientLogger.get().logDetailed(sb01.toString(), 5);
+      if (ClientLogger.get().isDetailedLoggingEnabled()) {
+        ClientLogger.get().logDetailed("component >>" + component.getClass().getCanonicalName() + "<< --> bound", 5);
+      }
       ClientLogger.get().logSimple("compositeModel >>com.github.nalukit.nalu.processor.compositeCreator.ok.CompositeComponent<< created", 4);
     } else {
-      sb01.append("composite >>").append(storedComposite.getClass().getCanonicalName()).append("<< --> found in cache -> REUSE!");
-      ClientLogger.get().logDetailed(sb01.toString(), 4);
+      if (ClientLogger.get().isDetailedLoggingEnabled()) {
+        ClientLogger.get().logDetailed("composite >>" + storedComposite.getClass().getCanonicalName() + "<< --> found in cache -> REUSE!", 4);
+      }
       compositeInstance.setComposite(storedComposite);
       compositeInstance.setChached(true);
       compositeInstance.getComposite().setCached(true);
@@ -72,6 +66,5 @@ public final class CompositeCreatorImpl extends AbstractCompositeCreator<MockCon
 
   public void setParameter(Object object, String... parms) throws RoutingInterceptionException {
     Composite composite = (Composite) object;
-    StringBuilder sb01 = new StringBuilder();
   }
 }
@@ -0,0 +1,134 @@
+package com.github.nalukit.nalu.processor.controller.controllerWithAliasOK;
+
+import com.github.nalukit.nalu.client.application.IsApplicationLoader;
+import com.github.nalukit.nalu.client.internal.ClientLogger;
+import com.github.nalukit.nalu.client.internal.application.AbstractApplication;
+import com.github.nalukit.nalu.client.internal.application.ControllerFactory;
+import com.github.nalukit.nalu.client.internal.application.ShellFactory;
+import com.github.nalukit.nalu.client.internal.route.RouteConfig;
+import com.github.nalukit.nalu.client.internal.route.ShellConfig;
+import com.github.nalukit.nalu.client.tracker.IsTracker;
+import com.github.nalukit.nalu.processor.common.MockContext;
+import java.lang.Override;
+import java.util.Arrays;
+
+public final class ControllerWithAliasOKImpl extends AbstractApplication<MockContext> implements ControllerWithAliasOK {
+  private ControllerWithAliasOKCreatorFactoryImpl creatorFactory;
+
+  public ControllerWithAliasOKImpl() {
+    super();
+    super.context = new com.github.nalukit.nalu.processor.common.MockContext();
+  }
+
+  @Override
+  public void logProcessorVersion() {
+    ClientLogger.get().logDetailed("", 0);
+    ClientLogger.get().logDetailed("=================================================================================", 0);
+    ClientLogger.get().logDetailed("Nalu processor version  >>1.3.3<< used to generate this source", 0);
+    ClientLogger.get().logDetailed("=================================================================================", 0);
+    ClientLogger.get().logDetailed("", 0);
+  }
+
+  @Override
+  public void loadDebugConfiguration() {
+  }
+
+  @Override
+  public IsTracker loadTrackerConfiguration() {
+    return null;
+  }
+
+  @Override
+  public void loadShells() {
+    ClientLogger.get().logDetailed("load shell references", 2);
+    super.shellConfiguration.getShells().add(new ShellConfig("/mockShell", "com.github.nalukit.nalu.processor.common.MockShell"));
+    ClientLogger.get().logDetailed("register shell >>/mockShell<< with class >>com.github.nalukit.nalu.processor.common.MockShell<<", 3);
+  }
+
+  @Override
+  public void loadShellFactory() {
+    // register creator factory for the shells
+    ShellFactory.get().registerCreatorFactory(this.getCreatorFactory());
+  }
+
+  @Override
+  public void loadCompositeController() {
+  }
+
+  @Override
+  public void loadComponents() {
+    // register creator factory for the controllers
+    ControllerFactory.get().registerCreatorFactory(this.getCreatorFactory());
+  }
+
+  @Override
+  public void loadRoutes() {
+    ClientLogger.get().logDetailed("load routes", 2);
+    super.routerConfiguration.addRoute(new RouteConfig("/mockShell/route01/*", Arrays.asList(new String[]{"id"}), "selector01", "com.github.nalukit.nalu.processor.controller.controllerWithAliasOK.ui.content01.Content01Controller"));
+    ClientLogger.get().logDetailed("register route >>/mockShell/route01/*<< with parameter >>id<< for selector >>selector01<< for controller >>com.github.nalukit.nalu.processor.controller.controllerWithAliasOK.ui.content01.Content01Controller<<", 3);
+    super.routerConfiguration.addAlias("/mockShell/alias01/*", "/mockShell/route01/*");
+    ClientLogger.get().logDetailed("register alias >>/mockShell/alias01/*<< for route >>/mockShell/route01/*<<", 3);
+  }
+
+  @Override
+  public void loadPopUpControllerFactory() {
+  }
+
+  @Override
+  public void loadFilters() {
+  }
+
+  @Override
+  public void loadHandlers() {
+  }
+
+  @Override
+  public void loadCompositeReferences() {
+    ClientLogger.get().logDetailed("load composite references", 2);
+  }
+
+  @Override
+  public void loadPlugins() {
+  }
+
+  @Override
+  public IsApplicationLoader<MockContext> getApplicationLoader() {
+    return null;
+  }
+
+  @Override
+  public void loadDefaultRoutes() {
+    this.startRoute = "/mockShell/route01";
+    ClientLogger.get().logDetailed("found startRoute >>/mockShell/route01<<", 2);
+    this.errorRoute = "/mockShell/route01";
+    ClientLogger.get().logDetailed("found errorRoute >>/mockShell/route01<<", 2);
+  }
+
+  @Override
+  public boolean hasHistory() {
+    return true;
+  }
+
+  @Override
+  public boolean isUsingHash() {
+    return true;
+  }
+
+  @Override
+  public boolean isUsingColonForParametersInUrl() {
+    return false;
+  }
+
+  @Override
+  public boolean isStayOnSide() {
+    return false;
+  }
+
+  private ControllerWithAliasOKCreatorFactoryImpl getCreatorFactory() {
+    // the shell, popup controller, composite and controller factory share one creator factory
+    if (this.creatorFactory == null) {
+      this.creatorFactory = new ControllerWithAliasOKCreatorFactoryImpl(router, context, eventBus);
+    }
+    return this.creatorFactory;
+  }
+}
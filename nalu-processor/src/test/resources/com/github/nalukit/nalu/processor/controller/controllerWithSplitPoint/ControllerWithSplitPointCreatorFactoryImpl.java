@@ -0,0 +1,76 @@
+package com.github.nalukit.nalu.processor.controller.controllerWithSplitPoint;
+
+import com.github.nalukit.nalu.client.Router;
+import com.github.nalukit.nalu.client.internal.application.ControllerCreatorCallback;
+import com.github.nalukit.nalu.client.internal.application.IsCompositeCreator;
+import com.github.nalukit.nalu.client.internal.application.IsControllerCreator;
+import com.github.nalukit.nalu.client.internal.application.IsCreatorFactory;
+import com.github.nalukit.nalu.client.internal.application.IsPopUpControllerCreator;
+import com.github.nalukit.nalu.client.internal.application.IsShellCreator;
+import com.github.nalukit.nalu.processor.common.MockContext;
+import com.github.nalukit.nalu.processor.common.MockShellCreatorImpl;
+import com.github.nalukit.nalu.processor.controller.controllerWithSplitPoint.ui.content01.Content01ControllerCreatorImpl;
+import com.github.nalukit.nalu.processor.controller.controllerWithSplitPoint.ui.content02.Content02ControllerCreatorImpl;
+import java.lang.Override;
+import java.lang.String;
+import org.gwtproject.event.shared.SimpleEventBus;
+
+public final class ControllerWithSplitPointCreatorFactoryImpl implements IsCreatorFactory {
+  private final Router router;
+
+  private final MockContext context;
+
+  private final SimpleEventBus eventBus;
+
+  public ControllerWithSplitPointCreatorFactoryImpl(Router router, MockContext context, SimpleEventBus eventBus) {
+    this.router = router;
+    this.context = context;
+    this.eventBus = eventBus;
+  }
+
+  @Override
+  public IsControllerCreator createControllerCreator(String controller) {
+    switch (controller) {
+      case "com.github.nalukit.nalu.processor.controller.controllerWithSplitPoint.ui.content01.Content01Controller":
+        return new Content01ControllerCreatorImpl(this.router, this.context, this.eventBus);
+    }
+    return null;
+  }
+
+  @Override
+  public boolean isSplitPoint(String controller) {
+    switch (controller) {
+      case "com.github.nalukit.nalu.processor.controller.controllerWithSplitPoint.ui.content02.Content02Controller":
+        return true;
+    }
+    return false;
+  }
+
+  @Override
+  public void loadControllerCreator(String controller, ControllerCreatorCallback callback) {
+    switch (controller) {
+      case "com.github.nalukit.nalu.processor.controller.controllerWithSplitPoint.ui.content02.Content02Controller":
+        callback.onLoad(new Content02ControllerCreatorImpl(this.router, this.context, this.eventBus));
+        break;
+    }
+  }
+
+  @Override
+  public IsCompositeCreator createCompositeCreator(String composite) {
+    return null;
+  }
+
+  @Override
+  public IsShellCreator createShellCreator(String shell) {
+    switch (shell) {
+      case "com.github.nalukit.nalu.processor.common.MockShell":
+        return new MockShellCreatorImpl(this.router, this.context, this.eventBus);
+    }
+    return null;
+  }
+
+  @Override
+  public IsPopUpControllerCreator createPopUpControllerCreator(String popUpName) {
+    return null;
+  }
+}
@@ -12,7 +12,6 @@ import com.github.nalukit.nalu.processor.common.MockContext;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
-import java.lang.StringBuilder;
 import org.gwtproject.event.shared.SimpleEventBus;
 
 public final class ControllerC03CreatorImpl extends AbstractControllerCreator<MockContext> implements IsControllerCreator {
@@ -22,13 +21,11 @@ public final class ControllerC03CreatorImpl extends AbstractControllerCreator<Mo
 
   @Override
   public ControllerInstance create() {
-    StringBuilder sb01 = new StringBuilder();
     ControllerInstance controllerInstance = new ControllerInstance();
     controllerInstance.setControllerClassName("com.github.nalukit.nalu.processor.controllerCreator.controllerCreatorOkWithOneParameter01WithoutAcceptParameter.ControllerC03");
     AbstractComponentController<?, ?, ?> storedController = ControllerFactory.get().getControllerFormStore("com.github.nalukit.nalu.processor.controllerCreator.controllerCreatorOkWithOneParameter01WithoutAcceptParameter.ControllerC03");
     if (storedController == null) {
-      sb01.append("controller >>com.github.nalukit.nalu.processor.controllerCreator.controllerCreatorOkWithOneParameter01WithoutAcceptParameter.ControllerC03<< --> will be created");
-      ClientLogger.get().logSimple(sb01.toString(), 3);
+      ClientLogger.get().logSimple("controller >>com.github.nalukit.nalu.processor.controllerCreator.controllerCreatorOkWithOneParameter01WithoutAcceptParameter.ControllerC03<< --> will be created", 3);
       ControllerC03 controller = new ControllerC03();
       controllerInstance.setController(controller);
       controllerInstance.setChached(false);
@@ -36,12 +33,13 @@ public final class ControllerC03CreatorImpl extends AbstractControllerCreator<Mo
       controller.setEventBus(eventBus);
       controller.setRouter(router);
       controller.setCached(false);
-      sb01 = new StringBuilder();
-      sb01.append("controller >>").append(controller.getClass().getCanonicalName()).append("<< --> created and data injected");
-      ClientLogger.get().logDetailed(sb01.toString(), 4);
+      if (ClientLogger.get().isDetailedLoggingEnabled()) {
+        ClientLogger.get().logDetailed("controller >>" + controller.getClass().getCanonicalName() + "<< --> created and data injected", 4);
+      }
     } else {
-      sb01.append("controller >>").append(storedController.getClass().getCanonicalName()).append("<< --> found in cache -> REUSE!");
-      ClientLogger.get().logDetailed(sb01.toString(), 4);
+      if (ClientLogger.get().isDetailedLoggingEnabled()) {
+        ClientLogger.get().logDetailed("controller >>" + storedController.getClass().getCanonicalName() + "<< --> found in cache -> REUSE!", 4);
+      }
       controllerInstance.setController(storedController);
       controllerInstance.setChached(true);
       controllerInstance.getController().setCached(true);
@@ -52,33 +50,29 @@ public final class ControllerC03CreatorImpl extends AbstractControllerCreator<Mo
   @Override
   public void onFinishCreating(Object object) throws RoutingInterceptionException {
     ControllerC03 controller = (ControllerC03) object;
-    StringBuilder sb01 = new StringBuilder();
     IComponent03 component = new Component03();
-    sb01 = new StringBuilder();
-    sb01.append("component >>com.github.nalukit.nalu.processor.controllerCreator.controllerCreatorOkWithOneParameter01WithoutAcceptParameter.Component03<< --> created using new");
-    ClientLogger.get().logDetailed(sb01.toString(), 4);
+    ClientLogger.get().logDetailed("component >>com.github.nalukit.nalu.processor.controllerCreator.controllerCreatorOkWithOneParameter01WithoutAcceptParameter.Component03<< --> created using new", 4);
     component.setController(controller);
-    sb01 = new StringBuilder();
-    sb01.append("component >>").append(component.getClass().getCanonicalName()).append("<< --> created and controller instance injected");
-    ClientLogger.get().logDetailed(sb01.toString(), 4);
+    if (ClientLogger.get().isDetailedLoggingEnabled()) {
+      ClientLogger.get().logDetailed("component >>" + component.getClass().getCanonicalName() + "<< --> created and controller instance injected", 4);
+    }
     controller.setComponent(component);
-    sb01 = new StringBuilder();
-    sb01.append("controller >>").append(controller.getClass().getCanonicalName()).append("<< --> instance of >>").append(component.getClass().getCanonicalName()).append("<< injected");
-    ClientLogger.get().logDetailed(sb01.toString(), 4);
+    if (ClientLogger.get().isDetailedLoggingEnabled()) {
+      ClientLogger.get().logDetailed("controller >>" + controller.getClass().getCanonicalName() + "<< --> instance of >>" + component.getClass().getCanonicalName() + "<< injected", 4);
+    }
     component.render();
-    sb01 = new StringBuilder();
-    sb01.append("component >>").append(component.getClass().getCanonicalName()).append("<< --> rendered");
-    ClientLogger.get().logDetailed(sb01.toString(), 4);
+    if (ClientLogger.get().isDetailedLoggingEnabled()) {
+      ClientLogger.get().logDetailed("component >>" + component.getClass().getCanonicalName() + "<< --> rendered", 4);
+    }
     component.bind();
-    sb01 = new StringBuilder();
-    sb01.append("component >>").append(component.getClass().getCanonicalName()).append("<< --> bound");
-    ClientLogger.get().logDetailed(sb01.toString(), 4);
+    if (ClientLogger.get().isDetailedLoggingEnabled()) {
+      ClientLogger.get().logDetailed("component >>" + component.getClass().getCanonicalName() + "<< --> bound", 4);
+    }
     ClientLogger.get().logSimple("controller >>com.github.nalukit.nalu.processor.controllerCreator.controllerCreatorOkWithOneParameter01WithoutAcceptParameter.Component03<< created for route >>/mockShell/route01/*<<", 3);
   }
 
   @Override
   public void setParameter(Object object, String... parms) throws RoutingInterceptionException {
     ControllerC03 controller = (ControllerC03) object;
-    StringBuilder sb01 = new StringBuilder();
   }
 }
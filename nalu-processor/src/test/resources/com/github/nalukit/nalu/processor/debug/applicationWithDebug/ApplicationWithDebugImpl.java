@@ -0,0 +1,119 @@
+package com.github.nalukit.nalu.processor.debug.applicationWithDebug;
+
+import com.github.nalukit.nalu.client.application.IsApplicationLoader;
+import com.github.nalukit.nalu.client.internal.application.AbstractApplication;
+import com.github.nalukit.nalu.client.internal.application.ControllerFactory;
+import com.github.nalukit.nalu.client.internal.application.ShellFactory;
+import com.github.nalukit.nalu.client.internal.route.RouteConfig;
+import com.github.nalukit.nalu.client.internal.route.ShellConfig;
+import com.github.nalukit.nalu.client.tracker.IsTracker;
+import com.github.nalukit.nalu.processor.common.MockContext;
+import java.lang.Override;
+import java.util.Arrays;
+
+public final class ApplicationWithDebugImpl extends AbstractApplication<MockContext> implements ApplicationWithDebug {
+  private ApplicationWithDebugCreatorFactoryImpl creatorFactory;
+
+  public ApplicationWithDebugImpl() {
+    super();
+    super.context = new com.github.nalukit.nalu.processor.common.MockContext();
+  }
+
+  @Override
+  public void logProcessorVersion() {
+  }
+
+  @Override
+  public void loadDebugConfiguration() {
+  }
+
+  @Override
+  public IsTracker loadTrackerConfiguration() {
+    return null;
+  }
+
+  @Override
+  public void loadShells() {
+    super.shellConfiguration.getShells().add(new ShellConfig("/mockShell", "com.github.nalukit.nalu.processor.common.MockShell"));
+  }
+
+  @Override
+  public void loadShellFactory() {
+    // register creator factory for the shells
+    ShellFactory.get().registerCreatorFactory(this.getCreatorFactory());
+  }
+
+  @Override
+  public void loadCompositeController() {
+  }
+
+  @Override
+  public void loadComponents() {
+    // register creator factory for the controllers
+    ControllerFactory.get().registerCreatorFactory(this.getCreatorFactory());
+  }
+
+  @Override
+  public void loadRoutes() {
+    super.routerConfiguration.addRoute(new RouteConfig("/mockShell/route01/*", Arrays.asList(new String[]{"parameter01"}), "selector01", "com.github.nalukit.nalu.processor.common.ui.component01.Controller01"));
+  }
+
+  @Override
+  public void loadPopUpControllerFactory() {
+  }
+
+  @Override
+  public void loadFilters() {
+  }
+
+  @Override
+  public void loadHandlers() {
+  }
+
+  @Override
+  public void loadCompositeReferences() {
+  }
+
+  @Override
+  public void loadPlugins() {
+  }
+
+  @Override
+  public IsApplicationLoader<MockContext> getApplicationLoader() {
+    return null;
+  }
+
+  @Override
+  public void loadDefaultRoutes() {
+    this.startRoute = "/mockShell/route01";
+    this.errorRoute = "/mockShell/route01";
+  }
+
+  @Override
+  public boolean hasHistory() {
+    return true;
+  }
+
+  @Override
+  public boolean isUsingHash() {
+    return true;
+  }
+
+  @Override
+  public boolean isUsingColonForParametersInUrl() {
+    return false;
+  }
+
+  @Override
+  public boolean isStayOnSide() {
+    return false;
+  }
+
+  private ApplicationWithDebugCreatorFactoryImpl getCreatorFactory() {
+    // the shell, popup controller, composite and controller factory share one creator factory
+    if (this.creatorFactory == null) {
+      this.creatorFactory = new ApplicationWithDebugCreatorFactoryImpl(router, context, eventBus);
+    }
+    return this.creatorFactory;
+  }
+}
@@ -8,7 +8,6 @@ import com.github.nalukit.nalu.client.internal.application.IsShellCreator;
 import com.github.nalukit.nalu.client.internal.application.ShellInstance;
 import java.lang.Object;
 import java.lang.Override;
-import java.lang.StringBuilder;
 import org.gwtproject.event.shared.SimpleEventBus;
 
 public final class MockShellCreatorImpl extends AbstractShellCreator<MockContext> implements IsShellCreator {
@@ -18,20 +17,15 @@ public final class MockShellCreatorImpl extends AbstractShellCreator<MockContext
 
     @Override
     public ShellInstance create() {
-        StringBuilder sb01 = new StringBuilder();
         ShellInstance shellInstance = new ShellInstance();
         shellInstance.setShellClassName("com.github.nalukit.nalu.processor.common.MockShell");
-        sb01.append("shell >>com.github.nalukit.nalu.processor.common.MockShell<< --> will be created");
-        ClientLogger.get().logSimple(sb01.toString(), 1);
+        ClientLogger.get().logSimple("shell >>com.github.nalukit.nalu.processor.common.MockShell<< --> will be created", 1);
         MockShell shell = new MockShell();
         shellInstance.setShell(shell);
         shell.setContext(context);
         shell.setEventBus(eventBus);
         shell.setRouter(router);
-        sb01 = new StringBuilder();
-        sb01.append("shell >>com.github.nalukit.nalu.processor.common.MockShell<< --> created and data injected");
-        ClientLogger.get().logDetailed(sb01.toString(), 2);
-        sb01 = new StringBuilder();
+        ClientLogger.get().logDetailed("shell >>com.github.nalukit.nalu.processor.common.MockShell<< --> created and data injected", 2);
         return shellInstance;
     }
 
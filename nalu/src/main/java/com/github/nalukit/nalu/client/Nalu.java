@@ -16,9 +16,13 @@
 
 package com.github.nalukit.nalu.client;
 
+import com.github.nalukit.nalu.client.application.StartupTiming;
 import com.github.nalukit.nalu.client.internal.PropertyFactory;
+import com.github.nalukit.nalu.client.internal.application.StartupProfiler;
 import com.github.nalukit.nalu.client.internal.route.RouterUtils;
 
+import java.util.List;
+
 public class Nalu {
 
   public static String getVersion() {
@@ -40,6 +44,17 @@ public class Nalu {
                           .isUsingColonForParametersInUrl();
   }
 
+  /**
+   * Returns the timings of the phases of the application start,
+   * that are already finished (in order of finishing).
+   *
+   * @return the timings of the finished startup phases
+   */
+  public static List<StartupTiming> getStartupTimings() {
+    return StartupProfiler.get()
+                          .getTimings();
+  }
+
   /**
    * This method compares the route with the value of withRoute respecting parameters.
    *
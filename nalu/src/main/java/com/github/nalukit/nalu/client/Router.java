@@ -115,6 +115,23 @@ public interface Router {
   void route(String route,
              String... parameter);
 
+  /**
+   * Prefetches a route.
+   * <p>
+   * The controllers and composites of the route will be created and
+   * bound ahead of time (the work is scheduled by the plugin once
+   * the browser is idle). The next time the route is called, Nalu
+   * only needs to attach and start them.
+   * <p>
+   * Use this method for routes that will be called likely next,
+   * f.e.: when the mouse hovers a link.
+   *
+   * @param route     route to prefetch
+   * @param parameter parameters of the route
+   */
+  void prefetch(String route,
+                String... parameter);
+
   /**
    * Removes a controller from the chache
    *
@@ -149,6 +166,56 @@ public interface Router {
    */
   <C extends AbstractCompositeController<?, ?, ?>> void storeInCache(C controller);
 
+  /**
+   * Configures the eviction of the controller and composite caches.
+   * <p>
+   * In case the number of cached controllers (or composites) exceeds
+   * the maximum size, the least recently used ones will be evicted.
+   * Cached controllers (or composites), that were not used for
+   * longer than the maximum idle time, will also be evicted.
+   * Evicted controllers will be stopped and their handlers removed.
+   * Controllers, that are currently displayed, will never be evicted.
+   * <p>
+   * By default, the caches are unbounded.
+   *
+   * @param maxSize     maximum number of cached controllers and composites (0: no limit)
+   * @param maxIdleTime maximum idle time in milliseconds (0: no limit)
+   */
+  void configureCache(int maxSize,
+                      long maxIdleTime);
+
+  /**
+   * Configures the eviction of prefetched controllers and composites.
+   * <p>
+   * In case the number of prefetched controllers (or composites) exceeds
+   * the maximum size, the oldest ones will be evicted. Prefetched
+   * controllers (or composites), that were not used within the maximum
+   * idle time, will also be evicted. Evicted instances will be dropped
+   * and their handlers removed.
+   * <p>
+   * By default, Nalu keeps up to 10 prefetched controllers and 20
+   * prefetched composites for one minute.
+   *
+   * @param maxSize     maximum number of prefetched controllers and composites (0: no limit)
+   * @param maxIdleTime maximum time in milliseconds a prefetched instance is kept (0: no limit)
+   */
+  void configurePrefetch(int maxSize,
+                         long maxIdleTime);
+
+  /**
+   * Returns the number of controllers evicted from the cache.
+   *
+   * @return number of evicted controllers
+   */
+  int getControllerCacheEvictionCount();
+
+  /**
+   * Returns the number of composites evicted from the cache.
+   *
+   * @return number of evicted composites
+   */
+  int getCompositeCacheEvictionCount();
+
   /**
    * Get a map of parameters contained in the url at application start
    *
@@ -156,4 +223,30 @@ public interface Router {
    */
   Map<String, String> getStartQueryParameters();
 
+  /**
+   * Returns the number of routes found in the parse cache.
+   * <p>
+   * Nalu caches the result of parsing a route, so that switching
+   * between routes does not need to parse the route again.
+   *
+   * @return number of cache hits
+   */
+  int getParseCacheHitCount();
+
+  /**
+   * Returns the number of routes not found in the parse cache.
+   *
+   * @return number of cache misses
+   */
+  int getParseCacheMissCount();
+
+  /**
+   * Clears the cached results of the filters.
+   * <p>
+   * Filters returning true from isCacheable() are called only once
+   * per route and parameters. Call this method in case something
+   * the filters depend on changes (f.e.: the login state).
+   */
+  void clearFilterCache();
+
 }
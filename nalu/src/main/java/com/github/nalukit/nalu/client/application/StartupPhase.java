@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+package com.github.nalukit.nalu.client.application;
+
+/**
+ * Phases of the start of a Nalu application.
+ * <p>
+ * FIRST_SHELL_ATTACHED and FIRST_CONTROLLER_ACTIVATED start with the
+ * application, so their duration is the time from the start of the
+ * application until the first shell is attached or the first controller
+ * is activated.
+ */
+public enum StartupPhase {
+  LOAD_PLUGINS,
+  LOAD_SHELLS,
+  LOAD_ROUTES,
+  LOAD_FILTERS,
+  LOAD_COMPOSITE_REFERENCES,
+  CREATE_ROUTER,
+  LOAD_SHELL_FACTORY,
+  LOAD_POPUP_CONTROLLER_FACTORY,
+  LOAD_COMPOSITE_CONTROLLER,
+  LOAD_COMPONENTS,
+  LOAD_HANDLERS,
+  VALIDATE_ROUTES,
+  APPLICATION_LOADER,
+  FIRST_ROUTING,
+  FIRST_SHELL_ATTACHED,
+  FIRST_CONTROLLER_ACTIVATED;
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+package com.github.nalukit.nalu.client.application;
+
+/**
+ * Timing of a startup phase.
+ * <p>
+ * All times are in milliseconds relative to the start of the application.
+ */
+public class StartupTiming {
+
+  /* the phase */
+  private StartupPhase phase;
+
+  /* start of the phase */
+  private double startTime;
+
+  /* end of the phase */
+  private double endTime;
+
+  public StartupTiming(StartupPhase phase,
+                       double startTime,
+                       double endTime) {
+    this.phase = phase;
+    this.startTime = startTime;
+    this.endTime = endTime;
+  }
+
+  public StartupPhase getPhase() {
+    return phase;
+  }
+
+  public double getStartTime() {
+    return startTime;
+  }
+
+  public double getEndTime() {
+    return endTime;
+  }
+
+  public double getDuration() {
+    return this.endTime - this.startTime;
+  }
+
+}
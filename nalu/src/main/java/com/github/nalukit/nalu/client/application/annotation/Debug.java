@@ -31,6 +31,17 @@ import java.lang.annotation.RetentionPolicy;
  * This annotation should be used only on interfaces that extend <code>IsApplication</code>.
  * <br>
  * The annotation is optional.
+ * <br>
+ * To remove the logging of Nalu from a production build, set the property
+ * <code>nalu.logging</code> to <code>off</code>:
+ * <ul>
+ * <li>generated sources: processor option <code>-Analu.logging=off</code></li>
+ * <li>GWT: <code>&lt;set-configuration-property name="nalu.logging" value="off"/&gt;</code>
+ * inside the module descriptor of the application (the property is declared by the Nalu module)</li>
+ * <li>J2CL: define <code>nalu.logging=off</code> for the Closure Compiler
+ * (for example: <code>--define=nalu.logging=off</code>)</li>
+ * </ul>
+ * In that case the compiler removes the logging of the router.
  *
  * @author Frank Hossfeld
  */
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+package com.github.nalukit.nalu.client.application.event;
+
+import com.github.nalukit.nalu.client.application.StartupTiming;
+import org.gwtproject.event.shared.Event;
+
+/**
+ * Fired once a phase of the application start is finished.
+ * <p>
+ * Phases finished before the handlers of the application are loaded
+ * can be read using Nalu.getStartupTimings().
+ */
+public class StartupPhaseEvent
+    extends Event<StartupPhaseEvent.StartupPhaseHandler> {
+
+  public static Type<StartupPhaseEvent.StartupPhaseHandler> TYPE = new Type<>();
+
+  private StartupTiming timing;
+
+  public StartupPhaseEvent(StartupTiming timing) {
+    super();
+    this.timing = timing;
+  }
+
+  public StartupTiming getTiming() {
+    return timing;
+  }
+
+  @Override
+  public Type<StartupPhaseEvent.StartupPhaseHandler> getAssociatedType() {
+    return TYPE;
+  }
+
+  @Override
+  protected void dispatch(StartupPhaseEvent.StartupPhaseHandler handler) {
+    handler.onStartupPhase(this);
+  }
+
+  public interface StartupPhaseHandler {
+
+    void onStartupPhase(StartupPhaseEvent event);
+
+  }
+
+}
@@ -20,9 +20,11 @@ import com.github.nalukit.nalu.client.application.IsContext;
 import com.github.nalukit.nalu.client.exception.RoutingInterceptionException;
 import com.github.nalukit.nalu.client.internal.HandlerRegistrations;
 import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
+import org.gwtproject.event.shared.SimpleEventBus;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
 public abstract class AbstractComponentController<C extends IsContext, V extends IsComponent<?, W>, W>
     extends AbstractController<C>
@@ -39,12 +41,27 @@ public abstract class AbstractComponentController<C extends IsContext, V extends
   private   String                                            relatedRoute;
   /* flag, if the controller is cached or not */
   private   boolean                                           cached;
+  /* flag, if the controller is reused in case only the parameters change */
+  private   boolean                                           reuseOnParameterChange;
 
   public AbstractComponentController() {
     super();
     this.compositeControllers = new HashMap<>();
   }
 
+  /**
+   * Sets the event bus of the controller.
+   * <p>
+   * The controller gets its own scope of the event bus. Handlers added
+   * to the scope will be removed at once, when the controller is stopped.
+   *
+   * @param eventBus the application event bus
+   */
+  @Override
+  public void setEventBus(SimpleEventBus eventBus) {
+    super.setEventBus(Objects.isNull(eventBus) ? null : eventBus.createScope());
+  }
+
   /**
    * Returns the elment of the component. Will be used by Nalu
    * to add it to the DOM.
@@ -105,6 +122,10 @@ public abstract class AbstractComponentController<C extends IsContext, V extends
   @NaluInternalUse
   @Override
   public void removeHandlers() {
+    // drop all handlers of the controller's event bus scope at once
+    if (!Objects.isNull(this.eventBus)) {
+      this.eventBus.resetScope();
+    }
     this.handlerRegistrations.removeHandler();
     this.handlerRegistrations = new HandlerRegistrations();
   }
@@ -211,6 +232,41 @@ public abstract class AbstractComponentController<C extends IsContext, V extends
     this.cached = cached;
   }
 
+  /**
+   * Indicates, if the controller will be reused in case the route
+   * is called with different parameters.
+   *
+   * @return true: the controller will be reused
+   */
+  public boolean isReuseOnParameterChange() {
+    return reuseOnParameterChange;
+  }
+
+  /**
+   * Sets the value, if the controller will be reused in case the route
+   * is called with different parameters.
+   * <b>This field is used by Nalu! Setting the value can lead to unexpected behavior!</b>
+   *
+   * @param reuseOnParameterChange true: the controller will be reused
+   */
+  public void setReuseOnParameterChange(boolean reuseOnParameterChange) {
+    this.reuseOnParameterChange = reuseOnParameterChange;
+  }
+
+  /**
+   * The onParametersChanged-method will be called instead of
+   * stop- and start-method in case the controller is reused,
+   * because the route was called with different parameters.
+   * (see the reuseOnParameterChange-attribute of the Controller
+   * annotation)
+   * <p>
+   * The new parameters are already set, when the method is called.
+   * If you have to update the component with the new parameters,
+   * that's the right place.
+   */
+  public void onParametersChanged() {
+  }
+
   /**
    * Get the component
    *
@@ -19,6 +19,9 @@ package com.github.nalukit.nalu.client.component;
 import com.github.nalukit.nalu.client.application.IsContext;
 import com.github.nalukit.nalu.client.internal.HandlerRegistrations;
 import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
+import org.gwtproject.event.shared.SimpleEventBus;
+
+import java.util.Objects;
 
 public abstract class AbstractCompositeController<C extends IsContext, V extends IsCompositeComponent<?, W>, W>
     extends AbstractController<C>
@@ -40,6 +43,19 @@ public abstract class AbstractCompositeController<C extends IsContext, V extends
     super();
   }
 
+  /**
+   * Sets the event bus of the controller.
+   * <p>
+   * The controller gets its own scope of the event bus. Handlers added
+   * to the scope will be removed at once, when the controller is stopped.
+   *
+   * @param eventBus the application event bus
+   */
+  @Override
+  public void setEventBus(SimpleEventBus eventBus) {
+    super.setEventBus(Objects.isNull(eventBus) ? null : eventBus.createScope());
+  }
+
   /**
    * Returns the root element which will be attached to the DOM
    *
@@ -109,6 +125,10 @@ public abstract class AbstractCompositeController<C extends IsContext, V extends
    */
   @Override
   public final void removeHandlers() {
+    // drop all handlers of the controller's event bus scope at once
+    if (!Objects.isNull(this.eventBus)) {
+      this.eventBus.resetScope();
+    }
     this.handlerRegistrations.removeHandler();
     this.handlerRegistrations = new HandlerRegistrations();
   }
@@ -32,6 +32,19 @@ import java.lang.annotation.Target;
  * <ul>
  * <li>route: name of the route which will display the controller in case of calling</li>
  * <li>selector: id of the node where to insert the element</li>
+ * <li>reuseOnParameterChange: in case the route is called again with different
+ * parameters and the controller is displayed at the same selector, the
+ * controller will be reused. Nalu sets the new parameters and calls
+ * onParametersChanged() instead of stopping the controller and creating a
+ * new one (default: false)</li>
+ * <li>aliases: additional routes, that will display the controller. An alias
+ * is resolved by the router while matching the route, so there is no
+ * redirect. The url will show the route of the controller. An alias needs the same
+ * parameters (same names, same order) as the route (default: no aliases)</li>
+ * <li>splitPoint: the code of the controller will be placed behind a split point
+ * and loaded the first time the route is called. Using the GWT plugin, Nalu
+ * generates a GWT.runAsync-call for the controller. Without GWT the controller
+ * will be created as usual (default: false)</li>
  * </ul>
  *
  * @author Frank Hossfeld
@@ -48,4 +61,10 @@ public @interface Controller {
 
   Class<? extends AbstractComponent<?, ?>> component();
 
+  boolean reuseOnParameterChange() default false;
+
+  String[] aliases() default {};
+
+  boolean splitPoint() default false;
+
 }
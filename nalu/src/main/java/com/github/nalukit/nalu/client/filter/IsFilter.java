@@ -25,4 +25,33 @@ public interface IsFilter {
 
   String[] parameters();
 
+  /**
+   * Returns the routes the filter applies to. The filter will only be
+   * called for these routes and the routes below them. A '*' inside
+   * the route matches every segment, f.e.: '/application/admin' applies
+   * to '/application/admin' and '/application/admin/*&#47;edit'.
+   * <p>
+   * The default implementation returns an empty array, which means
+   * the filter applies to all routes.
+   *
+   * @return the routes the filter applies to
+   */
+  default String[] routes() {
+    return new String[0];
+  }
+
+  /**
+   * In case the method returns true, the result of the filter will be
+   * cached by route and parameters. The cached results are used until
+   * {@link com.github.nalukit.nalu.client.Router#clearFilterCache()}
+   * is called (f.e.: in case the login state changes).
+   * <p>
+   * The default implementation returns false.
+   *
+   * @return true, if the result of the filter can be cached
+   */
+  default boolean isCacheable() {
+    return false;
+  }
+
 }
@@ -47,6 +47,10 @@ public abstract class AbstractControllerCreator<C extends IsContext>
   @Override
   public void logBindMethodCallToConsole(AbstractComponentController<?, ?, ?> controller,
                                          boolean isFinished) {
+    if (!ClientLogger.get()
+                     .isDetailedLoggingEnabled()) {
+      return;
+    }
     StringBuilder sb = new StringBuilder();
     sb.append("controller >>")
       .append(controller.getClass()
@@ -19,8 +19,14 @@ package com.github.nalukit.nalu.client.internal;
 import com.github.nalukit.nalu.client.application.IsLogger;
 import com.github.nalukit.nalu.client.application.annotation.Debug;
 
+import java.util.function.Supplier;
+
 public class ClientLogger {
 
+  /* logging enabled? ('off' lets the compiler remove the logging, see Debug) */
+  private static final boolean LOGGING_ENABLED = !"off".equals(System.getProperty("nalu.logging",
+                                                                                 "on"));
+
   private static ClientLogger instance = new ClientLogger();
 
   /* debug enabled? */
@@ -50,25 +56,73 @@ public class ClientLogger {
     this.logLevel = logLevel;
   }
 
+  /**
+   * Checks whether messages with log level simple will be logged.
+   * <p>
+   * Use this method to avoid creating log messages in case
+   * they will not be logged.
+   *
+   * @return true: simple messages will be logged
+   */
+  public boolean isSimpleLoggingEnabled() {
+    return ClientLogger.LOGGING_ENABLED && this.debugEnabled && this.logger != null;
+  }
+
+  /**
+   * Checks whether messages with log level detailed will be logged.
+   * <p>
+   * Use this method to avoid creating log messages in case
+   * they will not be logged.
+   *
+   * @return true: detailed messages will be logged
+   */
+  public boolean isDetailedLoggingEnabled() {
+    return this.isSimpleLoggingEnabled() && Debug.LogLevel.DETAILED.equals(this.logLevel);
+  }
+
   public void logDetailed(String message,
                           int depth) {
-    if (this.debugEnabled) {
-      if (Debug.LogLevel.DETAILED.equals(this.logLevel)) {
-        if (logger != null) {
-          logger.log(message,
-                     depth);
-        }
-      }
+    if (this.isDetailedLoggingEnabled()) {
+      logger.log(message,
+                 depth);
+    }
+  }
+
+  /**
+   * Logs a detailed message. The message is only created
+   * in case it will be logged.
+   *
+   * @param message supplier of the message
+   * @param depth   depth of the message
+   */
+  public void logDetailed(Supplier<String> message,
+                          int depth) {
+    if (this.isDetailedLoggingEnabled()) {
+      logger.log(message.get(),
+                 depth);
     }
   }
 
   public void logSimple(String message,
                         int depth) {
-    if (this.debugEnabled) {
-      if (logger != null) {
-        logger.log(message,
-                   depth);
-      }
+    if (this.isSimpleLoggingEnabled()) {
+      logger.log(message,
+                 depth);
+    }
+  }
+
+  /**
+   * Logs a simple message. The message is only created
+   * in case it will be logged.
+   *
+   * @param message supplier of the message
+   * @param depth   depth of the message
+   */
+  public void logSimple(Supplier<String> message,
+                        int depth) {
+    if (this.isSimpleLoggingEnabled()) {
+      logger.log(message.get(),
+                 depth);
     }
   }
 
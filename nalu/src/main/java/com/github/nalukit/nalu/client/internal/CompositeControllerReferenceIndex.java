@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal;
+
+import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of the composite controller references by controller class name.
+ * <p>
+ * The index is created once, after all composite references are loaded.
+ * For every controller the references are stored as immutable lists,
+ * already divided into global and local composites.
+ */
+@NaluInternalUse
+public class CompositeControllerReferenceIndex {
+
+  /* references of a controller without composites */
+  private static final ControllerReferences NO_REFERENCES = new ControllerReferences(new ArrayList<>());
+
+  /* map of references: key: controller class name, value: references of the controller */
+  private Map<String, ControllerReferences> index;
+
+  public CompositeControllerReferenceIndex(List<CompositeControllerReference> compositeControllerReferences) {
+    super();
+
+    Map<String, List<CompositeControllerReference>> referencesByController = new HashMap<>();
+    for (CompositeControllerReference reference : compositeControllerReferences) {
+      List<CompositeControllerReference> references = referencesByController.get(reference.getController());
+      if (references == null) {
+        references = new ArrayList<>();
+        referencesByController.put(reference.getController(),
+                                   references);
+      }
+      references.add(reference);
+    }
+    this.index = new HashMap<>();
+    for (Map.Entry<String, List<CompositeControllerReference>> entry : referencesByController.entrySet()) {
+      this.index.put(entry.getKey(),
+                     new ControllerReferences(entry.getValue()));
+    }
+  }
+
+  /**
+   * Returns the composite references of a controller.
+   *
+   * @param controllerClassName class name of the controller
+   * @return the references of the controller (never null)
+   */
+  public ControllerReferences get(String controllerClassName) {
+    ControllerReferences references = this.index.get(controllerClassName);
+    return references == null ? CompositeControllerReferenceIndex.NO_REFERENCES : references;
+  }
+
+  /**
+   * Composite references of one controller
+   */
+  public static class ControllerReferences {
+
+    /* all references of the controller */
+    private List<CompositeControllerReference> all;
+
+    /* references with global scope */
+    private List<CompositeControllerReference> global;
+
+    /* references with local scope */
+    private List<CompositeControllerReference> local;
+
+    private ControllerReferences(List<CompositeControllerReference> references) {
+      List<CompositeControllerReference> global = new ArrayList<>();
+      List<CompositeControllerReference> local = new ArrayList<>();
+      for (CompositeControllerReference reference : references) {
+        if (reference.isScopeGlobal()) {
+          global.add(reference);
+        } else {
+          local.add(reference);
+        }
+      }
+      this.all = Collections.unmodifiableList(new ArrayList<>(references));
+      this.global = Collections.unmodifiableList(global);
+      this.local = Collections.unmodifiableList(local);
+    }
+
+    public List<CompositeControllerReference> getAll() {
+      return all;
+    }
+
+    public List<CompositeControllerReference> getGlobal() {
+      return global;
+    }
+
+    public List<CompositeControllerReference> getLocal() {
+      return local;
+    }
+
+    public boolean isEmpty() {
+      return this.all.isEmpty();
+    }
+
+  }
+
+}
@@ -20,14 +20,17 @@ import com.github.nalukit.nalu.client.Nalu;
 import com.github.nalukit.nalu.client.application.IsApplication;
 import com.github.nalukit.nalu.client.application.IsApplicationLoader;
 import com.github.nalukit.nalu.client.application.IsContext;
+import com.github.nalukit.nalu.client.application.StartupPhase;
 import com.github.nalukit.nalu.client.component.AlwaysLoadComposite;
 import com.github.nalukit.nalu.client.component.IsShell;
 import com.github.nalukit.nalu.client.internal.ClientLogger;
 import com.github.nalukit.nalu.client.internal.CompositeControllerReference;
+import com.github.nalukit.nalu.client.internal.CompositeControllerReferenceIndex;
 import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
 import com.github.nalukit.nalu.client.internal.route.*;
 import com.github.nalukit.nalu.client.internal.validation.RouteValidation;
 import com.github.nalukit.nalu.client.plugin.IsNaluProcessorPlugin;
+import com.github.nalukit.nalu.client.metrics.IsRoutingMetrics;
 import com.github.nalukit.nalu.client.tracker.IsTracker;
 import org.gwtproject.event.shared.SimpleEventBus;
 
@@ -77,6 +80,9 @@ public abstract class AbstractApplication<C extends IsContext>
   public void run(IsNaluProcessorPlugin plugin) {
     // save the plugin
     this.plugin = plugin;
+    // start recording the timings of the startup phases
+    StartupProfiler startupProfiler = StartupProfiler.get();
+    startupProfiler.start(this.plugin);
     // first load the debug configuration
     this.loadDebugConfiguration();
     // debug message
@@ -100,6 +106,7 @@ public abstract class AbstractApplication<C extends IsContext>
                            0);
     // instantiate necessary classes
     this.eventBus = new SimpleEventBus();
+    startupProfiler.setEventBus(this.eventBus);
     this.shellConfiguration = new ShellConfiguration();
     this.routerConfiguration = new RouterConfiguration();
     this.alwaysLoadComposite = new AlwaysLoadComposite();
@@ -109,11 +116,22 @@ public abstract class AbstractApplication<C extends IsContext>
     ClientLogger.get()
                 .logDetailed("AbstractApplication: load configurations",
                              1);
+    startupProfiler.begin(StartupPhase.LOAD_PLUGINS);
     this.loadPlugins();
+    startupProfiler.end(StartupPhase.LOAD_PLUGINS);
+    startupProfiler.begin(StartupPhase.LOAD_SHELLS);
     this.loadShells();
+    startupProfiler.end(StartupPhase.LOAD_SHELLS);
+    startupProfiler.begin(StartupPhase.LOAD_ROUTES);
     this.loadRoutes();
+    startupProfiler.end(StartupPhase.LOAD_ROUTES);
+    startupProfiler.begin(StartupPhase.LOAD_FILTERS);
     this.loadFilters();
+    startupProfiler.end(StartupPhase.LOAD_FILTERS);
+    startupProfiler.begin(StartupPhase.LOAD_COMPOSITE_REFERENCES);
     this.loadCompositeReferences();
+    startupProfiler.end(StartupPhase.LOAD_COMPOSITE_REFERENCES);
+    startupProfiler.begin(StartupPhase.CREATE_ROUTER);
     // load optional tracker
     this.tracker = this.loadTrackerConfiguration();
     // initialize popup factory
@@ -123,7 +141,7 @@ public abstract class AbstractApplication<C extends IsContext>
     this.router = new RouterImpl(this.plugin,
                                  this.shellConfiguration,
                                  this.routerConfiguration,
-                                 this.compositeControllerReferences,
+                                 new CompositeControllerReferenceIndex(this.compositeControllerReferences),
                                  this.tracker,
                                  this.startRoute,
                                  this.hasHistory(),
@@ -132,50 +150,68 @@ public abstract class AbstractApplication<C extends IsContext>
                                  this.isStayOnSide());
     this.router.setRouteError(AbstractApplication.NO_ROUTE.equals(this.errorRoute) ? null : this.errorRoute);
     this.router.setEventBus(this.eventBus);
+    // set optional routing metrics
+    this.router.setRoutingMetrics(this.loadRoutingMetricsConfiguration());
     // initialize plugin
     this.plugin.initialize(this.shellConfiguration);
+    startupProfiler.end(StartupPhase.CREATE_ROUTER);
     // load the shells of the application
     ClientLogger.get()
                 .logDetailed("AbstractApplication: load shells",
                              1);
+    startupProfiler.begin(StartupPhase.LOAD_SHELL_FACTORY);
     this.loadShellFactory();
+    startupProfiler.end(StartupPhase.LOAD_SHELL_FACTORY);
     // load popup factory
     ClientLogger.get()
                 .logDetailed("AbstractApplication: load popupcontroller factory",
                              1);
+    startupProfiler.begin(StartupPhase.LOAD_POPUP_CONTROLLER_FACTORY);
     this.loadPopUpControllerFactory();
+    startupProfiler.end(StartupPhase.LOAD_POPUP_CONTROLLER_FACTORY);
     // load the composite of the application
     ClientLogger.get()
                 .logDetailed("AbstractApplication: load compositeControllers",
                              1);
+    startupProfiler.begin(StartupPhase.LOAD_COMPOSITE_CONTROLLER);
     this.loadCompositeController();
+    startupProfiler.end(StartupPhase.LOAD_COMPOSITE_CONTROLLER);
     // load the controllers of the application
     ClientLogger.get()
                 .logDetailed("AbstractApplication: load components",
                              1);
+    startupProfiler.begin(StartupPhase.LOAD_COMPONENTS);
     this.loadComponents();
+    startupProfiler.end(StartupPhase.LOAD_COMPONENTS);
     // load the handlers fo the application
     ClientLogger.get()
                 .logDetailed("AbstractApplication: load handlers",
                              1);
+    startupProfiler.begin(StartupPhase.LOAD_HANDLERS);
     this.loadHandlers();
+    startupProfiler.end(StartupPhase.LOAD_HANDLERS);
     // execute the loader (if one is present)
     ClientLogger.get()
                 .logDetailed("AbstractApplication: execute loader",
                              1);
     // validate
+    startupProfiler.begin(StartupPhase.VALIDATE_ROUTES);
     if (!RouteValidation.validateStartRoute(this.shellConfiguration,
                                             this.routerConfiguration,
                                             this.startRoute)) {
       this.plugin.alert("startRoute not valid - application stopped!");
+      this.stopStartupProfiling(startupProfiler);
       return;
     }
     if (!RouteValidation.validateRouteError(this.shellConfiguration,
                                             this.routerConfiguration,
                                             this.errorRoute)) {
       this.plugin.alert("routeError not valid - application stopped!");
+      this.stopStartupProfiling(startupProfiler);
       return;
     }
+    startupProfiler.end(StartupPhase.VALIDATE_ROUTES);
+    startupProfiler.begin(StartupPhase.APPLICATION_LOADER);
     // handling application loading
     IsApplicationLoader<C> applicationLoader = getApplicationLoader();
     if (getApplicationLoader() == null) {
@@ -188,6 +224,18 @@ public abstract class AbstractApplication<C extends IsContext>
     }
   }
 
+  /**
+   * The application is stopped: the open phases are finished,
+   * so that every started phase gets measured.
+   *
+   * @param startupProfiler the startup profiler
+   */
+  private void stopStartupProfiling(StartupProfiler startupProfiler) {
+    startupProfiler.end(StartupPhase.VALIDATE_ROUTES);
+    startupProfiler.end(StartupPhase.FIRST_SHELL_ATTACHED);
+    startupProfiler.end(StartupPhase.FIRST_CONTROLLER_ACTIVATED);
+  }
+
   protected abstract void logProcessorVersion();
 
   protected abstract void loadPlugins();
@@ -226,10 +274,25 @@ public abstract class AbstractApplication<C extends IsContext>
 
   protected abstract boolean isStayOnSide();
 
+  /**
+   * Returns the routing metrics of the application. The method is
+   * overridden by the generated application in case the application
+   * is annotated with @RoutingMetrics.
+   *
+   * @return the routing metrics or null, if there are none
+   */
+  protected IsRoutingMetrics loadRoutingMetricsConfiguration() {
+    return null;
+  }
+
   /**
    * Once the loader did his job, we will continue
    */
   private void onFinishLoading() {
+    StartupProfiler.get()
+                   .end(StartupPhase.APPLICATION_LOADER);
+    StartupProfiler.get()
+                   .begin(StartupPhase.FIRST_ROUTING);
     // save the current hash
     String hashOnStart = this.plugin.getStartRoute();
     // check if the url contains a hash.
@@ -245,6 +308,8 @@ public abstract class AbstractApplication<C extends IsContext>
       try {
         routeResult = this.router.parse(hashOnStart);
       } catch (RouterException e) {
+        StartupProfiler.get()
+                       .end(StartupPhase.FIRST_ROUTING);
         return;
       }
       this.router.route(routeResult.getRoute(),
@@ -256,6 +321,8 @@ public abstract class AbstractApplication<C extends IsContext>
                                1);
       this.router.route(this.startRoute);
     }
+    StartupProfiler.get()
+                   .end(StartupPhase.FIRST_ROUTING);
     ClientLogger.get()
                 .logSimple("AbstractApplication: application started",
                            0);
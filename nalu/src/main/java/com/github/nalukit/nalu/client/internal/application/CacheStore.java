@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.application;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Store of cached instances with an optional eviction policy.
+ * <p>
+ * The store evicts the least recently used entries in case the
+ * number of entries exceeds the maximum size and entries, that
+ * were not used for longer than the maximum idle time. Values,
+ * that are in use, will never be evicted.
+ * <p>
+ * A maximum size or maximum idle time of 0 disables the limit.
+ *
+ * @param <V> type of the stored values
+ */
+class CacheStore<V> {
+
+  /* stored values (access ordered) */
+  private Map<String, Entry<V>> store;
+
+  /* maximum number of entries (0: no limit) */
+  private int maxSize;
+
+  /* maximum idle time of an entry in milliseconds (0: no limit) */
+  private long maxIdleTime;
+
+  /* tests, whether a value is in use and must not be evicted */
+  private Predicate<V> inUsePredicate;
+
+  /* will be called for every evicted value */
+  private Consumer<V> evictionHandler;
+
+  /* number of evicted values */
+  private int evictionCount;
+
+  CacheStore(Consumer<V> evictionHandler) {
+    super();
+
+    this.store = new LinkedHashMap<>(16,
+                                     0.75f,
+                                     true);
+    this.inUsePredicate = value -> false;
+    this.evictionHandler = evictionHandler;
+  }
+
+  void configure(int maxSize,
+                 long maxIdleTime) {
+    this.maxSize = Math.max(maxSize,
+                            0);
+    this.maxIdleTime = Math.max(maxIdleTime,
+                                0);
+    this.evict();
+  }
+
+  void setInUsePredicate(Predicate<V> inUsePredicate) {
+    this.inUsePredicate = inUsePredicate;
+  }
+
+  V get(String key) {
+    Entry<V> entry = this.store.get(key);
+    if (Objects.isNull(entry)) {
+      return null;
+    }
+    entry.lastAccess = this.now();
+    return entry.value;
+  }
+
+  boolean containsKey(String key) {
+    return this.store.containsKey(key);
+  }
+
+  void put(String key,
+           V value) {
+    this.store.put(key,
+                   new Entry<>(value,
+                               this.now()));
+    this.evict();
+  }
+
+  V remove(String key) {
+    Entry<V> entry = this.store.remove(key);
+    return Objects.isNull(entry) ? null : entry.value;
+  }
+
+  void clear() {
+    this.store.clear();
+  }
+
+  /**
+   * Evicts all entries (including the ones in use).
+   */
+  void evictAll() {
+    List<V> evictedValues = new ArrayList<>();
+    for (Entry<V> entry : this.store.values()) {
+      evictedValues.add(entry.value);
+    }
+    this.store.clear();
+    this.evictionCount += evictedValues.size();
+    evictedValues.forEach(this.evictionHandler);
+  }
+
+  int size() {
+    return this.store.size();
+  }
+
+  int getEvictionCount() {
+    return this.evictionCount;
+  }
+
+  /**
+   * Evicts all entries, that exceed the maximum size (least recently
+   * used first) or were idle for longer than the maximum idle time.
+   */
+  void evict() {
+    if (this.maxSize == 0 && this.maxIdleTime == 0) {
+      return;
+    }
+    long now = this.now();
+    List<V> evictedValues = new ArrayList<>();
+    Iterator<Entry<V>> iterator = this.store.values()
+                                            .iterator();
+    while (iterator.hasNext()) {
+      Entry<V> entry = iterator.next();
+      boolean oversized = this.maxSize > 0 && this.store.size() > this.maxSize;
+      boolean expired = this.maxIdleTime > 0 && now - entry.lastAccess > this.maxIdleTime;
+      if ((oversized || expired) && !this.inUsePredicate.test(entry.value)) {
+        iterator.remove();
+        evictedValues.add(entry.value);
+      }
+    }
+    // the handler is called after iterating,
+    // because it might change the store
+    this.evictionCount += evictedValues.size();
+    evictedValues.forEach(this.evictionHandler);
+  }
+
+  long now() {
+    return System.currentTimeMillis();
+  }
+
+  private static class Entry<V> {
+
+    private final V value;
+
+    private long lastAccess;
+
+    private Entry(V value,
+                  long lastAccess) {
+      this.value = value;
+      this.lastAccess = lastAccess;
+    }
+
+  }
+
+}
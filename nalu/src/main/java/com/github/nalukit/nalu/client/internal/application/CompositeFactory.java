@@ -18,30 +18,51 @@ package com.github.nalukit.nalu.client.internal.application;
 
 import com.github.nalukit.nalu.client.component.AbstractCompositeController;
 import com.github.nalukit.nalu.client.exception.RoutingInterceptionException;
+import com.github.nalukit.nalu.client.internal.ClientLogger;
 import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
 
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Predicate;
 
 @NaluInternalUse
 public class CompositeFactory {
 
+  /* default maximum number of prefetched composites */
+  public final static int PREFETCH_MAX_SIZE = 20;
+
+  /* default time in milliseconds a prefetched composite is kept */
+  public final static long PREFETCH_MAX_IDLE_TIME = 60000;
+
   private final static String DELIMITER = "<<||>>";
 
   /* instance of the controller factory */
   private static CompositeFactory                                  instance;
   /* map of components (key: name of class, Value: ControllerCreator */
   private        Map<String, IsCompositeCreator>                   compositeCreatorFactory;
-  /* map of stored components (key: name of class, Value: instance of controller */
-  private        Map<String, AbstractCompositeController<?, ?, ?>> compositeControllerStore;
-  /* list of global cached composites */
-  private        Map<String, CompositeInstance>                    cachedGlobalCompositeInstances;
+  /* store of cached components (key: name of class, Value: instance of controller */
+  private        CacheStore<AbstractCompositeController<?, ?, ?>> compositeControllerStore;
+  /* store of global cached composites */
+  private        CacheStore<CompositeInstance>                    cachedGlobalCompositeInstances;
+  /* class names of the created composites (key: class, Value: name of class) */
+  private        Map<Class<?>, String>                            compositeClassNames;
+  /* keys of the stores (key: parent class name, Value: map with key: composite class name, Value: key) */
+  private        Map<String, Map<String, String>>                 keys;
+  /* store of prefetched composites (key: parent and composite class name, Value: created instance of composite */
+  private        CacheStore<CompositeInstance>                    prefetchedCompositeInstances;
+  /* factory to create the composite creators on demand */
+  private        IsCreatorFactory                                  creatorFactory;
 
   private CompositeFactory() {
     this.compositeCreatorFactory = new HashMap<>();
-    this.compositeControllerStore = new HashMap<>();
-    this.cachedGlobalCompositeInstances = new HashMap<>();
+    this.compositeControllerStore = new CacheStore<>(this::onEvict);
+    this.cachedGlobalCompositeInstances = new CacheStore<>(compositeInstance -> this.onEvict(compositeInstance.getComposite()));
+    this.prefetchedCompositeInstances = new CacheStore<>(this::onEvictPrefetched);
+    this.prefetchedCompositeInstances.configure(CompositeFactory.PREFETCH_MAX_SIZE,
+                                                CompositeFactory.PREFETCH_MAX_IDLE_TIME);
+    this.compositeClassNames = new HashMap<>();
+    this.keys = new HashMap<>();
   }
 
   public static CompositeFactory get() {
@@ -57,6 +78,17 @@ public class CompositeFactory {
                                      creator);
   }
 
+  /**
+   * Registers the factory, that creates the composite creators
+   * on demand. A creator, that is registered using
+   * registerComposite, wins over the creator factory.
+   *
+   * @param creatorFactory the creator factory
+   */
+  public void registerCreatorFactory(IsCreatorFactory creatorFactory) {
+    this.creatorFactory = creatorFactory;
+  }
+
   public CompositeInstance getComposite(String parentControllerClassName,
                                         String compositeControllerClassName,
                                         boolean scopeGlobal,
@@ -64,14 +96,30 @@ public class CompositeFactory {
       throws RoutingInterceptionException {
     // in case scopeGlobal is true ,check if the instance already exists
     if (scopeGlobal) {
-      if (!Objects.isNull(this.cachedGlobalCompositeInstances.get(compositeControllerClassName))) {
-        return this.cachedGlobalCompositeInstances.get(compositeControllerClassName);
+      CompositeInstance cachedGlobalCompositeInstance = this.cachedGlobalCompositeInstances.get(compositeControllerClassName);
+      if (!Objects.isNull(cachedGlobalCompositeInstance)) {
+        return cachedGlobalCompositeInstance;
       }
     }
     // ok, global chache is empty ... create it!
-    if (this.compositeCreatorFactory.containsKey(compositeControllerClassName)) {
-      IsCompositeCreator compositeCreator = this.compositeCreatorFactory.get(compositeControllerClassName);
-      CompositeInstance compositeInstance = compositeCreator.create(parentControllerClassName);
+    IsCompositeCreator compositeCreator = this.getCompositeCreator(compositeControllerClassName);
+    if (!Objects.isNull(compositeCreator)) {
+      // use the prefetched instance (if there is one and the composite is not stored)
+      // (expired prefetched composites are evicted first)
+      this.prefetchedCompositeInstances.evict();
+      CompositeInstance compositeInstance = this.prefetchedCompositeInstances.remove(this.createKey(parentControllerClassName,
+                                                                                                     compositeControllerClassName));
+      if (!Objects.isNull(compositeInstance) &&
+          !Objects.isNull(this.getCompositeFormStore(parentControllerClassName,
+                                                     compositeControllerClassName))) {
+        // the stored composite is used, so the prefetched one is no longer needed
+        this.onEvictPrefetched(compositeInstance);
+        compositeInstance = null;
+      }
+      if (Objects.isNull(compositeInstance)) {
+        compositeInstance = compositeCreator.create(parentControllerClassName);
+      }
+      this.registerClassName(compositeInstance);
       if (scopeGlobal) {
         // oh ... global scope! store the compositeInstance
         compositeInstance.setChached(true);
@@ -87,6 +135,60 @@ public class CompositeFactory {
     return null;
   }
 
+  /**
+   * Sets the parameters of an existing composite.
+   *
+   * @param compositeController instance of the composite
+   * @param parms               parameters of the route
+   * @throws RoutingInterceptionException in case the composite intercepts the routing
+   */
+  public void setParameter(AbstractCompositeController<?, ?, ?> compositeController,
+                           String... parms)
+      throws RoutingInterceptionException {
+    IsCompositeCreator compositeCreator = this.getCompositeCreator(this.getCompositeClassName(compositeController));
+    if (!Objects.isNull(compositeCreator)) {
+      compositeCreator.setParameter(compositeController,
+                                    parms);
+    }
+  }
+
+  /**
+   * Creates the composite ahead of time and parks it in the prefetch
+   * store. The next time the composite is requested for the parent
+   * controller, the prefetched instance will be used.
+   * <p>
+   * Nothing will happen in case the composite is unknown, already
+   * prefetched, stored in the cache or a global instance exists.
+   * <p>
+   * The prefetch store is bounded: in case it exceeds the maximum size
+   * or a prefetched composite is not used within the maximum idle time,
+   * the prefetched composite gets evicted and its handlers removed.
+   *
+   * @param parentControllerClassName    class name of the parent controller
+   * @param compositeControllerClassName class name of the composite
+   * @throws RoutingInterceptionException in case the composite intercepts the routing
+   */
+  public void prefetch(String parentControllerClassName,
+                       String compositeControllerClassName)
+      throws RoutingInterceptionException {
+    this.prefetchedCompositeInstances.evict();
+    String key = this.createKey(parentControllerClassName,
+                                compositeControllerClassName);
+    if (this.prefetchedCompositeInstances.containsKey(key) ||
+        this.cachedGlobalCompositeInstances.containsKey(compositeControllerClassName) ||
+        this.compositeControllerStore.containsKey(key)) {
+      return;
+    }
+    IsCompositeCreator compositeCreator = this.getCompositeCreator(compositeControllerClassName);
+    if (Objects.isNull(compositeCreator)) {
+      return;
+    }
+    CompositeInstance compositeInstance = compositeCreator.create(parentControllerClassName);
+    this.registerClassName(compositeInstance);
+    this.prefetchedCompositeInstances.put(key,
+                                          compositeInstance);
+  }
+
   public AbstractCompositeController<?, ?, ?> getCompositeFormStore(String parentControllerClassName,
                                                                     String controllerClassName) {
     String key = this.createKey(parentControllerClassName,
@@ -96,16 +198,14 @@ public class CompositeFactory {
 
   public <C extends AbstractCompositeController<?, ?, ?>> void storeInCache(C controller) {
     String key = this.createKey(controller.getParentClassName(),
-                                controller.getClass()
-                                          .getCanonicalName());
+                                this.getCompositeClassName(controller));
     this.compositeControllerStore.put(key,
                                       controller);
   }
 
   public <C extends AbstractCompositeController<?, ?, ?>> void removeFromCache(C controller) {
     String key = this.createKey(controller.getParentClassName(),
-                                controller.getClass()
-                                          .getCanonicalName());
+                                this.getCompositeClassName(controller));
     this.compositeControllerStore.remove(key);
   }
 
@@ -113,14 +213,167 @@ public class CompositeFactory {
     this.compositeControllerStore.clear();
   }
 
-  private String createKey(String parentClassName,
-                           String compositeClassName) {
-    return this.classFormatter(parentClassName) + CompositeFactory.DELIMITER + this.classFormatter(compositeClassName);
+  /**
+   * Configures the eviction of the composite store and
+   * the store of the global cached composites.
+   *
+   * @param maxSize     maximum number of stored composites (0: no limit)
+   * @param maxIdleTime maximum time in milliseconds a stored composite
+   *                    can be unused before it gets evicted (0: no limit)
+   */
+  public void configureCache(int maxSize,
+                             long maxIdleTime) {
+    this.compositeControllerStore.configure(maxSize,
+                                            maxIdleTime);
+    this.cachedGlobalCompositeInstances.configure(maxSize,
+                                                  maxIdleTime);
   }
 
-  private String classFormatter(String className) {
-    return className.replace(".",
-                             "_");
+  /**
+   * Sets the predicate to test, whether a composite is in use.
+   * A composite, that is in use, will never be evicted.
+   *
+   * @param inUsePredicate predicate returning true for composites in use
+   */
+  public void setInUsePredicate(Predicate<AbstractCompositeController<?, ?, ?>> inUsePredicate) {
+    this.compositeControllerStore.setInUsePredicate(inUsePredicate);
+    this.cachedGlobalCompositeInstances.setInUsePredicate(compositeInstance -> inUsePredicate.test(compositeInstance.getComposite()));
+  }
+
+  /**
+   * Configures the eviction of the prefetch store.
+   *
+   * @param maxSize     maximum number of prefetched composites (0: no limit)
+   * @param maxIdleTime maximum time in milliseconds a prefetched composite
+   *                    is kept before it gets evicted (0: no limit)
+   */
+  public void configurePrefetch(int maxSize,
+                                long maxIdleTime) {
+    this.prefetchedCompositeInstances.configure(maxSize,
+                                                maxIdleTime);
+  }
+
+  /**
+   * Evicts all stored and prefetched composites, that exceed the configured limits.
+   */
+  public void evict() {
+    this.compositeControllerStore.evict();
+    this.cachedGlobalCompositeInstances.evict();
+    this.prefetchedCompositeInstances.evict();
+  }
+
+  public int getEvictionCount() {
+    return this.compositeControllerStore.getEvictionCount() + this.cachedGlobalCompositeInstances.getEvictionCount();
+  }
+
+  public void clearPrefetchedComposites() {
+    this.prefetchedCompositeInstances.evictAll();
+  }
+
+  /**
+   * Returns the number of prefetched composites.
+   *
+   * @return number of prefetched composites
+   */
+  public int getPrefetchedCompositeCount() {
+    return this.prefetchedCompositeInstances.size();
+  }
+
+  private void onEvictPrefetched(CompositeInstance compositeInstance) {
+    AbstractCompositeController<?, ?, ?> compositeController = compositeInstance.getComposite();
+    if (ClientLogger.get()
+                    .isDetailedLoggingEnabled()) {
+      ClientLogger.get()
+                  .logDetailed("CompositeFactory: prefetched composite >>" + compositeController.getClass()
+                                                                                                .getCanonicalName() + "<< evicted",
+                               1);
+    }
+    // the prefetched composite is bound, but was never started
+    compositeController.removeHandlers();
+    compositeController.getComponent()
+                       .removeHandlers();
+  }
+
+  private void onEvict(AbstractCompositeController<?, ?, ?> compositeController) {
+    if (ClientLogger.get()
+                    .isDetailedLoggingEnabled()) {
+      ClientLogger.get()
+                  .logDetailed("CompositeFactory: composite >>" + compositeController.getClass()
+                                                                                     .getCanonicalName() + "<< evicted from cache",
+                               1);
+    }
+    compositeController.stop();
+    compositeController.remove();
+    compositeController.removeHandlers();
+    compositeController.getComponent()
+                       .removeHandlers();
+    compositeController.setCached(false);
+  }
+
+  /**
+   * Returns the class name of the composite.
+   * <p>
+   * The name is taken from the generated creator, so there is
+   * no need to call getCanonicalName() on the composite's class.
+   *
+   * @param compositeController the composite
+   * @return the class name of the composite
+   */
+  public String getCompositeClassName(AbstractCompositeController<?, ?, ?> compositeController) {
+    String className = this.compositeClassNames.get(compositeController.getClass());
+    if (Objects.isNull(className)) {
+      return compositeController.getClass()
+                                .getCanonicalName();
+    }
+    return className;
+  }
+
+  private IsCompositeCreator getCompositeCreator(String compositeControllerClassName) {
+    IsCompositeCreator compositeCreator = this.compositeCreatorFactory.get(compositeControllerClassName);
+    if (Objects.isNull(compositeCreator) && !Objects.isNull(this.creatorFactory)) {
+      compositeCreator = this.creatorFactory.createCompositeCreator(compositeControllerClassName);
+      if (!Objects.isNull(compositeCreator)) {
+        this.compositeCreatorFactory.put(compositeControllerClassName,
+                                         compositeCreator);
+      }
+    }
+    return compositeCreator;
+  }
+
+  private void registerClassName(CompositeInstance compositeInstance) {
+    if (!this.compositeClassNames.containsKey(compositeInstance.getComposite()
+                                                               .getClass())) {
+      this.compositeClassNames.put(compositeInstance.getComposite()
+                                                    .getClass(),
+                                   compositeInstance.getCompositeClassName());
+    }
+  }
+
+  /**
+   * Returns the key of the composite inside the stores.
+   * <p>
+   * The key is created once for every parent and composite
+   * and reused afterwards, so a lookup does not create a new String.
+   *
+   * @param parentClassName    class name of the parent controller
+   * @param compositeClassName class name of the composite
+   * @return the key of the composite
+   */
+  private String createKey(String parentClassName,
+                           String compositeClassName) {
+    Map<String, String> keysOfParent = this.keys.get(parentClassName);
+    if (Objects.isNull(keysOfParent)) {
+      keysOfParent = new HashMap<>();
+      this.keys.put(parentClassName,
+                    keysOfParent);
+    }
+    String key = keysOfParent.get(compositeClassName);
+    if (Objects.isNull(key)) {
+      key = parentClassName + CompositeFactory.DELIMITER + compositeClassName;
+      keysOfParent.put(compositeClassName,
+                       key);
+    }
+    return key;
   }
 
 }
@@ -2,6 +2,7 @@ package com.github.nalukit.nalu.client.internal.application;
 
 import com.github.nalukit.nalu.client.exception.RoutingInterceptionException;
 import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
+import com.github.nalukit.nalu.client.metrics.NavigationMetrics;
 
 @NaluInternalUse
 public interface ControllerCallback {
@@ -10,4 +11,26 @@ public interface ControllerCallback {
 
   void onFinish(ControllerInstance controllerInstance);
 
+  /**
+   * Returns true, in case the routing requesting the controller
+   * is superseded by a newer one. In this case the controller
+   * will not be finished (no component gets created).
+   *
+   * @return true, if the request is canceled
+   */
+  default boolean isCanceled() {
+    return false;
+  }
+
+  /**
+   * Returns the metrics of the navigation requesting the controller.
+   * In case no routing metrics are registered, null is returned and
+   * nothing will be measured.
+   *
+   * @return the metrics of the navigation or null
+   */
+  default NavigationMetrics getMetrics() {
+    return null;
+  }
+
 }
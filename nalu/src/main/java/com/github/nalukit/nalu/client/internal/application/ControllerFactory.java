@@ -18,26 +18,49 @@ package com.github.nalukit.nalu.client.internal.application;
 
 import com.github.nalukit.nalu.client.component.AbstractComponentController;
 import com.github.nalukit.nalu.client.exception.RoutingInterceptionException;
+import com.github.nalukit.nalu.client.internal.ClientLogger;
 import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
+import com.github.nalukit.nalu.client.metrics.NavigationMetrics;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
 
 @NaluInternalUse
 public class ControllerFactory {
 
+  /* default maximum number of prefetched controllers */
+  public static final int PREFETCH_MAX_SIZE = 10;
+
+  /* default time in milliseconds a prefetched controller is kept */
+  public static final long PREFETCH_MAX_IDLE_TIME = 60000;
+
   /* instance of the controller factory */
   private static ControllerFactory instance;
 
   /* map of components (key: name of class, Value: ControllerCreator */
   private Map<String, IsControllerCreator> controllerFactory;
 
-  /* map of stored components (key: name of class, Value: instance of controller */
-  private Map<String, AbstractComponentController<?, ?, ?>> controllerStore;
+  /* factory to create the controller creators on demand */
+  private IsCreatorFactory creatorFactory;
+
+  /* store of cached components (key: name of class, Value: instance of controller */
+  private CacheStore<AbstractComponentController<?, ?, ?>> controllerStore;
+
+  /* class names of the created components (key: class, Value: name of class) */
+  private Map<Class<?>, String> controllerClassNames;
+
+  /* store of prefetched components (key: name of class, Value: created and bound instance of controller */
+  private CacheStore<ControllerInstance> prefetchedControllerStore;
 
   private ControllerFactory() {
     this.controllerFactory = new HashMap<>();
-    this.controllerStore = new HashMap<>();
+    this.controllerStore = new CacheStore<>(this::onEvict);
+    this.prefetchedControllerStore = new CacheStore<>(this::onEvictPrefetched);
+    this.prefetchedControllerStore.configure(ControllerFactory.PREFETCH_MAX_SIZE,
+                                             ControllerFactory.PREFETCH_MAX_IDLE_TIME);
+    this.controllerClassNames = new HashMap<>();
   }
 
   public static ControllerFactory get() {
@@ -53,12 +76,76 @@ public class ControllerFactory {
                                creator);
   }
 
+  /**
+   * Registers the factory, that creates the controller creators
+   * on demand. A creator, that is registered using
+   * registerController, wins over the creator factory.
+   *
+   * @param creatorFactory the creator factory
+   */
+  public void registerCreatorFactory(IsCreatorFactory creatorFactory) {
+    this.creatorFactory = creatorFactory;
+  }
+
   public void controller(String controller,
                          ControllerCallback callback,
                          String... parms) {
-    if (this.controllerFactory.containsKey(controller)) {
-      IsControllerCreator controllerCreator = this.controllerFactory.get(controller);
+    // metrics of the navigation (null: nothing to measure)
+    NavigationMetrics metrics = callback.getMetrics();
+    IsControllerCreator controllerCreator = this.getControllerCreator(controller);
+    // the code of the controller is behind a split point and needs to be loaded first
+    if (Objects.isNull(controllerCreator) && this.isSplitPoint(controller)) {
+      this.loadControllerCreator(controller,
+                                 () -> {
+                                   // the routing is superseded: no need to create the component
+                                   if (callback.isCanceled()) {
+                                     this.logCanceled(controller);
+                                     return;
+                                   }
+                                   this.controller(controller,
+                                                   callback,
+                                                   parms);
+                                 },
+                                 // no controller instance: the router will use the error route
+                                 () -> callback.onFinish(new ControllerInstance()));
+      return;
+    }
+    if (!Objects.isNull(controllerCreator)) {
+      // in case the controller was prefetched, it is already created and bound,
+      // so the only thing to do, is to set the parameters
+      // (a controller found in the store wins over a prefetched one)
+      // (expired prefetched controllers are evicted first)
+      this.prefetchedControllerStore.evict();
+      ControllerInstance prefetchedControllerInstance = this.prefetchedControllerStore.remove(controller);
+      if (!Objects.isNull(prefetchedControllerInstance)) {
+        if (Objects.isNull(this.getControllerFormStore(controller))) {
+          if (!Objects.isNull(metrics)) {
+            metrics.incrementControllerCacheHits();
+          }
+          try {
+            controllerCreator.setParameter(prefetchedControllerInstance.getController(),
+                                           parms);
+          } catch (RoutingInterceptionException e) {
+            callback.onRoutingInterceptionException(e);
+            return;
+          }
+          callback.onFinish(prefetchedControllerInstance);
+          return;
+        }
+        // the stored controller is used, so the prefetched one is no longer needed
+        this.onEvictPrefetched(prefetchedControllerInstance);
+      }
+      double createStart = this.now(metrics);
       ControllerInstance controllerInstance = controllerCreator.create();
+      this.registerClassName(controllerInstance);
+      if (!Objects.isNull(metrics)) {
+        metrics.addControllerCreationTime(NavigationMetrics.now() - createStart);
+        if (controllerInstance.isChached()) {
+          metrics.incrementControllerCacheHits();
+        } else {
+          metrics.incrementControllerCacheMisses();
+        }
+      }
       if (controllerInstance.isChached()) {
         try {
           controllerCreator.setParameter(controllerInstance.getController(),
@@ -70,13 +157,26 @@ public class ControllerFactory {
       } else {
         controllerCreator.logBindMethodCallToConsole(controllerInstance.getController(),
                                                      false);
+        double bindStart = this.now(metrics);
         try {
           controllerInstance.getController()
                             .bind(() -> {
+                              // the routing is superseded: no need to create the component
+                              if (callback.isCanceled()) {
+                                this.logCanceled(controller);
+                                return;
+                              }
+                              double renderStart = this.now(metrics);
+                              if (!Objects.isNull(metrics)) {
+                                metrics.addBindTime(renderStart - bindStart);
+                              }
                               try {
                                 controllerCreator.logBindMethodCallToConsole(controllerInstance.getController(),
                                                                              true);
                                 controllerCreator.onFinishCreating(controllerInstance.getController());
+                                if (!Objects.isNull(metrics)) {
+                                  metrics.addRenderTime(NavigationMetrics.now() - renderStart);
+                                }
                                 controllerCreator.setParameter(controllerInstance.getController(),
                                                                parms);
                                 callback.onFinish(controllerInstance);
@@ -91,20 +191,93 @@ public class ControllerFactory {
     }
   }
 
+  /**
+   * Sets the parameters of an existing controller.
+   *
+   * @param controller         class name of the controller
+   * @param controllerInstance instance of the controller
+   * @param parms              parameters of the route
+   * @throws RoutingInterceptionException in case the controller intercepts the routing
+   */
+  public void setParameter(String controller,
+                           AbstractComponentController<?, ?, ?> controllerInstance,
+                           String... parms)
+      throws RoutingInterceptionException {
+    IsControllerCreator controllerCreator = this.getControllerCreator(controller);
+    if (!Objects.isNull(controllerCreator)) {
+      controllerCreator.setParameter(controllerInstance,
+                                     parms);
+    }
+  }
+
+  /**
+   * Creates and binds the controller ahead of time and parks it in
+   * the prefetch store. The next time the controller is requested,
+   * the prefetched instance will be used, so that only the parameters
+   * need to be set before the controller is attached and started.
+   * <p>
+   * Nothing will happen in case the controller is unknown, already
+   * prefetched or stored in the cache. In case the controller
+   * intercepts the routing while binding, it will not be prefetched.
+   * <p>
+   * The prefetch store is bounded: in case it exceeds the maximum size
+   * or a prefetched controller is not used within the maximum idle time,
+   * the prefetched controller gets evicted and its handlers removed.
+   *
+   * @param controller class name of the controller to prefetch
+   */
+  public void prefetch(String controller) {
+    this.prefetchedControllerStore.evict();
+    if (this.prefetchedControllerStore.containsKey(controller) ||
+        this.controllerStore.containsKey(controller)) {
+      return;
+    }
+    IsControllerCreator controllerCreator = this.getControllerCreator(controller);
+    // prefetching a controller behind a split point loads the code of the controller
+    if (Objects.isNull(controllerCreator) && this.isSplitPoint(controller)) {
+      this.loadControllerCreator(controller,
+                                 () -> this.prefetch(controller),
+                                 () -> {
+                                 });
+      return;
+    }
+    if (Objects.isNull(controllerCreator)) {
+      return;
+    }
+    ControllerInstance controllerInstance = controllerCreator.create();
+    this.registerClassName(controllerInstance);
+    controllerCreator.logBindMethodCallToConsole(controllerInstance.getController(),
+                                                 false);
+    try {
+      controllerInstance.getController()
+                        .bind(() -> {
+                          try {
+                            controllerCreator.logBindMethodCallToConsole(controllerInstance.getController(),
+                                                                         true);
+                            controllerCreator.onFinishCreating(controllerInstance.getController());
+                            this.prefetchedControllerStore.put(controller,
+                                                               controllerInstance);
+                          } catch (RoutingInterceptionException e) {
+                            // the interception will be handled, once the route is called
+                          }
+                        });
+    } catch (RoutingInterceptionException e) {
+      // the interception will be handled, once the route is called
+    }
+  }
+
   public AbstractComponentController<?, ?, ?> getControllerFormStore(String controllerClassName) {
-    return this.controllerStore.get(this.classFormatter(controllerClassName));
+    return this.controllerStore.get(controllerClassName);
   }
 
   public <C extends AbstractComponentController<?, ?, ?>> void storeInCache(C controller) {
-    String key = this.classFormatter(controller.getClass()
-                                               .getCanonicalName());
+    String key = this.getControllerClassName(controller);
     this.controllerStore.put(key,
                              controller);
   }
 
   public <C extends AbstractComponentController<?, ?, ?>> void removeFromCache(C controller) {
-    String key = this.classFormatter(controller.getClass()
-                                               .getCanonicalName());
+    String key = this.getControllerClassName(controller);
     this.controllerStore.remove(key);
   }
 
@@ -112,9 +285,192 @@ public class ControllerFactory {
     this.controllerStore.clear();
   }
 
-  private String classFormatter(String className) {
-    return className.replace(".",
-                             "_");
+  /**
+   * Configures the eviction of the controller store.
+   *
+   * @param maxSize     maximum number of stored controllers (0: no limit)
+   * @param maxIdleTime maximum time in milliseconds a stored controller
+   *                    can be unused before it gets evicted (0: no limit)
+   */
+  public void configureCache(int maxSize,
+                             long maxIdleTime) {
+    this.controllerStore.configure(maxSize,
+                                   maxIdleTime);
+  }
+
+  /**
+   * Sets the predicate to test, whether a controller is in use.
+   * A controller, that is in use, will never be evicted.
+   *
+   * @param inUsePredicate predicate returning true for controllers in use
+   */
+  public void setInUsePredicate(Predicate<AbstractComponentController<?, ?, ?>> inUsePredicate) {
+    this.controllerStore.setInUsePredicate(inUsePredicate);
+  }
+
+  /**
+   * Configures the eviction of the prefetch store.
+   *
+   * @param maxSize     maximum number of prefetched controllers (0: no limit)
+   * @param maxIdleTime maximum time in milliseconds a prefetched controller
+   *                    is kept before it gets evicted (0: no limit)
+   */
+  public void configurePrefetch(int maxSize,
+                                long maxIdleTime) {
+    this.prefetchedControllerStore.configure(maxSize,
+                                             maxIdleTime);
+  }
+
+  /**
+   * Evicts all stored and prefetched controllers, that exceed the configured limits.
+   */
+  public void evict() {
+    this.controllerStore.evict();
+    this.prefetchedControllerStore.evict();
+  }
+
+  public int getEvictionCount() {
+    return this.controllerStore.getEvictionCount();
+  }
+
+  public void clearPrefetchedControllers() {
+    this.prefetchedControllerStore.evictAll();
+  }
+
+  /**
+   * Returns the number of prefetched controllers.
+   *
+   * @return number of prefetched controllers
+   */
+  public int getPrefetchedControllerCount() {
+    return this.prefetchedControllerStore.size();
+  }
+
+  private IsControllerCreator getControllerCreator(String controller) {
+    IsControllerCreator controllerCreator = this.controllerFactory.get(controller);
+    if (Objects.isNull(controllerCreator) && !Objects.isNull(this.creatorFactory)) {
+      controllerCreator = this.creatorFactory.createControllerCreator(controller);
+      if (!Objects.isNull(controllerCreator)) {
+        this.controllerFactory.put(controller,
+                                   controllerCreator);
+      }
+    }
+    return controllerCreator;
+  }
+
+  private boolean isSplitPoint(String controller) {
+    return !Objects.isNull(this.creatorFactory) && this.creatorFactory.isSplitPoint(controller);
+  }
+
+  private void loadControllerCreator(String controller,
+                                     Runnable onLoad,
+                                     Runnable onFailure) {
+    this.creatorFactory.loadControllerCreator(controller,
+                                              new ControllerCreatorCallback() {
+                                                @Override
+                                                public void onLoad(IsControllerCreator creator) {
+                                                  controllerFactory.put(controller,
+                                                                        creator);
+                                                  onLoad.run();
+                                                }
+
+                                                @Override
+                                                public void onFailure(Throwable reason) {
+                                                  ClientLogger.get()
+                                                              .logSimple("ControllerFactory: unable to load the code of controller >>" + controller + "<< -> " + reason.getMessage(),
+                                                                         1);
+                                                  onFailure.run();
+                                                }
+                                              });
+  }
+
+  /**
+   * Returns the current time in case there are metrics to collect.
+   *
+   * @param metrics metrics of the navigation or null
+   * @return the current time in milliseconds or 0, if there is nothing to measure
+   */
+  private double now(NavigationMetrics metrics) {
+    return Objects.isNull(metrics) ? 0 : NavigationMetrics.now();
+  }
+
+  private void logCanceled(String controller) {
+    if (ClientLogger.get()
+                    .isDetailedLoggingEnabled()) {
+      ClientLogger.get()
+                  .logDetailed("ControllerFactory: creation of controller >>" + controller + "<< canceled (routing superseded)",
+                               1);
+    }
+  }
+
+  private void onEvict(AbstractComponentController<?, ?, ?> controller) {
+    if (ClientLogger.get()
+                    .isDetailedLoggingEnabled()) {
+      ClientLogger.get()
+                  .logDetailed("ControllerFactory: controller >>" + controller.getClass()
+                                                                              .getCanonicalName() + "<< evicted from cache",
+                               1);
+    }
+    // stop the composites of the controller
+    // (cached composites are owned by the composite store)
+    controller.getComposites()
+              .values()
+              .stream()
+              .filter(compositeController -> !compositeController.isCached())
+              .forEach(compositeController -> {
+                compositeController.stop();
+                compositeController.remove();
+                compositeController.removeHandlers();
+                compositeController.getComponent()
+                                   .removeHandlers();
+              });
+    controller.stop();
+    controller.removeHandlers();
+    controller.getComponent()
+              .removeHandlers();
+    controller.setCached(false);
+  }
+
+  private void onEvictPrefetched(ControllerInstance controllerInstance) {
+    AbstractComponentController<?, ?, ?> controller = controllerInstance.getController();
+    if (ClientLogger.get()
+                    .isDetailedLoggingEnabled()) {
+      ClientLogger.get()
+                  .logDetailed("ControllerFactory: prefetched controller >>" + controller.getClass()
+                                                                                         .getCanonicalName() + "<< evicted",
+                               1);
+    }
+    // the prefetched controller is bound, but was never started
+    controller.removeHandlers();
+    controller.getComponent()
+              .removeHandlers();
+  }
+
+  /**
+   * Returns the class name of the controller.
+   * <p>
+   * The name is taken from the generated creator, so there is
+   * no need to call getCanonicalName() on the controller's class.
+   *
+   * @param controller the controller
+   * @return the class name of the controller
+   */
+  public String getControllerClassName(AbstractComponentController<?, ?, ?> controller) {
+    String className = this.controllerClassNames.get(controller.getClass());
+    if (Objects.isNull(className)) {
+      return controller.getClass()
+                       .getCanonicalName();
+    }
+    return className;
+  }
+
+  private void registerClassName(ControllerInstance controllerInstance) {
+    if (!this.controllerClassNames.containsKey(controllerInstance.getController()
+                                                                 .getClass())) {
+      this.controllerClassNames.put(controllerInstance.getController()
+                                                      .getClass(),
+                                    controllerInstance.getControllerClassName());
+    }
   }
 
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+package com.github.nalukit.nalu.client.internal.application;
+
+import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
+
+/**
+ * Creates the creators of an application on demand.
+ * <p>
+ * The implementation is generated by the processor and contains
+ * a switch over all class names. This avoids creating every creator
+ * at start up. A creator will be created the first time it is
+ * requested.
+ */
+@NaluInternalUse
+public interface IsCreatorFactory {
+
+  /**
+   * Creates the creator of a controller.
+   *
+   * @param controller class name of the controller
+   * @return the creator or null, if the controller is unknown
+   */
+  IsControllerCreator createControllerCreator(String controller);
+
+  /**
+   * Checks, whether the code of a controller is placed behind a split
+   * point. In this case createControllerCreator will return null and
+   * the creator has to be loaded using loadControllerCreator.
+   *
+   * @param controller class name of the controller
+   * @return true, if the controller is behind a split point
+   */
+  boolean isSplitPoint(String controller);
+
+  /**
+   * Loads the code of a controller, that is placed behind a split point
+   * and creates the creator of the controller.
+   *
+   * @param controller class name of the controller
+   * @param callback   callback to call once the creator is created
+   */
+  void loadControllerCreator(String controller,
+                             ControllerCreatorCallback callback);
+
+  /**
+   * Creates the creator of a composite.
+   *
+   * @param composite class name of the composite
+   * @return the creator or null, if the composite is unknown
+   */
+  IsCompositeCreator createCompositeCreator(String composite);
+
+  /**
+   * Creates the creator of a shell.
+   *
+   * @param shell class name of the shell
+   * @return the creator or null, if the shell is unknown
+   */
+  IsShellCreator createShellCreator(String shell);
+
+  /**
+   * Creates the creator of a popup controller.
+   *
+   * @param popUpName name of the popup controller
+   * @return the creator or null, if the popup controller is unknown
+   */
+  IsPopUpControllerCreator createPopUpControllerCreator(String popUpName);
+
+}
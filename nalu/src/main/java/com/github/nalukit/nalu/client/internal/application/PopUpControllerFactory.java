@@ -37,6 +37,9 @@ public class PopUpControllerFactory {
   /* map of components (key: name of class, Value: ControllerCreator */
   private Map<String, PopUpControllerInstance> popUpControllerStore;
 
+  /* factory to create the popup controller creators on demand */
+  private IsCreatorFactory creatorFactory;
+
   /* Nalu event bus to catch the ShowPopUpEvents */
   private EventBus eventBus;
 
@@ -58,6 +61,17 @@ public class PopUpControllerFactory {
                           creator);
   }
 
+  /**
+   * Registers the factory, that creates the popup controller creators
+   * on demand. A creator, that is registered using
+   * registerPopUpController, wins over the creator factory.
+   *
+   * @param creatorFactory the creator factory
+   */
+  public void registerCreatorFactory(IsCreatorFactory creatorFactory) {
+    this.creatorFactory = creatorFactory;
+  }
+
   public void register(EventBus eventBus) {
     this.eventBus = eventBus;
     if (!Objects.isNull(this.eventBus)) {
@@ -92,7 +106,7 @@ public class PopUpControllerFactory {
     if (Objects.isNull(popUpComponentController)) {
       PopUpControllerInstance instance = this.popUpControllerStore.get(e.getName());
       if (Objects.isNull(instance)) {
-        IsPopUpControllerCreator creator = this.creatorStore.get(e.getName());
+        IsPopUpControllerCreator creator = this.getPopUpControllerCreator(e.getName());
         if (Objects.isNull(creator)) {
           ClientLogger.get()
                       .logDetailed("PopUpControllerFactory: PopUpController for name >>" + e.getName() + "<< not found",
@@ -131,4 +145,16 @@ public class PopUpControllerFactory {
                            3);
   }
 
+  private IsPopUpControllerCreator getPopUpControllerCreator(String popUpName) {
+    IsPopUpControllerCreator creator = this.creatorStore.get(popUpName);
+    if (Objects.isNull(creator) && !Objects.isNull(this.creatorFactory)) {
+      creator = this.creatorFactory.createPopUpControllerCreator(popUpName);
+      if (!Objects.isNull(creator)) {
+        this.creatorStore.put(popUpName,
+                              creator);
+      }
+    }
+    return creator;
+  }
+
 }
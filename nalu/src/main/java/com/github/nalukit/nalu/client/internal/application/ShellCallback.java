@@ -12,4 +12,15 @@ public interface ShellCallback {
 
   void onRoutingInterceptionException(RoutingInterceptionException e);
 
+  /**
+   * Returns true, in case the routing requesting the shell
+   * is superseded by a newer one. In this case the shell
+   * will not be finished (no component gets created).
+   *
+   * @return true, if the request is canceled
+   */
+  default boolean isCanceled() {
+    return false;
+  }
+
 }
@@ -21,6 +21,7 @@ import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
 @NaluInternalUse
 public class ShellFactory {
@@ -31,6 +32,9 @@ public class ShellFactory {
   /* map of components (key: name of class, Value: ShellCreator */
   private Map<String, IsShellCreator> shellFactory;
 
+  /* factory to create the shell creators on demand */
+  private IsCreatorFactory creatorFactory;
+
   private ShellFactory() {
     this.shellFactory = new HashMap<>();
   }
@@ -48,16 +52,31 @@ public class ShellFactory {
                           creator);
   }
 
+  /**
+   * Registers the factory, that creates the shell creators
+   * on demand. A creator, that is registered using
+   * registerShell, wins over the creator factory.
+   *
+   * @param creatorFactory the creator factory
+   */
+  public void registerCreatorFactory(IsCreatorFactory creatorFactory) {
+    this.creatorFactory = creatorFactory;
+  }
+
   public void shell(String shellName,
                     ShellCallback callback) {
-    if (this.shellFactory.containsKey(shellName)) {
-      IsShellCreator shellCreator = this.shellFactory.get(shellName);
+    IsShellCreator shellCreator = this.getShellCreator(shellName);
+    if (!Objects.isNull(shellCreator)) {
       ShellInstance shellInstance = shellCreator.create();
       shellCreator.logBindMethodCallToConsole(shellInstance.getShell(),
                                               false);
       try {
         shellInstance.getShell()
                      .bind(() -> {
+                       // the routing is superseded: no need to create the shell
+                       if (callback.isCanceled()) {
+                         return;
+                       }
                        try {
                          shellCreator.logBindMethodCallToConsole(shellInstance.getShell(),
                                                                  true);
@@ -75,4 +94,16 @@ public class ShellFactory {
     }
   }
 
+  private IsShellCreator getShellCreator(String shellName) {
+    IsShellCreator shellCreator = this.shellFactory.get(shellName);
+    if (Objects.isNull(shellCreator) && !Objects.isNull(this.creatorFactory)) {
+      shellCreator = this.creatorFactory.createShellCreator(shellName);
+      if (!Objects.isNull(shellCreator)) {
+        this.shellFactory.put(shellName,
+                              shellCreator);
+      }
+    }
+    return shellCreator;
+  }
+
 }
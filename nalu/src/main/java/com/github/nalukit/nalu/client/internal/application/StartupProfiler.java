@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+package com.github.nalukit.nalu.client.internal.application;
+
+import com.github.nalukit.nalu.client.application.StartupPhase;
+import com.github.nalukit.nalu.client.application.StartupTiming;
+import com.github.nalukit.nalu.client.application.event.StartupPhaseEvent;
+import com.github.nalukit.nalu.client.internal.ClientLogger;
+import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
+import com.github.nalukit.nalu.client.plugin.IsNaluProcessorPlugin;
+import org.gwtproject.event.shared.EventBus;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Records the timings of the phases of the application start.
+ * <p>
+ * The times are taken from System.nanoTime(), so they are monotonic.
+ * Every phase is recorded only once. Once a phase is finished, the plugin
+ * gets informed and a StartupPhaseEvent is fired.
+ */
+@NaluInternalUse
+public class StartupProfiler {
+
+  /* instance of the startup profiler */
+  private static StartupProfiler instance;
+
+  /* start of the application in milliseconds */
+  private double origin;
+
+  /* started phases (key: phase, Value: start time relative to origin) */
+  private Map<StartupPhase, Double> startTimes;
+
+  /* finished phases in order of finishing */
+  private List<StartupTiming> timings;
+
+  /* plugin to inform about started and finished phases */
+  private IsNaluProcessorPlugin plugin;
+
+  /* event bus to fire the StartupPhaseEvents */
+  private EventBus eventBus;
+
+  StartupProfiler() {
+    this.startTimes = new EnumMap<>(StartupPhase.class);
+    this.timings = new ArrayList<>();
+  }
+
+  public static StartupProfiler get() {
+    if (instance == null) {
+      instance = new StartupProfiler();
+    }
+    return instance;
+  }
+
+  /**
+   * Starts profiling the application start. Already recorded timings
+   * will be removed. FIRST_SHELL_ATTACHED and FIRST_CONTROLLER_ACTIVATED
+   * are started with the application.
+   *
+   * @param plugin the plugin of the application
+   */
+  public void start(IsNaluProcessorPlugin plugin) {
+    this.plugin = plugin;
+    this.eventBus = null;
+    this.startTimes.clear();
+    this.timings.clear();
+    this.origin = this.now();
+    this.begin(StartupPhase.FIRST_SHELL_ATTACHED);
+    this.begin(StartupPhase.FIRST_CONTROLLER_ACTIVATED);
+  }
+
+  public void setEventBus(EventBus eventBus) {
+    this.eventBus = eventBus;
+  }
+
+  /**
+   * Starts a phase. Nothing will happen in case the phase is already
+   * started or finished.
+   *
+   * @param phase the phase to start
+   */
+  public void begin(StartupPhase phase) {
+    if (this.startTimes.containsKey(phase) || this.isFinished(phase)) {
+      return;
+    }
+    this.startTimes.put(phase,
+                        this.now() - this.origin);
+    if (!Objects.isNull(this.plugin)) {
+      this.plugin.onStartupPhaseStarted(phase);
+    }
+  }
+
+  /**
+   * Finishes a phase. Nothing will happen in case the phase is not
+   * started or already finished.
+   *
+   * @param phase the phase to finish
+   */
+  public void end(StartupPhase phase) {
+    Double startTime = this.startTimes.remove(phase);
+    if (Objects.isNull(startTime)) {
+      return;
+    }
+    StartupTiming timing = new StartupTiming(phase,
+                                             startTime,
+                                             this.now() - this.origin);
+    this.timings.add(timing);
+    if (ClientLogger.get()
+                    .isDetailedLoggingEnabled()) {
+      ClientLogger.get()
+                  .logDetailed("StartupProfiler: phase >>" + phase.name() + "<< finished after >>" + timing.getDuration() + "<< ms",
+                               1);
+    }
+    if (!Objects.isNull(this.plugin)) {
+      this.plugin.onStartupPhaseFinished(timing);
+    }
+    if (!Objects.isNull(this.eventBus)) {
+      this.eventBus.fireEvent(new StartupPhaseEvent(timing));
+    }
+  }
+
+  /**
+   * Returns the timings of the finished phases in order of finishing.
+   *
+   * @return the timings of the finished phases
+   */
+  public List<StartupTiming> getTimings() {
+    return Collections.unmodifiableList(this.timings);
+  }
+
+  private boolean isFinished(StartupPhase phase) {
+    return this.timings.stream()
+                       .anyMatch(timing -> timing.getPhase() == phase);
+  }
+
+  double now() {
+    return System.nanoTime() / 1000000d;
+  }
+
+}
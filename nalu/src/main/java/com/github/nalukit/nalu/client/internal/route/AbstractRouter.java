@@ -18,22 +18,24 @@ package com.github.nalukit.nalu.client.internal.route;
 
 import com.github.nalukit.nalu.client.component.AbstractComponentController;
 import com.github.nalukit.nalu.client.component.AbstractCompositeController;
+import com.github.nalukit.nalu.client.application.StartupPhase;
 import com.github.nalukit.nalu.client.component.IsShell;
 import com.github.nalukit.nalu.client.exception.RoutingInterceptionException;
 import com.github.nalukit.nalu.client.filter.IsFilter;
-import com.github.nalukit.nalu.client.internal.ClientLogger;
 import com.github.nalukit.nalu.client.internal.CompositeControllerReference;
+import com.github.nalukit.nalu.client.internal.CompositeControllerReferenceIndex;
 import com.github.nalukit.nalu.client.internal.PropertyFactory;
 import com.github.nalukit.nalu.client.internal.application.*;
 import com.github.nalukit.nalu.client.model.NaluErrorMessage;
 import com.github.nalukit.nalu.client.plugin.IsNaluProcessorPlugin;
 import com.github.nalukit.nalu.client.router.event.RouterStateEvent;
 import com.github.nalukit.nalu.client.router.event.RouterStateEvent.RouterState;
+import com.github.nalukit.nalu.client.metrics.IsRoutingMetrics;
+import com.github.nalukit.nalu.client.metrics.NavigationMetrics;
 import com.github.nalukit.nalu.client.tracker.IsTracker;
 import org.gwtproject.event.shared.SimpleEventBus;
 
 import java.util.*;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 abstract class AbstractRouter
@@ -51,8 +53,8 @@ abstract class AbstractRouter
   private NaluErrorMessage                                  applicationErrorMessage;
   // the latest error object
   private NaluErrorMessage                                  naluErrorMessage;
-  // composite configuration
-  private List<CompositeControllerReference>                compositeControllerReferences;
+  // composite configuration (indexed by controller)
+  private CompositeControllerReferenceIndex                 compositeControllerReferenceIndex;
   // List of the application shells
   private ShellConfiguration                                shellConfiguration;
   // List of the routes of the application
@@ -69,10 +71,20 @@ abstract class AbstractRouter
   private List<String>                                      loopDetectionList;
   // the tracker: if not null, track the users routing
   private IsTracker                                         tracker;
+  // the routing metrics: if not null, measure the navigations
+  private IsRoutingMetrics                                  routingMetrics;
   // teh applicaiton eventbus
   private SimpleEventBus                                    eventBus;
+  // cache of parsed routes
+  private RouteResultCache                                  routeResultCache;
+  // the latest navigation - callbacks of older navigations will be ignored
+  private Navigation                                        currentNavigation;
+  // token of the latest navigation
+  private int                                               navigationToken;
+  // cached results of the cacheable filters (key: filter)
+  private Map<IsFilter, FilterResultCache>                  filterResultCaches;
 
-  AbstractRouter(List<CompositeControllerReference> compositeControllerReferences,
+  AbstractRouter(CompositeControllerReferenceIndex compositeControllerReferenceIndex,
                  ShellConfiguration shellConfiguration,
                  RouterConfiguration routerConfiguration,
                  IsNaluProcessorPlugin plugin,
@@ -83,7 +95,7 @@ abstract class AbstractRouter
                  boolean usingColonForParametersInUrl,
                  boolean stayOnSite) {
     // save the composite configuration reference
-    this.compositeControllerReferences = compositeControllerReferences;
+    this.compositeControllerReferenceIndex = compositeControllerReferenceIndex;
     // save the shell configuration reference
     this.shellConfiguration = shellConfiguration;
     // save the router configuration reference
@@ -95,6 +107,13 @@ abstract class AbstractRouter
     // inistantiate lists, etc.
     this.activeComponents = new HashMap<>();
     this.loopDetectionList = new ArrayList<>();
+    this.routeResultCache = new RouteResultCache();
+    this.filterResultCaches = new HashMap<>();
+    // cached controllers and composites, that are displayed, must not be evicted
+    ControllerFactory.get()
+                     .setInUsePredicate(controller -> this.activeComponents.containsValue(controller));
+    CompositeFactory.get()
+                    .setInUsePredicate(this::isCompositeInUse);
     // set up PropertyFactory
     PropertyFactory.get()
                    .register(startRoute,
@@ -256,17 +275,165 @@ abstract class AbstractRouter
   public void clearCache() {
     ControllerFactory.get()
                      .clearControllerCache();
+    ControllerFactory.get()
+                     .clearPrefetchedControllers();
+    CompositeFactory.get()
+                    .clearPrefetchedComposites();
+  }
+
+  /**
+   * Configures the eviction of the controller and composite caches.
+   *
+   * @param maxSize     maximum number of cached controllers and composites (0: no limit)
+   * @param maxIdleTime maximum idle time in milliseconds (0: no limit)
+   */
+  public void configureCache(int maxSize,
+                             long maxIdleTime) {
+    ControllerFactory.get()
+                     .configureCache(maxSize,
+                                     maxIdleTime);
+    CompositeFactory.get()
+                    .configureCache(maxSize,
+                                    maxIdleTime);
+  }
+
+  /**
+   * Configures the eviction of prefetched controllers and composites.
+   *
+   * @param maxSize     maximum number of prefetched controllers and composites (0: no limit)
+   * @param maxIdleTime maximum time in milliseconds a prefetched instance is kept (0: no limit)
+   */
+  public void configurePrefetch(int maxSize,
+                                long maxIdleTime) {
+    ControllerFactory.get()
+                     .configurePrefetch(maxSize,
+                                        maxIdleTime);
+    CompositeFactory.get()
+                    .configurePrefetch(maxSize,
+                                       maxIdleTime);
+  }
+
+  /**
+   * Returns the number of controllers evicted from the cache.
+   *
+   * @return number of evicted controllers
+   */
+  public int getControllerCacheEvictionCount() {
+    return ControllerFactory.get()
+                            .getEvictionCount();
+  }
+
+  /**
+   * Returns the number of composites evicted from the cache.
+   *
+   * @return number of evicted composites
+   */
+  public int getCompositeCacheEvictionCount() {
+    return CompositeFactory.get()
+                           .getEvictionCount();
+  }
+
+  private boolean isCompositeInUse(AbstractCompositeController<?, ?, ?> compositeController) {
+    for (AbstractComponentController<?, ?, ?> controller : this.activeComponents.values()) {
+      if (controller.getComposites()
+                    .containsValue(compositeController)) {
+        return true;
+      }
+      // global composites of cached controllers are not injected into the controller
+      if (compositeController.isCachedGlobal()) {
+        for (CompositeControllerReference compositeControllerReference : this.compositeControllerReferenceIndex.get(ControllerFactory.get()
+                                                                                                                                      .getControllerClassName(controller))
+                                                                                                               .getGlobal()) {
+          if (compositeControllerReference.getComposite()
+                                          .equals(CompositeFactory.get()
+                                                                  .getCompositeClassName(compositeController))) {
+            return true;
+          }
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Prefetches a route.
+   * <p>
+   * The controllers and composites of the route will be created and
+   * bound, once the plugin signals, that the browser is idle.
+   *
+   * @param route     route to prefetch
+   * @param parameter parameters of the route
+   */
+  public void prefetch(String route,
+                       String... parameter) {
+    String hash = this.generate(route,
+                                parameter);
+    this.plugin.scheduleIdle(() -> this.handlePrefetch(hash));
+  }
+
+  private void handlePrefetch(String hash) {
+    RouterLogger.logPrefetchHash(hash);
+    RouteResult routeResult;
+    try {
+      routeResult = this.parse(hash);
+    } catch (RouterException e) {
+      RouterLogger.logPrefetchNoMatchingRoute(hash);
+      return;
+    }
+    List<RouteConfig> routeConfigurations = Objects.isNull(routeResult.getRouteConfigs()) ?
+                                            this.routerConfiguration.match(routeResult.getRoute()) :
+                                            routeResult.getRouteConfigs();
+    String[] parameterValues = routeResult.getParameterValues()
+                                          .toArray(new String[0]);
+    for (RouteConfig routeConfiguration : routeConfigurations) {
+      ControllerFactory.get()
+                       .prefetch(routeConfiguration.getClassName());
+      for (CompositeControllerReference compositeControllerReference : this.compositeControllerReferenceIndex.get(routeConfiguration.getClassName())
+                                                                                                             .getAll()) {
+        try {
+          if (ControllerCompositeConditionFactory.get()
+                                                 .loadComposite(routeConfiguration.getClassName(),
+                                                                compositeControllerReference.getComposite(),
+                                                                routeResult.getRoute(),
+                                                                parameterValues)) {
+            CompositeFactory.get()
+                            .prefetch(routeConfiguration.getClassName(),
+                                      compositeControllerReference.getComposite());
+          }
+        } catch (RoutingInterceptionException e) {
+          // the interception will be handled, once the route is called
+        }
+      }
+    }
   }
 
   void handleRouting(String hash) {
+    this.handleRouting(hash,
+                       null);
+  }
+
+  /**
+   * Handles the routing.
+   *
+   * @param hash                the hash to route to
+   * @param resolvedRouteResult the already resolved route result of a
+   *                            programmatic navigation or null, in case
+   *                            the hash has to be parsed
+   */
+  private void handleRouting(String hash,
+                             RouteResult resolvedRouteResult) {
     // in some cases the hash contains protocoll, port and URI, we clean it
     if (hash.contains("#")) {
       hash = hash.substring(hash.indexOf("#") + 1);
     }
     // logg hash
     RouterLogger.logHandleHash(hash);
+    // start a new navigation (supersedes the running one)
+    Navigation navigation = this.startNavigation(hash);
     // save hash to loop detector list ...
     if (this.loopDetectionList.contains(pimpUpHashForLoopDetection(hash))) {
+      this.finishNavigation(navigation,
+                            true);
       // fire Router StateEvent
       this.fireRouterStateEvent(RouterState.ROUTING_ABORTED,
                                 hash);
@@ -289,10 +456,14 @@ abstract class AbstractRouter
       this.loopDetectionList.add(pimpUpHashForLoopDetection(hash));
     }
     // parse hash ...
+    // (not necessary in case the route result is already known)
     RouteResult routeResult;
+    double parseStart = this.now(navigation);
     try {
-      routeResult = this.parse(hash);
+      routeResult = Objects.isNull(resolvedRouteResult) ? this.parse(hash) : resolvedRouteResult;
     } catch (RouterException e) {
+      this.finishNavigation(navigation,
+                            true);
       this.naluErrorMessage = new NaluErrorMessage(AbstractRouter.NALU_ERROR_TYPE_NO_CONTROLLER_INSTANCE,
                                                    RouterLogger.logNoMatchingRoute(hash,
                                                                                    this.routeError));
@@ -318,16 +489,41 @@ abstract class AbstractRouter
       }
       return;
     }
+    // in case the hash is an alias, the url is replaced with the route
+    // (without routing again)
+    if (Objects.isNull(resolvedRouteResult) && this.isReplaceableAlias(routeResult)) {
+      this.plugin.route(this.generate(routeResult.getRoute(),
+                                      routeResult.getParameterValues()
+                                                 .toArray(new String[0])),
+                        true);
+    }
     // First we have to check if there is a filter
     // if there are filters ==>  filter the route
-    for (IsFilter filter : this.routerConfiguration.getFilters()) {
-      if (!filter.filter(addLeadindgSlash(routeResult.getRoute()),
-                         routeResult.getParameterValues()
-                                    .toArray(new String[0]))) {
-        RouterLogger.logFilterInterceptsRouting(filter.getClass()
-                                                      .getCanonicalName(),
+    // (only filters applying to the route will be called)
+    double filterStart = this.now(navigation);
+    if (!Objects.isNull(navigation.getMetrics())) {
+      navigation.getMetrics()
+                .addParseTime(filterStart - parseStart);
+    }
+    String filterRoute = addLeadindgSlash(routeResult.getRoute());
+    List<IsFilter> filters = this.routerConfiguration.getFilters(filterRoute);
+    String[] filterParameters = filters.isEmpty() ?
+                                new String[0] :
+                                routeResult.getParameterValues()
+                                           .toArray(new String[0]);
+    for (IsFilter filter : filters) {
+      if (!this.filter(filter,
+                       filterRoute,
+                       filterParameters)) {
+        RouterLogger.logFilterInterceptsRouting(filter,
                                                 filter.redirectTo(),
                                                 filter.parameters());
+        if (!Objects.isNull(navigation.getMetrics())) {
+          navigation.getMetrics()
+                    .addFilterTime(NavigationMetrics.now() - filterStart);
+        }
+        this.finishNavigation(navigation,
+                              true);
         this.route(filter.redirectTo(),
                    true,
                    filter.parameters());
@@ -337,152 +533,312 @@ abstract class AbstractRouter
         return;
       }
     }
+    if (!Objects.isNull(navigation.getMetrics())) {
+      navigation.getMetrics()
+                .addFilterTime(NavigationMetrics.now() - filterStart);
+    }
     // search for a matching routing
-    List<RouteConfig> routeConfigurations = this.routerConfiguration.match(routeResult.getRoute());
+    // (in case the route was parsed, the configurations are already known)
+    List<RouteConfig> routeConfigurations = Objects.isNull(routeResult.getRouteConfigs()) ?
+                                            this.routerConfiguration.match(routeResult.getRoute()) :
+                                            routeResult.getRouteConfigs();
     // check whether or not the routing is possible ...
-    if (this.confirmRouting(routeConfigurations)) {
-      // call stop for all elements
-      this.stopController(routeConfigurations,
-                          !routeResult.getShell()
-                                      .equals(this.lastAddedShell));
-      // handle shellCreator
-      //
-      // in case shellCreator changed or is not set, use the actual shellCreator!
-      if (!routeResult.getShell()
-                      .equals(this.lastAddedShell)) {
-        // add shellCreator to the viewport
-        ShellConfig shellConfig = this.shellConfiguration.match(routeResult.getShell());
-        if (!Objects.isNull(shellConfig)) {
-          String finalHash = hash;
-          ShellFactory.get()
-                      .shell(shellConfig.getClassName(),
-                             new ShellCallback() {
-                               @Override
-                               public void onFinish(ShellInstance shellInstance) {
-                                 // in case there is an instance of an shellCreator existing, call the onDetach mehtod inside the shellCreator
-                                 if (!Objects.isNull(shell)) {
-                                   detachShell();
-                                 }
-                                 // set newe shellCreator value
-                                 shell = shellInstance.getShell();
-                                 // save the last added shellCreator ....
-                                 lastAddedShell = routeResult.getShell();
-                                 // initialize shellCreator ...
-                                 ClientLogger.get()
-                                             .logDetailed("Router: attach shellCreator >>" + routeResult.getShell() + "<<",
-                                                          1);
-                                 shellInstance.getShell()
-                                              .attachShell();
-                                 ClientLogger.get()
-                                             .logDetailed("Router: shellCreator >>" + routeResult.getShell() + "<< attached",
-                                                          1);
-                                 // start the application by calling url + '#'
-                                 ClientLogger.get()
-                                             .logDetailed("Router: initialize shellCreator >>" + routeResult.getShell() + "<< (route to '/')",
-                                                          1);
-                                 // get shellCreator matching root configs ...
-                                 List<RouteConfig> shellMatchingRouteConfigurations = routerConfiguration.match(routeResult.getShell());
-                                 for (RouteConfig routeConfiguraion : shellMatchingRouteConfigurations) {
-                                   handleRouteConfig(routeConfiguraion,
-                                                     routeResult,
-                                                     finalHash);
-                                 }
-                                 postProcessHandleRouting(finalHash,
-                                                          routeResult,
-                                                          routeConfigurations);
-                               }
+    String confirmMessage = this.getConfirmMessage(routeConfigurations);
+    if (Objects.isNull(confirmMessage)) {
+      this.executeRouting(navigation,
+                          routeResult,
+                          routeConfigurations);
+    } else {
+      double confirmStart = this.now(navigation);
+      this.plugin.confirm(confirmMessage,
+                          new IsNaluProcessorPlugin.ConfirmHandler() {
+                            @Override
+                            public void onOk() {
+                              addConfirmTime(navigation,
+                                             confirmStart);
+                              if (navigation.isSuperseded()) {
+                                abortSupersededNavigation(navigation);
+                                return;
+                              }
+                              executeRouting(navigation,
+                                             routeResult,
+                                             routeConfigurations);
+                            }
 
-                               private void detachShell() {
-                                 ClientLogger.get()
-                                             .logDetailed("Router: detach shellCreator >>" +
-                                                              shell.getClass()
-                                                                   .getCanonicalName() +
-                                                              "<<",
-                                                          1);
-                                 shell.detachShell();
-                                 ClientLogger.get()
-                                             .logDetailed("Router: shellCreator >>" +
-                                                              shell.getClass()
-                                                                   .getCanonicalName() +
-                                                              "<< detached",
-                                                          1);
-                               }
+                            @Override
+                            public void onCancel() {
+                              addConfirmTime(navigation,
+                                             confirmStart);
+                              // a newer navigation already changed the url
+                              if (navigation.isSuperseded()) {
+                                abortSupersededNavigation(navigation);
+                                return;
+                              }
+                              finishNavigation(navigation,
+                                               true);
+                              plugin.route("#" + lastExecutedHash,
+                                           false);
+                            }
+                          });
+    }
+  }
 
-                               @Override
-                               public void onShellNotFound() {
-                                 RouterLogger.logUseErrorRoute(routeError);
-                                 route(routeError,
-                                       true);
+  private void executeRouting(Navigation navigation,
+                              RouteResult routeResult,
+                              List<RouteConfig> routeConfigurations) {
+    // call stop for all elements
+    boolean replaceShell = !routeResult.getShell()
+                                       .equals(this.lastAddedShell);
+    // in case the shell does not change, controllers staying at
+    // their selector might be reused (only the parameters change)
+    List<RouteConfig> reusedRouteConfigurations = replaceShell ?
+                                                  new ArrayList<>() :
+                                                  routeConfigurations.stream()
+                                                                     .filter(this::isReusable)
+                                                                     .collect(Collectors.toList());
+    this.stopController(routeConfigurations.stream()
+                                           .filter(routeConfiguration -> !reusedRouteConfigurations.contains(routeConfiguration))
+                                           .collect(Collectors.toList()),
+                        replaceShell);
+    // handle shellCreator
+    //
+    // in case shellCreator changed or is not set, use the actual shellCreator!
+    if (!routeResult.getShell()
+                    .equals(this.lastAddedShell)) {
+      // add shellCreator to the viewport
+      ShellConfig shellConfig = this.shellConfiguration.match(routeResult.getShell());
+      if (!Objects.isNull(shellConfig)) {
+        double shellStart = this.now(navigation);
+        ShellFactory.get()
+                    .shell(shellConfig.getClassName(),
+                           new ShellCallback() {
+                             @Override
+                             public void onFinish(ShellInstance shellInstance) {
+                               if (!Objects.isNull(navigation.getMetrics())) {
+                                 navigation.getMetrics()
+                                           .addShellCreationTime(NavigationMetrics.now() - shellStart);
                                }
-
-                               @Override
-                               public void onRoutingInterceptionException(RoutingInterceptionException e) {
-                                 RouterLogger.logControllerInterceptsRouting(e.getControllerClassName(),
-                                                                             e.getRoute(),
-                                                                             e.getParameter());
+                               if (navigation.isSuperseded()) {
+                                 abortSupersededNavigation(navigation);
+                                 return;
                                }
-                             });
-        }
-      } else {
-        postProcessHandleRouting(hash,
-                                 routeResult,
-                                 routeConfigurations);
+                               // in case there is an instance of an shellCreator existing, call the onDetach mehtod inside the shellCreator
+                               if (!Objects.isNull(shell)) {
+                                 detachShell();
+                               }
+                               // set newe shellCreator value
+                               shell = shellInstance.getShell();
+                               // save the last added shellCreator ....
+                               lastAddedShell = routeResult.getShell();
+                               // initialize shellCreator ...
+                               RouterLogger.logShellWillBeAttached(routeResult.getShell());
+                               shellInstance.getShell()
+                                            .attachShell();
+                               RouterLogger.logShellAttached(routeResult.getShell());
+                               StartupProfiler.get()
+                                              .end(StartupPhase.FIRST_SHELL_ATTACHED);
+                               // start the application by calling url + '#'
+                               RouterLogger.logShellInitialize(routeResult.getShell());
+                               // get shellCreator matching root configs ...
+                               List<RouteConfig> shellMatchingRouteConfigurations = routerConfiguration.match(routeResult.getShell());
+                               for (RouteConfig routeConfiguraion : shellMatchingRouteConfigurations) {
+                                 handleRouteConfig(navigation,
+                                                   routeConfiguraion,
+                                                   routeResult);
+                               }
+                               postProcessHandleRouting(navigation,
+                                                        routeResult,
+                                                        routeConfigurations,
+                                                        reusedRouteConfigurations);
+                             }
+
+                             private void detachShell() {
+                               RouterLogger.logShellWillBeDetached(shell);
+                               shell.detachShell();
+                               plugin.onShellDetached();
+                               RouterLogger.logShellDetached(shell);
+                             }
+
+                             @Override
+                             public void onShellNotFound() {
+                               RouterLogger.logUseErrorRoute(routeError);
+                               route(routeError,
+                                     true);
+                             }
+
+                             @Override
+                             public void onRoutingInterceptionException(RoutingInterceptionException e) {
+                               RouterLogger.logControllerInterceptsRouting(e.getControllerClassName(),
+                                                                           e.getRoute(),
+                                                                           e.getParameter());
+                             }
+
+                             @Override
+                             public boolean isCanceled() {
+                               return navigation.isSuperseded();
+                             }
+                           });
       }
     } else {
-      this.plugin.route("#" + this.lastExecutedHash,
-                        false);
+      postProcessHandleRouting(navigation,
+                               routeResult,
+                               routeConfigurations,
+                               reusedRouteConfigurations);
     }
   }
 
-  private void postProcessHandleRouting(String hash,
+  private void postProcessHandleRouting(Navigation navigation,
                                         RouteResult routeResult,
-                                        List<RouteConfig> routeConfigurations) {
+                                        List<RouteConfig> routeConfigurations,
+                                        List<RouteConfig> reusedRouteConfigurations) {
     // routing
     for (RouteConfig routeConfiguraion : routeConfigurations) {
-      this.handleRouteConfig(routeConfiguraion,
-                             routeResult,
-                             hash);
+      if (reusedRouteConfigurations.contains(routeConfiguraion)) {
+        this.updateParameters(routeConfiguraion,
+                              routeResult,
+                              navigation.getHash());
+      } else {
+        this.handleRouteConfig(navigation,
+                               routeConfiguraion,
+                               routeResult);
+      }
+    }
+    // a controller redirected the routing while handling the route configurations
+    if (navigation.isSuperseded()) {
+      this.abortSupersededNavigation(navigation);
+      return;
     }
     this.shell.onAttachedComponent();
-    RouterLogger.logShellOnAttachedComponentMethodCalled(this.shell.getClass()
-                                                                   .getCanonicalName());
-    // fire Router StateEvent
-    this.fireRouterStateEvent(RouterState.ROUTING_DONE,
-                              routeResult.getRoute());
+    RouterLogger.logShellOnAttachedComponentMethodCalled(this.shell);
+    // evict cached controllers and composites, that exceed the limits
+    ControllerFactory.get()
+                     .evict();
+    CompositeFactory.get()
+                    .evict();
+    // the routing is done, once the last controller is routed
+    // (controllers binding asynchronously might still be pending)
+    navigation.setRouted(routeResult.getRoute());
+    this.completeNavigation(navigation);
+  }
+
+  /**
+   * Checks, if the controller displayed at the selector of the route
+   * configuration can be reused. That's the case, if the controller
+   * is configured to be reused on parameter change and the route
+   * configuration uses the same controller.
+   */
+  private boolean isReusable(RouteConfig routeConfiguration) {
+    AbstractComponentController<?, ?, ?> controller = this.activeComponents.get(routeConfiguration.getSelector());
+    if (Objects.isNull(controller) || !controller.isReuseOnParameterChange()) {
+      return false;
+    }
+    return routeConfiguration.getClassName()
+                             .equals(ControllerFactory.get()
+                                                      .getControllerClassName(controller));
+  }
+
+  private void updateParameters(RouteConfig routeConfiguration,
+                                RouteResult routeResult,
+                                String hash) {
+    AbstractComponentController<?, ?, ?> controller = this.activeComponents.get(routeConfiguration.getSelector());
+    String[] parameterValues = routeResult.getParameterValues()
+                                          .toArray(new String[0]);
+    try {
+      ControllerFactory.get()
+                       .setParameter(routeConfiguration.getClassName(),
+                                     controller,
+                                     parameterValues);
+      for (AbstractCompositeController<?, ?, ?> compositeController : controller.getComposites()
+                                                                               .values()) {
+        CompositeFactory.get()
+                        .setParameter(compositeController,
+                                      parameterValues);
+      }
+    } catch (RoutingInterceptionException e) {
+      RouterLogger.logControllerInterceptsRouting(e.getControllerClassName(),
+                                                  e.getRoute(),
+                                                  e.getParameter());
+      this.route(e.getRoute(),
+                 true,
+                 e.getParameter());
+      return;
+    }
+    controller.onParametersChanged();
+    RouterLogger.logControllerOnParametersChangedMethodCalled(controller);
+    // save current hash
+    this.lastExecutedHash = hash;
+    // clear loo detection list ...
+    this.loopDetectionList.clear();
   }
 
-  private void handleRouteConfig(RouteConfig routeConfiguraion,
-                                 RouteResult routeResult,
-                                 String hash) {
+  private void handleRouteConfig(Navigation navigation,
+                                 RouteConfig routeConfiguraion,
+                                 RouteResult routeResult) {
+    navigation.addPendingRouting();
     ControllerFactory.get()
                      .controller(routeConfiguraion.getClassName(),
                                  new ControllerCallback() {
+
+                                   // true, in case the controller is no longer pending
+                                   private boolean routed;
+
                                    @Override
                                    public void onRoutingInterceptionException(RoutingInterceptionException e) {
+                                     // redirects of a superseded navigation are ignored
+                                     if (navigation.isSuperseded()) {
+                                       abortSupersededNavigation(navigation);
+                                       return;
+                                     }
                                      RouterLogger.logControllerInterceptsRouting(e.getControllerClassName(),
                                                                                  e.getRoute(),
                                                                                  e.getParameter());
                                      route(e.getRoute(),
                                            true,
                                            e.getParameter());
+                                     this.setRouted();
                                    }
 
                                    @Override
                                    public void onFinish(ControllerInstance controller) {
-                                     doRouting(hash,
+                                     if (navigation.isSuperseded()) {
+                                       abortSupersededNavigation(navigation);
+                                       return;
+                                     }
+                                     doRouting(navigation,
                                                routeResult,
                                                routeConfiguraion,
                                                controller);
+                                     this.setRouted();
+                                   }
+
+                                   private void setRouted() {
+                                     if (!this.routed) {
+                                       this.routed = true;
+                                       navigation.removePendingRouting();
+                                       completeNavigation(navigation);
+                                     }
+                                   }
+
+                                   @Override
+                                   public boolean isCanceled() {
+                                     return navigation.isSuperseded();
+                                   }
+
+                                   @Override
+                                   public NavigationMetrics getMetrics() {
+                                     return navigation.getMetrics();
                                    }
                                  },
                                  routeResult.getParameterValues()
                                             .toArray(new String[0]));
   }
 
-  private void doRouting(String hash,
+  private void doRouting(Navigation navigation,
                          RouteResult hashResult,
                          RouteConfig routeConfiguration,
                          ControllerInstance controllerInstance) {
+    String hash = navigation.getHash();
+    NavigationMetrics metrics = navigation.getMetrics();
     if (Objects.isNull(controllerInstance.getController())) {
       this.naluErrorMessage = new NaluErrorMessage(AbstractRouter.NALU_ERROR_TYPE_NO_CONTROLLER_INSTANCE,
                                                    RouterLogger.logNoControllerFoundForHash(hash));
@@ -502,23 +858,21 @@ abstract class AbstractRouter
                         .setRouter(this);
       // composites of the controller
       List<AbstractCompositeController<?, ?, ?>> compositeControllers = new ArrayList<>();
+      // references of the composites (same order as the composites)
+      List<CompositeControllerReference> compositeReferences = new ArrayList<>();
       // in case the controller is not cached, that means it is newly created, we have to deal with compüosites
       // handle composite of the controller
-      RouterLogger.logControllerLookForCompositeController(controllerInstance.getController()
-                                                                             .getClass()
-                                                                             .getCanonicalName());
-      // get a list of compistes for this controller (might be empty ...
-      List<CompositeControllerReference> compositeForController = this.getCompositeForController(controllerInstance.getController()
-                                                                                                                   .getClass()
-                                                                                                                   .getCanonicalName());
+      RouterLogger.logControllerLookForCompositeController(controllerInstance.getController());
+      // get the compistes of this controller (might be empty ...
+      CompositeControllerReferenceIndex.ControllerReferences compositeForController = this.compositeControllerReferenceIndex.get(controllerInstance.getControllerClassName());
       // in case the controller is not cached, we have to deal with composites!
       if (!controllerInstance.isChached()) {
-        if (compositeForController.size() > 0) {
-          RouterLogger.logControllerCompositeControllerFound(controllerInstance.getController()
-                                                                               .getClass()
-                                                                               .getCanonicalName(),
-                                                             compositeForController.size());
-          compositeForController.forEach(s -> {
+        if (!compositeForController.isEmpty()) {
+          RouterLogger.logControllerCompositeControllerFound(controllerInstance.getController(),
+                                                             compositeForController.getAll()
+                                                                                   .size());
+          compositeForController.getAll()
+                                .forEach(s -> {
             try {
               // check for composite loader
               if (ControllerCompositeConditionFactory.get()
@@ -535,12 +889,11 @@ abstract class AbstractRouter
                                                                                     hashResult.getParameterValues()
                                                                                               .toArray(new String[0]));
                 if (compositeInstance == null) {
-                  RouterLogger.logCompositeNotFound(controllerInstance.getController()
-                                                                      .getClass()
-                                                                      .getCanonicalName(),
+                  RouterLogger.logCompositeNotFound(controllerInstance.getController(),
                                                     s.getCompositeName());
                 } else {
                   compositeControllers.add(compositeInstance.getComposite());
+                  compositeReferences.add(s);
                   // inject router into composite
                   compositeInstance.getComposite()
                                    .setRouter(this);
@@ -549,12 +902,8 @@ abstract class AbstractRouter
                                     .getComposites()
                                     .put(s.getCompositeName(),
                                          compositeInstance.getComposite());
-                  RouterLogger.logCompositeControllerInjectedInController(compositeInstance.getComposite()
-                                                                                           .getClass()
-                                                                                           .getCanonicalName(),
-                                                                          controllerInstance.getController()
-                                                                                            .getClass()
-                                                                                            .getCanonicalName());
+                  RouterLogger.logCompositeControllerInjectedInController(compositeInstance.getComposite(),
+                                                                          controllerInstance.getController());
                 }
               }
             } catch (RoutingInterceptionException e) {
@@ -567,43 +916,29 @@ abstract class AbstractRouter
             }
           });
         } else {
-          RouterLogger.logControllerNoCompositeControllerFound(controllerInstance.getController()
-                                                                                 .getClass()
-                                                                                 .getCanonicalName());
+          RouterLogger.logControllerNoCompositeControllerFound(controllerInstance.getController());
         }
       }
       // add element to DOM
+      // (the controller and its composites are committed to the DOM at once)
+      double attachStart = this.now(navigation);
+      this.plugin.beginTransaction();
       this.append(routeConfiguration.getSelector(),
                   controllerInstance.getController());
       if (!controllerInstance.isChached()) {
         // append composite
-        for (AbstractCompositeController<?, ?, ?> compositeController : compositeControllers) {
-          CompositeControllerReference reference = null;
-          for (CompositeControllerReference sfc : compositeForController) {
-            if (compositeController.getClass()
-                                   .getCanonicalName()
-                                   .equals(sfc.getComposite())) {
-              reference = sfc;
-              break;
-            }
-          }
-          if (reference != null) {
-            this.append(reference.getSelector(),
-                        compositeController);
-            RouterLogger.logControllerOnAttachedCompositeController(controllerInstance.getController()
-                                                                                      .getClass()
-                                                                                      .getCanonicalName(),
-                                                                    compositeController.getClass()
-                                                                                       .getCanonicalName());
-          }
+        for (int i = 0; i < compositeControllers.size(); i++) {
+          AbstractCompositeController<?, ?, ?> compositeController = compositeControllers.get(i);
+          this.append(compositeReferences.get(i)
+                                         .getSelector(),
+                      compositeController);
+          RouterLogger.logControllerOnAttachedCompositeController(controllerInstance.getController(),
+                                                                  compositeController);
         }
       } else {
         // in case we have a cached controller, we need to look for global composites
         // and append them!
-        List<CompositeControllerReference> globalComposite = compositeForController.stream()
-                                                                                   .filter(CompositeControllerReference::isScopeGlobal)
-                                                                                   .collect(Collectors.toList());
-        for (CompositeControllerReference compositeControllerReference : globalComposite) {
+        for (CompositeControllerReference compositeControllerReference : compositeForController.getGlobal()) {
           if (ControllerCompositeConditionFactory.get()
                                                  .loadComposite(controllerInstance.getControllerClassName(),
                                                                 compositeControllerReference.getComposite(),
@@ -620,11 +955,13 @@ abstract class AbstractRouter
                                                                                             .toArray(new String[0]));
               this.append(compositeControllerReference.getSelector(),
                           compositeInstance.getComposite());
-              RouterLogger.logCachedControllerOnAttachedGlobalCompositeController(controllerInstance.getController()
-                                                                                                    .getClass()
-                                                                                                    .getCanonicalName(),
+              if (!Objects.isNull(metrics)) {
+                metrics.addNumberOfComposites(1);
+              }
+              RouterLogger.logCachedControllerOnAttachedGlobalCompositeController(controllerInstance.getController(),
                                                                                   compositeControllerReference.getComposite());
             } catch (RoutingInterceptionException e) {
+              this.plugin.commitTransaction();
               RouterLogger.logControllerInterceptsRouting(e.getControllerClassName(),
                                                           e.getRoute(),
                                                           e.getParameter());
@@ -636,37 +973,36 @@ abstract class AbstractRouter
           }
         }
       }
+      this.plugin.commitTransaction();
+      double lifecycleStart = this.now(navigation);
+      if (!Objects.isNull(metrics)) {
+        metrics.addAttachTime(lifecycleStart - attachStart);
+        metrics.addNumberOfComposites(compositeControllers.size());
+      }
       // call the onAttach method (for the component).
       // we will do it in both cases, cached and not cached!
       controllerInstance.getController()
                         .onAttach();
-      RouterLogger.logControllerOnAttachedMethodCalled(controllerInstance.getController()
-                                                                         .getClass()
-                                                                         .getCanonicalName());
+      RouterLogger.logControllerOnAttachedMethodCalled(controllerInstance.getController());
       compositeControllers.forEach(s -> {
         s.onAttach();
-        RouterLogger.logControllerOnAttachedMethodCalled(s.getClass()
-                                                          .getCanonicalName());
+        RouterLogger.logControllerOnAttachedMethodCalled(s);
       });
       // in case the controller is cached, we call only activate  ...
       if (controllerInstance.isChached()) {
         // let's call active for all related composite
         compositeControllers.forEach(s -> {
           s.activate();
-          RouterLogger.logCompositeComntrollerActivateMethodCalled(s.getClass()
-                                                                    .getCanonicalName());
+          RouterLogger.logCompositeComntrollerActivateMethodCalled(s);
         });
         controllerInstance.getController()
                           .activate();
-        RouterLogger.logControllerActivateMethodCalled(controllerInstance.getController()
-                                                                         .getClass()
-                                                                         .getCanonicalName());
+        RouterLogger.logControllerActivateMethodCalled(controllerInstance.getController());
       } else {
         compositeControllers.forEach(s -> {
           if (!s.isCached()) {
             s.start();
-            RouterLogger.logCompositeComntrollerStartMethodCalled(s.getClass()
-                                                                   .getCanonicalName());
+            RouterLogger.logCompositeComntrollerStartMethodCalled(s);
             // in case we are cached globally we need to set cached
             // to true after the first time the
             // composite is created
@@ -675,20 +1011,20 @@ abstract class AbstractRouter
             }
           }
           s.activate();
-          RouterLogger.logCompositeComntrollerActivateMethodCalled(s.getClass()
-                                                                    .getCanonicalName());
+          RouterLogger.logCompositeComntrollerActivateMethodCalled(s);
         });
         controllerInstance.getController()
                           .start();
-        RouterLogger.logControllerStartMethodCalled(controllerInstance.getController()
-                                                                      .getClass()
-                                                                      .getCanonicalName());
+        RouterLogger.logControllerStartMethodCalled(controllerInstance.getController());
         controllerInstance.getController()
                           .activate();
-        RouterLogger.logControllerActivateMethodCalled(controllerInstance.getController()
-                                                                         .getClass()
-                                                                         .getCanonicalName());
+        RouterLogger.logControllerActivateMethodCalled(controllerInstance.getController());
       }
+      if (!Objects.isNull(metrics)) {
+        metrics.addLifecycleTime(NavigationMetrics.now() - lifecycleStart);
+      }
+      StartupProfiler.get()
+                     .end(StartupPhase.FIRST_CONTROLLER_ACTIVATED);
       // save current hash
       this.lastExecutedHash = hash;
       // clear loo detection list ...
@@ -705,11 +1041,67 @@ abstract class AbstractRouter
    */
   public RouteResult parse(String route)
       throws RouterException {
+    RouteResult routeResult = this.routeResultCache.get(route,
+                                                        this.routerConfiguration.getRouteTree());
+    if (!Objects.isNull(routeResult)) {
+      return routeResult;
+    }
     String decodedUrl = this.plugin.decode(route);
-    return RouteParser.get()
-                      .parse(decodedUrl,
-                             this.shellConfiguration,
-                             this.routerConfiguration);
+    routeResult = RouteParser.get()
+                             .parse(decodedUrl,
+                                    this.shellConfiguration,
+                                    this.routerConfiguration);
+    this.routeResultCache.put(route,
+                              routeResult);
+    return routeResult;
+  }
+
+  /**
+   * Returns the number of routes found in the parse cache.
+   *
+   * @return number of cache hits
+   */
+  public int getParseCacheHitCount() {
+    return this.routeResultCache.getHitCount();
+  }
+
+  /**
+   * Returns the number of routes not found in the parse cache.
+   *
+   * @return number of cache misses
+   */
+  public int getParseCacheMissCount() {
+    return this.routeResultCache.getMissCount();
+  }
+
+  @Override
+  public void clearFilterCache() {
+    this.filterResultCaches.clear();
+  }
+
+  private boolean filter(IsFilter filter,
+                         String route,
+                         String[] parms) {
+    if (!filter.isCacheable()) {
+      return filter.filter(route,
+                           parms);
+    }
+    FilterResultCache filterResultCache = this.filterResultCaches.get(filter);
+    if (Objects.isNull(filterResultCache)) {
+      filterResultCache = new FilterResultCache();
+      this.filterResultCaches.put(filter,
+                                  filterResultCache);
+    }
+    Boolean result = filterResultCache.get(route,
+                                           parms);
+    if (Objects.isNull(result)) {
+      result = filter.filter(route,
+                             parms);
+      filterResultCache.put(route,
+                            parms,
+                            result);
+    }
+    return result;
   }
 
   private String addLeadindgSlash(String value) {
@@ -719,31 +1111,32 @@ abstract class AbstractRouter
     return "/" + value;
   }
 
-  private boolean confirmRouting(List<RouteConfig> routeConfigurations) {
-    AtomicBoolean isDirtyComposite = new AtomicBoolean(false);
-    routeConfigurations.stream()
-                       .map(config -> this.activeComponents.get(config.getSelector()))
-                       .filter(Objects::nonNull)
-                       .forEach(c -> {
-                         Optional<String> optional = c.getComposites()
-                                                      .values()
-                                                      .stream()
-                                                      .map(AbstractCompositeController::mayStop)
-                                                      .filter(Objects::nonNull)
-                                                      .findFirst();
-                         if (optional.isPresent()) {
-                           this.plugin.confirm(optional.get());
-                           isDirtyComposite.set(true);
-                         }
-                       });
-
-    return !isDirtyComposite.get() &&
-        routeConfigurations.stream()
-                           .map(config -> this.activeComponents.get(config.getSelector()))
-                           .filter(Objects::nonNull)
-                           .map(AbstractComponentController::mayStop)
-                           .filter(Objects::nonNull)
-                           .allMatch(message -> this.plugin.confirm(message));
+  private String getConfirmMessage(List<RouteConfig> routeConfigurations) {
+    // the first composite or controller, that does not want
+    // to be stopped, vetoes the routing. There is no need to
+    // ask the others.
+    for (RouteConfig routeConfiguration : routeConfigurations) {
+      AbstractComponentController<?, ?, ?> controller = this.activeComponents.get(routeConfiguration.getSelector());
+      if (!Objects.isNull(controller)) {
+        for (AbstractCompositeController<?, ?, ?> compositeController : controller.getComposites()
+                                                                                 .values()) {
+          String message = compositeController.mayStop();
+          if (!Objects.isNull(message)) {
+            return message;
+          }
+        }
+      }
+    }
+    for (RouteConfig routeConfiguration : routeConfigurations) {
+      AbstractComponentController<?, ?, ?> controller = this.activeComponents.get(routeConfiguration.getSelector());
+      if (!Objects.isNull(controller)) {
+        String message = controller.mayStop();
+        if (!Objects.isNull(message)) {
+          return message;
+        }
+      }
+    }
+    return null;
   }
 
   private void stopController(List<RouteConfig> routeConfiguraions,
@@ -760,10 +1153,8 @@ abstract class AbstractRouter
     }
     controllerList.forEach(controller -> {
       // stop controller
-      RouterLogger.logControllerHandlingStop(controller.getClass()
-                                                       .getCanonicalName());
-      RouterLogger.logControllerHandlingStopComposites(controller.getClass()
-                                                                 .getCanonicalName());
+      RouterLogger.logControllerHandlingStop(controller);
+      RouterLogger.logControllerHandlingStopComposites(controller);
       // stop compositeComntrollers
       controller.getComposites()
                 .values()
@@ -782,126 +1173,98 @@ abstract class AbstractRouter
                   }
                 });
 
-      RouterLogger.logControllerCompositesStopped(controller.getClass()
-                                                            .getCanonicalName());
+      RouterLogger.logControllerCompositesStopped(controller);
       if (controller.isCached()) {
         deactivateController(controller);
       } else {
         stopController(controller);
       }
     });
+    // clear all selectors at once
+    this.plugin.beginTransaction();
     routeConfiguraions.forEach(routeConfiguraion -> this.plugin.remove(routeConfiguraion.getSelector()));
-    controllerList.forEach(c -> this.activeComponents.remove(c));
+    this.plugin.commitTransaction();
+    // the controllers of the removed selectors are no longer active
+    // (in case the shell changes, all selectors are gone)
+    if (replaceShell) {
+      this.activeComponents.clear();
+    } else {
+      routeConfiguraions.forEach(routeConfiguraion -> this.activeComponents.remove(routeConfiguraion.getSelector()));
+    }
   }
 
   private void deactivateController(AbstractComponentController<?, ?, ?> controller) {
     // deactivate controller
-    RouterLogger.logControllerdeactivateMethodWillBeCalled(controller.getClass()
-                                                                     .getCanonicalName());
+    RouterLogger.logControllerdeactivateMethodWillBeCalled(controller);
     controller.deactivate();
-    RouterLogger.logControllerDeactivateMethodCalled(controller.getClass()
-                                                               .getCanonicalName());
+    RouterLogger.logControllerDeactivateMethodCalled(controller);
     controller.onDetach();
-    RouterLogger.logControllerDetached(controller.getClass()
-                                                 .getCanonicalName());
+    RouterLogger.logControllerDetached(controller);
     controller.getComponent()
               .onDetach();
-    RouterLogger.logComponentDetached(controller.getComponent()
-                                                .getClass()
-                                                .getCanonicalName());
-    RouterLogger.logControllerDeactivated(controller.getClass()
-                                                    .getCanonicalName());
+    RouterLogger.logComponentDetached(controller.getComponent());
+    RouterLogger.logControllerDeactivated(controller);
   }
 
   private void stopController(AbstractComponentController<?, ?, ?> controller) {
-    RouterLogger.logControllerdeactivateMethodWillBeCalled(controller.getClass()
-                                                                     .getCanonicalName());
+    RouterLogger.logControllerdeactivateMethodWillBeCalled(controller);
     controller.deactivate();
-    RouterLogger.logControllerDeactivateMethodCalled(controller.getClass()
-                                                               .getCanonicalName());
+    RouterLogger.logControllerDeactivateMethodCalled(controller);
     controller.onDetach();
-    RouterLogger.logControllerDetached(controller.getClass()
-                                                 .getCanonicalName());
+    RouterLogger.logControllerDetached(controller);
     // stop controller
-    RouterLogger.logControllerStopMethodWillBeCalled(controller.getClass()
-                                                               .getCanonicalName());
+    RouterLogger.logControllerStopMethodWillBeCalled(controller);
     controller.stop();
-    RouterLogger.logControllerStopMethodCalled(controller.getClass()
-                                                         .getCanonicalName());
+    RouterLogger.logControllerStopMethodCalled(controller);
     controller.onDetach();
-    RouterLogger.logControllerDetached(controller.getClass()
-                                                 .getCanonicalName());
+    RouterLogger.logControllerDetached(controller);
     controller.removeHandlers();
-    RouterLogger.logControllerRemoveHandlersMethodCalled(controller.getClass()
-                                                                   .getCanonicalName());
+    RouterLogger.logControllerRemoveHandlersMethodCalled(controller);
     controller.getComponent()
               .onDetach();
-    RouterLogger.logComponentDetached(controller.getComponent()
-                                                .getClass()
-                                                .getCanonicalName());
+    RouterLogger.logComponentDetached(controller.getComponent());
     controller.getComponent()
               .removeHandlers();
-    RouterLogger.logComponentRemoveHandlersMethodCalled(controller.getComponent()
-                                                                  .getClass()
-                                                                  .getCanonicalName());
-    RouterLogger.logControllerStopped(controller.getClass()
-                                                .getCanonicalName());
+    RouterLogger.logComponentRemoveHandlersMethodCalled(controller.getComponent());
+    RouterLogger.logControllerStopped(controller);
   }
 
   private void deactivateCompositeController(AbstractComponentController<?, ?, ?> controller,
                                              AbstractCompositeController<?, ?, ?> compositeController) {
-    RouterLogger.logCompositeControllerDeactivateMethodWillBeCalled(compositeController.getClass()
-                                                                                       .getCanonicalName());
+    RouterLogger.logCompositeControllerDeactivateMethodWillBeCalled(compositeController);
     compositeController.deactivate();
-    RouterLogger.logCompositeControllerDeactivateMethodCalled(compositeController.getClass()
-                                                                                 .getCanonicalName());
+    RouterLogger.logCompositeControllerDeactivateMethodCalled(compositeController);
     compositeController.onDetach();
-    RouterLogger.logCompositeControllerDetached(compositeController.getClass()
-                                                                   .getCanonicalName());
+    RouterLogger.logCompositeControllerDetached(compositeController);
     compositeController.getComponent()
                        .onDetach();
-    RouterLogger.logCompositeComponentDetached(compositeController.getComponent()
-                                                                  .getClass()
-                                                                  .getCanonicalName());
-    RouterLogger.logCompositeControllerDeactivated(controller.getClass()
-                                                             .getCanonicalName());
+    RouterLogger.logCompositeComponentDetached(compositeController.getComponent());
+    RouterLogger.logCompositeControllerDeactivated(controller);
   }
 
   private void stopCompositeController(AbstractComponentController<?, ?, ?> controller,
                                        AbstractCompositeController<?, ?, ?> compositeController) {
-    RouterLogger.logCompositeControllerDeactivateMethodWillBeCalled(compositeController.getClass()
-                                                                                       .getCanonicalName());
+    RouterLogger.logCompositeControllerDeactivateMethodWillBeCalled(compositeController);
     compositeController.deactivate();
-    RouterLogger.logCompositeControllerDeactivateMethodCalled(compositeController.getClass()
-                                                                                 .getCanonicalName());
-    RouterLogger.logCompositeControllerStopMethodWillBeCalled(compositeController.getClass()
-                                                                                 .getCanonicalName());
+    RouterLogger.logCompositeControllerDeactivateMethodCalled(compositeController);
+    RouterLogger.logCompositeControllerStopMethodWillBeCalled(compositeController);
     if (!compositeController.isCached()) {
       compositeController.stop();
-      RouterLogger.logCompositeControllerRemoveMethodCalled(compositeController.getClass()
-                                                                               .getCanonicalName());
+      RouterLogger.logCompositeControllerRemoveMethodCalled(compositeController);
     }
     compositeController.remove();
-    RouterLogger.logCompositeControllerStopMethodCalled(compositeController.getClass()
-                                                                           .getCanonicalName());
+    RouterLogger.logCompositeControllerStopMethodCalled(compositeController);
     compositeController.onDetach();
-    RouterLogger.logCompositeControllerDetached(compositeController.getClass()
-                                                                   .getCanonicalName());
+    RouterLogger.logCompositeControllerDetached(compositeController);
     compositeController.removeHandlers();
-    RouterLogger.logCompositeControllerRemoveHandlersMethodCalled(compositeController.getClass()
-                                                                                     .getCanonicalName());
+    RouterLogger.logCompositeControllerRemoveHandlersMethodCalled(compositeController);
     compositeController.getComponent()
                        .onDetach();
-    RouterLogger.logCompositeComponentDetached(compositeController.getComponent()
-                                                                  .getClass()
-                                                                  .getCanonicalName());
+    RouterLogger.logCompositeComponentDetached(compositeController.getComponent());
     compositeController.getComponent()
                        .removeHandlers();
-    RouterLogger.logCompositeComponentRemoveHandlersMethodCalled(compositeController.getComponent()
-                                                                                    .getClass()
-                                                                                    .getCanonicalName());
-    RouterLogger.logCompositeControllerStopped(controller.getClass()
-                                                         .getCanonicalName());
+    RouterLogger.logCompositeComponentRemoveHandlersMethodCalled(compositeController.getComponent());
+    RouterLogger.logCompositeControllerStopped(controller);
   }
 
   private void append(String selector,
@@ -929,12 +1292,6 @@ abstract class AbstractRouter
     }
   }
 
-  private List<CompositeControllerReference> getCompositeForController(String controllerClassName) {
-    return this.compositeControllerReferences.stream()
-                                             .filter(s -> controllerClassName.equals(s.getController()))
-                                             .collect(Collectors.toList());
-  }
-
   /**
    * The method routes to another screen. In case it is called,
    * it will:
@@ -966,7 +1323,14 @@ abstract class AbstractRouter
   private void route(String newRoute,
                      boolean replaceState,
                      String... parms) {
-    String newRouteWithParams = this.generate(newRoute,
+    // in case the route can be resolved directly, there is no need to parse the generated hash
+    RouteResult routeResult = RouteParser.get()
+                                         .resolve(newRoute,
+                                                  parms,
+                                                  this.shellConfiguration,
+                                                  this.routerConfiguration);
+    // an alias is replaced by its route, so the history contains the route
+    String newRouteWithParams = this.generate(this.isReplaceableAlias(routeResult) ? routeResult.getRoute() : newRoute,
                                               parms);
     if (replaceState) {
       this.plugin.route(newRouteWithParams,
@@ -975,7 +1339,23 @@ abstract class AbstractRouter
       this.plugin.route(newRouteWithParams,
                         false);
     }
-    this.handleRouting(newRouteWithParams);
+    this.handleRouting(newRouteWithParams,
+                       routeResult);
+  }
+
+  /**
+   * Checks, if the route result was found using an alias, that can be
+   * replaced by the route. (A route using a group of shells can not be
+   * used to generate a hash.)
+   *
+   * @param routeResult the route result to check
+   * @return true, if the hash can be generated from the route of the route result
+   */
+  private boolean isReplaceableAlias(RouteResult routeResult) {
+    return !Objects.isNull(routeResult) &&
+           routeResult.isAlias() &&
+           !routeResult.getRoute()
+                       .startsWith("/[");
   }
 
   /**
@@ -995,6 +1375,122 @@ abstract class AbstractRouter
                                 parms);
   }
 
+  /**
+   * Starts a new navigation. The running navigation (if there is one)
+   * gets superseded, so pending callbacks of it will be ignored.
+   *
+   * @param hash the hash to navigate to
+   * @return the new navigation
+   */
+  private Navigation startNavigation(String hash) {
+    if (!Objects.isNull(this.currentNavigation)) {
+      this.currentNavigation.supersede();
+      // the running navigation will not complete anymore
+      // (pending callbacks of it will be ignored)
+      if (!this.currentNavigation.isDone()) {
+        this.abortSupersededNavigation(this.currentNavigation);
+      }
+    }
+    this.currentNavigation = new Navigation(++this.navigationToken,
+                                            hash,
+                                            Objects.isNull(this.routingMetrics) ? null : new NavigationMetrics(hash));
+    return this.currentNavigation;
+  }
+
+  /**
+   * Aborts a superseded navigation. In case the navigation has not
+   * reported its final state, a router state event will be fired.
+   *
+   * @param navigation the superseded navigation
+   */
+  private void abortSupersededNavigation(Navigation navigation) {
+    RouterLogger.logNavigationSuperseded(navigation.getHash(),
+                                         navigation.getToken());
+    boolean finished = navigation.finish();
+    this.reportMetrics(navigation,
+                       true);
+    if (finished) {
+      this.fireRouterStateEvent(RouterState.ROUTING_ABORTED,
+                                navigation.getHash(),
+                                true);
+    }
+  }
+
+  /**
+   * Finishes the navigation and reports the metrics of the navigation.
+   *
+   * @param navigation the navigation to finish
+   * @param aborted    true, in case the navigation was aborted
+   */
+  private void finishNavigation(Navigation navigation,
+                                boolean aborted) {
+    navigation.finish();
+    this.reportMetrics(navigation,
+                       aborted);
+  }
+
+  /**
+   * Finishes the navigation, in case all controllers of the navigation
+   * are routed: the metrics are reported, the router state event is fired
+   * and the events deferred during the routing are delivered.
+   *
+   * @param navigation the navigation
+   */
+  private void completeNavigation(Navigation navigation) {
+    if (navigation.isSuperseded() || !navigation.isComplete() || !navigation.finish()) {
+      return;
+    }
+    this.reportMetrics(navigation,
+                       false);
+    // fire Router StateEvent
+    this.fireRouterStateEvent(RouterState.ROUTING_DONE,
+                              navigation.getRoute());
+    // deliver the events deferred during the routing
+    if (!Objects.isNull(this.eventBus)) {
+      this.eventBus.flushDeferredEvents();
+    }
+  }
+
+  /**
+   * Reports the metrics of the navigation to the routing metrics.
+   * The metrics of a navigation are reported only once. Nothing will
+   * happen in case no routing metrics are registered.
+   *
+   * @param navigation the finished navigation
+   * @param aborted    true, in case the navigation was aborted
+   */
+  private void reportMetrics(Navigation navigation,
+                             boolean aborted) {
+    if (!navigation.report()) {
+      return;
+    }
+    NavigationMetrics metrics = navigation.getMetrics();
+    if (Objects.isNull(metrics) || Objects.isNull(this.routingMetrics)) {
+      return;
+    }
+    metrics.setAborted(aborted);
+    metrics.setTotalTime(NavigationMetrics.now() - navigation.getStartTime());
+    this.routingMetrics.report(metrics);
+  }
+
+  private void addConfirmTime(Navigation navigation,
+                              double confirmStart) {
+    if (!Objects.isNull(navigation.getMetrics())) {
+      navigation.getMetrics()
+                .addConfirmTime(NavigationMetrics.now() - confirmStart);
+    }
+  }
+
+  /**
+   * Returns the current time in case the navigation is measured.
+   *
+   * @param navigation the navigation
+   * @return the current time in milliseconds or 0, if there is nothing to measure
+   */
+  private double now(Navigation navigation) {
+    return Objects.isNull(navigation.getMetrics()) ? 0 : NavigationMetrics.now();
+  }
+
   private String pimpUpHashForLoopDetection(String hash) {
     String value = hash;
     if (value.startsWith("#")) {
@@ -1006,6 +1502,16 @@ abstract class AbstractRouter
     return value;
   }
 
+  /**
+   * Sets the routing metrics. In case the routing metrics are null,
+   * nothing will be measured.
+   *
+   * @param routingMetrics the routing metrics or null
+   */
+  public void setRoutingMetrics(IsRoutingMetrics routingMetrics) {
+    this.routingMetrics = routingMetrics;
+  }
+
   /**
    * sets the eventbus inside the router
    *
@@ -1013,6 +1519,8 @@ abstract class AbstractRouter
    */
   public void setEventBus(SimpleEventBus eventBus) {
     this.eventBus = eventBus;
+    // deferred events are delivered using the plugin
+    this.eventBus.setDeferredScheduler(this.plugin::scheduleDeferred);
   }
 
   /**
@@ -1023,11 +1531,26 @@ abstract class AbstractRouter
    */
   private void fireRouterStateEvent(RouterState state,
                                     String route) {
-    String sb = "fire RouterEvent for route >>" + route + "<< with state >>" + state.name() + "<<";
-    RouterLogger.logSimple(sb,
-                           1);
+    this.fireRouterStateEvent(state,
+                              route,
+                              false);
+  }
+
+  /**
+   * Fires a router state event to inform the application about the state
+   * of routing.
+   *
+   * @param state      routing state
+   * @param superseded true, in case the routing is superseded by a newer one
+   */
+  private void fireRouterStateEvent(RouterState state,
+                                    String route,
+                                    boolean superseded) {
+    RouterLogger.logFireRouterStateEvent(route,
+                                         state);
     this.eventBus.fireEvent(new RouterStateEvent(state,
-                                                 route));
+                                                 route,
+                                                 superseded));
   }
 
   /**
@@ -17,6 +17,7 @@
 package com.github.nalukit.nalu.client.internal.route;
 
 import com.github.nalukit.nalu.client.Router;
+import com.github.nalukit.nalu.client.metrics.IsRoutingMetrics;
 import org.gwtproject.event.shared.SimpleEventBus;
 
 public interface ConfiguratableRouter
@@ -46,4 +47,12 @@ public interface ConfiguratableRouter
    */
   void setEventBus(SimpleEventBus eventBus);
 
+  /**
+   * Sets the routing metrics. In case the routing metrics are null,
+   * nothing will be measured.
+   *
+   * @param routingMetrics the routing metrics or null
+   */
+  void setRoutingMetrics(IsRoutingMetrics routingMetrics);
+
 }
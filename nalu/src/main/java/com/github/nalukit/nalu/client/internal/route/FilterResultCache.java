@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bounded LRU cache of the results of a filter.
+ * <p>
+ * The cache maps the route and the parameters to the result of
+ * the filter.
+ */
+final class FilterResultCache {
+
+  /* maximum number of cached results */
+  static final int MAX_SIZE = 64;
+
+  /* cached results (access ordered) */
+  private Map<List<String>, Boolean> cache;
+
+  FilterResultCache() {
+    super();
+
+    this.cache = new LinkedHashMap<List<String>, Boolean>(16,
+                                                          0.75f,
+                                                          true) {
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<List<String>, Boolean> eldest) {
+        return size() > FilterResultCache.MAX_SIZE;
+      }
+
+    };
+  }
+
+  /**
+   * Returns the cached result of the filter.
+   *
+   * @param route the route
+   * @param parms the parameters of the route
+   * @return the result or null, if the result is not cached
+   */
+  Boolean get(String route,
+              String[] parms) {
+    return this.cache.get(FilterResultCache.createKey(route,
+                                                      parms));
+  }
+
+  void put(String route,
+           String[] parms,
+           boolean result) {
+    this.cache.put(FilterResultCache.createKey(route,
+                                               parms),
+                   result);
+  }
+
+  int size() {
+    return this.cache.size();
+  }
+
+  private static List<String> createKey(String route,
+                                        String[] parms) {
+    List<String> key = new ArrayList<>(parms.length + 1);
+    key.add(route);
+    key.addAll(Arrays.asList(parms));
+    return key;
+  }
+
+}
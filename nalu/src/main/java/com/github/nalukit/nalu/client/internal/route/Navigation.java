@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import com.github.nalukit.nalu.client.metrics.NavigationMetrics;
+
+import java.util.Objects;
+
+/**
+ * A navigation handled by the router.
+ * <p>
+ * Every hash handled by the router creates a new navigation with its
+ * own token. Starting a new navigation supersedes the previous one.
+ * Callbacks belonging to a superseded navigation (for example the
+ * bind of a slow controller or a routing interception) are ignored
+ * by the router, so only the latest navigation gets attached.
+ * <p>
+ * In case routing metrics are registered, the navigation carries the
+ * metrics collected while handling the hash. The metrics are reported
+ * once the navigation is complete, that means all controllers of the
+ * navigation are routed (including controllers binding asynchronously),
+ * or once the navigation is aborted.
+ */
+final class Navigation {
+
+  /* token of the navigation */
+  private final int token;
+
+  /* the handled hash */
+  private final String hash;
+
+  /* true, in case a newer navigation was started */
+  private boolean superseded;
+
+  /* true, in case the final state of the navigation was reported */
+  private boolean finished;
+
+  /* true, in case the metrics of the navigation were reported */
+  private boolean reported;
+
+  /* number of controllers requested, but not yet routed */
+  private int pendingRoutings;
+
+  /* true, in case all controllers of the navigation were requested */
+  private boolean routed;
+
+  /* the route of the navigation (set, once all controllers were requested) */
+  private String route;
+
+  /* metrics of the navigation (null: no routing metrics registered) */
+  private final NavigationMetrics metrics;
+
+  /* start time of the navigation (only set in case of metrics) */
+  private final double startTime;
+
+  Navigation(int token,
+             String hash,
+             NavigationMetrics metrics) {
+    super();
+
+    this.token = token;
+    this.hash = hash;
+    this.metrics = metrics;
+    this.startTime = Objects.isNull(metrics) ? 0 : NavigationMetrics.now();
+  }
+
+  int getToken() {
+    return token;
+  }
+
+  String getHash() {
+    return hash;
+  }
+
+  NavigationMetrics getMetrics() {
+    return metrics;
+  }
+
+  double getStartTime() {
+    return startTime;
+  }
+
+  boolean isSuperseded() {
+    return superseded;
+  }
+
+  void supersede() {
+    this.superseded = true;
+  }
+
+  /**
+   * Marks the navigation as finished.
+   *
+   * @return true, in case the navigation was not finished before
+   */
+  boolean finish() {
+    if (this.finished) {
+      return false;
+    }
+    this.finished = true;
+    return true;
+  }
+
+  /**
+   * Marks the metrics of the navigation as reported.
+   *
+   * @return true, in case the metrics were not reported before
+   */
+  boolean report() {
+    if (this.reported) {
+      return false;
+    }
+    this.reported = true;
+    return true;
+  }
+
+  /**
+   * Returns true, in case the final state and the metrics of the
+   * navigation were reported.
+   *
+   * @return true, if there is nothing left to report
+   */
+  boolean isDone() {
+    return this.finished && this.reported;
+  }
+
+  /**
+   * Counts a controller requested by the navigation.
+   */
+  void addPendingRouting() {
+    this.pendingRoutings++;
+  }
+
+  /**
+   * Counts down a controller of the navigation, that is routed
+   * (or failed to route).
+   */
+  void removePendingRouting() {
+    this.pendingRoutings--;
+  }
+
+  String getRoute() {
+    return route;
+  }
+
+  /**
+   * Marks, that all controllers of the navigation were requested.
+   *
+   * @param route the route of the navigation
+   */
+  void setRouted(String route) {
+    this.routed = true;
+    this.route = route;
+  }
+
+  /**
+   * Returns true, in case all controllers were requested and
+   * routed.
+   *
+   * @return true, if the navigation is complete
+   */
+  boolean isComplete() {
+    return this.routed && this.pendingRoutings == 0;
+  }
+
+}
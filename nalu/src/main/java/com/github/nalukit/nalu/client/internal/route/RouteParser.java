@@ -2,6 +2,9 @@ package com.github.nalukit.nalu.client.internal.route;
 
 import com.github.nalukit.nalu.client.Nalu;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -64,50 +67,16 @@ public class RouteParser {
       throw new RouterException(sb.toString());
     }
     // extract route first:
-    routeValue = route;
-    if (routeValue.startsWith("/")) {
-      routeValue = routeValue.substring(1);
-    }
     if (routeValue.contains("/")) {
-      String searchRoute = routeValue;
-      Optional<RouteConfig> optionalRouterConfig = routerConfiguration.getRouters()
-                                                                      .stream()
-                                                                      .filter(rc -> Nalu.match(searchRoute,
-                                                                                               rc.getRoute()))
-                                                                      .findFirst();
-      if (optionalRouterConfig.isPresent()) {
-        routeResult.setRoute(optionalRouterConfig.get()
-                                                 .getRoute());
-        if (routeResult.getRoute()
-                       .contains("*")) {
-          String[] partsOfRoute = routeValue.split("/");
-          String compareRoute = optionalRouterConfig.get()
-                                                    .getRoute();
-          if (compareRoute.startsWith("/")) {
-            compareRoute = compareRoute.substring(1);
-          }
-          String[] partsOfRouteFromConfiguration = compareRoute.split("/");
-          for (int i = 0; i < partsOfRouteFromConfiguration.length; i++) {
-            if (partsOfRouteFromConfiguration[i].equals("*")) {
-              if (partsOfRoute.length - 1 >= i) {
-                String parameterValue = partsOfRoute[i].replace(RouterConstants.NALU_SLASH_REPLACEMENT,
-                                                                "/");
-                if (Nalu.isUsingColonForParametersInUrl()) {
-                  if (parameterValue.length() > 0) {
-                    if (parameterValue.startsWith(":")) {
-                      parameterValue = parameterValue.substring(1);
-                    }
-                  }
-                }
-                routeResult.getParameterValues()
-                           .add(parameterValue);
-              } else {
-                routeResult.getParameterValues()
-                           .add("");
-              }
-            }
-          }
-        }
+      RouteTree.Match match = routerConfiguration.getRouteTree()
+                                                 .find(routeValue);
+      if (match != null) {
+        routeResult.setRoute(match.getRouteConfig()
+                                  .getRoute());
+        routeResult.getParameterValues()
+                   .addAll(match.getParameterValues());
+        routeResult.setRouteConfigs(match.getRouteConfigs());
+        routeResult.setAlias(match.isAlias());
       } else {
         StringBuilder sb = new StringBuilder();
         sb.append("no matching route found for route >>")
@@ -118,11 +87,10 @@ public class RouteParser {
         throw new RouterException(sb.toString());
       }
     } else {
-      String finalSearchPart = "/" + routeValue;
-      if (routerConfiguration.getRouters()
-                             .stream()
-                             .anyMatch(f -> f.match(finalSearchPart))) {
+      List<RouteConfig> routeConfigs = routerConfiguration.match("/" + routeValue);
+      if (!routeConfigs.isEmpty()) {
         routeResult.setRoute("/" + routeValue);
+        routeResult.setRouteConfigs(routeConfigs);
       } else {
         throw new RouterException(RouterLogger.logNoMatchingRoute(route));
       }
@@ -130,6 +98,108 @@ public class RouteParser {
     return routeResult;
   }
 
+  /**
+   * Resolves the route and the parameters of a programmatic navigation
+   * without generating and parsing the hash.
+   * <p>
+   * The route needs to be the route (or an alias) of a route configuration
+   * using a known shell, containing a '*' for every parameter. Besides that,
+   * parsing the hash has to find the same route configuration (in case
+   * route configurations overlap, the one added first wins). In any other
+   * case the route can not be resolved directly and the hash has to be parsed.
+   *
+   * @param route               route to navigate to
+   * @param parms               parameters of the route
+   * @param shellConfiguration  the shell configuration
+   * @param routerConfiguration the router configuration
+   * @return the route result or null, in case the route can not be resolved directly
+   */
+  RouteResult resolve(String route,
+                      String[] parms,
+                      ShellConfiguration shellConfiguration,
+                      RouterConfiguration routerConfiguration) {
+    if (!route.startsWith("/")) {
+      return null;
+    }
+    String[] segments = RouteTree.split(route);
+    String shell = "/" + segments[0];
+    if (shellConfiguration.getShells()
+                          .stream()
+                          .noneMatch(shellConfig -> shell.equals(shellConfig.getRoute()))) {
+      return null;
+    }
+    // the number of parameters has to match the number of placeholders
+    int numberOfPlaceHolders = 0;
+    for (String segment : segments) {
+      if ("*".equals(segment)) {
+        numberOfPlaceHolders++;
+      }
+    }
+    if (parms.length != numberOfPlaceHolders) {
+      return null;
+    }
+    List<String> parameterValues = new ArrayList<>();
+    for (String parm : parms) {
+      if (Objects.isNull(parm)) {
+        return null;
+      }
+      parameterValues.add(parm);
+    }
+    List<RouteConfig> routeConfigs = routerConfiguration.match(route);
+    if (routeConfigs.isEmpty()) {
+      return null;
+    }
+    // parsing the hash might find another route configuration
+    // (for example: a route configuration added earlier, that matches
+    // the parameter values), so the route can only be resolved directly,
+    // in case parsing the hash will find the same route configuration
+    if (segments.length > 1) {
+      RouteTree.Match match = routerConfiguration.getRouteTree()
+                                                 .find(this.substitute(segments,
+                                                                       parms));
+      if (Objects.isNull(match) || match.getRouteConfig() != routeConfigs.get(0)) {
+        return null;
+      }
+    }
+    RouteResult routeResult = new RouteResult(shell,
+                                              segments.length == 1 ? shell : routeConfigs.get(0)
+                                                                                         .getRoute(),
+                                              parameterValues);
+    routeResult.setRouteConfigs(routeConfigs);
+    routeResult.setAlias(routerConfiguration.isAlias(route));
+    return routeResult;
+  }
+
+  /**
+   * Replaces the placeholders of the segments with the parameters. The
+   * result contains the segments the generated hash would be split into.
+   *
+   * @param segments segments of the route
+   * @param parms    parameters of the route (one for every placeholder)
+   * @return segments of the generated hash
+   */
+  private String[] substitute(String[] segments,
+                              String[] parms) {
+    String[] hashSegments = new String[segments.length];
+    int parameterIndex = 0;
+    for (int i = 0; i < segments.length; i++) {
+      if ("*".equals(segments[i])) {
+        String parm = parms[parameterIndex++].replace("/",
+                                                      RouterConstants.NALU_SLASH_REPLACEMENT);
+        hashSegments[i] = Nalu.isUsingColonForParametersInUrl() ? ":" + parm : parm;
+      } else {
+        hashSegments[i] = segments[i];
+      }
+    }
+    // splitting the hash removes trailing empty segments
+    int length = hashSegments.length;
+    while (length > 1 && hashSegments[length - 1].isEmpty()) {
+      length--;
+    }
+    return length == hashSegments.length ? hashSegments : Arrays.copyOf(hashSegments,
+                                                                          length);
+  }
+
   /**
    * Generates a new route!
    * <p>
@@ -194,16 +264,9 @@ public class RouteParser {
     if (generatedRoute.startsWith("/")) {
       generatedRoute = generatedRoute.substring(1);
     }
-    StringBuilder parameters = new StringBuilder();
-    for (int i = 0; i < parms.length; i++) {
-      parameters.append(parms[i]);
-      if (parms.length - 1 < i) {
-        parameters.append(",");
-      }
-    }
-    String sblog = "generated route >>" + generatedRoute + "<< -> created from >>" + route + "<< with parameters >>" + parameters + "<<";
-    RouterLogger.logSimple(sblog,
-                           1);
+    RouterLogger.logGeneratedRoute(generatedRoute,
+                                   route,
+                                   parms);
     return generatedRoute;
   }
 
@@ -27,6 +27,12 @@ public class RouteResult {
 
   private List<String> parameterValues;
 
+  /* route configurations matching the route - set by the parser */
+  private List<RouteConfig> routeConfigs;
+
+  /* true, in case the route was found using an alias - set by the parser */
+  private boolean alias;
+
   public RouteResult() {
     this(null,
          null,
@@ -64,6 +70,22 @@ public class RouteResult {
     this.parameterValues = parameterValues;
   }
 
+  List<RouteConfig> getRouteConfigs() {
+    return routeConfigs;
+  }
+
+  void setRouteConfigs(List<RouteConfig> routeConfigs) {
+    this.routeConfigs = routeConfigs;
+  }
+
+  boolean isAlias() {
+    return alias;
+  }
+
+  void setAlias(boolean alias) {
+    this.alias = alias;
+  }
+
   public String getShell() {
     return shell;
   }
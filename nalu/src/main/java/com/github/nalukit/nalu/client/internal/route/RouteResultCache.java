@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bounded LRU cache of parsed routes.
+ * <p>
+ * The cache maps the raw hash to the result of the parser. Because the
+ * result depends on the route configuration, the cache is cleared once
+ * the route tree of the router configuration changes.
+ */
+final class RouteResultCache {
+
+  /* maximum number of cached routes */
+  static final int MAX_SIZE = 64;
+
+  /* cached routes (access ordered) */
+  private Map<String, Entry> cache;
+
+  /* route tree the cached results were created with */
+  private RouteTree routeTree;
+
+  /* number of cache hits */
+  private int hitCount;
+
+  /* number of cache misses */
+  private int missCount;
+
+  RouteResultCache() {
+    super();
+
+    this.cache = new LinkedHashMap<String, Entry>(16,
+                                                  0.75f,
+                                                  true) {
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+        return size() > RouteResultCache.MAX_SIZE;
+      }
+
+    };
+  }
+
+  /**
+   * Returns a new route result for the route in case it is cached.
+   *
+   * @param route     the raw route
+   * @param routeTree the current route tree of the router configuration
+   * @return the route result or null, if the route is not cached
+   */
+  RouteResult get(String route,
+                  RouteTree routeTree) {
+    if (this.routeTree != routeTree) {
+      this.cache.clear();
+      this.routeTree = routeTree;
+    }
+    Entry entry = this.cache.get(route);
+    if (entry == null) {
+      this.missCount++;
+      return null;
+    }
+    this.hitCount++;
+    return entry.createRouteResult();
+  }
+
+  /**
+   * Stores the route result of a route.
+   *
+   * @param route       the raw route
+   * @param routeResult the result of the parser
+   */
+  void put(String route,
+           RouteResult routeResult) {
+    this.cache.put(route,
+                   new Entry(routeResult));
+  }
+
+  void clear() {
+    this.cache.clear();
+  }
+
+  int getHitCount() {
+    return hitCount;
+  }
+
+  int getMissCount() {
+    return missCount;
+  }
+
+  /**
+   * Immutable copy of a route result
+   */
+  private static class Entry {
+
+    private final String shell;
+
+    private final String route;
+
+    private final String[] parameterValues;
+
+    private final List<RouteConfig> routeConfigs;
+
+    private final boolean alias;
+
+    private Entry(RouteResult routeResult) {
+      this.shell = routeResult.getShell();
+      this.route = routeResult.getRoute();
+      this.parameterValues = routeResult.getParameterValues()
+                                        .toArray(new String[0]);
+      this.routeConfigs = routeResult.getRouteConfigs() == null ? null : Collections.unmodifiableList(new ArrayList<>(routeResult.getRouteConfigs()));
+      this.alias = routeResult.isAlias();
+    }
+
+    private RouteResult createRouteResult() {
+      RouteResult routeResult = new RouteResult(this.shell,
+                                                this.route,
+                                                new ArrayList<>(Arrays.asList(this.parameterValues)));
+      routeResult.setRouteConfigs(this.routeConfigs);
+      routeResult.setAlias(this.alias);
+      return routeResult;
+    }
+
+  }
+
+}
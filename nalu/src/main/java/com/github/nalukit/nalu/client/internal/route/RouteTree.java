@@ -0,0 +1,433 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import com.github.nalukit.nalu.client.Nalu;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Segment tree of all route configurations of the application.
+ * <p>
+ * The tree is build once from the list of route configurations. Every
+ * segment of a route becomes a node. Static segments are stored inside a
+ * map, the '*' segment is stored as wildcard node. A shell group
+ * ('[shell01|shell02]') is added below every shell of the group.
+ * <p>
+ * Using the tree, a hash is resolved in one pass without splitting and
+ * comparing every route configuration again and again.
+ * <p>
+ * Aliases are added as additional entries pointing to the route
+ * configurations of their target route. So an alias is resolved while
+ * searching the tree. Routes win over aliases.
+ */
+final class RouteTree {
+
+  /* root node of the tree */
+  private Node root;
+
+  RouteTree(List<RouteConfig> routeConfigs) {
+    this(routeConfigs,
+         Collections.emptyMap());
+  }
+
+  RouteTree(List<RouteConfig> routeConfigs,
+            Map<String, String> aliases) {
+    super();
+
+    this.root = new Node();
+    for (int i = 0; i < routeConfigs.size(); i++) {
+      this.add(new Entry(i,
+                         routeConfigs.get(i)));
+    }
+    // aliases are added after the routes (routes win over aliases)
+    int index = routeConfigs.size();
+    for (Map.Entry<String, String> alias : aliases.entrySet()) {
+      for (RouteConfig routeConfig : this.match(alias.getValue())) {
+        this.add(new Entry(index++,
+                           routeConfig,
+                           RouteTree.split(alias.getKey()),
+                           true));
+      }
+    }
+    this.root.updateTail();
+  }
+
+  /**
+   * Splits a route into segments. A leading '/' is ignored, trailing
+   * empty segments are removed (same as String.split does).
+   *
+   * @param route the route to split
+   * @return the segments of the route
+   */
+  static String[] split(String route) {
+    // a leading '/' is ignored (in case it is not the only character)
+    int start = route.startsWith("/") && route.length() > 1 ? 1 : 0;
+    // trailing '/' would create trailing empty segments
+    int end = route.length();
+    while (end > start && route.charAt(end - 1) == '/') {
+      end--;
+    }
+    // count the segments first, so the array is created only once
+    int numberOfSegments = 1;
+    for (int i = start; i < end; i++) {
+      if (route.charAt(i) == '/') {
+        numberOfSegments++;
+      }
+    }
+    String[] segments = new String[numberOfSegments];
+    int segment = 0;
+    int index = route.indexOf('/',
+                              start);
+    while (index != -1 && index < end) {
+      segments[segment++] = route.substring(start,
+                                            index);
+      start = index + 1;
+      index = route.indexOf('/',
+                            start);
+    }
+    segments[segment] = route.substring(start,
+                                        end);
+    return segments;
+  }
+
+  private void add(Entry entry) {
+    String[] segments = entry.segments;
+    List<Node> shellNodes = new ArrayList<>();
+    String shell = segments[0];
+    if (shell.startsWith("[") && shell.endsWith("]")) {
+      for (String s : shell.substring(1,
+                                      shell.length() - 1)
+                           .split("\\|")) {
+        shellNodes.add(this.root.getOrCreateChild(s));
+      }
+    } else {
+      shellNodes.add(this.root.getOrCreateChild(shell));
+    }
+    for (Node shellNode : shellNodes) {
+      Node node = shellNode;
+      for (int i = 1; i < segments.length; i++) {
+        node = node.getOrCreateChild(segments[i]);
+      }
+      node.entries.add(entry);
+    }
+  }
+
+  /**
+   * Looks for the route configuration matching the route.
+   * <p>
+   * The rules are the same as the ones of {@link RouterUtils#match(String, String, boolean)}
+   * in not exact mode: every segment of the route needs to be equal to the
+   * segment of the route configuration or the segment of the route configuration
+   * is a '*'. In case the route has less segments than the route configuration,
+   * the missing segments of the route configuration have to be '*'.
+   * <p>
+   * In case more than one route configuration matches, the first one
+   * added will win.
+   *
+   * @param route the route to look for
+   * @return the match or null in case there is no matching route configuration
+   */
+  Match find(String route) {
+    return this.find(RouteTree.split(route));
+  }
+
+  /**
+   * Looks for the route configuration matching the segments of a route.
+   * The segments have to look like the ones created by
+   * {@link #split(String)}.
+   *
+   * @param segments the segments of the route to look for
+   * @return the match or null in case there is no matching route configuration
+   * @see #find(String)
+   */
+  Match find(String[] segments) {
+    Node node = this.find(this.root,
+                          segments,
+                          0,
+                          null);
+    if (node == null) {
+      return null;
+    }
+    return new Match(node,
+                     segments);
+  }
+
+  private Node find(Node node,
+                    String[] segments,
+                    int index,
+                    Node best) {
+    if (index == segments.length) {
+      return Node.first(best,
+                        node.tail);
+    }
+    String segment = segments[index];
+    if (Nalu.isUsingColonForParametersInUrl()) {
+      if (segment.startsWith(":")) {
+        if (node.wildcard != null) {
+          return this.find(node.wildcard,
+                           segments,
+                           index + 1,
+                           best);
+        }
+        return best;
+      }
+    } else {
+      if (node.wildcard != null) {
+        best = this.find(node.wildcard,
+                         segments,
+                         index + 1,
+                         best);
+      }
+    }
+    Node child = node.children.get(segment);
+    if (child != null) {
+      best = this.find(child,
+                       segments,
+                       index + 1,
+                       best);
+    }
+    return best;
+  }
+
+  /**
+   * Returns all route configurations having exactly the same route
+   * (shell and segments). A '*' inside the route will only match a '*'
+   * inside the route configuration.
+   *
+   * @param route the route to look for
+   * @return list of matching route configurations (in the order they were added)
+   */
+  List<RouteConfig> match(String route) {
+    String[] segments = RouteTree.split(route);
+    String shell = segments[0];
+    if (shell.startsWith("[") && shell.endsWith("]")) {
+      List<Entry> entries = new ArrayList<>();
+      for (String s : shell.substring(1,
+                                      shell.length() - 1)
+                           .split("\\|")) {
+        Node node = this.walk(this.root.getChild(s),
+                              segments);
+        if (node != null) {
+          for (Entry entry : node.entries) {
+            if (!entries.contains(entry)) {
+              entries.add(entry);
+            }
+          }
+        }
+      }
+      Collections.sort(entries);
+      return Entry.toRouteConfigs(entries);
+    }
+    Node node = this.walk(this.root.getChild(shell),
+                          segments);
+    if (node == null) {
+      return new ArrayList<>();
+    }
+    return Entry.toRouteConfigs(node.entries);
+  }
+
+  private Node walk(Node shellNode,
+                    String[] segments) {
+    Node node = shellNode;
+    for (int i = 1; i < segments.length; i++) {
+      if (node == null) {
+        return null;
+      }
+      node = node.getChild(segments[i]);
+    }
+    return node;
+  }
+
+  /**
+   * Result of a successful search inside the route tree
+   */
+  static class Match {
+
+    /* the matching route configuration */
+    private RouteConfig routeConfig;
+
+    /* all route configurations of the node, including the matching one */
+    private List<RouteConfig> routeConfigs;
+
+    /* parameter values of the route */
+    private List<String> parameterValues;
+
+    /* true, in case the route was found using an alias */
+    private boolean alias;
+
+    private Match(Node node,
+                  String[] segments) {
+      Entry entry = node.entries.get(0);
+      this.routeConfig = entry.routeConfig;
+      this.alias = entry.alias;
+      this.routeConfigs = node.routeConfigs;
+      this.parameterValues = new ArrayList<>();
+      for (int i = 0; i < entry.segments.length; i++) {
+        if ("*".equals(entry.segments[i])) {
+          if (i < segments.length) {
+            String parameterValue = segments[i].replace(RouterConstants.NALU_SLASH_REPLACEMENT,
+                                                        "/");
+            if (Nalu.isUsingColonForParametersInUrl()) {
+              if (parameterValue.startsWith(":")) {
+                parameterValue = parameterValue.substring(1);
+              }
+            }
+            this.parameterValues.add(parameterValue);
+          } else {
+            this.parameterValues.add("");
+          }
+        }
+      }
+    }
+
+    RouteConfig getRouteConfig() {
+      return routeConfig;
+    }
+
+    List<RouteConfig> getRouteConfigs() {
+      return routeConfigs;
+    }
+
+    List<String> getParameterValues() {
+      return parameterValues;
+    }
+
+    boolean isAlias() {
+      return alias;
+    }
+
+  }
+
+  private static class Node {
+
+    /* static children of the node */
+    private Map<String, Node> children = new HashMap<>();
+
+    /* wildcard child ('*') of the node */
+    private Node wildcard;
+
+    /* route configurations ending at this node */
+    private List<Entry> entries = new ArrayList<>();
+
+    /* node of the first route configuration ending at this node or below using only wildcards */
+    private Node tail;
+
+    /* route configurations of the entries (created once the tree is build, shared by all matches) */
+    private List<RouteConfig> routeConfigs;
+
+    private static Node first(Node node01,
+                              Node node02) {
+      if (node01 == null) {
+        return node02;
+      }
+      if (node02 == null) {
+        return node01;
+      }
+      return node01.entries.get(0).index <= node02.entries.get(0).index ? node01 : node02;
+    }
+
+    private Node getChild(String segment) {
+      if ("*".equals(segment)) {
+        return this.wildcard;
+      }
+      return this.children.get(segment);
+    }
+
+    private Node getOrCreateChild(String segment) {
+      Node child = this.getChild(segment);
+      if (child == null) {
+        child = new Node();
+        if ("*".equals(segment)) {
+          this.wildcard = child;
+        } else {
+          this.children.put(segment,
+                            child);
+        }
+      }
+      return child;
+    }
+
+    private void updateTail() {
+      this.tail = this.entries.isEmpty() ? null : this;
+      this.routeConfigs = Collections.unmodifiableList(Entry.toRouteConfigs(this.entries));
+      for (Node child : this.children.values()) {
+        child.updateTail();
+      }
+      if (this.wildcard != null) {
+        this.wildcard.updateTail();
+        this.tail = Node.first(this.tail,
+                               this.wildcard.tail);
+      }
+    }
+
+  }
+
+  private static class Entry
+      implements Comparable<Entry> {
+
+    /* position of the route configuration inside the list of route configurations */
+    private int index;
+
+    /* the route configuration */
+    private RouteConfig routeConfig;
+
+    /* the segments of the route */
+    private String[] segments;
+
+    /* true, in case the entry is an alias of the route configuration */
+    private boolean alias;
+
+    private Entry(int index,
+                  RouteConfig routeConfig) {
+      this(index,
+           routeConfig,
+           RouteTree.split(routeConfig.getRoute()),
+           false);
+    }
+
+    private Entry(int index,
+                  RouteConfig routeConfig,
+                  String[] segments,
+                  boolean alias) {
+      this.index = index;
+      this.routeConfig = routeConfig;
+      this.segments = segments;
+      this.alias = alias;
+    }
+
+    private static List<RouteConfig> toRouteConfigs(List<Entry> entries) {
+      List<RouteConfig> routeConfigs = new ArrayList<>();
+      for (Entry entry : entries) {
+        routeConfigs.add(entry.routeConfig);
+      }
+      return routeConfigs;
+    }
+
+    @Override
+    public int compareTo(Entry entry) {
+      return Integer.compare(this.index,
+                             entry.index);
+    }
+
+  }
+
+}
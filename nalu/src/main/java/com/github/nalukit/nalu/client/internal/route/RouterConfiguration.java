@@ -19,8 +19,12 @@ package com.github.nalukit.nalu.client.internal.route;
 import com.github.nalukit.nalu.client.filter.IsFilter;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 public class RouterConfiguration {
 
@@ -28,25 +32,163 @@ public class RouterConfiguration {
 
   private List<IsFilter> filters;
 
+  /* filters applying to a route (key: route) - created on first use of the route */
+  private Map<String, List<IsFilter>> filterIndex;
+
+  /* aliases of routes (key: alias, value: route) */
+  private Map<String, String> aliases;
+
+  /* route tree - created on first use */
+  private RouteTree routeTree;
+
   public RouterConfiguration() {
     super();
 
     this.routers = new ArrayList<>();
     this.filters = new ArrayList<>();
+    this.aliases = new LinkedHashMap<>();
+    this.filterIndex = new HashMap<>();
   }
 
+  /**
+   * Returns the route configurations (in the order they were added).
+   * Use {@link #addRoute(RouteConfig)} to add a route configuration.
+   *
+   * @return unmodifiable list of the route configurations
+   */
   public List<RouteConfig> getRouters() {
-    return routers;
+    return Collections.unmodifiableList(this.routers);
+  }
+
+  /**
+   * Adds a route configuration. The route tree will be rebuild on next use.
+   *
+   * @param routeConfig the route configuration to add
+   */
+  public void addRoute(RouteConfig routeConfig) {
+    this.routers.add(routeConfig);
+    this.routeTree = null;
+  }
+
+  /**
+   * Adds a list of route configurations. The route tree will be rebuild on next use.
+   *
+   * @param routeConfigs the route configurations to add
+   */
+  public void addRoutes(List<RouteConfig> routeConfigs) {
+    this.routers.addAll(routeConfigs);
+    this.routeTree = null;
+  }
+
+  /**
+   * Returns the aliases (key: alias, value: route).
+   * Use {@link #addAlias(String, String)} to add an alias.
+   *
+   * @return unmodifiable map of the aliases
+   */
+  public Map<String, String> getAliases() {
+    return Collections.unmodifiableMap(this.aliases);
+  }
+
+  /**
+   * Adds an alias of a route. The route tree will be rebuild on next use.
+   *
+   * @param alias the alias
+   * @param route the route the alias points to
+   */
+  public void addAlias(String alias,
+                       String route) {
+    this.aliases.put(alias,
+                     route);
+    this.routeTree = null;
+  }
+
+  /**
+   * Checks, if the route is an alias.
+   *
+   * @param route the route to check
+   * @return true, if the route is an alias of another route
+   */
+  public boolean isAlias(String route) {
+    return this.aliases.containsKey(route);
   }
 
   public List<IsFilter> getFilters() {
+    // the list can be changed by the caller,
+    // so the filter index needs to be rebuild
+    this.filterIndex.clear();
     return filters;
   }
 
+  /**
+   * Returns the filters applying to the route.
+   *
+   * @param route the route (containing a '*' for every parameter)
+   * @return list of filters applying to the route
+   */
+  public List<IsFilter> getFilters(String route) {
+    List<IsFilter> filtersOfRoute = this.filterIndex.get(route);
+    if (filtersOfRoute == null) {
+      filtersOfRoute = new ArrayList<>();
+      String[] routeSegments = RouteTree.split(route);
+      for (IsFilter filter : this.filters) {
+        if (this.isApplying(filter,
+                            routeSegments)) {
+          filtersOfRoute.add(filter);
+        }
+      }
+      this.filterIndex.put(route,
+                           filtersOfRoute);
+    }
+    return filtersOfRoute;
+  }
+
+  private boolean isApplying(IsFilter filter,
+                             String[] routeSegments) {
+    String[] filterRoutes = filter.routes();
+    if (filterRoutes == null || filterRoutes.length == 0) {
+      return true;
+    }
+    for (String filterRoute : filterRoutes) {
+      String[] filterSegments = RouteTree.split(filterRoute);
+      if (filterSegments.length <= routeSegments.length) {
+        boolean applying = true;
+        for (int i = 0; i < filterSegments.length && applying; i++) {
+          applying = "*".equals(filterSegments[i]) ||
+                     filterSegments[i].equals(routeSegments[i]) ||
+                     (i == 0 && this.isShellOfGroup(filterSegments[i],
+                                                    routeSegments[i]));
+        }
+        if (applying) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private boolean isShellOfGroup(String shell,
+                                 String group) {
+    if (!group.startsWith("[") || !group.endsWith("]")) {
+      return false;
+    }
+    return Arrays.asList(group.substring(1,
+                                         group.length() - 1)
+                              .split("\\|"))
+                 .contains(shell);
+  }
+
   public List<RouteConfig> match(String hash) {
-    return this.routers.stream()
-                       .filter(routeConfig -> routeConfig.match(hash))
-                       .collect(Collectors.toList());
+    return this.getRouteTree()
+               .match(hash);
+  }
+
+  RouteTree getRouteTree() {
+    if (this.routeTree == null) {
+      this.routeTree = new RouteTree(this.routers,
+                                     this.aliases);
+    }
+    return this.routeTree;
   }
 
 }
@@ -16,26 +16,24 @@
 
 package com.github.nalukit.nalu.client.internal.route;
 
-import com.github.nalukit.nalu.client.internal.CompositeControllerReference;
+import com.github.nalukit.nalu.client.internal.CompositeControllerReferenceIndex;
 import com.github.nalukit.nalu.client.plugin.IsNaluProcessorPlugin;
 import com.github.nalukit.nalu.client.tracker.IsTracker;
 
-import java.util.List;
-
 public final class RouterImpl
     extends AbstractRouter {
 
   public RouterImpl(IsNaluProcessorPlugin plugin,
                     ShellConfiguration shellConfiguration,
                     RouterConfiguration routerConfiguration,
-                    List<CompositeControllerReference> compositeControllerReferences,
+                    CompositeControllerReferenceIndex compositeControllerReferenceIndex,
                     IsTracker tracker,
                     String startRoute,
                     boolean hasHistory,
                     boolean usingHash,
                     boolean usingColonForParametersInUrl,
                     boolean stayOnSide) {
-    super(compositeControllerReferences,
+    super(compositeControllerReferenceIndex,
           shellConfiguration,
           routerConfiguration,
           plugin,
@@ -17,6 +17,7 @@
 package com.github.nalukit.nalu.client.internal.route;
 
 import com.github.nalukit.nalu.client.internal.ClientLogger;
+import com.github.nalukit.nalu.client.router.event.RouterStateEvent.RouterState;
 
 import java.util.Arrays;
 import java.util.stream.Stream;
@@ -26,10 +27,43 @@ class RouterLogger {
   RouterLogger() {
   }
 
+  private static boolean isSimpleLoggingEnabled() {
+    return ClientLogger.get()
+                       .isSimpleLoggingEnabled();
+  }
+
+  private static boolean isDetailedLoggingEnabled() {
+    return ClientLogger.get()
+                       .isDetailedLoggingEnabled();
+  }
+
+  private static String getName(Object object) {
+    return object.getClass()
+                 .getCanonicalName();
+  }
+
   static void logHandleHash(String hash) {
-    String sb = "Router: handleRouting for hash ->>" + hash + "<<";
-    logDetailed(sb,
-                0);
+    if (isDetailedLoggingEnabled()) {
+      String sb = "Router: handleRouting for hash ->>" + hash + "<<";
+      logDetailed(sb,
+                  0);
+    }
+  }
+
+  static void logPrefetchHash(String hash) {
+    if (isDetailedLoggingEnabled()) {
+      String sb = "Router: prefetch for hash ->>" + hash + "<<";
+      logDetailed(sb,
+                  0);
+    }
+  }
+
+  static void logPrefetchNoMatchingRoute(String hash) {
+    if (isDetailedLoggingEnabled()) {
+      String sb = "Router: prefetch - no matching route for hash ->>" + hash + "<< found";
+      logDetailed(sb,
+                  1);
+    }
   }
 
   private static void logDetailed(String message,
@@ -54,46 +88,50 @@ class RouterLogger {
                            depth);
   }
 
-  static void logFilterInterceptsRouting(String canonicalName,
+  static void logFilterInterceptsRouting(Object filter,
                                          String redirectTo,
                                          String[] parameters) {
-    StringBuilder sb = new StringBuilder();
-    sb.append("Router: filter >>")
-      .append(canonicalName)
-      .append("<< intercepts routing! New route: >>")
-      .append(redirectTo)
-      .append("<<");
-    if (Arrays.asList(parameters)
-              .size() > 0) {
-      sb.append(" with parameters: ");
-      Stream.of(parameters)
-            .forEach(p -> sb.append(">>")
-                            .append(p)
-                            .append("<< "));
+    if (isSimpleLoggingEnabled()) {
+      StringBuilder sb = new StringBuilder();
+      sb.append("Router: filter >>")
+        .append(getName(filter))
+        .append("<< intercepts routing! New route: >>")
+        .append(redirectTo)
+        .append("<<");
+      if (Arrays.asList(parameters)
+                .size() > 0) {
+        sb.append(" with parameters: ");
+        Stream.of(parameters)
+              .forEach(p -> sb.append(">>")
+                              .append(p)
+                              .append("<< "));
+      }
+      logSimple(sb.toString(),
+                3);
     }
-    logSimple(sb.toString(),
-              3);
   }
 
   static void logControllerInterceptsRouting(String controllerClassName,
                                              String route,
                                              String[] parameter) {
-    StringBuilder sb = new StringBuilder();
-    sb.append("Router: create controller >>")
-      .append(controllerClassName)
-      .append("<< intercepts routing! New route: >>")
-      .append(route)
-      .append("<<");
-    if (Arrays.asList(parameter)
-              .size() > 0) {
-      sb.append(" with parameters: ");
-      Stream.of(parameter)
-            .forEach(p -> sb.append(">>")
-                            .append(p)
-                            .append("<< "));
+    if (isSimpleLoggingEnabled()) {
+      StringBuilder sb = new StringBuilder();
+      sb.append("Router: create controller >>")
+        .append(controllerClassName)
+        .append("<< intercepts routing! New route: >>")
+        .append(route)
+        .append("<<");
+      if (Arrays.asList(parameter)
+                .size() > 0) {
+        sb.append(" with parameters: ");
+        Stream.of(parameter)
+              .forEach(p -> sb.append(">>")
+                              .append(p)
+                              .append("<< "));
+      }
+      logSimple(sb.toString(),
+                0);
     }
-    logSimple(sb.toString(),
-              0);
   }
 
   static String logNoControllerFoundForHash(String hash) {
@@ -104,177 +142,243 @@ class RouterLogger {
   }
 
   static void logUseErrorRoute(String routeError) {
-    String sb = "use configurated default route >>" + routeError + "<<";
-    logSimple(sb,
-              3);
+    if (isSimpleLoggingEnabled()) {
+      String sb = "use configurated default route >>" + routeError + "<<";
+      logSimple(sb,
+                3);
+    }
   }
 
-  static void logControllerOnAttachedMethodCalled(String canonicalName) {
-    String sb = "Router: create controller >>" + canonicalName + "<< - calls method onAttached()";
-    logDetailed(sb,
-                4);
+  static void logControllerOnAttachedMethodCalled(Object controller) {
+    if (isDetailedLoggingEnabled()) {
+      String sb = "Router: create controller >>" + getName(controller) + "<< - calls method onAttached()";
+      logDetailed(sb,
+                  4);
+    }
   }
 
-  static void logControllerActivateMethodCalled(String canonicalName) {
-    String sb = "Router: create controller >>" + canonicalName + "<< - calls method activate()";
-    logDetailed(sb,
-                4);
+  static void logControllerOnParametersChangedMethodCalled(Object controller) {
+    if (isDetailedLoggingEnabled()) {
+      String sb = "Router: controller >>" + getName(controller) + "<< reused - calls method onParametersChanged()";
+      logDetailed(sb,
+                  4);
+    }
   }
 
-  static void logControllerStartMethodCalled(String canonicalName) {
-    String sb = "Router: create controller >>" + canonicalName + "<< - calls method start()";
-    logDetailed(sb,
-                4);
+  static void logControllerActivateMethodCalled(Object controller) {
+    if (isDetailedLoggingEnabled()) {
+      String sb = "Router: create controller >>" + getName(controller) + "<< - calls method activate()";
+      logDetailed(sb,
+                  4);
+    }
   }
 
-  static void logShellOnAttachedComponentMethodCalled(String canonicalName) {
-    String sb = "Router: create controller >>" + canonicalName + "<< - calls shellCreator.onAttachedComponent()";
-    logDetailed(sb,
-                4);
+  static void logControllerStartMethodCalled(Object controller) {
+    if (isDetailedLoggingEnabled()) {
+      String sb = "Router: create controller >>" + getName(controller) + "<< - calls method start()";
+      logDetailed(sb,
+                  4);
+    }
   }
 
-  static void logControllerdeactivateMethodWillBeCalled(String canonicalName) {
-    String sb = "controller >>" + canonicalName + "<< --> will be deactivated";
-    logSimple(sb,
-              3);
+  static void logShellOnAttachedComponentMethodCalled(Object controller) {
+    if (isDetailedLoggingEnabled()) {
+      String sb = "Router: create controller >>" + getName(controller) + "<< - calls shellCreator.onAttachedComponent()";
+      logDetailed(sb,
+                  4);
+    }
   }
 
-  static void logControllerStopMethodWillBeCalled(String canonicalName) {
-    String sb = "controller >>" + canonicalName + "<< --> will be stopped";
-    logSimple(sb,
-              3);
+  static void logControllerdeactivateMethodWillBeCalled(Object controller) {
+    if (isSimpleLoggingEnabled()) {
+      String sb = "controller >>" + getName(controller) + "<< --> will be deactivated";
+      logSimple(sb,
+                3);
+    }
   }
 
-  static void logCompositeControllerStopMethodWillBeCalled(String canonicalName) {
-    String sb = "composite controller >>" + canonicalName + "<< --> will be stopped";
-    logSimple(sb,
-              5);
+  static void logControllerStopMethodWillBeCalled(Object controller) {
+    if (isSimpleLoggingEnabled()) {
+      String sb = "controller >>" + getName(controller) + "<< --> will be stopped";
+      logSimple(sb,
+                3);
+    }
   }
 
-  static void logControllerDeactivateMethodCalled(String canonicalName) {
-    String sb = "controller >>" + canonicalName + "<< --> deactivated";
-    logDetailed(sb,
-                4);
+  static void logCompositeControllerStopMethodWillBeCalled(Object controller) {
+    if (isSimpleLoggingEnabled()) {
+      String sb = "composite controller >>" + getName(controller) + "<< --> will be stopped";
+      logSimple(sb,
+                5);
+    }
   }
 
-  static void logControllerStopMethodCalled(String canonicalName) {
-    String sb = "controller >>" + canonicalName + "<< --> stopped";
-    logDetailed(sb,
-                4);
+  static void logControllerDeactivateMethodCalled(Object controller) {
+    if (isDetailedLoggingEnabled()) {
+      String sb = "controller >>" + getName(controller) + "<< --> deactivated";
+      logDetailed(sb,
+                  4);
+    }
   }
 
-  static void logCompositeControllerDeactivateMethodWillBeCalled(String canonicalName) {
-    String sb = "composite controller >>" + canonicalName + "<< --> deactivate";
-    logDetailed(sb,
-                6);
+  static void logControllerStopMethodCalled(Object controller) {
+    if (isDetailedLoggingEnabled()) {
+      String sb = "controller >>" + getName(controller) + "<< --> stopped";
+      logDetailed(sb,
+                  4);
+    }
   }
 
-  static void logCompositeControllerDeactivateMethodCalled(String canonicalName) {
-    String sb = "composite controller >>" + canonicalName + "<< --> deactivated";
-    logDetailed(sb,
-                6);
+  static void logCompositeControllerDeactivateMethodWillBeCalled(Object controller) {
+    if (isDetailedLoggingEnabled()) {
+      String sb = "composite controller >>" + getName(controller) + "<< --> deactivate";
+      logDetailed(sb,
+                  6);
+    }
   }
 
-  static void logCompositeControllerRemoveMethodCalled(String canonicalName) {
-    String sb = "composite controller >>" + canonicalName + "<< --> remove";
-    logDetailed(sb,
-                6);
+  static void logCompositeControllerDeactivateMethodCalled(Object controller) {
+    if (isDetailedLoggingEnabled()) {
+      String sb = "composite controller >>" + getName(controller) + "<< --> deactivated";
+      logDetailed(sb,
+                  6);
+    }
   }
 
-  static void logCompositeControllerStopMethodCalled(String canonicalName) {
-    String sb = "composite controller >>" + canonicalName + "<< --> stopped";
-    logDetailed(sb,
-                6);
+  static void logCompositeControllerRemoveMethodCalled(Object controller) {
+    if (isDetailedLoggingEnabled()) {
+      String sb = "composite controller >>" + getName(controller) + "<< --> remove";
+      logDetailed(sb,
+                  6);
+    }
   }
 
-  static void logComponentDetached(String canonicalName) {
-    String sb = "composite component >>" + canonicalName + "<< --> detached";
-    logDetailed(sb,
-                4);
+  static void logCompositeControllerStopMethodCalled(Object controller) {
+    if (isDetailedLoggingEnabled()) {
+      String sb = "composite controller >>" + getName(controller) + "<< --> stopped";
+      logDetailed(sb,
+                  6);
+    }
   }
 
-  static void logCompositeComponentDetached(String canonicalName) {
-    String sb = "component >>" + canonicalName + "<< --> detached";
-    logDetailed(sb,
-                6);
+  static void logComponentDetached(Object controller) {
+    if (isDetailedLoggingEnabled()) {
+      String sb = "composite component >>" + getName(controller) + "<< --> detached";
+      logDetailed(sb,
+                  4);
+    }
   }
 
-  static void logControllerDetached(String canonicalName) {
-    String sb = "controller >>" + canonicalName + "<< --> detached";
-    logDetailed(sb,
-                4);
+  static void logCompositeComponentDetached(Object controller) {
+    if (isDetailedLoggingEnabled()) {
+      String sb = "component >>" + getName(controller) + "<< --> detached";
+      logDetailed(sb,
+                  6);
+    }
   }
 
-  static void logCompositeControllerDetached(String canonicalName) {
-    String sb = "composite controller >>" + canonicalName + "<< --> detached";
-    logDetailed(sb,
-                6);
+  static void logControllerDetached(Object controller) {
+    if (isDetailedLoggingEnabled()) {
+      String sb = "controller >>" + getName(controller) + "<< --> detached";
+      logDetailed(sb,
+                  4);
+    }
   }
 
-  static void logComponentRemoveHandlersMethodCalled(String canonicalName) {
-    String sb = "component >>" + canonicalName + "<< --> removed handlers";
-    logDetailed(sb,
-                4);
+  static void logCompositeControllerDetached(Object controller) {
+    if (isDetailedLoggingEnabled()) {
+      String sb = "composite controller >>" + getName(controller) + "<< --> detached";
+      logDetailed(sb,
+                  6);
+    }
   }
 
-  static void logCompositeComponentRemoveHandlersMethodCalled(String canonicalName) {
-    String sb = "composite component >>" + canonicalName + "<< --> removed handlers";
-    logDetailed(sb,
-                6);
+  static void logComponentRemoveHandlersMethodCalled(Object controller) {
+    if (isDetailedLoggingEnabled()) {
+      String sb = "component >>" + getName(controller) + "<< --> removed handlers";
+      logDetailed(sb,
+                  4);
+    }
   }
 
-  static void logControllerRemoveHandlersMethodCalled(String canonicalName) {
-    String sb = "controller >>" + canonicalName + "<< --> removed handlers";
-    logDetailed(sb,
-                4);
+  static void logCompositeComponentRemoveHandlersMethodCalled(Object controller) {
+    if (isDetailedLoggingEnabled()) {
+      String sb = "composite component >>" + getName(controller) + "<< --> removed handlers";
+      logDetailed(sb,
+                  6);
+    }
   }
 
-  static void logCompositeControllerRemoveHandlersMethodCalled(String canonicalName) {
-    String sb = "composite controller >>" + canonicalName + "<< --> removed handlers";
-    logDetailed(sb,
-                6);
+  static void logControllerRemoveHandlersMethodCalled(Object controller) {
+    if (isDetailedLoggingEnabled()) {
+      String sb = "controller >>" + getName(controller) + "<< --> removed handlers";
+      logDetailed(sb,
+                  4);
+    }
   }
 
-  static void logControllerDeactivated(String canonicalName) {
-    String sb = "controller >>" + canonicalName + "<< --> deactivated";
-    logSimple(sb,
-              3);
+  static void logCompositeControllerRemoveHandlersMethodCalled(Object controller) {
+    if (isDetailedLoggingEnabled()) {
+      String sb = "composite controller >>" + getName(controller) + "<< --> removed handlers";
+      logDetailed(sb,
+                  6);
+    }
   }
 
-  static void logControllerStopped(String canonicalName) {
-    String sb = "controller >>" + canonicalName + "<< --> stopped";
-    logSimple(sb,
-              3);
+  static void logControllerDeactivated(Object controller) {
+    if (isSimpleLoggingEnabled()) {
+      String sb = "controller >>" + getName(controller) + "<< --> deactivated";
+      logSimple(sb,
+                3);
+    }
   }
 
-  static void logControllerHandlingStop(String canonicalName) {
-    String sb = "controller >>" + canonicalName + "<< --> handling stop request";
-    logSimple(sb,
-              3);
+  static void logControllerStopped(Object controller) {
+    if (isSimpleLoggingEnabled()) {
+      String sb = "controller >>" + getName(controller) + "<< --> stopped";
+      logSimple(sb,
+                3);
+    }
   }
 
-  static void logControllerHandlingStopComposites(String canonicalName) {
-    String sb = "controller >>" + canonicalName + "<< --> stopping composites";
-    logSimple(sb,
-              4);
+  static void logControllerHandlingStop(Object controller) {
+    if (isSimpleLoggingEnabled()) {
+      String sb = "controller >>" + getName(controller) + "<< --> handling stop request";
+      logSimple(sb,
+                3);
+    }
   }
 
-  static void logControllerCompositesStopped(String canonicalName) {
-    String sb = "controller >>" + canonicalName + "<< --> composites stopped";
-    logSimple(sb,
-              4);
+  static void logControllerHandlingStopComposites(Object controller) {
+    if (isSimpleLoggingEnabled()) {
+      String sb = "controller >>" + getName(controller) + "<< --> stopping composites";
+      logSimple(sb,
+                4);
+    }
   }
 
-  static void logCompositeControllerDeactivated(String canonicalName) {
-    String sb = "composite controller >>" + canonicalName + "<< --> deactivated";
-    logSimple(sb,
-              5);
+  static void logControllerCompositesStopped(Object controller) {
+    if (isSimpleLoggingEnabled()) {
+      String sb = "controller >>" + getName(controller) + "<< --> composites stopped";
+      logSimple(sb,
+                4);
+    }
   }
 
-  static void logCompositeControllerStopped(String canonicalName) {
-    String sb = "composite controller >>" + canonicalName + "<< --> stopped";
-    logSimple(sb,
-              5);
+  static void logCompositeControllerDeactivated(Object controller) {
+    if (isSimpleLoggingEnabled()) {
+      String sb = "composite controller >>" + getName(controller) + "<< --> deactivated";
+      logSimple(sb,
+                5);
+    }
+  }
+
+  static void logCompositeControllerStopped(Object controller) {
+    if (isSimpleLoggingEnabled()) {
+      String sb = "composite controller >>" + getName(controller) + "<< --> stopped";
+      logSimple(sb,
+                5);
+    }
   }
 
   //  static String logWrongNumberOfParameters(String hash,
@@ -306,63 +410,81 @@ class RouterLogger {
     return sb.toString();
   }
 
-  static void logControllerLookForCompositeController(String controller) {
-    String sb = "controller >>" + controller + "<< --> looking for composite";
-    logDetailed(sb,
-                4);
+  static void logControllerLookForCompositeController(Object controller) {
+    if (isDetailedLoggingEnabled()) {
+      String sb = "controller >>" + getName(controller) + "<< --> looking for composite";
+      logDetailed(sb,
+                  4);
+    }
   }
 
-  static void logControllerNoCompositeControllerFound(String controller) {
-    String sb = "controller >>" + controller + "<< --> no composite found";
-    logDetailed(sb,
-                5);
+  static void logControllerNoCompositeControllerFound(Object controller) {
+    if (isDetailedLoggingEnabled()) {
+      String sb = "controller >>" + getName(controller) + "<< --> no composite found";
+      logDetailed(sb,
+                  5);
+    }
   }
 
-  static void logControllerCompositeControllerFound(String controller,
+  static void logControllerCompositeControllerFound(Object controller,
                                                     int numberofCompositeControllerFound) {
-    String sb = "controller >>" + controller + "<< --> composites found >>" + numberofCompositeControllerFound + "<<";
-    logDetailed(sb,
-                5);
+    if (isDetailedLoggingEnabled()) {
+      String sb = "controller >>" + getName(controller) + "<< --> composites found >>" + numberofCompositeControllerFound + "<<";
+      logDetailed(sb,
+                  5);
+    }
   }
 
-  static void logCompositeControllerInjectedInController(String controller,
-                                                         String compositeController) {
-    String sb = "controller >>" + controller + "<< --> compositeController >>" + compositeController + "<< injected";
-    logDetailed(sb,
-                5);
+  static void logCompositeControllerInjectedInController(Object controller,
+                                                         Object compositeController) {
+    if (isDetailedLoggingEnabled()) {
+      String sb = "controller >>" + getName(controller) + "<< --> getName(compositeController) >>" + getName(compositeController) + "<< injected";
+      logDetailed(sb,
+                  5);
+    }
   }
 
-  static void logControllerOnAttachedCompositeController(String controller,
-                                                         String compositeController) {
-    String sb = "controller >>" + controller + "<< --> compositeController >>" + compositeController + "<< attached";
-    logDetailed(sb,
-                5);
+  static void logControllerOnAttachedCompositeController(Object controller,
+                                                         Object compositeController) {
+    if (isDetailedLoggingEnabled()) {
+      String sb = "controller >>" + getName(controller) + "<< --> getName(compositeController) >>" + getName(compositeController) + "<< attached";
+      logDetailed(sb,
+                  5);
+    }
   }
 
-  static void logCachedControllerOnAttachedGlobalCompositeController(String controller,
+  static void logCachedControllerOnAttachedGlobalCompositeController(Object controller,
                                                                      String compositeController) {
-    String sb = "cached controller >>" + controller + "<< --> attach global cached compositeController >>" + compositeController + "<<";
-    logDetailed(sb,
-                5);
+    if (isDetailedLoggingEnabled()) {
+      String sb = "cached getName(controller) >>" + getName(controller) + "<< --> attach global cached compositeController >>" + compositeController + "<<";
+      logDetailed(sb,
+                  5);
+    }
   }
 
-  static void logCompositeComntrollerActivateMethodCalled(String compositeController) {
-    String sb = "Router: create compositeController >>" + compositeController + "<< - calls method activate()";
-    logDetailed(sb,
-                5);
+  static void logCompositeComntrollerActivateMethodCalled(Object compositeController) {
+    if (isDetailedLoggingEnabled()) {
+      String sb = "Router: create getName(compositeController) >>" + getName(compositeController) + "<< - calls method activate()";
+      logDetailed(sb,
+                  5);
+    }
   }
 
-  static void logCompositeComntrollerStartMethodCalled(String compositeController) {
-    String sb = "Router: create compositeController >>" + compositeController + "<< - calls method start()";
-    logDetailed(sb,
-                5);
+  static void logCompositeComntrollerStartMethodCalled(Object compositeController) {
+    if (isDetailedLoggingEnabled()) {
+      String sb = "Router: create getName(compositeController) >>" + getName(compositeController) + "<< - calls method start()";
+      logDetailed(sb,
+                  5);
+    }
   }
 
-  static void logCompositeNotFound(String controller,
+  static void logCompositeNotFound(Object controller,
                                    String compositeController) {
-    String sb = "controller >>" + controller + "<< --> compositeController >>" + compositeController + "<< not found";
-    logDetailed(sb,
-                5);
+    if (isDetailedLoggingEnabled()) {
+      String sb = "controller >>" + getName(controller) + "<< --> compositeController >>" + compositeController + "<< not found";
+      logDetailed(sb,
+                  5);
+    }
   }
 
   //  static void logFilterStopMethodWillBeCalled(String controller,
@@ -379,6 +501,76 @@ class RouterLogger {
   //                5);
   //  }
 
+  static void logShellWillBeAttached(String shell) {
+    if (isDetailedLoggingEnabled()) {
+      logDetailed("Router: attach shellCreator >>" + shell + "<<",
+                  1);
+    }
+  }
+
+  static void logShellAttached(String shell) {
+    if (isDetailedLoggingEnabled()) {
+      logDetailed("Router: shellCreator >>" + shell + "<< attached",
+                  1);
+    }
+  }
+
+  static void logShellInitialize(String shell) {
+    if (isDetailedLoggingEnabled()) {
+      logDetailed("Router: initialize shellCreator >>" + shell + "<< (route to '/')",
+                  1);
+    }
+  }
+
+  static void logShellWillBeDetached(Object shell) {
+    if (isDetailedLoggingEnabled()) {
+      logDetailed("Router: detach shellCreator >>" + getName(shell) + "<<",
+                  1);
+    }
+  }
+
+  static void logShellDetached(Object shell) {
+    if (isDetailedLoggingEnabled()) {
+      logDetailed("Router: shellCreator >>" + getName(shell) + "<< detached",
+                  1);
+    }
+  }
+
+  static void logNavigationSuperseded(String hash,
+                                      int token) {
+    if (isSimpleLoggingEnabled()) {
+      String sb = "Router: navigation >>" + token + "<< to hash >>" + hash + "<< superseded by a newer navigation -> ignored";
+      logSimple(sb,
+                1);
+    }
+  }
+
+  static void logFireRouterStateEvent(String route,
+                                      RouterState state) {
+    if (isSimpleLoggingEnabled()) {
+      String sb = "fire RouterEvent for route >>" + route + "<< with state >>" + state.name() + "<<";
+      logSimple(sb,
+                1);
+    }
+  }
+
+  static void logGeneratedRoute(String generatedRoute,
+                                String route,
+                                String... parms) {
+    if (isSimpleLoggingEnabled()) {
+      StringBuilder parameters = new StringBuilder();
+      for (int i = 0; i < parms.length; i++) {
+        parameters.append(parms[i]);
+        if (parms.length - 1 < i) {
+          parameters.append(",");
+        }
+      }
+      String sb = "generated route >>" + generatedRoute + "<< -> created from >>" + route + "<< with parameters >>" + parameters + "<<";
+      logSimple(sb,
+                1);
+    }
+  }
+
   static String logLoopDetected(String hash) {
     StringBuilder sb = new StringBuilder();
     sb.append("loop detected for hash >>")
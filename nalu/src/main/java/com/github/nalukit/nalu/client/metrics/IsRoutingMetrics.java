@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.metrics;
+
+public interface IsRoutingMetrics {
+
+  /**
+   * Right after the instance is created, the bind-method is called.
+   * R.e.: this method can be used to bind handler to the event bus.
+   */
+  void bind();
+
+  /**
+   * Method is called once a navigation is finished or aborted.
+   * The metrics contain the time spent in the steps of the routing.
+   *
+   * @param metrics the metrics of the navigation
+   */
+  void report(NavigationMetrics metrics);
+
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.metrics;
+
+/**
+ * Metrics of a navigation.
+ * <p>
+ * All times are in milliseconds. In case a navigation displays more
+ * than one controller, the times of the controllers are summed up.
+ * The metrics are collected by Nalu and reported to the registered
+ * IsRoutingMetrics.
+ */
+public class NavigationMetrics {
+
+  /* the hash of the navigation */
+  private String hash;
+
+  /* true, in case the navigation was aborted */
+  private boolean aborted;
+
+  /* total time of the navigation */
+  private double totalTime;
+
+  /* time to parse the hash and match the route */
+  private double parseTime;
+
+  /* time spent in filters */
+  private double filterTime;
+
+  /* time waiting for the user to confirm the navigation */
+  private double confirmTime;
+
+  /* true, in case a shell was created */
+  private boolean shellCreated;
+
+  /* time to create the shell (including the bind of the shell) */
+  private double shellCreationTime;
+
+  /* time to create the controllers */
+  private double controllerCreationTime;
+
+  /* number of controllers taken from the cache */
+  private int controllerCacheHits;
+
+  /* number of newly created controllers */
+  private int controllerCacheMisses;
+
+  /* time waiting for the bind-methods of the controllers */
+  private double bindTime;
+
+  /* time to create and render the components */
+  private double renderTime;
+
+  /* time to attach the elements to the DOM */
+  private double attachTime;
+
+  /* time spent in the lifecycle methods (onAttach, start, activate) */
+  private double lifecycleTime;
+
+  /* number of composites */
+  private int numberOfComposites;
+
+  public NavigationMetrics(String hash) {
+    this.hash = hash;
+  }
+
+  public String getHash() {
+    return hash;
+  }
+
+  public boolean isAborted() {
+    return aborted;
+  }
+
+  public void setAborted(boolean aborted) {
+    this.aborted = aborted;
+  }
+
+  public double getTotalTime() {
+    return totalTime;
+  }
+
+  public void setTotalTime(double totalTime) {
+    this.totalTime = totalTime;
+  }
+
+  public double getParseTime() {
+    return parseTime;
+  }
+
+  public void addParseTime(double parseTime) {
+    this.parseTime += parseTime;
+  }
+
+  public double getFilterTime() {
+    return filterTime;
+  }
+
+  public void addFilterTime(double filterTime) {
+    this.filterTime += filterTime;
+  }
+
+  public double getConfirmTime() {
+    return confirmTime;
+  }
+
+  public void addConfirmTime(double confirmTime) {
+    this.confirmTime += confirmTime;
+  }
+
+  public boolean isShellCreated() {
+    return shellCreated;
+  }
+
+  public double getShellCreationTime() {
+    return shellCreationTime;
+  }
+
+  public void addShellCreationTime(double shellCreationTime) {
+    this.shellCreated = true;
+    this.shellCreationTime += shellCreationTime;
+  }
+
+  public double getControllerCreationTime() {
+    return controllerCreationTime;
+  }
+
+  public void addControllerCreationTime(double controllerCreationTime) {
+    this.controllerCreationTime += controllerCreationTime;
+  }
+
+  public int getControllerCacheHits() {
+    return controllerCacheHits;
+  }
+
+  public void incrementControllerCacheHits() {
+    this.controllerCacheHits++;
+  }
+
+  public int getControllerCacheMisses() {
+    return controllerCacheMisses;
+  }
+
+  public void incrementControllerCacheMisses() {
+    this.controllerCacheMisses++;
+  }
+
+  public double getBindTime() {
+    return bindTime;
+  }
+
+  public void addBindTime(double bindTime) {
+    this.bindTime += bindTime;
+  }
+
+  public double getRenderTime() {
+    return renderTime;
+  }
+
+  public void addRenderTime(double renderTime) {
+    this.renderTime += renderTime;
+  }
+
+  public double getAttachTime() {
+    return attachTime;
+  }
+
+  public void addAttachTime(double attachTime) {
+    this.attachTime += attachTime;
+  }
+
+  public double getLifecycleTime() {
+    return lifecycleTime;
+  }
+
+  public void addLifecycleTime(double lifecycleTime) {
+    this.lifecycleTime += lifecycleTime;
+  }
+
+  public int getNumberOfComposites() {
+    return numberOfComposites;
+  }
+
+  public void addNumberOfComposites(int numberOfComposites) {
+    this.numberOfComposites += numberOfComposites;
+  }
+
+  /**
+   * Returns the current time in milliseconds. The time is monotonic,
+   * so it can only be used to measure durations.
+   *
+   * @return the current time in milliseconds
+   */
+  public static double now() {
+    return System.nanoTime() / 1000000d;
+  }
+
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.metrics.annotation;
+
+import com.github.nalukit.nalu.client.metrics.IsRoutingMetrics;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+/**
+ * <p>This annotation is used to register a routing metrics sink.
+ * It can only be used on the interface annotated with @Application.</p>
+ * <br><br>
+ * The router reports the metrics of every navigation to the sink.
+ * In case there is no sink, the router will not measure anything.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RoutingMetrics {
+
+  Class<? extends IsRoutingMetrics> value();
+
+}
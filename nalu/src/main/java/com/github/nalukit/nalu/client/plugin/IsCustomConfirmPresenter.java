@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.plugin;
+
+/**
+ * Interface of a presenter, that shows a confirm dialog.
+ * <p>
+ * Set an implementation of this interface inside the plugin
+ * to replace the blocking confirm dialog of the browser with
+ * a dialog of the application.
+ */
+@FunctionalInterface
+public interface IsCustomConfirmPresenter {
+
+  /**
+   * Shows the message. Once the user has made a decision,
+   * call onOk or onCancel of the handler.
+   *
+   * @param message the message to confirm
+   * @param handler handler of the confirmation
+   */
+  void confirm(String message,
+               IsNaluProcessorPlugin.ConfirmHandler handler);
+
+}
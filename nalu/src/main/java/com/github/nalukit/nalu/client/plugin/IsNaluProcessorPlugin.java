@@ -16,6 +16,8 @@
 
 package com.github.nalukit.nalu.client.plugin;
 
+import com.github.nalukit.nalu.client.application.StartupPhase;
+import com.github.nalukit.nalu.client.application.StartupTiming;
 import com.github.nalukit.nalu.client.internal.route.ShellConfiguration;
 
 import java.util.Map;
@@ -29,6 +31,105 @@ public interface IsNaluProcessorPlugin {
 
   boolean confirm(String message);
 
+  /**
+   * Asks the user to confirm the message. The result is reported
+   * to the handler, so the confirmation does not need to block
+   * the UI thread.
+   * <p>
+   * The default implementation uses {@link #confirm(String)}.
+   * Override this method to show a non-blocking dialog.
+   *
+   * @param message the message to confirm
+   * @param handler handler, that will be called with the result
+   */
+  default void confirm(String message,
+                       ConfirmHandler handler) {
+    if (this.confirm(message)) {
+      handler.onOk();
+    } else {
+      handler.onCancel();
+    }
+  }
+
+  /**
+   * Schedules a task, that should be executed once the browser is idle.
+   * <p>
+   * Nalu uses this method to prefetch routes.
+   * <p>
+   * The default implementation executes the task immediately.
+   *
+   * @param task the task to execute
+   */
+  default void scheduleIdle(Runnable task) {
+    task.run();
+  }
+
+  /**
+   * Schedules a task, that should be executed after the current
+   * event is handled (f.e.: as microtask).
+   * <p>
+   * Nalu uses this method to deliver deferred and coalesced events.
+   * <p>
+   * The default implementation executes the task immediately.
+   *
+   * @param task the task to execute
+   */
+  default void scheduleDeferred(Runnable task) {
+    task.run();
+  }
+
+  /**
+   * Starts collecting the DOM mutations of {@link #attach(String, Object)}
+   * and {@link #remove(String)}. The collected mutations will be applied
+   * once {@link #commitTransaction()} is called.
+   * <p>
+   * Transactions can be nested. Only the outermost commit applies the
+   * mutations.
+   * <p>
+   * The default implementation does nothing (the mutations are applied
+   * immediately).
+   */
+  default void beginTransaction() {
+  }
+
+  /**
+   * Applies the DOM mutations collected since
+   * {@link #beginTransaction()}: first all removals, then all attaches.
+   * <p>
+   * The default implementation does nothing.
+   */
+  default void commitTransaction() {
+  }
+
+  /**
+   * Called by the router after the shell is detached. Plugins caching
+   * elements of selectors should clear their cache.
+   * <p>
+   * The default implementation does nothing.
+   */
+  default void onShellDetached() {
+  }
+
+  /**
+   * Called once a phase of the application start is started.
+   * <p>
+   * The default implementation does nothing.
+   *
+   * @param phase the started phase
+   */
+  default void onStartupPhaseStarted(StartupPhase phase) {
+  }
+
+  /**
+   * Called once a phase of the application start is finished.
+   * <p>
+   * The default implementation does nothing.
+   *
+   * @param timing the timing of the finished phase
+   */
+  default void onStartupPhaseFinished(StartupTiming timing) {
+  }
+
   String getStartRoute();
 
   Map<String, String> getQueryParameters();
@@ -51,4 +152,12 @@ public interface IsNaluProcessorPlugin {
 
   }
 
+  interface ConfirmHandler {
+
+    void onOk();
+
+    void onCancel();
+
+  }
+
 }
@@ -9,12 +9,22 @@ public class RouterStateEvent
 
   private RouterState state;
   private String route;
+  private boolean superseded;
 
   public RouterStateEvent(RouterState state,
                           String route) {
+    this(state,
+         route,
+         false);
+  }
+
+  public RouterStateEvent(RouterState state,
+                          String route,
+                          boolean superseded) {
     super();
     this.state = state;
     this.route = route;
+    this.superseded = superseded;
   }
 
   public RouterState getState() {
@@ -25,6 +35,16 @@ public class RouterStateEvent
     return route;
   }
 
+  /**
+   * Returns true, in case the routing was aborted, because a newer
+   * routing was started before the routing was finished.
+   *
+   * @return true, if the routing is superseded by a newer one
+   */
+  public boolean isSuperseded() {
+    return superseded;
+  }
+
   @Override
   public Type<RouterStateEvent.RouterStateHandler> getAssociatedType() {
     return TYPE;
@@ -115,4 +115,32 @@ public abstract class EventBus
   public abstract void fireEventFromSource(Event<?> event,
                                            Object source);
 
+  /**
+   * Fires the event later, from no source. Only unfiltered handlers will receive it.
+   *
+   * <p>The default implementation fires the event immediately. Implementations that support
+   * deferred delivery queue the event and deliver it together with other deferred events.
+   *
+   * @param event the event to fire
+   */
+  public void fireEventDeferred(Event<?> event) {
+    fireEvent(event);
+  }
+
+  /**
+   * Fires the event later, from no source. In case another event with the same key is fired
+   * before the queued events are delivered, only the latest event of the key will be delivered.
+   * Only unfiltered handlers will receive it.
+   *
+   * <p>The default implementation fires the event immediately. Implementations that support
+   * deferred delivery queue the event and deliver it together with other deferred events.
+   *
+   * @param event the event to fire
+   * @param key   the key used to coalesce events
+   */
+  public void fireEventCoalesced(Event<?> event,
+                                 Object key) {
+    fireEvent(event);
+  }
+
 }
@@ -24,16 +24,23 @@ import java.util.Set;
 /**
  * Wraps an EventBus to hold on to any HandlerRegistrations, so that they can easily all be cleared
  * at once.
+ * <p>
+ * In case the wrapped bus is a {@link SimpleEventBus}, the handlers are added to a scope of the
+ * bus, so that clearing them does not need to remove them one by one.
  */
 public class ResettableEventBus
     extends EventBus {
 
   private final EventBus wrapped;
 
-  private final Set<HandlerRegistration> registrations = new HashSet<>();
+  private Set<HandlerRegistration> registrations = new HashSet<>();
 
   public ResettableEventBus(EventBus wrappedBus) {
-    this.wrapped = wrappedBus;
+    if (wrappedBus instanceof SimpleEventBus) {
+      this.wrapped = ((SimpleEventBus) wrappedBus).createScope();
+    } else {
+      this.wrapped = wrappedBus;
+    }
   }
 
   @Override
@@ -66,10 +73,28 @@ public class ResettableEventBus
                                 source);
   }
 
+  @Override
+  public void fireEventDeferred(Event<?> event) {
+    wrapped.fireEventDeferred(event);
+  }
+
+  @Override
+  public void fireEventCoalesced(Event<?> event,
+                                 Object key) {
+    wrapped.fireEventCoalesced(event,
+                               key);
+  }
+
   /**
    * Remove all handlers that have been added through this wrapper.
    */
   public void removeHandlers() {
+    if (wrapped instanceof SimpleEventBus) {
+      // all handlers live in the scope -> drop them at once
+      registrations = new HashSet<>();
+      ((SimpleEventBus) wrapped).resetScope();
+      return;
+    }
     Iterator<HandlerRegistration> it = registrations.iterator();
     while (it.hasNext()) {
       HandlerRegistration r = it.next();
@@ -17,25 +17,177 @@ package org.gwtproject.event.shared;
 
 import org.gwtproject.event.shared.Event.Type;
 
-import java.util.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Basic implementation of {@link EventBus}.
+ * <p>
+ * The handlers of an event type are stored in arrays, that are
+ * replaced (copy on write) when a handler is added or removed.
+ * Firing an event iterates the array, that is current at the time
+ * the event is fired, so adding or removing handlers while an event
+ * is dispatched neither affects the running dispatch nor needs to be
+ * deferred. Handlers without source are kept separately, so firing
+ * an event without source needs a single map lookup.
+ * <p>
+ * A bus can create scopes (see {@link #createScope()}). Handlers added
+ * to a scope are called with the handlers of the bus, but they can be
+ * removed at once by resetting the scope, independent of the number
+ * of handlers.
+ * <p>
+ * Handlers are called in this order: the handlers of the bus for the
+ * source of the event, the handlers of the bus without a source and at
+ * last the handlers of the scopes, in the order the scopes got their first
+ * handler (after creation or the last reset). Within a scope the same order
+ * applies. Note: handlers are <b>not</b> called in the order of their
+ * registration across scopes. A handler added to the bus is called before
+ * a handler added to a scope of the bus, even if the handler of the scope
+ * was added earlier. Handlers relying on the registration order must be
+ * added to the same scope.
+ * <p>
+ * Events fired with {@link #fireEventDeferred(Event)} or
+ * {@link #fireEventCoalesced(Event, Object)} are queued and delivered,
+ * when {@link #flushDeferredEvents()} is called. In case a scheduler is
+ * set, the bus asks the scheduler to flush the queue.
  */
 public class SimpleEventBus
     extends EventBus {
 
+  private static final Object[] EMPTY = new Object[0];
+
+  /**
+   * Map of event type to the handlers registered without a source.
+   */
+  private Map<Type<?>, Object[]> handlers = new HashMap<>();
+
+  /**
+   * Map of event type to map of event source to the handlers.
+   */
+  private Map<Type<?>, Map<Object, Object[]>> sourceHandlers = new HashMap<>();
+
+  /**
+   * The bus that created this scope (null, if this bus is not a scope).
+   */
+  private final SimpleEventBus parent;
+
+  /**
+   * First and last scope with handlers. The scopes are linked
+   * (see previousScope and nextScope), so a scope can be
+   * attached and detached in constant time.
+   */
+  private SimpleEventBus firstScope;
+
+  private SimpleEventBus lastScope;
+
+  /**
+   * Neighbours of this scope inside the scopes of the parent.
+   */
+  private SimpleEventBus previousScope;
+
+  private SimpleEventBus nextScope;
+
+  /**
+   * true, if this scope is linked into the scopes of the parent.
+   * (A scope, that is detached during a dispatch, stays linked
+   * until the dispatch is done.)
+   */
+  private boolean linked;
+
+  /**
+   * Number of running dispatches iterating the scopes of this bus.
+   */
+  private int dispatching;
+
+  /**
+   * Scopes detached during a dispatch and waiting to be unlinked
+   * (created on demand).
+   */
+  private List<SimpleEventBus> scopesToUnlink;
+
+  /**
+   * Incremented on every reset, so that registrations of
+   * handlers, that were already removed by a reset, do nothing.
+   */
+  private int generation;
+
+  /**
+   * true, if this scope is part of the scopes of the parent.
+   */
+  private boolean attached;
+
+  /**
+   * Events waiting for delivery (key: coalescing key or the event itself).
+   */
+  private Map<Object, Event<?>> pendingEvents = new LinkedHashMap<>();
+
   /**
-   * Map of event type to map of event source to list of their handlers.
+   * Scheduler used to flush the pending events (might be null).
    */
-  private final Map<Type<?>, Map<Object, List<?>>> map = new HashMap<>();
+  private Consumer<Runnable> deferredScheduler;
 
-  private int firingDepth = 0;
+  /**
+   * true, if a flush of the pending events is scheduled.
+   */
+  private boolean flushScheduled;
+
+  public SimpleEventBus() {
+    this(null);
+  }
+
+  private SimpleEventBus(SimpleEventBus parent) {
+    this.parent = parent;
+  }
+
+  /**
+   * Creates a new scope of this bus.
+   * <p>
+   * Handlers added to the scope are called for every event fired on
+   * this bus (after the handlers of this bus). Events fired on the
+   * scope are fired on the bus that created the scope.
+   * <p>
+   * Calling {@link #resetScope()} removes all handlers of the scope
+   * in constant time (regarding the number of handlers and the number
+   * of other scopes of this bus).
+   *
+   * @return a new scope
+   */
+  public SimpleEventBus createScope() {
+    return new SimpleEventBus(this);
+  }
 
   /**
-   * Add and remove operations received during dispatch.
+   * Removes all handlers added to this scope (and to the scopes
+   * created by this scope). The scope can be used afterwards.
+   * <p>
+   * Calling this method on a bus, that is not a scope, does nothing.
    */
-  private List<Command> deferredDeltas;
+  public void resetScope() {
+    if (parent == null) {
+      return;
+    }
+    handlers = new HashMap<>();
+    sourceHandlers = new HashMap<>();
+    SimpleEventBus scope = firstScope;
+    while (scope != null) {
+      SimpleEventBus next = scope.nextScope;
+      // resetting an attached scope detaches it from this bus
+      if (scope.attached) {
+        scope.resetScope();
+      }
+      scope = next;
+    }
+    generation++;
+    if (attached) {
+      parent.detachScope(this);
+    }
+  }
 
   @Override
   public <H> HandlerRegistration addHandler(Type<H> type,
@@ -60,6 +212,10 @@ public class SimpleEventBus
 
   @Override
   public void fireEvent(Event<?> event) {
+    if (parent != null) {
+      parent.fireEvent(event);
+      return;
+    }
     doFire(event,
            null);
   }
@@ -70,29 +226,91 @@ public class SimpleEventBus
     if (source == null) {
       throw new NullPointerException("Cannot fire from a null source");
     }
+    if (parent != null) {
+      parent.fireEventFromSource(event,
+                                 source);
+      return;
+    }
     doFire(event,
            source);
   }
 
-  private <H> void doRemove(Event.Type<H> type,
-                            Object source,
-                            H handler) {
-    if (firingDepth > 0) {
-      enqueueRemove(type,
-                    source,
-                    handler);
-    } else {
-      doRemoveNow(type,
-                  source,
-                  handler);
+  @Override
+  public void fireEventDeferred(Event<?> event) {
+    fireEventCoalesced(event,
+                       event);
+  }
+
+  @Override
+  public void fireEventCoalesced(Event<?> event,
+                                 Object key) {
+    if (event == null) {
+      throw new NullPointerException("Cannot fire null event");
+    }
+    if (key == null) {
+      throw new NullPointerException("Cannot coalesce with a null key");
+    }
+    if (parent != null) {
+      parent.fireEventCoalesced(event,
+                                key);
+      return;
+    }
+    // an event with the same key is replaced, but keeps its position
+    pendingEvents.put(key,
+                      event);
+    if (!flushScheduled && deferredScheduler != null) {
+      flushScheduled = true;
+      deferredScheduler.accept(this::flushDeferredEvents);
     }
   }
 
-  private void defer(Command command) {
-    if (deferredDeltas == null) {
-      deferredDeltas = new ArrayList<>();
+  /**
+   * Sets the scheduler, that will be asked to flush the pending
+   * events, once the first event is queued.
+   *
+   * @param deferredScheduler the scheduler (null: events are delivered
+   *                          only if {@link #flushDeferredEvents()} is called)
+   */
+  public void setDeferredScheduler(Consumer<Runnable> deferredScheduler) {
+    if (parent != null) {
+      parent.setDeferredScheduler(deferredScheduler);
+      return;
+    }
+    this.deferredScheduler = deferredScheduler;
+  }
+
+  /**
+   * Delivers all pending events in the order they were queued.
+   * Events queued while delivering will be delivered with the next flush.
+   *
+   * @throws UmbrellaException wrapping exceptions thrown by handlers
+   */
+  public void flushDeferredEvents() {
+    if (parent != null) {
+      parent.flushDeferredEvents();
+      return;
+    }
+    flushScheduled = false;
+    if (pendingEvents.isEmpty()) {
+      return;
+    }
+    Map<Object, Event<?>> events = pendingEvents;
+    pendingEvents = new LinkedHashMap<>();
+    Set<Throwable> causes = null;
+    for (Event<?> event : events.values()) {
+      try {
+        doFire(event,
+               null);
+      } catch (UmbrellaException e) {
+        if (causes == null) {
+          causes = new HashSet<>();
+        }
+        causes.addAll(e.getCauses());
+      }
+    }
+    if (causes != null) {
+      throw new UmbrellaException(causes);
     }
-    deferredDeltas.add(command);
   }
 
   private <H> HandlerRegistration doAdd(final Event.Type<H> type,
@@ -105,27 +323,64 @@ public class SimpleEventBus
       throw new NullPointerException("Cannot add a null handler");
     }
 
-    if (firingDepth > 0) {
-      enqueueAdd(type,
-                 source,
-                 handler);
+    if (source == null) {
+      handlers.put(type,
+                   append(handlers.get(type),
+                          handler));
     } else {
-      doAddNow(type,
-               source,
-               handler);
+      Map<Object, Object[]> sourceMap = sourceHandlers.get(type);
+      if (sourceMap == null) {
+        sourceMap = new HashMap<>();
+        sourceHandlers.put(type,
+                           sourceMap);
+      }
+      sourceMap.put(source,
+                    append(sourceMap.get(source),
+                           handler));
     }
+    ensureAttached();
 
+    final int registeredGeneration = generation;
     return () -> doRemove(type,
                           source,
-                          handler);
+                          handler,
+                          registeredGeneration);
   }
 
-  private <H> void doAddNow(Event.Type<H> type,
+  private <H> void doRemove(Event.Type<H> type,
                             Object source,
-                            H handler) {
-    List<H> l = ensureHandlerList(type,
-                                  source);
-    l.add(handler);
+                            H handler,
+                            int registeredGeneration) {
+    if (registeredGeneration != generation) {
+      // already removed by a reset of the scope
+      return;
+    }
+    if (source == null) {
+      Object[] remaining = remove(handlers.get(type),
+                                  handler);
+      if (remaining == null) {
+        handlers.remove(type);
+      } else {
+        handlers.put(type,
+                     remaining);
+      }
+    } else {
+      Map<Object, Object[]> sourceMap = sourceHandlers.get(type);
+      if (sourceMap == null) {
+        return;
+      }
+      Object[] remaining = remove(sourceMap.get(source),
+                                  handler);
+      if (remaining == null) {
+        sourceMap.remove(source);
+        if (sourceMap.isEmpty()) {
+          sourceHandlers.remove(type);
+        }
+      } else {
+        sourceMap.put(source,
+                      remaining);
+      }
+    }
   }
 
   private <H> void doFire(Event<H> event,
@@ -133,149 +388,196 @@ public class SimpleEventBus
     if (event == null) {
       throw new NullPointerException("Cannot fire null event");
     }
-    try {
-      firingDepth++;
 
-      if (source != null) {
-        setSourceOfEvent(event,
-                         source);
-      }
+    if (source != null) {
+      setSourceOfEvent(event,
+                       source);
+    }
+    Set<Throwable> causes = dispatchToScope(event,
+                                            source,
+                                            null);
 
-      List<H> handlers = getDispatchList(event.getAssociatedType(),
-                                         source);
-      Set<Throwable> causes = null;
-
-      for (H handler : handlers) {
-        try {
-          dispatchEvent(event,
-                        handler);
-        } catch (Throwable e) {
-          if (causes == null) {
-            causes = new HashSet<>();
-          }
-          causes.add(e);
-        }
-      }
+    if (causes != null) {
+      throw new UmbrellaException(causes);
+    }
+  }
 
-      if (causes != null) {
-        throw new UmbrellaException(causes);
+  private <H> Set<Throwable> dispatchToScope(Event<H> event,
+                                             Object source,
+                                             Set<Throwable> causes) {
+    if (source != null) {
+      // handlers of the source first, ...
+      Map<Object, Object[]> sourceMap = sourceHandlers.get(event.getAssociatedType());
+      if (sourceMap != null) {
+        causes = dispatch(event,
+                          sourceMap.get(source),
+                          causes);
+      }
+    }
+    // ... then the handlers without source ...
+    causes = dispatch(event,
+                      handlers.get(event.getAssociatedType()),
+                      causes);
+    // ... and at last the handlers of the scopes
+    // (scopes attached during the dispatch are not called)
+    SimpleEventBus last = lastScope;
+    SimpleEventBus scope = firstScope;
+    dispatching++;
+    try {
+      while (scope != null) {
+        if (scope.attached) {
+          causes = scope.dispatchToScope(event,
+                                         source,
+                                         causes);
+        }
+        scope = scope == last ? null : scope.nextScope;
       }
     } finally {
-      firingDepth--;
-      if (firingDepth == 0) {
-        handleQueuedAddsAndRemoves();
+      dispatching--;
+      if (dispatching == 0 && scopesToUnlink != null) {
+        for (SimpleEventBus scopeToUnlink : scopesToUnlink) {
+          if (!scopeToUnlink.attached) {
+            unlinkScope(scopeToUnlink);
+          }
+        }
+        scopesToUnlink = null;
       }
     }
+    return causes;
   }
 
-  private <H> void doRemoveNow(Event.Type<H> type,
-                               Object source,
-                               H handler) {
-    List<H> l = getHandlerList(type,
-                               source);
-
-    boolean removed = l.remove(handler);
-
-    if (removed && l.isEmpty()) {
-      prune(type,
-            source);
+  /**
+   * Adds this scope (and the scopes above) to the scopes of the parent,
+   * so that the handlers of this scope are called.
+   */
+  private void ensureAttached() {
+    if (parent != null && !attached) {
+      parent.attachScope(this);
+      parent.ensureAttached();
     }
   }
 
-  private <H> void enqueueAdd(final Event.Type<H> type,
-                              final Object source,
-                              final H handler) {
-    defer(() -> doAddNow(type,
-                         source,
-                         handler));
-  }
-
-  private <H> void enqueueRemove(final Event.Type<H> type,
-                                 final Object source,
-                                 final H handler) {
-    defer(() -> doRemoveNow(type,
-                            source,
-                            handler));
-  }
-
-  private <H> List<H> ensureHandlerList(Event.Type<H> type,
-                                        Object source) {
-    Map<Object, List<?>> sourceMap = map.computeIfAbsent(type,
-                                                         k -> new HashMap<>());
-
-    // safe, we control the puts.
-    @SuppressWarnings("unchecked") List<H> handlers = (List<H>) sourceMap.get(source);
-    if (handlers == null) {
-      handlers = new ArrayList<>();
-      sourceMap.put(source,
-                    handlers);
+  private void attachScope(SimpleEventBus scope) {
+    scope.attached = true;
+    if (scope.linked) {
+      // detached during a running dispatch and not yet unlinked
+      return;
     }
-
-    return handlers;
+    scope.previousScope = lastScope;
+    scope.nextScope = null;
+    if (lastScope == null) {
+      firstScope = scope;
+    } else {
+      lastScope.nextScope = scope;
+    }
+    lastScope = scope;
+    scope.linked = true;
   }
 
-  private <H> List<H> getDispatchList(Event.Type<H> type,
-                                      Object source) {
-    List<H> directHandlers = getHandlerList(type,
-                                            source);
-    if (source == null) {
-      return directHandlers;
+  private void detachScope(SimpleEventBus scope) {
+    scope.attached = false;
+    if (dispatching > 0) {
+      // unlinking the scope now would break the running dispatch
+      if (scopesToUnlink == null) {
+        scopesToUnlink = new ArrayList<>();
+      }
+      scopesToUnlink.add(scope);
+      return;
     }
-
-    List<H> globalHandlers = getHandlerList(type,
-                                            null);
-
-    List<H> rtn = new ArrayList<>(directHandlers);
-    rtn.addAll(globalHandlers);
-    return rtn;
+    unlinkScope(scope);
   }
 
-  private <H> List<H> getHandlerList(Event.Type<H> type,
-                                     Object source) {
-    Map<Object, List<?>> sourceMap = map.get(type);
-    if (sourceMap == null) {
-      return Collections.emptyList();
+  private void unlinkScope(SimpleEventBus scope) {
+    if (!scope.linked) {
+      return;
     }
-
-    // safe, we control the puts.
-    @SuppressWarnings("unchecked") List<H> handlers = (List<H>) sourceMap.get(source);
-    if (handlers == null) {
-      return Collections.emptyList();
+    if (scope.previousScope == null) {
+      firstScope = scope.nextScope;
+    } else {
+      scope.previousScope.nextScope = scope.nextScope;
     }
-
-    return handlers;
+    if (scope.nextScope == null) {
+      lastScope = scope.previousScope;
+    } else {
+      scope.nextScope.previousScope = scope.previousScope;
+    }
+    scope.previousScope = null;
+    scope.nextScope = null;
+    scope.linked = false;
   }
 
-  private void handleQueuedAddsAndRemoves() {
-    if (deferredDeltas != null) {
+  private <H> Set<Throwable> dispatch(Event<H> event,
+                                      Object[] snapshot,
+                                      Set<Throwable> causes) {
+    if (snapshot == null) {
+      return causes;
+    }
+    for (Object handler : snapshot) {
       try {
-        for (Command c : deferredDeltas) {
-          c.execute();
+        // safe, we control the puts.
+        @SuppressWarnings("unchecked") H h = (H) handler;
+        dispatchEvent(event,
+                      h);
+      } catch (Throwable e) {
+        if (causes == null) {
+          causes = new HashSet<>();
         }
-      } finally {
-        deferredDeltas = null;
+        causes.add(e);
       }
     }
+    return causes;
   }
 
-  private void prune(Event.Type<?> type,
-                     Object source) {
-    Map<Object, List<?>> sourceMap = map.get(type);
-
-    List<?> pruned = sourceMap.remove(source);
-
-    assert pruned != null : "Can't prune what wasn't there";
-    assert pruned.isEmpty() : "Pruned unempty list!";
-
-    if (sourceMap.isEmpty()) {
-      map.remove(type);
+  private static Object[] append(Object[] current,
+                                 Object handler) {
+    if (current == null) {
+      current = EMPTY;
     }
+    Object[] updated = new Object[current.length + 1];
+    System.arraycopy(current,
+                     0,
+                     updated,
+                     0,
+                     current.length);
+    updated[current.length] = handler;
+    return updated;
   }
 
-  private interface Command {
-
-    void execute();
-
+  /**
+   * Returns a copy of the array without the first occurrence of the
+   * handler, the array itself in case the handler is not part of it,
+   * or null in case the copy would be empty.
+   */
+  private static Object[] remove(Object[] current,
+                                 Object handler) {
+    if (current == null) {
+      return null;
+    }
+    int index = -1;
+    for (int i = 0; i < current.length; i++) {
+      if (handler.equals(current[i])) {
+        index = i;
+        break;
+      }
+    }
+    if (index < 0) {
+      return current;
+    }
+    if (current.length == 1) {
+      return null;
+    }
+    Object[] updated = new Object[current.length - 1];
+    System.arraycopy(current,
+                     0,
+                     updated,
+                     0,
+                     index);
+    System.arraycopy(current,
+                     index + 1,
+                     updated,
+                     index,
+                     current.length - index - 1);
+    return updated;
   }
 
 }
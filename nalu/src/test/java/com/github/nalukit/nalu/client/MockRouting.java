@@ -0,0 +1,490 @@
+package com.github.nalukit.nalu.client;
+
+import com.github.nalukit.nalu.client.component.AbstractComponent;
+import com.github.nalukit.nalu.client.component.AbstractComponentController;
+import com.github.nalukit.nalu.client.component.AbstractCompositeComponent;
+import com.github.nalukit.nalu.client.component.AbstractCompositeController;
+import com.github.nalukit.nalu.client.component.AbstractShell;
+import com.github.nalukit.nalu.client.component.IsComponent;
+import com.github.nalukit.nalu.client.component.IsCompositeComponent;
+import com.github.nalukit.nalu.client.exception.RoutingInterceptionException;
+import com.github.nalukit.nalu.client.internal.application.CompositeFactory;
+import com.github.nalukit.nalu.client.internal.application.CompositeInstance;
+import com.github.nalukit.nalu.client.internal.application.ControllerFactory;
+import com.github.nalukit.nalu.client.internal.application.ControllerInstance;
+import com.github.nalukit.nalu.client.internal.application.DefaultContext;
+import com.github.nalukit.nalu.client.internal.application.IsCompositeCreator;
+import com.github.nalukit.nalu.client.internal.application.IsControllerCreator;
+import com.github.nalukit.nalu.client.internal.application.IsShellCreator;
+import com.github.nalukit.nalu.client.internal.application.ShellFactory;
+import com.github.nalukit.nalu.client.internal.application.ShellInstance;
+import com.github.nalukit.nalu.client.internal.route.RouteConfig;
+import com.github.nalukit.nalu.client.internal.route.RouterConfiguration;
+import com.github.nalukit.nalu.client.internal.route.RouterImpl;
+import com.github.nalukit.nalu.client.internal.route.ShellConfig;
+import com.github.nalukit.nalu.client.internal.route.ShellConfiguration;
+import com.github.nalukit.nalu.client.plugin.IsNaluProcessorPlugin;
+import org.gwtproject.event.shared.SimpleEventBus;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Mocks of a shell and of controllers, used to route with a
+ * real router (without generated code).
+ * <p>
+ * The controllers are registered with the controller factory using
+ * their route as class name, so every test should use its own routes.
+ * The controller factory remembers the class name of the first
+ * controller class it creates, so tests depending on the class name
+ * of the controller (for example: reusing the controller) need to
+ * use their own controller class.
+ */
+class MockRouting {
+
+  static final String SHELL = "/MockRoutingShell";
+
+  static final String SELECTOR = "content";
+
+  /* routes of the shells */
+  final List<String> shells = new ArrayList<>(Collections.singletonList(SHELL));
+
+  /* elements attached by the plugin */
+  final List<String> attached = new ArrayList<>();
+
+  /* routes of the plugin (url updates) */
+  final List<String> routes = new ArrayList<>();
+
+  /* creators of the controllers (key: class name of the controller) */
+  final Map<String, MockControllerCreator> creators = new HashMap<>();
+
+  final RouterConfiguration routerConfiguration = new RouterConfiguration();
+
+  final SimpleEventBus eventBus = new SimpleEventBus();
+
+  /**
+   * Adds a route. The route uses a mock controller, that is registered
+   * using the route as class name. For every '*' of the route a parameter
+   * is added to the route configuration.
+   *
+   * @param route the route (without the shell)
+   * @return the creator of the controller of the route
+   */
+  MockControllerCreator addRoute(String route) {
+    return this.addRoute(SHELL,
+                         route);
+  }
+
+  /**
+   * Adds a shell.
+   *
+   * @param shell the route of the shell
+   */
+  void addShell(String shell) {
+    this.shells.add(shell);
+  }
+
+  /**
+   * Adds a route to a shell. The controller is registered using the
+   * route inside the default shell as class name, so the same route
+   * added to another shell uses the same controller.
+   *
+   * @param shell the shell of the route
+   * @param route the route (without the shell)
+   * @return the creator of the controller of the route
+   */
+  MockControllerCreator addRoute(String shell,
+                                 String route) {
+    return this.addRoute(shell,
+                         route,
+                         MockRouting.SELECTOR);
+  }
+
+  /**
+   * Adds a route to a shell using a selector. The controller is
+   * registered using the route inside the default shell as class name.
+   *
+   * @param shell    the shell of the route
+   * @param route    the route (without the shell)
+   * @param selector the selector of the route
+   * @return the creator of the controller of the route
+   */
+  MockControllerCreator addRoute(String shell,
+                                 String route,
+                                 String selector) {
+    String className = SHELL + route;
+    List<String> parameters = new ArrayList<>();
+    for (String part : route.split("/")) {
+      if ("*".equals(part)) {
+        parameters.add("parameter" + (parameters.size() + 1));
+      }
+    }
+    this.routerConfiguration.addRoute(new RouteConfig(shell + route,
+                                                      parameters,
+                                                      selector,
+                                                      className));
+    MockControllerCreator creator = this.creators.get(className);
+    if (creator != null) {
+      return creator;
+    }
+    creator = new MockControllerCreator(className);
+    ControllerFactory.get()
+                     .registerController(className,
+                                         creator);
+    this.creators.put(className,
+                      creator);
+    return creator;
+  }
+
+  /**
+   * Creates the router using the added routes.
+   *
+   * @return the router
+   */
+  RouterImpl createRouter() {
+    ShellConfiguration shellConfiguration = new ShellConfiguration();
+    for (String shell : this.shells) {
+      shellConfiguration.getShells()
+                        .add(new ShellConfig(shell,
+                                             shell));
+      ShellFactory.get()
+                  .registerShell(shell,
+                                 new IsShellCreator() {
+                                   @Override
+                                   public ShellInstance create() {
+                                     ShellInstance shellInstance = new ShellInstance();
+                                     shellInstance.setShellClassName(shell);
+                                     shellInstance.setShell(new MockShell());
+                                     return shellInstance;
+                                   }
+
+                                   @Override
+                                   public void onFinishCreating(Object object) {
+                                   }
+
+                                   @Override
+                                   public void logBindMethodCallToConsole(AbstractShell<?> shell,
+                                                                          boolean isFinished) {
+                                   }
+                                 });
+    }
+    RouterImpl router = new RouterImpl(this.createPlugin(),
+                                       shellConfiguration,
+                                       this.routerConfiguration,
+                                       Utils.createCompositeConfiguration(),
+                                       null,
+                                       SHELL,
+                                       true,
+                                       true,
+                                       false,
+                                       false);
+    router.setEventBus(this.eventBus);
+    return router;
+  }
+
+  /**
+   * Adds a composite to the controller. The composite is created
+   * using the composite factory, so that the factory knows the
+   * class name of the composite.
+   *
+   * @param controller        the controller of the composite
+   * @param name              the name and class name of the composite
+   * @param compositeSupplier creates the instance of the composite
+   *                          (every composite needs its own class)
+   * @return the creator of the composite
+   * @throws RoutingInterceptionException in case the composite intercepts the routing
+   */
+  MockCompositeCreator addComposite(MockController controller,
+                                    String name,
+                                    Supplier<MockComposite> compositeSupplier)
+      throws RoutingInterceptionException {
+    MockCompositeCreator creator = new MockCompositeCreator(name,
+                                                            compositeSupplier);
+    CompositeFactory.get()
+                    .registerComposite(name,
+                                       creator);
+    CompositeInstance compositeInstance = CompositeFactory.get()
+                                                          .getComposite(controller.getRelatedRoute(),
+                                                                        name,
+                                                                        false);
+    controller.getComposites()
+              .put(name,
+                   compositeInstance.getComposite());
+    return creator;
+  }
+
+  private IsNaluProcessorPlugin createPlugin() {
+    return new IsNaluProcessorPlugin() {
+      @Override
+      public void alert(String message) {
+      }
+
+      @Override
+      public boolean attach(String selector,
+                            Object asElement) {
+        attached.add((String) asElement);
+        return true;
+      }
+
+      @Override
+      public boolean confirm(String message) {
+        return true;
+      }
+
+      @Override
+      public String getStartRoute() {
+        return "/";
+      }
+
+      @Override
+      public Map<String, String> getQueryParameters() {
+        return new HashMap<>();
+      }
+
+      @Override
+      public void register(RouteChangeHandler handler) {
+      }
+
+      @Override
+      public void remove(String selector) {
+      }
+
+      @Override
+      public void route(String newRoute,
+                        boolean replace) {
+        routes.add(newRoute);
+      }
+
+      @Override
+      public void initialize(ShellConfiguration shellConfiguration) {
+      }
+
+      @Override
+      public String decode(String route) {
+        return route;
+      }
+    };
+  }
+
+  static class MockShell
+      extends AbstractShell<DefaultContext> {
+
+    @Override
+    public void attachShell() {
+    }
+
+  }
+
+  static class MockController
+      extends AbstractComponentController<DefaultContext, MockComponent, String> {
+
+    /* the loader of the last bind (in case the bind is deferred) */
+    ControllerLoader loader;
+
+    /* true: bind waits until continueLoading of the loader is called */
+    boolean deferBind;
+
+    /* in case not null, the bind redirects to this route */
+    String redirectOnBind;
+
+    /* number of calls of removeHandlers */
+    int handlerRemovals;
+
+    /* the last parameters set */
+    String[] parameters;
+
+    int starts;
+
+    int stops;
+
+    int parameterChanges;
+
+    @Override
+    public void bind(ControllerLoader loader)
+        throws RoutingInterceptionException {
+      if (this.redirectOnBind != null) {
+        throw new RoutingInterceptionException(this.getRelatedRoute(),
+                                               this.redirectOnBind);
+      }
+      this.handlerRegistrations.add(() -> this.handlerRemovals++);
+      if (this.deferBind) {
+        this.loader = loader;
+      } else {
+        loader.continueLoading();
+      }
+    }
+
+    @Override
+    public void start() {
+      this.starts++;
+    }
+
+    @Override
+    public void stop() {
+      this.stops++;
+    }
+
+    @Override
+    public void onParametersChanged() {
+      this.parameterChanges++;
+    }
+
+  }
+
+  static class MockComponent
+      extends AbstractComponent<IsComponent.Controller, String> {
+
+    private final String name;
+
+    MockComponent(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public void render() {
+      initElement(this.name);
+    }
+
+  }
+
+  static class MockControllerCreator
+      implements IsControllerCreator {
+
+    /* the controllers created by the creator */
+    final List<MockController> controllers = new ArrayList<>();
+
+    private final String className;
+
+    /* the bind of new controllers waits for continueLoading */
+    boolean deferBind;
+
+    /* in case not null, the bind of new controllers redirects to this route */
+    String redirectOnBind;
+
+    /* new controllers will be reused in case only the parameters change */
+    boolean reuseOnParameterChange;
+
+    /* in case not null, setting the parameters redirects to this route */
+    String redirectTo;
+
+    /* creates the instances of the controller */
+    Supplier<MockController> controllerSupplier = MockController::new;
+
+    MockControllerCreator(String className) {
+      this.className = className;
+    }
+
+    MockController getController(int index) {
+      return this.controllers.get(index);
+    }
+
+    MockController getLastController() {
+      return this.controllers.get(this.controllers.size() - 1);
+    }
+
+    @Override
+    public ControllerInstance create() {
+      MockController controller = this.controllerSupplier.get();
+      controller.deferBind = this.deferBind;
+      controller.redirectOnBind = this.redirectOnBind;
+      controller.setReuseOnParameterChange(this.reuseOnParameterChange);
+      controller.setRelatedRoute(this.className);
+      MockComponent component = new MockComponent(this.className);
+      component.setController(controller);
+      controller.setComponent(component);
+      this.controllers.add(controller);
+      ControllerInstance controllerInstance = new ControllerInstance();
+      controllerInstance.setControllerClassName(this.className);
+      controllerInstance.setController(controller);
+      return controllerInstance;
+    }
+
+    @Override
+    public void onFinishCreating(Object object) {
+      ((MockController) object).getComponent()
+                               .render();
+    }
+
+    @Override
+    public void logBindMethodCallToConsole(AbstractComponentController<?, ?, ?> controller,
+                                           boolean isFinished) {
+    }
+
+    @Override
+    public void setParameter(Object object,
+                             String... parms)
+        throws RoutingInterceptionException {
+      if (this.redirectTo != null) {
+        throw new RoutingInterceptionException(this.className,
+                                               this.redirectTo);
+      }
+      ((MockController) object).parameters = Arrays.copyOf(parms,
+                                                           parms.length);
+    }
+
+  }
+
+  static class MockComposite
+      extends AbstractCompositeController<DefaultContext, MockCompositeComponent, String> {
+
+  }
+
+  static class MockCompositeComponent
+      extends AbstractCompositeComponent<IsCompositeComponent.Controller, String> {
+
+    @Override
+    public void render() {
+    }
+
+  }
+
+  static class MockCompositeCreator
+      implements IsCompositeCreator {
+
+    private final String className;
+
+    /* creates the instances of the composite */
+    private final Supplier<MockComposite> compositeSupplier;
+
+    /* the last parameters set */
+    String[] parameters;
+
+    /* in case not null, setting the parameters redirects to this route */
+    String redirectTo;
+
+    MockCompositeCreator(String className,
+                         Supplier<MockComposite> compositeSupplier) {
+      this.className = className;
+      this.compositeSupplier = compositeSupplier;
+    }
+
+    @Override
+    public CompositeInstance create(String parentControllerClassName) {
+      CompositeInstance compositeInstance = new CompositeInstance();
+      compositeInstance.setCompositeClassName(this.className);
+      MockComposite composite = this.compositeSupplier.get();
+      composite.setComponent(new MockCompositeComponent());
+      compositeInstance.setComposite(composite);
+      return compositeInstance;
+    }
+
+    @Override
+    public void setParameter(Object object,
+                             String... parms)
+        throws RoutingInterceptionException {
+      if (this.redirectTo != null) {
+        throw new RoutingInterceptionException(this.className,
+                                               this.redirectTo);
+      }
+      this.parameters = Arrays.copyOf(parms,
+                                      parms.length);
+    }
+
+  }
+
+}
@@ -1,13 +1,24 @@
 package com.github.nalukit.nalu.client;
 
+import com.github.nalukit.nalu.client.exception.RoutingInterceptionException;
+import com.github.nalukit.nalu.client.internal.application.CompositeFactory;
+import com.github.nalukit.nalu.client.internal.application.ControllerFactory;
 import com.github.nalukit.nalu.client.internal.route.RouteResult;
 import com.github.nalukit.nalu.client.internal.route.RouterException;
 import com.github.nalukit.nalu.client.internal.route.RouterImpl;
+import com.github.nalukit.nalu.client.metrics.IsRoutingMetrics;
+import com.github.nalukit.nalu.client.metrics.NavigationMetrics;
+import com.github.nalukit.nalu.client.router.event.RouterStateEvent;
+import com.github.nalukit.nalu.client.router.event.RouterStateEvent.RouterState;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
 /**
  * Router Tester.
  *
@@ -386,4 +397,604 @@ public class RouterImplTest {
                             generateRoute);
   }
 
+  /**
+   * Method: parse(String route) using the parse cache
+   */
+  @Test
+  void testParseCache01() {
+    RouteResult routeResult01 = null;
+    RouteResult routeResult02 = null;
+    try {
+      routeResult01 = this.router.parse("/MockShell/testRoute02/testParameter01/testParameter02");
+      routeResult02 = this.router.parse("/MockShell/testRoute02/testParameter01/testParameter02");
+    } catch (RouterException e) {
+      Assertions.fail();
+    }
+    Assertions.assertEquals(1,
+                            this.router.getParseCacheMissCount());
+    Assertions.assertEquals(1,
+                            this.router.getParseCacheHitCount());
+    Assertions.assertNotSame(routeResult01,
+                             routeResult02);
+    Assertions.assertEquals(routeResult01.getRoute(),
+                            routeResult02.getRoute());
+    Assertions.assertEquals(routeResult01.getParameterValues(),
+                            routeResult02.getParameterValues());
+  }
+
+  /**
+   * Method: route(String route) - the metrics are reported once the bind of the controller is done
+   */
+  @Test
+  void testRoutingMetricsDeferredBind() {
+    MockRouting mockRouting = new MockRouting();
+    MockRouting.MockControllerCreator creator = mockRouting.addRoute("/metrics01/deferred");
+    creator.deferBind = true;
+    RouterImpl router = mockRouting.createRouter();
+    List<NavigationMetrics> reports = new ArrayList<>();
+    router.setRoutingMetrics(this.createRoutingMetrics(reports));
+    router.route(MockRouting.SHELL + "/metrics01/deferred");
+    // the bind is pending: nothing to report
+    Assertions.assertTrue(reports.isEmpty());
+    creator.getLastController().loader.continueLoading();
+    Assertions.assertEquals(1,
+                            reports.size());
+    Assertions.assertFalse(reports.get(0)
+                                  .isAborted());
+    Assertions.assertEquals(1,
+                            reports.get(0)
+                                   .getControllerCacheMisses());
+    Assertions.assertEquals(1,
+                            creator.getLastController().starts);
+  }
+
+  /**
+   * Method: route(String route) - a navigation superseded while binding is reported as aborted
+   */
+  @Test
+  void testRoutingMetricsSupersededNavigation() {
+    MockRouting mockRouting = new MockRouting();
+    MockRouting.MockControllerCreator deferredCreator = mockRouting.addRoute("/metrics02/deferred");
+    deferredCreator.deferBind = true;
+    mockRouting.addRoute("/metrics02/other");
+    RouterImpl router = mockRouting.createRouter();
+    List<NavigationMetrics> reports = new ArrayList<>();
+    router.setRoutingMetrics(this.createRoutingMetrics(reports));
+    router.route(MockRouting.SHELL + "/metrics02/deferred");
+    router.route(MockRouting.SHELL + "/metrics02/other");
+    Assertions.assertEquals(2,
+                            reports.size());
+    Assertions.assertTrue(reports.get(0)
+                                 .isAborted());
+    Assertions.assertFalse(reports.get(1)
+                                  .isAborted());
+    // the stale bind does not report again
+    deferredCreator.getLastController().loader.continueLoading();
+    Assertions.assertEquals(2,
+                            reports.size());
+  }
+
+  /**
+   * Method: route(String route) - the bind of a superseded navigation is ignored
+   */
+  @Test
+  void testSupersededNavigationIgnoresStaleBind() {
+    MockRouting mockRouting = new MockRouting();
+    MockRouting.MockControllerCreator deferredCreator = mockRouting.addRoute("/superseded01/deferred");
+    deferredCreator.deferBind = true;
+    MockRouting.MockControllerCreator otherCreator = mockRouting.addRoute("/superseded01/other");
+    RouterImpl router = mockRouting.createRouter();
+    router.route(MockRouting.SHELL + "/superseded01/deferred");
+    router.route(MockRouting.SHELL + "/superseded01/other");
+    Assertions.assertEquals(1,
+                            otherCreator.getLastController().starts);
+    // the bind of the first navigation finishes after the second navigation
+    deferredCreator.getLastController().loader.continueLoading();
+    Assertions.assertEquals(0,
+                            deferredCreator.getLastController().starts);
+    Assertions.assertFalse(mockRouting.attached.contains(MockRouting.SHELL + "/superseded01/deferred"));
+    Assertions.assertEquals(MockRouting.SHELL + "/superseded01/other",
+                            mockRouting.attached.get(mockRouting.attached.size() - 1));
+    Assertions.assertEquals(0,
+                            otherCreator.getLastController().stops);
+  }
+
+  /**
+   * Method: route(String route) - a redirect of a superseded navigation is dropped
+   */
+  @Test
+  void testSupersededNavigationDropsRedirect() {
+    MockRouting mockRouting = new MockRouting();
+    MockRouting.MockControllerCreator deferredCreator = mockRouting.addRoute("/superseded02/deferred");
+    deferredCreator.deferBind = true;
+    deferredCreator.redirectTo = MockRouting.SHELL + "/superseded02/redirect";
+    MockRouting.MockControllerCreator otherCreator = mockRouting.addRoute("/superseded02/other");
+    MockRouting.MockControllerCreator redirectCreator = mockRouting.addRoute("/superseded02/redirect");
+    RouterImpl router = mockRouting.createRouter();
+    router.route(MockRouting.SHELL + "/superseded02/deferred");
+    router.route(MockRouting.SHELL + "/superseded02/other");
+    // releasing the bind of the first navigation would redirect
+    deferredCreator.getLastController().loader.continueLoading();
+    Assertions.assertTrue(redirectCreator.controllers.isEmpty());
+    // the plugin gets the hash without the leading '/'
+    Assertions.assertFalse(mockRouting.routes.contains("MockRoutingShell/superseded02/redirect"));
+    Assertions.assertEquals(1,
+                            otherCreator.getLastController().starts);
+    Assertions.assertEquals(0,
+                            otherCreator.getLastController().stops);
+  }
+
+  /**
+   * Method: route(String route) - a navigation superseded while binding fires ROUTING_ABORTED
+   */
+  @Test
+  void testSupersededNavigationFiresRoutingAborted() {
+    MockRouting mockRouting = new MockRouting();
+    MockRouting.MockControllerCreator deferredCreator = mockRouting.addRoute("/superseded03/deferred");
+    deferredCreator.deferBind = true;
+    mockRouting.addRoute("/superseded03/other");
+    RouterImpl router = mockRouting.createRouter();
+    List<RouterStateEvent> events = new ArrayList<>();
+    mockRouting.eventBus.addHandler(RouterStateEvent.TYPE,
+                                    events::add);
+    router.route(MockRouting.SHELL + "/superseded03/deferred");
+    // the bind is pending: the routing is not done
+    Assertions.assertTrue(this.getRouterStates(events,
+                                               RouterState.ROUTING_DONE)
+                              .isEmpty());
+    router.route(MockRouting.SHELL + "/superseded03/other");
+    List<RouterStateEvent> abortedEvents = this.getRouterStates(events,
+                                                                RouterState.ROUTING_ABORTED);
+    Assertions.assertEquals(1,
+                            abortedEvents.size());
+    Assertions.assertTrue(abortedEvents.get(0)
+                                       .isSuperseded());
+    Assertions.assertTrue(abortedEvents.get(0)
+                                       .getRoute()
+                                       .contains("superseded03/deferred"));
+    List<RouterStateEvent> doneEvents = this.getRouterStates(events,
+                                                             RouterState.ROUTING_DONE);
+    Assertions.assertEquals(1,
+                            doneEvents.size());
+    Assertions.assertEquals(MockRouting.SHELL + "/superseded03/other",
+                            doneEvents.get(0)
+                                      .getRoute());
+    // the stale bind does not fire any router state event
+    int numberOfEvents = events.size();
+    deferredCreator.getLastController().loader.continueLoading();
+    Assertions.assertEquals(numberOfEvents,
+                            events.size());
+  }
+
+  /**
+   * Method: route(String route, String... parms) - the controller is reused in case only the parameters change
+   */
+  @Test
+  void testReuseOnParameterChange() {
+    MockRouting mockRouting = new MockRouting();
+    MockRouting.MockControllerCreator creator = mockRouting.addRoute("/reuse01/*");
+    creator.controllerSupplier = Reuse01Controller::new;
+    creator.reuseOnParameterChange = true;
+    RouterImpl router = mockRouting.createRouter();
+    router.route(MockRouting.SHELL + "/reuse01/*",
+                 "a");
+    router.route(MockRouting.SHELL + "/reuse01/*",
+                 "b");
+    Assertions.assertEquals(1,
+                            creator.controllers.size());
+    MockRouting.MockController controller = creator.getLastController();
+    Assertions.assertArrayEquals(new String[] { "b" },
+                                 controller.parameters);
+    Assertions.assertEquals(1,
+                            controller.parameterChanges);
+    Assertions.assertEquals(1,
+                            controller.starts);
+    Assertions.assertEquals(0,
+                            controller.stops);
+  }
+
+  /**
+   * Method: route(String route, String... parms) - the controller is not reused, in case reuseOnParameterChange is false
+   */
+  @Test
+  void testNoReuseWithoutReuseOnParameterChange() {
+    MockRouting mockRouting = new MockRouting();
+    MockRouting.MockControllerCreator creator = mockRouting.addRoute("/reuse02/*");
+    creator.controllerSupplier = Reuse02Controller::new;
+    RouterImpl router = mockRouting.createRouter();
+    router.route(MockRouting.SHELL + "/reuse02/*",
+                 "a");
+    router.route(MockRouting.SHELL + "/reuse02/*",
+                 "b");
+    Assertions.assertEquals(2,
+                            creator.controllers.size());
+    Assertions.assertEquals(1,
+                            creator.getController(0).stops);
+    Assertions.assertEquals(0,
+                            creator.getController(0).parameterChanges);
+    Assertions.assertArrayEquals(new String[] { "b" },
+                                 creator.getController(1).parameters);
+  }
+
+  /**
+   * Method: route(String route, String... parms) - the controller is not reused, in case the shell changes
+   */
+  @Test
+  void testNoReuseOnShellChange() {
+    MockRouting mockRouting = new MockRouting();
+    mockRouting.addShell("/MockRoutingShell02");
+    MockRouting.MockControllerCreator creator = mockRouting.addRoute("/reuse03/*");
+    creator.controllerSupplier = Reuse03Controller::new;
+    creator.reuseOnParameterChange = true;
+    Assertions.assertSame(creator,
+                          mockRouting.addRoute("/MockRoutingShell02",
+                                               "/reuse03/*"));
+    RouterImpl router = mockRouting.createRouter();
+    router.route(MockRouting.SHELL + "/reuse03/*",
+                 "a");
+    router.route("/MockRoutingShell02/reuse03/*",
+                 "b");
+    Assertions.assertEquals(2,
+                            creator.controllers.size());
+    Assertions.assertEquals(1,
+                            creator.getController(0).stops);
+    Assertions.assertEquals(0,
+                            creator.getController(0).parameterChanges);
+    Assertions.assertEquals(1,
+                            creator.getController(1).starts);
+    Assertions.assertArrayEquals(new String[] { "b" },
+                                 creator.getController(1).parameters);
+  }
+
+  /**
+   * Method: route(String route, String... parms) - the composites of a reused controller get the new parameters
+   */
+  @Test
+  void testReuseOnParameterChangeUpdatesComposites()
+      throws RoutingInterceptionException {
+    MockRouting mockRouting = new MockRouting();
+    MockRouting.MockControllerCreator creator = mockRouting.addRoute("/reuse04/*");
+    creator.controllerSupplier = Reuse04Controller::new;
+    creator.reuseOnParameterChange = true;
+    RouterImpl router = mockRouting.createRouter();
+    router.route(MockRouting.SHELL + "/reuse04/*",
+                 "a");
+    MockRouting.MockCompositeCreator compositeCreator = mockRouting.addComposite(creator.getLastController(),
+                                                                                 "Reuse04Composite",
+                                                                                 Reuse04Composite::new);
+    router.route(MockRouting.SHELL + "/reuse04/*",
+                 "b");
+    Assertions.assertEquals(1,
+                            creator.controllers.size());
+    Assertions.assertArrayEquals(new String[] { "b" },
+                                 compositeCreator.parameters);
+    Assertions.assertEquals(1,
+                            creator.getLastController().parameterChanges);
+  }
+
+  /**
+   * Method: route(String route, String... parms) - a reused controller intercepting the routing redirects
+   */
+  @Test
+  void testReuseOnParameterChangeInterception() {
+    MockRouting mockRouting = new MockRouting();
+    MockRouting.MockControllerCreator creator = mockRouting.addRoute("/reuse05/*");
+    creator.controllerSupplier = Reuse05Controller::new;
+    creator.reuseOnParameterChange = true;
+    MockRouting.MockControllerCreator redirectCreator = mockRouting.addRoute("/reuse05Redirect");
+    RouterImpl router = mockRouting.createRouter();
+    router.route(MockRouting.SHELL + "/reuse05/*",
+                 "a");
+    creator.redirectTo = MockRouting.SHELL + "/reuse05Redirect";
+    router.route(MockRouting.SHELL + "/reuse05/*",
+                 "b");
+    MockRouting.MockController controller = creator.getLastController();
+    Assertions.assertEquals(1,
+                            creator.controllers.size());
+    // onParametersChanged is not called, the routing is redirected instead
+    Assertions.assertEquals(0,
+                            controller.parameterChanges);
+    Assertions.assertArrayEquals(new String[] { "a" },
+                                 controller.parameters);
+    Assertions.assertEquals(1,
+                            controller.stops);
+    Assertions.assertEquals(1,
+                            redirectCreator.controllers.size());
+    Assertions.assertEquals(1,
+                            redirectCreator.getLastController().starts);
+    // the plugin gets the hash without the leading '/'
+    Assertions.assertEquals("MockRoutingShell/reuse05Redirect",
+                            mockRouting.routes.get(mockRouting.routes.size() - 1));
+  }
+
+  /**
+   * Method: route(String route, String... parms) - a composite of a reused controller intercepting the routing redirects
+   */
+  @Test
+  void testReuseOnParameterChangeCompositeInterception()
+      throws RoutingInterceptionException {
+    MockRouting mockRouting = new MockRouting();
+    MockRouting.MockControllerCreator creator = mockRouting.addRoute("/reuse06/*");
+    creator.controllerSupplier = Reuse06Controller::new;
+    creator.reuseOnParameterChange = true;
+    MockRouting.MockControllerCreator redirectCreator = mockRouting.addRoute("/reuse06Redirect");
+    RouterImpl router = mockRouting.createRouter();
+    router.route(MockRouting.SHELL + "/reuse06/*",
+                 "a");
+    MockRouting.MockCompositeCreator compositeCreator = mockRouting.addComposite(creator.getLastController(),
+                                                                                 "Reuse06Composite",
+                                                                                 Reuse06Composite::new);
+    compositeCreator.redirectTo = MockRouting.SHELL + "/reuse06Redirect";
+    router.route(MockRouting.SHELL + "/reuse06/*",
+                 "b");
+    Assertions.assertEquals(0,
+                            creator.getLastController().parameterChanges);
+    Assertions.assertEquals(1,
+                            redirectCreator.controllers.size());
+  }
+
+  /**
+   * Method: prefetch(String route, String... parms) - the prefetched controller is used by the next routing
+   */
+  @Test
+  void testPrefetch() {
+    MockRouting mockRouting = new MockRouting();
+    MockRouting.MockControllerCreator creator = mockRouting.addRoute("/prefetch01/*");
+    RouterImpl router = mockRouting.createRouter();
+    router.prefetch(MockRouting.SHELL + "/prefetch01/*",
+                    "a");
+    // created and bound, but neither attached nor started
+    Assertions.assertEquals(1,
+                            creator.controllers.size());
+    Assertions.assertEquals(0,
+                            creator.getLastController().starts);
+    Assertions.assertTrue(mockRouting.attached.isEmpty());
+    router.route(MockRouting.SHELL + "/prefetch01/*",
+                 "b");
+    Assertions.assertEquals(1,
+                            creator.controllers.size());
+    MockRouting.MockController controller = creator.getLastController();
+    Assertions.assertEquals(1,
+                            controller.starts);
+    Assertions.assertArrayEquals(new String[] { "b" },
+                                 controller.parameters);
+    Assertions.assertEquals(0,
+                            controller.handlerRemovals);
+    Assertions.assertEquals(MockRouting.SHELL + "/prefetch01/*",
+                            mockRouting.attached.get(mockRouting.attached.size() - 1));
+  }
+
+  /**
+   * Method: prefetch(String route, String... parms) - an interception while binding is handled once the route is called
+   */
+  @Test
+  void testPrefetchInterceptionOnBind() {
+    MockRouting mockRouting = new MockRouting();
+    MockRouting.MockControllerCreator creator = mockRouting.addRoute("/prefetch02/*");
+    creator.redirectOnBind = MockRouting.SHELL + "/prefetch02Redirect";
+    MockRouting.MockControllerCreator redirectCreator = mockRouting.addRoute("/prefetch02Redirect");
+    RouterImpl router = mockRouting.createRouter();
+    router.prefetch(MockRouting.SHELL + "/prefetch02/*",
+                    "a");
+    // prefetching does not redirect
+    Assertions.assertTrue(mockRouting.routes.isEmpty());
+    Assertions.assertTrue(redirectCreator.controllers.isEmpty());
+    router.route(MockRouting.SHELL + "/prefetch02/*",
+                 "a");
+    // the controller, that intercepted the prefetch, is not used
+    Assertions.assertEquals(2,
+                            creator.controllers.size());
+    Assertions.assertEquals(1,
+                            redirectCreator.controllers.size());
+    Assertions.assertEquals(1,
+                            redirectCreator.getLastController().starts);
+  }
+
+  /**
+   * Method: prefetch(String route, String... parms) - a prefetched controller intercepting while setting the parameters redirects
+   */
+  @Test
+  void testPrefetchInterceptionOnSetParameter() {
+    MockRouting mockRouting = new MockRouting();
+    MockRouting.MockControllerCreator creator = mockRouting.addRoute("/prefetch03/*");
+    creator.redirectTo = MockRouting.SHELL + "/prefetch03Redirect";
+    MockRouting.MockControllerCreator redirectCreator = mockRouting.addRoute("/prefetch03Redirect");
+    RouterImpl router = mockRouting.createRouter();
+    router.prefetch(MockRouting.SHELL + "/prefetch03/*",
+                    "a");
+    Assertions.assertEquals(1,
+                            creator.controllers.size());
+    router.route(MockRouting.SHELL + "/prefetch03/*",
+                 "a");
+    Assertions.assertEquals(1,
+                            creator.controllers.size());
+    Assertions.assertEquals(0,
+                            creator.getLastController().starts);
+    Assertions.assertEquals(1,
+                            redirectCreator.getLastController().starts);
+  }
+
+  /**
+   * Method: configurePrefetch(int maxSize, long maxIdleTime) - prefetched controllers exceeding the maximum size are evicted
+   */
+  @Test
+  void testPrefetchMaxSize() {
+    MockRouting mockRouting = new MockRouting();
+    MockRouting.MockControllerCreator creator01 = mockRouting.addRoute("/prefetch04/route01");
+    MockRouting.MockControllerCreator creator02 = mockRouting.addRoute("/prefetch04/route02");
+    RouterImpl router = mockRouting.createRouter();
+    router.configurePrefetch(1,
+                             0);
+    try {
+      router.prefetch(MockRouting.SHELL + "/prefetch04/route01");
+      router.prefetch(MockRouting.SHELL + "/prefetch04/route02");
+      // the oldest prefetched controller is evicted and unbound
+      Assertions.assertEquals(1,
+                              creator01.getLastController().handlerRemovals);
+      Assertions.assertEquals(0,
+                              creator02.getLastController().handlerRemovals);
+      router.route(MockRouting.SHELL + "/prefetch04/route01");
+      Assertions.assertEquals(2,
+                              creator01.controllers.size());
+      router.route(MockRouting.SHELL + "/prefetch04/route02");
+      Assertions.assertEquals(1,
+                              creator02.controllers.size());
+      Assertions.assertEquals(1,
+                              creator02.getLastController().starts);
+    } finally {
+      this.resetPrefetch();
+    }
+  }
+
+  /**
+   * Method: configurePrefetch(int maxSize, long maxIdleTime) - expired prefetched controllers are not used
+   */
+  @Test
+  void testPrefetchMaxIdleTime()
+      throws InterruptedException {
+    MockRouting mockRouting = new MockRouting();
+    MockRouting.MockControllerCreator creator = mockRouting.addRoute("/prefetch05/*");
+    RouterImpl router = mockRouting.createRouter();
+    router.configurePrefetch(0,
+                             1);
+    try {
+      router.prefetch(MockRouting.SHELL + "/prefetch05/*",
+                      "a");
+      Thread.sleep(20);
+      router.route(MockRouting.SHELL + "/prefetch05/*",
+                   "a");
+      Assertions.assertEquals(2,
+                              creator.controllers.size());
+      Assertions.assertEquals(1,
+                              creator.getController(0).handlerRemovals);
+      Assertions.assertEquals(0,
+                              creator.getController(0).starts);
+      Assertions.assertEquals(1,
+                              creator.getController(1).starts);
+    } finally {
+      this.resetPrefetch();
+    }
+  }
+
+  /**
+   * Method: configureCache(int maxSize, long maxIdleTime) - a cached controller, whose selector is gone, gets evicted
+   */
+  @Test
+  void testCacheEvictionAfterShellChange() {
+    MockRouting mockRouting = new MockRouting();
+    mockRouting.addShell("/MockRoutingShell03");
+    MockRouting.MockControllerCreator creator01 = mockRouting.addRoute(MockRouting.SHELL,
+                                                                       "/evict01/route01",
+                                                                       "evict01");
+    creator01.controllerSupplier = Evict01Controller::new;
+    MockRouting.MockControllerCreator creator02 = mockRouting.addRoute("/MockRoutingShell03",
+                                                                       "/evict01/route02");
+    creator02.controllerSupplier = Evict02Controller::new;
+    RouterImpl router = mockRouting.createRouter();
+    router.configureCache(1,
+                          0);
+    try {
+      router.route(MockRouting.SHELL + "/evict01/route01");
+      router.storeInCache(creator01.getLastController());
+      // the shell changes, so the selector of the cached controller is gone
+      router.route("/MockRoutingShell03/evict01/route02");
+      Assertions.assertEquals(0,
+                              creator01.getLastController().stops);
+      int evictionCount = router.getControllerCacheEvictionCount();
+      router.storeInCache(creator02.getLastController());
+      // the controller displayed is kept, the other one gets evicted
+      Assertions.assertEquals(evictionCount + 1,
+                              router.getControllerCacheEvictionCount());
+      Assertions.assertEquals(1,
+                              creator01.getLastController().stops);
+      Assertions.assertEquals(1,
+                              creator01.getLastController().handlerRemovals);
+      Assertions.assertEquals(0,
+                              creator02.getLastController().stops);
+    } finally {
+      router.configureCache(0,
+                            0);
+      router.clearCache();
+    }
+  }
+
+  private void resetPrefetch() {
+    ControllerFactory.get()
+                     .configurePrefetch(ControllerFactory.PREFETCH_MAX_SIZE,
+                                        ControllerFactory.PREFETCH_MAX_IDLE_TIME);
+    CompositeFactory.get()
+                    .configurePrefetch(CompositeFactory.PREFETCH_MAX_SIZE,
+                                       CompositeFactory.PREFETCH_MAX_IDLE_TIME);
+  }
+
+  private List<RouterStateEvent> getRouterStates(List<RouterStateEvent> events,
+                                                 RouterState state) {
+    return events.stream()
+                 .filter(event -> state == event.getState())
+                 .collect(Collectors.toList());
+  }
+
+  private IsRoutingMetrics createRoutingMetrics(List<NavigationMetrics> reports) {
+    return new IsRoutingMetrics() {
+      @Override
+      public void bind() {
+      }
+
+      @Override
+      public void report(NavigationMetrics metrics) {
+        reports.add(metrics);
+      }
+    };
+  }
+
+  private static class Reuse01Controller
+      extends MockRouting.MockController {
+
+  }
+
+  private static class Reuse02Controller
+      extends MockRouting.MockController {
+
+  }
+
+  private static class Reuse03Controller
+      extends MockRouting.MockController {
+
+  }
+
+  private static class Reuse04Controller
+      extends MockRouting.MockController {
+
+  }
+
+  private static class Reuse04Composite
+      extends MockRouting.MockComposite {
+
+  }
+
+  private static class Reuse05Controller
+      extends MockRouting.MockController {
+
+  }
+
+  private static class Reuse06Controller
+      extends MockRouting.MockController {
+
+  }
+
+  private static class Reuse06Composite
+      extends MockRouting.MockComposite {
+
+  }
+
+  private static class Evict01Controller
+      extends MockRouting.MockController {
+
+  }
+
+  private static class Evict02Controller
+      extends MockRouting.MockController {
+
+  }
+
 }
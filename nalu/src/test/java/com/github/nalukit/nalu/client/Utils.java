@@ -1,6 +1,7 @@
 package com.github.nalukit.nalu.client;
 
 import com.github.nalukit.nalu.client.internal.CompositeControllerReference;
+import com.github.nalukit.nalu.client.internal.CompositeControllerReferenceIndex;
 import com.github.nalukit.nalu.client.internal.route.RouteConfig;
 import com.github.nalukit.nalu.client.internal.route.RouterConfiguration;
 import com.github.nalukit.nalu.client.internal.route.ShellConfig;
@@ -75,40 +76,35 @@ class Utils {
 
   static RouterConfiguration createRouterConfiguration() {
     RouterConfiguration routerConfiguration = new RouterConfiguration();
-    routerConfiguration.getRouters()
-                       .add(new RouteConfig("/MockShell/",
-                                            Arrays.asList(new String[] {}),
-                                            "content",
-                                            "com.github.nalukit.example.nalu.simpleapplication.client.ui.footer.FooterController"));
-    routerConfiguration.getRouters()
-                       .add(new RouteConfig("/MockShell/testRoute01",
-                                            Arrays.asList(new String[] {}),
-                                            "content",
-                                            "com.github.nalukit.example.nalu.simpleapplication.client.ui.content.detail.DetailController"));
-    routerConfiguration.getRouters()
-                       .add(new RouteConfig("/MockShell/testRoute02/*/*",
-                                            Arrays.asList("testParaemter01",
-                                                          "testParameter02"),
-                                            "content",
-                                            "com.github.nalukit.example.nalu.simpleapplication.client.ui.content.detail.DetailController"));
-    routerConfiguration.getRouters()
-                       .add(new RouteConfig("/MockShell/testRoute03/testRoute04/testRoute05",
-                                            Arrays.asList(new String[] {}),
-                                            "content",
-                                            "com.github.nalukit.example.nalu.simpleapplication.client.ui.content.detail.DetailController"));
-    routerConfiguration.getRouters()
-                       .add(new RouteConfig("/MockShell/testRoute06/testRoute07/*/*",
-                                            Arrays.asList("testParameter01",
-                                                          "testParameter02",
-                                                          "testParameter03"),
-                                            "content",
-                                            "com.github.nalukit.example.nalu.simpleapplication.client.ui.content.detail.DetailController"));
+    routerConfiguration.addRoute(new RouteConfig("/MockShell/",
+                                                 Arrays.asList(new String[] {}),
+                                                 "content",
+                                                 "com.github.nalukit.example.nalu.simpleapplication.client.ui.footer.FooterController"));
+    routerConfiguration.addRoute(new RouteConfig("/MockShell/testRoute01",
+                                                 Arrays.asList(new String[] {}),
+                                                 "content",
+                                                 "com.github.nalukit.example.nalu.simpleapplication.client.ui.content.detail.DetailController"));
+    routerConfiguration.addRoute(new RouteConfig("/MockShell/testRoute02/*/*",
+                                                 Arrays.asList("testParaemter01",
+                                                               "testParameter02"),
+                                                 "content",
+                                                 "com.github.nalukit.example.nalu.simpleapplication.client.ui.content.detail.DetailController"));
+    routerConfiguration.addRoute(new RouteConfig("/MockShell/testRoute03/testRoute04/testRoute05",
+                                                 Arrays.asList(new String[] {}),
+                                                 "content",
+                                                 "com.github.nalukit.example.nalu.simpleapplication.client.ui.content.detail.DetailController"));
+    routerConfiguration.addRoute(new RouteConfig("/MockShell/testRoute06/testRoute07/*/*",
+                                                 Arrays.asList("testParameter01",
+                                                               "testParameter02",
+                                                               "testParameter03"),
+                                                 "content",
+                                                 "com.github.nalukit.example.nalu.simpleapplication.client.ui.content.detail.DetailController"));
     return routerConfiguration;
   }
 
-  static List<CompositeControllerReference> createCompositeConfiguration() {
+  static CompositeControllerReferenceIndex createCompositeConfiguration() {
     List<CompositeControllerReference> compositeControllerReferences = new ArrayList<>();
-    return compositeControllerReferences;
+    return new CompositeControllerReferenceIndex(compositeControllerReferences);
   }
 
 }
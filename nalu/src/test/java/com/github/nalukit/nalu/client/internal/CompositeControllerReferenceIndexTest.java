@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class CompositeControllerReferenceIndexTest {
+
+  @Test
+  void testGet01() {
+    List<CompositeControllerReference> references = new ArrayList<>();
+    references.add(new CompositeControllerReference("controller01",
+                                                    "composite01",
+                                                    "compositeClass01",
+                                                    "selector01",
+                                                    false));
+    references.add(new CompositeControllerReference("controller01",
+                                                    "composite02",
+                                                    "compositeClass02",
+                                                    "selector02",
+                                                    true));
+    references.add(new CompositeControllerReference("controller02",
+                                                    "composite01",
+                                                    "compositeClass01",
+                                                    "selector01",
+                                                    false));
+    CompositeControllerReferenceIndex index = new CompositeControllerReferenceIndex(references);
+    CompositeControllerReferenceIndex.ControllerReferences controllerReferences = index.get("controller01");
+    Assertions.assertEquals(2,
+                            controllerReferences.getAll()
+                                                .size());
+    Assertions.assertEquals("compositeClass01",
+                            controllerReferences.getAll()
+                                                .get(0)
+                                                .getComposite());
+    Assertions.assertEquals(1,
+                            controllerReferences.getGlobal()
+                                                .size());
+    Assertions.assertEquals("selector02",
+                            controllerReferences.getGlobal()
+                                                .get(0)
+                                                .getSelector());
+    Assertions.assertEquals(1,
+                            controllerReferences.getLocal()
+                                                .size());
+  }
+
+  @Test
+  void testGet02() {
+    CompositeControllerReferenceIndex index = new CompositeControllerReferenceIndex(new ArrayList<>());
+    Assertions.assertTrue(index.get("controller01")
+                               .isEmpty());
+  }
+
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.application;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class CacheStoreTest {
+
+  @Test
+  void testUnbounded() {
+    List<String> evicted = new ArrayList<>();
+    CacheStore<String> store = new CacheStore<>(evicted::add);
+    for (int i = 0; i < 100; i++) {
+      store.put("key" + i,
+                "value" + i);
+    }
+    Assertions.assertEquals(100,
+                            store.size());
+    Assertions.assertEquals(0,
+                            store.getEvictionCount());
+    Assertions.assertTrue(evicted.isEmpty());
+  }
+
+  @Test
+  void testMaxSizeEvictsLeastRecentlyUsed() {
+    List<String> evicted = new ArrayList<>();
+    CacheStore<String> store = new CacheStore<>(evicted::add);
+    store.configure(2,
+                    0);
+    store.put("key01",
+              "value01");
+    store.put("key02",
+              "value02");
+    // touch key01, so key02 is the least recently used one
+    store.get("key01");
+    store.put("key03",
+              "value03");
+    Assertions.assertEquals(2,
+                            store.size());
+    Assertions.assertEquals("value01",
+                            store.get("key01"));
+    Assertions.assertNull(store.get("key02"));
+    Assertions.assertEquals(1,
+                            store.getEvictionCount());
+    Assertions.assertEquals("value02",
+                            evicted.get(0));
+  }
+
+  @Test
+  void testValuesInUseAreNotEvicted() {
+    List<String> evicted = new ArrayList<>();
+    CacheStore<String> store = new CacheStore<>(evicted::add);
+    store.setInUsePredicate("value01"::equals);
+    store.configure(1,
+                    0);
+    store.put("key01",
+              "value01");
+    store.put("key02",
+              "value02");
+    Assertions.assertEquals(1,
+                            store.size());
+    Assertions.assertEquals("value01",
+                            store.get("key01"));
+    Assertions.assertEquals("value02",
+                            evicted.get(0));
+  }
+
+  @Test
+  void testMaxIdleTime() {
+    List<String> evicted = new ArrayList<>();
+    long[] now = new long[] { 1000L };
+    CacheStore<String> store = new CacheStore<String>(evicted::add) {
+
+      @Override
+      long now() {
+        return now[0];
+      }
+
+    };
+    store.configure(0,
+                    500L);
+    store.put("key01",
+              "value01");
+    now[0] = 1300L;
+    store.put("key02",
+              "value02");
+    now[0] = 1600L;
+    store.evict();
+    Assertions.assertEquals(1,
+                            store.size());
+    Assertions.assertNull(store.get("key01"));
+    Assertions.assertEquals("value02",
+                            store.get("key02"));
+    Assertions.assertEquals(1,
+                            store.getEvictionCount());
+  }
+
+  @Test
+  void testEvictAll() {
+    List<String> evicted = new ArrayList<>();
+    CacheStore<String> store = new CacheStore<>(evicted::add);
+    store.setInUsePredicate("value01"::equals);
+    store.put("key01",
+              "value01");
+    store.put("key02",
+              "value02");
+    store.evictAll();
+    // values in use are evicted too
+    Assertions.assertEquals(0,
+                            store.size());
+    Assertions.assertEquals(2,
+                            store.getEvictionCount());
+    Assertions.assertTrue(evicted.contains("value01"));
+    Assertions.assertTrue(evicted.contains("value02"));
+  }
+
+}
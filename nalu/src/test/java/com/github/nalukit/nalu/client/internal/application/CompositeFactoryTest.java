@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.application;
+
+import com.github.nalukit.nalu.client.component.AbstractCompositeComponent;
+import com.github.nalukit.nalu.client.component.AbstractCompositeController;
+import com.github.nalukit.nalu.client.component.IsCompositeComponent;
+import com.github.nalukit.nalu.client.exception.RoutingInterceptionException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+public class CompositeFactoryTest {
+
+  @Test
+  void testSetParameter()
+      throws RoutingInterceptionException {
+    String composite = "SetParameterComposite01";
+    TestCompositeCreator creator = new TestCompositeCreator(composite,
+                                                            TestComposite01::new);
+    CompositeFactory.get()
+                    .registerComposite(composite,
+                                       creator);
+    CompositeInstance compositeInstance = CompositeFactory.get()
+                                                          .getComposite("SetParameterController01",
+                                                                        composite,
+                                                                        false,
+                                                                        "value01");
+    Assertions.assertEquals("value01",
+                            creator.parameters);
+    // the creator is found using the class of the composite
+    CompositeFactory.get()
+                    .setParameter(compositeInstance.getComposite(),
+                                  "value02",
+                                  "value03");
+    Assertions.assertEquals("value02,value03",
+                            creator.parameters);
+  }
+
+  @Test
+  void testSetParameterInterception()
+      throws RoutingInterceptionException {
+    String composite = "SetParameterComposite02";
+    TestCompositeCreator creator = new TestCompositeCreator(composite,
+                                                            TestComposite02::new);
+    CompositeFactory.get()
+                    .registerComposite(composite,
+                                       creator);
+    CompositeInstance compositeInstance = CompositeFactory.get()
+                                                          .getComposite("SetParameterController02",
+                                                                        composite,
+                                                                        false);
+    creator.redirectTo = "/shell/redirect";
+    RoutingInterceptionException exception = Assertions.assertThrows(RoutingInterceptionException.class,
+                                                                     () -> CompositeFactory.get()
+                                                                                           .setParameter(compositeInstance.getComposite(),
+                                                                                                         "value01"));
+    Assertions.assertEquals("/shell/redirect",
+                            exception.getRoute());
+  }
+
+  @Test
+  void testPrefetch()
+      throws RoutingInterceptionException {
+    String composite = "PrefetchComposite01";
+    TestCompositeCreator creator = new TestCompositeCreator(composite,
+                                                            PrefetchComposite::new);
+    CompositeFactory.get()
+                    .registerComposite(composite,
+                                       creator);
+    CompositeFactory.get()
+                    .prefetch("PrefetchController01",
+                              composite);
+    Assertions.assertEquals(1,
+                            creator.composites.size());
+    // the prefetched composite is used
+    CompositeInstance compositeInstance = CompositeFactory.get()
+                                                          .getComposite("PrefetchController01",
+                                                                        composite,
+                                                                        false,
+                                                                        "value01");
+    Assertions.assertEquals(1,
+                            creator.composites.size());
+    Assertions.assertSame(creator.composites.get(0),
+                          compositeInstance.getComposite());
+    Assertions.assertEquals("value01",
+                            creator.parameters);
+    Assertions.assertEquals(0,
+                            this.getHandlerRemovals(creator,
+                                                    0));
+  }
+
+  @Test
+  void testPrefetchMaxSize()
+      throws RoutingInterceptionException {
+    String composite = "PrefetchComposite02";
+    TestCompositeCreator creator = new TestCompositeCreator(composite,
+                                                            PrefetchComposite::new);
+    CompositeFactory.get()
+                    .registerComposite(composite,
+                                       creator);
+    CompositeFactory.get()
+                    .configurePrefetch(1,
+                                       0);
+    try {
+      CompositeFactory.get()
+                      .prefetch("PrefetchController02",
+                                composite);
+      CompositeFactory.get()
+                      .prefetch("PrefetchController03",
+                                composite);
+      // the oldest prefetched composite is evicted and unbound
+      Assertions.assertEquals(1,
+                              this.getHandlerRemovals(creator,
+                                                      0));
+      Assertions.assertEquals(0,
+                              this.getHandlerRemovals(creator,
+                                                      1));
+      Assertions.assertEquals(1,
+                              CompositeFactory.get()
+                                              .getPrefetchedCompositeCount());
+      CompositeFactory.get()
+                      .getComposite("PrefetchController02",
+                                    composite,
+                                    false);
+      Assertions.assertEquals(3,
+                              creator.composites.size());
+    } finally {
+      CompositeFactory.get()
+                      .configurePrefetch(CompositeFactory.PREFETCH_MAX_SIZE,
+                                         CompositeFactory.PREFETCH_MAX_IDLE_TIME);
+    }
+  }
+
+  @Test
+  void testClearPrefetchedComposites()
+      throws RoutingInterceptionException {
+    String composite = "PrefetchComposite03";
+    TestCompositeCreator creator = new TestCompositeCreator(composite,
+                                                            PrefetchComposite::new);
+    CompositeFactory.get()
+                    .registerComposite(composite,
+                                       creator);
+    CompositeFactory.get()
+                    .prefetch("PrefetchController04",
+                              composite);
+    CompositeFactory.get()
+                    .clearPrefetchedComposites();
+    Assertions.assertEquals(0,
+                            CompositeFactory.get()
+                                            .getPrefetchedCompositeCount());
+    Assertions.assertEquals(1,
+                            this.getHandlerRemovals(creator,
+                                                    0));
+  }
+
+  private int getHandlerRemovals(TestCompositeCreator creator,
+                                 int index) {
+    return ((PrefetchComposite) creator.composites.get(index)).handlerRemovals;
+  }
+
+  private static class TestCompositeCreator
+      implements IsCompositeCreator {
+
+    private final String className;
+
+    /* every composite needs its own class */
+    private final Supplier<AbstractCompositeController<?, ?, ?>> compositeSupplier;
+
+    /* the composites created by the creator */
+    private final List<AbstractCompositeController<?, ?, ?>> composites = new ArrayList<>();
+
+    private String parameters;
+
+    private String redirectTo;
+
+    private TestCompositeCreator(String className,
+                                 Supplier<AbstractCompositeController<?, ?, ?>> compositeSupplier) {
+      this.className = className;
+      this.compositeSupplier = compositeSupplier;
+    }
+
+    @Override
+    public CompositeInstance create(String parentControllerClassName) {
+      CompositeInstance compositeInstance = new CompositeInstance();
+      compositeInstance.setCompositeClassName(this.className);
+      AbstractCompositeController<?, ?, ?> composite = this.compositeSupplier.get();
+      this.composites.add(composite);
+      compositeInstance.setComposite(composite);
+      return compositeInstance;
+    }
+
+    @Override
+    public void setParameter(Object object,
+                             String... parms)
+        throws RoutingInterceptionException {
+      if (this.redirectTo != null) {
+        throw new RoutingInterceptionException(this.className,
+                                               this.redirectTo);
+      }
+      this.parameters = String.join(",",
+                                    parms);
+    }
+
+  }
+
+  private static class TestComposite01
+      extends AbstractCompositeController<DefaultContext, IsCompositeComponent<IsCompositeComponent.Controller, String>, String> {
+
+  }
+
+  private static class TestComposite02
+      extends AbstractCompositeController<DefaultContext, IsCompositeComponent<IsCompositeComponent.Controller, String>, String> {
+
+  }
+
+  private static class PrefetchComposite
+      extends AbstractCompositeController<DefaultContext, PrefetchCompositeComponent, String> {
+
+    /* number of calls of removeHandlers */
+    private int handlerRemovals;
+
+    private PrefetchComposite() {
+      this.handlerRegistrations.add(() -> this.handlerRemovals++);
+      this.setComponent(new PrefetchCompositeComponent());
+    }
+
+  }
+
+  private static class PrefetchCompositeComponent
+      extends AbstractCompositeComponent<IsCompositeComponent.Controller, String> {
+
+    @Override
+    public void render() {
+    }
+
+  }
+
+}
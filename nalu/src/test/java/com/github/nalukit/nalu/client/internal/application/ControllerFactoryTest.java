@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.application;
+
+import com.github.nalukit.nalu.client.component.AbstractComponentController;
+import com.github.nalukit.nalu.client.component.IsComponent;
+import com.github.nalukit.nalu.client.exception.RoutingInterceptionException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ControllerFactoryTest {
+
+  @AfterEach
+  void after() {
+    ControllerFactory.get()
+                     .registerCreatorFactory(null);
+  }
+
+  @Test
+  void testSplitPointLoad() {
+    String controller = "SplitPointController01";
+    SplitPointCreatorFactory creatorFactory = new SplitPointCreatorFactory(controller);
+    ControllerFactory.get()
+                     .registerCreatorFactory(creatorFactory);
+    TestControllerCallback callback = new TestControllerCallback();
+    ControllerFactory.get()
+                     .controller(controller,
+                                 callback,
+                                 "value01");
+    // the code of the controller is loaded first
+    Assertions.assertEquals(1,
+                            creatorFactory.callbacks.size());
+    Assertions.assertTrue(callback.controllerInstances.isEmpty());
+    TestControllerCreator creator = new TestControllerCreator();
+    creatorFactory.callbacks.get(0)
+                            .onLoad(creator);
+    Assertions.assertEquals(1,
+                            callback.controllerInstances.size());
+    Assertions.assertNotNull(callback.controllerInstances.get(0)
+                                                         .getController());
+    Assertions.assertEquals("value01",
+                            creator.parameters);
+    // the loaded creator is used from now on
+    TestControllerCallback secondCallback = new TestControllerCallback();
+    ControllerFactory.get()
+                     .controller(controller,
+                                 secondCallback,
+                                 "value02");
+    Assertions.assertEquals(1,
+                            creatorFactory.callbacks.size());
+    Assertions.assertEquals(1,
+                            secondCallback.controllerInstances.size());
+    Assertions.assertEquals("value02",
+                            creator.parameters);
+  }
+
+  @Test
+  void testSplitPointLoadFailure() {
+    String controller = "SplitPointController02";
+    SplitPointCreatorFactory creatorFactory = new SplitPointCreatorFactory(controller);
+    ControllerFactory.get()
+                     .registerCreatorFactory(creatorFactory);
+    TestControllerCallback callback = new TestControllerCallback();
+    ControllerFactory.get()
+                     .controller(controller,
+                                 callback);
+    creatorFactory.callbacks.get(0)
+                            .onFailure(new Exception("loading failed"));
+    // no controller instance: the router will use the error route
+    Assertions.assertEquals(1,
+                            callback.controllerInstances.size());
+    Assertions.assertNull(callback.controllerInstances.get(0)
+                                                      .getController());
+    // the next request tries to load the code again
+    ControllerFactory.get()
+                     .controller(controller,
+                                 new TestControllerCallback());
+    Assertions.assertEquals(2,
+                            creatorFactory.callbacks.size());
+  }
+
+  @Test
+  void testSplitPointLoadCanceled() {
+    String controller = "SplitPointController03";
+    SplitPointCreatorFactory creatorFactory = new SplitPointCreatorFactory(controller);
+    ControllerFactory.get()
+                     .registerCreatorFactory(creatorFactory);
+    TestControllerCallback callback = new TestControllerCallback();
+    ControllerFactory.get()
+                     .controller(controller,
+                                 callback);
+    // the routing is superseded while loading the code
+    callback.canceled = true;
+    TestControllerCreator creator = new TestControllerCreator();
+    creatorFactory.callbacks.get(0)
+                            .onLoad(creator);
+    Assertions.assertTrue(callback.controllerInstances.isEmpty());
+    Assertions.assertEquals(0,
+                            creator.created);
+  }
+
+  @Test
+  void testSetParameter()
+      throws RoutingInterceptionException {
+    String controller = "SetParameterController01";
+    TestControllerCreator creator = new TestControllerCreator();
+    ControllerFactory.get()
+                     .registerController(controller,
+                                         creator);
+    ControllerFactory.get()
+                     .setParameter(controller,
+                                   new TestController(),
+                                   "value01",
+                                   "value02");
+    Assertions.assertEquals("value01,value02",
+                            creator.parameters);
+    // unknown controllers are ignored
+    ControllerFactory.get()
+                     .setParameter("SetParameterController02",
+                                   new TestController(),
+                                   "value03");
+    Assertions.assertEquals("value01,value02",
+                            creator.parameters);
+  }
+
+  private static class SplitPointCreatorFactory
+      implements IsCreatorFactory {
+
+    /* callbacks of the requests to load the code of the controller */
+    private final List<ControllerCreatorCallback> callbacks = new ArrayList<>();
+
+    private final String splitPointController;
+
+    private SplitPointCreatorFactory(String splitPointController) {
+      this.splitPointController = splitPointController;
+    }
+
+    @Override
+    public IsControllerCreator createControllerCreator(String controller) {
+      // the creator of a split point is never referenced directly
+      return null;
+    }
+
+    @Override
+    public boolean isSplitPoint(String controller) {
+      return this.splitPointController.equals(controller);
+    }
+
+    @Override
+    public void loadControllerCreator(String controller,
+                                      ControllerCreatorCallback callback) {
+      // same as GWT.runAsync: the callback will be called later
+      this.callbacks.add(callback);
+    }
+
+    @Override
+    public IsCompositeCreator createCompositeCreator(String composite) {
+      return null;
+    }
+
+    @Override
+    public IsShellCreator createShellCreator(String shell) {
+      return null;
+    }
+
+    @Override
+    public IsPopUpControllerCreator createPopUpControllerCreator(String popUpName) {
+      return null;
+    }
+
+  }
+
+  private static class TestControllerCreator
+      implements IsControllerCreator {
+
+    private int created;
+
+    private String parameters;
+
+    @Override
+    public ControllerInstance create() {
+      this.created++;
+      ControllerInstance controllerInstance = new ControllerInstance();
+      controllerInstance.setController(new TestController());
+      return controllerInstance;
+    }
+
+    @Override
+    public void onFinishCreating(Object object) {
+    }
+
+    @Override
+    public void logBindMethodCallToConsole(AbstractComponentController<?, ?, ?> controller,
+                                           boolean isFinished) {
+    }
+
+    @Override
+    public void setParameter(Object object,
+                             String... parms) {
+      this.parameters = String.join(",",
+                                    parms);
+    }
+
+  }
+
+  private static class TestController
+      extends AbstractComponentController<DefaultContext, IsComponent<IsComponent.Controller, String>, String> {
+
+  }
+
+  private static class TestControllerCallback
+      implements ControllerCallback {
+
+    private final List<ControllerInstance> controllerInstances = new ArrayList<>();
+
+    private boolean canceled;
+
+    @Override
+    public void onRoutingInterceptionException(RoutingInterceptionException e) {
+      Assertions.fail("unexpected routing interception");
+    }
+
+    @Override
+    public void onFinish(ControllerInstance controllerInstance) {
+      this.controllerInstances.add(controllerInstance);
+    }
+
+    @Override
+    public boolean isCanceled() {
+      return this.canceled;
+    }
+
+  }
+
+}
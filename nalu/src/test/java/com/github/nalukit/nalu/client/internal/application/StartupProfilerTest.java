@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.application;
+
+import com.github.nalukit.nalu.client.application.StartupPhase;
+import com.github.nalukit.nalu.client.application.StartupTiming;
+import com.github.nalukit.nalu.client.application.event.StartupPhaseEvent;
+import org.gwtproject.event.shared.SimpleEventBus;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class StartupProfilerTest {
+
+  private double now;
+
+  private StartupProfiler profiler;
+
+  @BeforeEach
+  void setup() {
+    this.now = 1000;
+    this.profiler = new StartupProfiler() {
+      @Override
+      double now() {
+        return now;
+      }
+    };
+    this.profiler.start(null);
+  }
+
+  @Test
+  void testPhase() {
+    this.now = 1010;
+    this.profiler.begin(StartupPhase.LOAD_ROUTES);
+    this.now = 1015;
+    this.profiler.end(StartupPhase.LOAD_ROUTES);
+    Assertions.assertEquals(1,
+                            this.profiler.getTimings()
+                                         .size());
+    StartupTiming timing = this.profiler.getTimings()
+                                        .get(0);
+    Assertions.assertEquals(StartupPhase.LOAD_ROUTES,
+                            timing.getPhase());
+    Assertions.assertEquals(10d,
+                            timing.getStartTime());
+    Assertions.assertEquals(15d,
+                            timing.getEndTime());
+    Assertions.assertEquals(5d,
+                            timing.getDuration());
+  }
+
+  @Test
+  void testMilestonesStartWithApplication() {
+    this.now = 1100;
+    this.profiler.end(StartupPhase.FIRST_SHELL_ATTACHED);
+    this.now = 1200;
+    this.profiler.end(StartupPhase.FIRST_SHELL_ATTACHED);
+    Assertions.assertEquals(1,
+                            this.profiler.getTimings()
+                                         .size());
+    Assertions.assertEquals(100d,
+                            this.profiler.getTimings()
+                                         .get(0)
+                                         .getDuration());
+  }
+
+  @Test
+  void testPhaseIsRecordedOnce() {
+    this.profiler.begin(StartupPhase.FIRST_ROUTING);
+    this.profiler.end(StartupPhase.FIRST_ROUTING);
+    this.profiler.begin(StartupPhase.FIRST_ROUTING);
+    this.profiler.end(StartupPhase.FIRST_ROUTING);
+    // not started
+    this.profiler.end(StartupPhase.LOAD_FILTERS);
+    Assertions.assertEquals(1,
+                            this.profiler.getTimings()
+                                         .size());
+  }
+
+  @Test
+  void testEvent() {
+    List<StartupTiming> timings = new ArrayList<>();
+    SimpleEventBus eventBus = new SimpleEventBus();
+    eventBus.addHandler(StartupPhaseEvent.TYPE,
+                        e -> timings.add(e.getTiming()));
+    this.profiler.setEventBus(eventBus);
+    this.profiler.begin(StartupPhase.LOAD_HANDLERS);
+    this.profiler.end(StartupPhase.LOAD_HANDLERS);
+    Assertions.assertEquals(1,
+                            timings.size());
+    Assertions.assertEquals(StartupPhase.LOAD_HANDLERS,
+                            timings.get(0)
+                                   .getPhase());
+  }
+
+  @Test
+  void testStartResetsTimings() {
+    this.profiler.begin(StartupPhase.LOAD_SHELLS);
+    this.profiler.end(StartupPhase.LOAD_SHELLS);
+    this.profiler.start(null);
+    Assertions.assertTrue(this.profiler.getTimings()
+                                       .isEmpty());
+  }
+
+}
@@ -1,10 +1,44 @@
 package com.github.nalukit.nalu.client.internal.route;
 
+import com.github.nalukit.nalu.client.internal.PropertyFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+
 // TODO ...
 public class RouteParserTest {
 
+  private ShellConfiguration shellConfiguration;
+
+  private RouterConfiguration routerConfiguration;
+
+  @BeforeEach
+  void before() {
+    PropertyFactory.get()
+                   .register("shell01/route01",
+                             true,
+                             true,
+                             false,
+                             false);
+    this.shellConfiguration = new ShellConfiguration();
+    this.shellConfiguration.getShells()
+                           .add(new ShellConfig("/shell01",
+                                                "shellClassName01"));
+    this.routerConfiguration = new RouterConfiguration();
+    this.routerConfiguration.addRoute(new RouteConfig("/shell01/route01",
+                                                      new ArrayList<>(),
+                                                      "selector01",
+                                                      "className01"));
+    this.routerConfiguration.addRoute(new RouteConfig("/shell01/route02/*/*",
+                                                      Arrays.asList("parameter01",
+                                                                    "parameter02"),
+                                                      "selector01",
+                                                      "className02"));
+  }
+
   @Test
   void parse() {
   }
@@ -13,4 +47,158 @@ public class RouteParserTest {
   void generate() {
   }
 
-}
\ No newline at end of file
+  @Test
+  void resolve01() {
+    RouteResult routeResult = RouteParser.get()
+                                         .resolve("/shell01/route02/*/*",
+                                                  new String[] { "1",
+                                                                 "a/b" },
+                                                  this.shellConfiguration,
+                                                  this.routerConfiguration);
+    Assertions.assertNotNull(routeResult);
+    Assertions.assertEquals("/shell01",
+                            routeResult.getShell());
+    Assertions.assertEquals("/shell01/route02/*/*",
+                            routeResult.getRoute());
+    Assertions.assertEquals(Arrays.asList("1",
+                                          "a/b"),
+                            routeResult.getParameterValues());
+    Assertions.assertEquals(1,
+                            routeResult.getRouteConfigs()
+                                       .size());
+  }
+
+  @Test
+  void resolve02SameAsParse()
+      throws RouterException {
+    String[] parms = new String[] { "1",
+                                    "a/b" };
+    RouteResult resolvedRouteResult = RouteParser.get()
+                                                 .resolve("/shell01/route02/*/*",
+                                                          parms,
+                                                          this.shellConfiguration,
+                                                          this.routerConfiguration);
+    RouteResult parsedRouteResult = RouteParser.get()
+                                               .parse(RouteParser.get()
+                                                                 .generate("/shell01/route02/*/*",
+                                                                           parms),
+                                                      this.shellConfiguration,
+                                                      this.routerConfiguration);
+    Assertions.assertEquals(parsedRouteResult.getShell(),
+                            resolvedRouteResult.getShell());
+    Assertions.assertEquals(parsedRouteResult.getRoute(),
+                            resolvedRouteResult.getRoute());
+    Assertions.assertEquals(parsedRouteResult.getParameterValues(),
+                            resolvedRouteResult.getParameterValues());
+    Assertions.assertEquals(parsedRouteResult.getRouteConfigs(),
+                            resolvedRouteResult.getRouteConfigs());
+  }
+
+  @Test
+  void resolve02OverlappingRoutes()
+      throws RouterException {
+    // the route added first wins, in case both routes match the hash
+    this.routerConfiguration.addRoute(new RouteConfig("/shell01/route03/edit/*",
+                                                      Arrays.asList("parameter01"),
+                                                      "selector01",
+                                                      "className03"));
+    this.routerConfiguration.addRoute(new RouteConfig("/shell01/route03/*/*",
+                                                      Arrays.asList("parameter01",
+                                                                    "parameter02"),
+                                                      "selector01",
+                                                      "className04"));
+    // parsing the hash finds the route added first, so the route can not be resolved directly
+    String[] parms01 = new String[] { "edit",
+                                      "x" };
+    Assertions.assertNull(RouteParser.get()
+                                     .resolve("/shell01/route03/*/*",
+                                              parms01,
+                                              this.shellConfiguration,
+                                              this.routerConfiguration));
+    RouteResult parsedRouteResult01 = RouteParser.get()
+                                                 .parse(RouteParser.get()
+                                                                   .generate("/shell01/route03/*/*",
+                                                                             parms01),
+                                                        this.shellConfiguration,
+                                                        this.routerConfiguration);
+    Assertions.assertEquals("/shell01/route03/edit/*",
+                            parsedRouteResult01.getRoute());
+    Assertions.assertEquals("className03",
+                            parsedRouteResult01.getRouteConfigs()
+                                               .get(0)
+                                               .getClassName());
+    // no overlapping: the route is resolved directly
+    String[] parms02 = new String[] { "view",
+                                      "x" };
+    RouteResult resolvedRouteResult02 = RouteParser.get()
+                                                   .resolve("/shell01/route03/*/*",
+                                                            parms02,
+                                                            this.shellConfiguration,
+                                                            this.routerConfiguration);
+    RouteResult parsedRouteResult02 = RouteParser.get()
+                                                 .parse(RouteParser.get()
+                                                                   .generate("/shell01/route03/*/*",
+                                                                             parms02),
+                                                        this.shellConfiguration,
+                                                        this.routerConfiguration);
+    Assertions.assertNotNull(resolvedRouteResult02);
+    Assertions.assertEquals(parsedRouteResult02.getRoute(),
+                            resolvedRouteResult02.getRoute());
+    Assertions.assertEquals(parsedRouteResult02.getRouteConfigs(),
+                            resolvedRouteResult02.getRouteConfigs());
+  }
+
+  @Test
+  void resolve03WrongNumberOfParameters() {
+    Assertions.assertNull(RouteParser.get()
+                                     .resolve("/shell01/route02/*/*",
+                                              new String[] { "1" },
+                                              this.shellConfiguration,
+                                              this.routerConfiguration));
+  }
+
+  @Test
+  void resolve04UnknownShell() {
+    Assertions.assertNull(RouteParser.get()
+                                     .resolve("/shell02/route01",
+                                              new String[] {},
+                                              this.shellConfiguration,
+                                              this.routerConfiguration));
+  }
+
+  @Test
+  void resolve05UnknownRoute() {
+    Assertions.assertNull(RouteParser.get()
+                                     .resolve("/shell01/route03",
+                                              new String[] {},
+                                              this.shellConfiguration,
+                                              this.routerConfiguration));
+  }
+
+  @Test
+  void resolve06EmptyParameter()
+      throws RouterException {
+    // the generated hash has no trailing empty segment
+    String[] parms = new String[] { "1",
+                                    "" };
+    RouteResult resolvedRouteResult = RouteParser.get()
+                                                 .resolve("/shell01/route02/*/*",
+                                                          parms,
+                                                          this.shellConfiguration,
+                                                          this.routerConfiguration);
+    RouteResult parsedRouteResult = RouteParser.get()
+                                               .parse(RouteParser.get()
+                                                                 .generate("/shell01/route02/*/*",
+                                                                           parms),
+                                                      this.shellConfiguration,
+                                                      this.routerConfiguration);
+    Assertions.assertNotNull(resolvedRouteResult);
+    Assertions.assertEquals(parsedRouteResult.getRoute(),
+                            resolvedRouteResult.getRoute());
+    Assertions.assertEquals(parsedRouteResult.getParameterValues(),
+                            resolvedRouteResult.getParameterValues());
+    Assertions.assertEquals(parsedRouteResult.getRouteConfigs(),
+                            resolvedRouteResult.getRouteConfigs());
+  }
+
+}
@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import com.github.nalukit.nalu.client.internal.PropertyFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class RouteTreeTest {
+
+  private RouteTree routeTree;
+
+  @BeforeEach
+  void before() {
+    PropertyFactory.get()
+                   .register("shell01/route01",
+                             true,
+                             true,
+                             false,
+                             false);
+    List<RouteConfig> routeConfigs = new ArrayList<>();
+    routeConfigs.add(new RouteConfig("/shell01/route01",
+                                     new ArrayList<>(),
+                                     "selector01",
+                                     "className01"));
+    routeConfigs.add(new RouteConfig("/shell01/route02/*/*",
+                                     Arrays.asList("parameter01",
+                                                   "parameter02"),
+                                     "selector01",
+                                     "className02"));
+    routeConfigs.add(new RouteConfig("/shell01/route02/*/*",
+                                     Arrays.asList("parameter01",
+                                                   "parameter02"),
+                                     "selector02",
+                                     "className03"));
+    routeConfigs.add(new RouteConfig("/[shell01|shell02]/route03",
+                                     new ArrayList<>(),
+                                     "selector01",
+                                     "className04"));
+    routeConfigs.add(new RouteConfig("/shell01/*/route04",
+                                     new ArrayList<>(),
+                                     "selector01",
+                                     "className05"));
+    routeConfigs.add(new RouteConfig("/shell01/route05/route04",
+                                     new ArrayList<>(),
+                                     "selector01",
+                                     "className06"));
+    this.routeTree = new RouteTree(routeConfigs);
+  }
+
+  @Test
+  void testFind01() {
+    RouteTree.Match match = this.routeTree.find("shell01/route01");
+    Assertions.assertNotNull(match);
+    Assertions.assertEquals("/shell01/route01",
+                            match.getRouteConfig()
+                                 .getRoute());
+    Assertions.assertEquals(0,
+                            match.getParameterValues()
+                                 .size());
+  }
+
+  @Test
+  void testFind02() {
+    RouteTree.Match match = this.routeTree.find("/shell01/route02/value01/value02");
+    Assertions.assertNotNull(match);
+    Assertions.assertEquals("/shell01/route02/*/*",
+                            match.getRouteConfig()
+                                 .getRoute());
+    Assertions.assertEquals(2,
+                            match.getRouteConfigs()
+                                 .size());
+    Assertions.assertEquals("value01",
+                            match.getParameterValues()
+                                 .get(0));
+    Assertions.assertEquals("value02",
+                            match.getParameterValues()
+                                 .get(1));
+  }
+
+  @Test
+  void testFind03() {
+    RouteTree.Match match = this.routeTree.find("/shell01/route02/value01");
+    Assertions.assertNotNull(match);
+    Assertions.assertEquals("/shell01/route02/*/*",
+                            match.getRouteConfig()
+                                 .getRoute());
+    Assertions.assertEquals("value01",
+                            match.getParameterValues()
+                                 .get(0));
+    Assertions.assertEquals("",
+                            match.getParameterValues()
+                                 .get(1));
+  }
+
+  @Test
+  void testFind04() {
+    Assertions.assertNull(this.routeTree.find("/shell01/route02/value01/value02/value03"));
+    Assertions.assertNull(this.routeTree.find("/shell03/route01"));
+  }
+
+  @Test
+  void testFind05() {
+    RouteTree.Match match = this.routeTree.find("/shell02/route03");
+    Assertions.assertNotNull(match);
+    Assertions.assertEquals("className04",
+                            match.getRouteConfig()
+                                 .getClassName());
+  }
+
+  @Test
+  void testFind06() {
+    // first added route wins
+    RouteTree.Match match = this.routeTree.find("/shell01/route05/route04");
+    Assertions.assertNotNull(match);
+    Assertions.assertEquals("className05",
+                            match.getRouteConfig()
+                                 .getClassName());
+  }
+
+  @Test
+  void testFindAlias01() {
+    List<RouteConfig> routeConfigs = new ArrayList<>();
+    routeConfigs.add(new RouteConfig("/shell01/route02/*/*",
+                                     Arrays.asList("parameter01",
+                                                   "parameter02"),
+                                     "selector01",
+                                     "className02"));
+    Map<String, String> aliases = new HashMap<>();
+    aliases.put("/shell01/alias02/*/*",
+                "/shell01/route02/*/*");
+    RouteTree routeTree = new RouteTree(routeConfigs,
+                                        aliases);
+    RouteTree.Match match = routeTree.find("/shell01/alias02/value01/value02");
+    Assertions.assertNotNull(match);
+    Assertions.assertTrue(match.isAlias());
+    Assertions.assertEquals("/shell01/route02/*/*",
+                            match.getRouteConfig()
+                                 .getRoute());
+    Assertions.assertEquals(Arrays.asList("value01",
+                                          "value02"),
+                            match.getParameterValues());
+    Assertions.assertFalse(routeTree.find("/shell01/route02/value01/value02")
+                                    .isAlias());
+  }
+
+  @Test
+  void testFindAlias02() {
+    // the processor rejects aliases matched by a route,
+    // so an alias only matches hashes no route matches
+    List<RouteConfig> routeConfigs = new ArrayList<>();
+    routeConfigs.add(new RouteConfig("/shell01/route01",
+                                     new ArrayList<>(),
+                                     "selector01",
+                                     "className01"));
+    routeConfigs.add(new RouteConfig("/shell01/route02/*",
+                                     Arrays.asList("parameter01"),
+                                     "selector01",
+                                     "className02"));
+    Map<String, String> aliases = new HashMap<>();
+    aliases.put("/shell01/route03",
+                "/shell01/route01");
+    RouteTree routeTree = new RouteTree(routeConfigs,
+                                        aliases);
+    RouteTree.Match match = routeTree.find("/shell01/route03");
+    Assertions.assertNotNull(match);
+    Assertions.assertTrue(match.isAlias());
+    Assertions.assertEquals("className01",
+                            match.getRouteConfig()
+                                 .getClassName());
+    RouteTree.Match routeMatch = routeTree.find("/shell01/route02/value01");
+    Assertions.assertNotNull(routeMatch);
+    Assertions.assertFalse(routeMatch.isAlias());
+    Assertions.assertEquals("className02",
+                            routeMatch.getRouteConfig()
+                                      .getClassName());
+  }
+
+  @Test
+  void testMatch01() {
+    List<RouteConfig> routeConfigs = this.routeTree.match("/shell01/route02/*/*");
+    Assertions.assertEquals(2,
+                            routeConfigs.size());
+    Assertions.assertEquals("className02",
+                            routeConfigs.get(0)
+                                        .getClassName());
+    Assertions.assertEquals("className03",
+                            routeConfigs.get(1)
+                                        .getClassName());
+  }
+
+  @Test
+  void testMatch02() {
+    Assertions.assertEquals(1,
+                            this.routeTree.match("/shell01/route03")
+                                          .size());
+    Assertions.assertEquals(1,
+                            this.routeTree.match("/[shell01|shell02]/route03")
+                                          .size());
+    Assertions.assertEquals(0,
+                            this.routeTree.match("/shell01/route02/value01/value02")
+                                          .size());
+  }
+
+  @Test
+  void testSplit() {
+    Assertions.assertArrayEquals(new String[] { "shell01",
+                                                "route01" },
+                                 RouteTree.split("/shell01/route01"));
+    Assertions.assertArrayEquals(new String[] { "shell01",
+                                                "route01" },
+                                 RouteTree.split("shell01/route01/"));
+    Assertions.assertArrayEquals(new String[] { "shell01",
+                                                "",
+                                                "route01" },
+                                 RouteTree.split("/shell01//route01"));
+    Assertions.assertArrayEquals(new String[] { "shell01" },
+                                 RouteTree.split("shell01//"));
+    Assertions.assertArrayEquals(new String[] { "" },
+                                 RouteTree.split("/"));
+    Assertions.assertArrayEquals(new String[] { "" },
+                                 RouteTree.split("//"));
+    Assertions.assertArrayEquals(new String[] { "" },
+                                 RouteTree.split(""));
+  }
+
+  @Test
+  void testFindSharesRouteConfigs() {
+    RouteTree.Match match01 = this.routeTree.find("/shell01/route02/value01/value02");
+    RouteTree.Match match02 = this.routeTree.find("/shell01/route02/value03/value04");
+    Assertions.assertSame(match01.getRouteConfigs(),
+                          match02.getRouteConfigs());
+    Assertions.assertEquals(2,
+                            match01.getRouteConfigs()
+                                   .size());
+  }
+
+  @Test
+  void testFindSegments() {
+    RouteTree.Match match = this.routeTree.find(new String[] { "shell01",
+                                                               "route02",
+                                                               "value01",
+                                                               "value02" });
+    Assertions.assertNotNull(match);
+    Assertions.assertSame(this.routeTree.find("/shell01/route02/value01/value02")
+                                        .getRouteConfig(),
+                          match.getRouteConfig());
+    Assertions.assertEquals(Arrays.asList("value01",
+                                          "value02"),
+                            match.getParameterValues());
+  }
+
+}
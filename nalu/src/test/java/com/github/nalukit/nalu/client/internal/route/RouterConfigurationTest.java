@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import com.github.nalukit.nalu.client.filter.IsFilter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+public class RouterConfigurationTest {
+
+  private RouterConfiguration routerConfiguration;
+
+  private IsFilter filterForAllRoutes;
+
+  private IsFilter filterForAdminRoutes;
+
+  @BeforeEach
+  void before() {
+    this.filterForAllRoutes = new TestFilter();
+    this.filterForAdminRoutes = new TestFilter("/shell01/admin",
+                                               "/*/settings/*");
+    this.routerConfiguration = new RouterConfiguration();
+    this.routerConfiguration.getFilters()
+                            .add(this.filterForAllRoutes);
+    this.routerConfiguration.getFilters()
+                            .add(this.filterForAdminRoutes);
+  }
+
+  @Test
+  void testGetFilters01() {
+    Assertions.assertEquals(1,
+                            this.routerConfiguration.getFilters("/shell01/route01")
+                                                    .size());
+    Assertions.assertSame(this.filterForAllRoutes,
+                          this.routerConfiguration.getFilters("/shell01/route01")
+                                                  .get(0));
+  }
+
+  @Test
+  void testGetFilters02() {
+    Assertions.assertEquals(2,
+                            this.routerConfiguration.getFilters("/shell01/admin")
+                                                    .size());
+    Assertions.assertEquals(2,
+                            this.routerConfiguration.getFilters("/shell01/admin/*/edit")
+                                                    .size());
+    Assertions.assertEquals(2,
+                            this.routerConfiguration.getFilters("/shell02/settings/*")
+                                                    .size());
+    Assertions.assertEquals(1,
+                            this.routerConfiguration.getFilters("/shell02/admin")
+                                                    .size());
+  }
+
+  @Test
+  void testGetFilters03() {
+    // shell groups
+    Assertions.assertEquals(2,
+                            this.routerConfiguration.getFilters("/[shell01|shell02]/admin")
+                                                    .size());
+  }
+
+  @Test
+  void testGetFilters04() {
+    // changing the filters rebuilds the index
+    Assertions.assertEquals(1,
+                            this.routerConfiguration.getFilters("/shell01/route01")
+                                                    .size());
+    this.routerConfiguration.getFilters()
+                            .add(new TestFilter("/shell01/route01"));
+    Assertions.assertEquals(2,
+                            this.routerConfiguration.getFilters("/shell01/route01")
+                                                    .size());
+  }
+
+  @Test
+  void testFilterResultCache() {
+    FilterResultCache filterResultCache = new FilterResultCache();
+    filterResultCache.put("/shell01/route01/*",
+                          new String[] { "1" },
+                          true);
+    Assertions.assertEquals(Boolean.TRUE,
+                            filterResultCache.get("/shell01/route01/*",
+                                                  new String[] { "1" }));
+    Assertions.assertNull(filterResultCache.get("/shell01/route01/*",
+                                                new String[] { "2" }));
+    for (int i = 0; i < FilterResultCache.MAX_SIZE + 10; i++) {
+      filterResultCache.put("/shell01/route02/*",
+                            new String[] { Integer.toString(i) },
+                            false);
+    }
+    Assertions.assertEquals(FilterResultCache.MAX_SIZE,
+                            filterResultCache.size());
+  }
+
+  @Test
+  void testAddRoute() {
+    this.routerConfiguration.addRoute(new RouteConfig("/shell01/route01",
+                                                      new ArrayList<>(),
+                                                      "selector01",
+                                                      "className01"));
+    Assertions.assertEquals(1,
+                            this.routerConfiguration.match("/shell01/route01")
+                                                    .size());
+    // adding a route rebuilds the route tree
+    this.routerConfiguration.addRoute(new RouteConfig("/shell01/route02",
+                                                      new ArrayList<>(),
+                                                      "selector01",
+                                                      "className02"));
+    Assertions.assertEquals(1,
+                            this.routerConfiguration.match("/shell01/route02")
+                                                    .size());
+    Assertions.assertThrows(UnsupportedOperationException.class,
+                            () -> this.routerConfiguration.getRouters()
+                                                          .clear());
+  }
+
+  @Test
+  void testAddAlias() {
+    this.routerConfiguration.addRoute(new RouteConfig("/shell01/route01",
+                                                      new ArrayList<>(),
+                                                      "selector01",
+                                                      "className01"));
+    Assertions.assertNull(this.routerConfiguration.getRouteTree()
+                                                  .find("/shell01/alias01"));
+    // adding an alias rebuilds the route tree
+    this.routerConfiguration.addAlias("/shell01/alias01",
+                                      "/shell01/route01");
+    Assertions.assertTrue(this.routerConfiguration.isAlias("/shell01/alias01"));
+    Assertions.assertNotNull(this.routerConfiguration.getRouteTree()
+                                                     .find("/shell01/alias01"));
+    Assertions.assertThrows(UnsupportedOperationException.class,
+                            () -> this.routerConfiguration.getAliases()
+                                                          .clear());
+  }
+
+  private static class TestFilter
+      implements IsFilter {
+
+    private String[] routes;
+
+    private TestFilter(String... routes) {
+      this.routes = routes;
+    }
+
+    @Override
+    public boolean filter(String route,
+                          String... parms) {
+      return true;
+    }
+
+    @Override
+    public String redirectTo() {
+      return null;
+    }
+
+    @Override
+    public String[] parameters() {
+      return new String[0];
+    }
+
+    @Override
+    public String[] routes() {
+      return this.routes;
+    }
+
+  }
+
+}
@@ -39,43 +39,36 @@ public class RouteValidationTest {
     this.routerConfiguration = new RouterConfiguration();
     this.shellConfiguration = new ShellConfiguration();
 
-    this.routerConfiguration.getRouters()
-                            .add(new RouteConfig("/application/person/list/*/*",
-                                                 Arrays.asList("name",
-                                                               "city"),
-                                                 "content",
-                                                 "com.github.nalukit.example.nalu.simpleapplication.client.ui.content.list.ListController"));
-    this.routerConfiguration.getRouters()
-                            .add(new RouteConfig("/application/person/search/*/*",
-                                                 Arrays.asList("searchName",
-                                                               "searchCity"),
-                                                 "content",
-                                                 "com.github.nalukit.example.nalu.simpleapplication.client.ui.content.search.SearchController"));
-    this.routerConfiguration.getRouters()
-                            .add(new RouteConfig("/application",
-                                                 Collections.emptyList(),
-                                                 "footer",
-                                                 "com.github.nalukit.example.nalu.simpleapplication.client.ui.footer.FooterController"));
-    this.routerConfiguration.getRouters()
-                            .add(new RouteConfig("/error/show",
-                                                 Collections.emptyList(),
-                                                 "content",
-                                                 "com.github.nalukit.example.nalu.simpleapplication.client.ui.content.error.ErrorController"));
-    this.routerConfiguration.getRouters()
-                            .add(new RouteConfig("/application",
-                                                 Collections.emptyList(),
-                                                 "navigation",
-                                                 "com.github.nalukit.example.nalu.simpleapplication.client.ui.navigation.NavigationController"));
-    this.routerConfiguration.getRouters()
-                            .add(new RouteConfig("/application/person/detail/*",
-                                                 Collections.singletonList("id"),
-                                                 "content",
-                                                 "com.github.nalukit.example.nalu.simpleapplication.client.ui.content.detail.DetailController"));
-    this.routerConfiguration.getRouters()
-                            .add(new RouteConfig("/application/person/*/detail",
-                                                 Collections.singletonList("id"),
-                                                 "content",
-                                                 "com.github.nalukit.example.nalu.simpleapplication.client.ui.content.detail.DetailController"));
+    this.routerConfiguration.addRoute(new RouteConfig("/application/person/list/*/*",
+                                                      Arrays.asList("name",
+                                                                    "city"),
+                                                      "content",
+                                                      "com.github.nalukit.example.nalu.simpleapplication.client.ui.content.list.ListController"));
+    this.routerConfiguration.addRoute(new RouteConfig("/application/person/search/*/*",
+                                                      Arrays.asList("searchName",
+                                                                    "searchCity"),
+                                                      "content",
+                                                      "com.github.nalukit.example.nalu.simpleapplication.client.ui.content.search.SearchController"));
+    this.routerConfiguration.addRoute(new RouteConfig("/application",
+                                                      Collections.emptyList(),
+                                                      "footer",
+                                                      "com.github.nalukit.example.nalu.simpleapplication.client.ui.footer.FooterController"));
+    this.routerConfiguration.addRoute(new RouteConfig("/error/show",
+                                                      Collections.emptyList(),
+                                                      "content",
+                                                      "com.github.nalukit.example.nalu.simpleapplication.client.ui.content.error.ErrorController"));
+    this.routerConfiguration.addRoute(new RouteConfig("/application",
+                                                      Collections.emptyList(),
+                                                      "navigation",
+                                                      "com.github.nalukit.example.nalu.simpleapplication.client.ui.navigation.NavigationController"));
+    this.routerConfiguration.addRoute(new RouteConfig("/application/person/detail/*",
+                                                      Collections.singletonList("id"),
+                                                      "content",
+                                                      "com.github.nalukit.example.nalu.simpleapplication.client.ui.content.detail.DetailController"));
+    this.routerConfiguration.addRoute(new RouteConfig("/application/person/*/detail",
+                                                      Collections.singletonList("id"),
+                                                      "content",
+                                                      "com.github.nalukit.example.nalu.simpleapplication.client.ui.content.detail.DetailController"));
 
     this.shellConfiguration.getShells()
                            .add(new ShellConfig("/error",
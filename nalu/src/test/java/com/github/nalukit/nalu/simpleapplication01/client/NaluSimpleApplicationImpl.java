@@ -370,33 +370,28 @@ public final class NaluSimpleApplicationImpl
 
   @Override
   public void loadRoutes() {
-    super.routerConfiguration.getRouters()
-                             .add(new RouteConfig("/",
-                                                  Arrays.asList(new String[] {}),
-                                                  "navigation",
-                                                  "NavigationController"));
-    super.routerConfiguration.getRouters()
-                             .add(new RouteConfig("/detail",
-                                                  Arrays.asList("id"),
-                                                  "content",
-                                                  "DetailController"));
-    super.routerConfiguration.getRouters()
-                             .add(new RouteConfig("/list",
-                                                  Arrays.asList("name",
-                                                                "city"),
-                                                  "content",
-                                                  "ListController"));
-    super.routerConfiguration.getRouters()
-                             .add(new RouteConfig("/",
-                                                  Arrays.asList(new String[] {}),
-                                                  "footer",
-                                                  "FooterController"));
-    super.routerConfiguration.getRouters()
-                             .add(new RouteConfig("/search",
-                                                  Arrays.asList("searchName",
-                                                                "searchCity"),
-                                                  "content",
-                                                  "SearchController"));
+    super.routerConfiguration.addRoute(new RouteConfig("/",
+                                                       Arrays.asList(new String[] {}),
+                                                       "navigation",
+                                                       "NavigationController"));
+    super.routerConfiguration.addRoute(new RouteConfig("/detail",
+                                                       Arrays.asList("id"),
+                                                       "content",
+                                                       "DetailController"));
+    super.routerConfiguration.addRoute(new RouteConfig("/list",
+                                                       Arrays.asList("name",
+                                                                     "city"),
+                                                       "content",
+                                                       "ListController"));
+    super.routerConfiguration.addRoute(new RouteConfig("/",
+                                                       Arrays.asList(new String[] {}),
+                                                       "footer",
+                                                       "FooterController"));
+    super.routerConfiguration.addRoute(new RouteConfig("/search",
+                                                       Arrays.asList("searchName",
+                                                                     "searchCity"),
+                                                       "content",
+                                                       "SearchController"));
   }
 
   @Override
@@ -0,0 +1,400 @@
+/*
+ * Copyright 2011 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.gwtproject.event.shared;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class SimpleEventBusTest {
+
+  @Test
+  void testFireEvent() {
+    SimpleEventBus eventBus = new SimpleEventBus();
+    List<String> calls = new ArrayList<>();
+    eventBus.addHandler(TestEvent.TYPE,
+                        value -> calls.add("handler01: " + value));
+    eventBus.addHandler(TestEvent.TYPE,
+                        value -> calls.add("handler02: " + value));
+    eventBus.fireEvent(new TestEvent("event01"));
+    Assertions.assertEquals(2,
+                            calls.size());
+    Assertions.assertEquals("handler01: event01",
+                            calls.get(0));
+    Assertions.assertEquals("handler02: event01",
+                            calls.get(1));
+  }
+
+  @Test
+  void testFireEventFromSource() {
+    SimpleEventBus eventBus = new SimpleEventBus();
+    Object source01 = new Object();
+    Object source02 = new Object();
+    List<String> calls = new ArrayList<>();
+    eventBus.addHandler(TestEvent.TYPE,
+                        value -> calls.add("global: " + value));
+    eventBus.addHandlerToSource(TestEvent.TYPE,
+                                source01,
+                                value -> calls.add("source01: " + value));
+    eventBus.addHandlerToSource(TestEvent.TYPE,
+                                source02,
+                                value -> calls.add("source02: " + value));
+    eventBus.fireEventFromSource(new TestEvent("event01"),
+                                 source01);
+    Assertions.assertEquals(2,
+                            calls.size());
+    Assertions.assertEquals("source01: event01",
+                            calls.get(0));
+    Assertions.assertEquals("global: event01",
+                            calls.get(1));
+  }
+
+  @Test
+  void testRemoveHandler() {
+    SimpleEventBus eventBus = new SimpleEventBus();
+    List<String> calls = new ArrayList<>();
+    HandlerRegistration registration = eventBus.addHandler(TestEvent.TYPE,
+                                                           value -> calls.add("handler01: " + value));
+    eventBus.fireEvent(new TestEvent("event01"));
+    registration.removeHandler();
+    eventBus.fireEvent(new TestEvent("event02"));
+    Assertions.assertEquals(1,
+                            calls.size());
+    Assertions.assertEquals("handler01: event01",
+                            calls.get(0));
+  }
+
+  @Test
+  void testAddHandlerWhileFiring() {
+    SimpleEventBus eventBus = new SimpleEventBus();
+    List<String> calls = new ArrayList<>();
+    eventBus.addHandler(TestEvent.TYPE,
+                        value -> {
+                          calls.add("handler01: " + value);
+                          if ("event01".equals(value)) {
+                            eventBus.addHandler(TestEvent.TYPE,
+                                                v -> calls.add("handler02: " + v));
+                          }
+                        });
+    eventBus.fireEvent(new TestEvent("event01"));
+    // the handler added during dispatch is not called for the running dispatch
+    Assertions.assertEquals(1,
+                            calls.size());
+    eventBus.fireEvent(new TestEvent("event02"));
+    Assertions.assertEquals(3,
+                            calls.size());
+    Assertions.assertEquals("handler02: event02",
+                            calls.get(2));
+  }
+
+  @Test
+  void testRemoveHandlerWhileFiring() {
+    SimpleEventBus eventBus = new SimpleEventBus();
+    List<String> calls = new ArrayList<>();
+    HandlerRegistration[] registration02 = new HandlerRegistration[1];
+    eventBus.addHandler(TestEvent.TYPE,
+                        value -> {
+                          calls.add("handler01: " + value);
+                          registration02[0].removeHandler();
+                        });
+    registration02[0] = eventBus.addHandler(TestEvent.TYPE,
+                                            value -> calls.add("handler02: " + value));
+    eventBus.fireEvent(new TestEvent("event01"));
+    // the handler removed during dispatch is still called for the running dispatch
+    Assertions.assertEquals(2,
+                            calls.size());
+    eventBus.fireEvent(new TestEvent("event02"));
+    Assertions.assertEquals(3,
+                            calls.size());
+  }
+
+  @Test
+  void testExceptionsAreCollected() {
+    SimpleEventBus eventBus = new SimpleEventBus();
+    List<String> calls = new ArrayList<>();
+    eventBus.addHandler(TestEvent.TYPE,
+                        value -> {
+                          throw new IllegalStateException(value);
+                        });
+    eventBus.addHandler(TestEvent.TYPE,
+                        value -> calls.add("handler02: " + value));
+    Assertions.assertThrows(UmbrellaException.class,
+                            () -> eventBus.fireEvent(new TestEvent("event01")));
+    Assertions.assertEquals(1,
+                            calls.size());
+  }
+
+  @Test
+  void testScope() {
+    SimpleEventBus eventBus = new SimpleEventBus();
+    SimpleEventBus scope = eventBus.createScope();
+    List<String> calls = new ArrayList<>();
+    eventBus.addHandler(TestEvent.TYPE,
+                        value -> calls.add("bus: " + value));
+    scope.addHandler(TestEvent.TYPE,
+                     value -> calls.add("scope: " + value));
+    eventBus.fireEvent(new TestEvent("event01"));
+    // events fired on the scope are fired on the bus
+    scope.fireEvent(new TestEvent("event02"));
+    Assertions.assertEquals(4,
+                            calls.size());
+    Assertions.assertEquals("bus: event01",
+                            calls.get(0));
+    Assertions.assertEquals("scope: event01",
+                            calls.get(1));
+    Assertions.assertEquals("bus: event02",
+                            calls.get(2));
+    Assertions.assertEquals("scope: event02",
+                            calls.get(3));
+  }
+
+  @Test
+  void testResetScope() {
+    SimpleEventBus eventBus = new SimpleEventBus();
+    SimpleEventBus scope = eventBus.createScope();
+    List<String> calls = new ArrayList<>();
+    eventBus.addHandler(TestEvent.TYPE,
+                        value -> calls.add("bus: " + value));
+    HandlerRegistration registration = scope.addHandler(TestEvent.TYPE,
+                                                        value -> calls.add("scope01: " + value));
+    scope.resetScope();
+    eventBus.fireEvent(new TestEvent("event01"));
+    Assertions.assertEquals(1,
+                            calls.size());
+    // the scope can be used after a reset ...
+    TestHandler handler = value -> calls.add("scope02: " + value);
+    scope.addHandler(TestEvent.TYPE,
+                     handler);
+    // ... and registrations created before the reset do not remove new handlers
+    registration.removeHandler();
+    eventBus.fireEvent(new TestEvent("event02"));
+    Assertions.assertEquals(3,
+                            calls.size());
+    Assertions.assertEquals("scope02: event02",
+                            calls.get(2));
+  }
+
+  @Test
+  void testScopeDispatchOrder() {
+    SimpleEventBus eventBus = new SimpleEventBus();
+    SimpleEventBus scope01 = eventBus.createScope();
+    SimpleEventBus scope02 = eventBus.createScope();
+    List<String> calls = new ArrayList<>();
+    scope02.addHandler(TestEvent.TYPE,
+                       value -> calls.add("scope02"));
+    scope01.addHandler(TestEvent.TYPE,
+                       value -> calls.add("scope01"));
+    eventBus.addHandler(TestEvent.TYPE,
+                        value -> calls.add("bus"));
+    // handlers of the bus first, then the scopes in the order they got their first handler
+    eventBus.fireEvent(new TestEvent("event01"));
+    Assertions.assertEquals(3,
+                            calls.size());
+    Assertions.assertEquals("bus",
+                            calls.get(0));
+    Assertions.assertEquals("scope02",
+                            calls.get(1));
+    Assertions.assertEquals("scope01",
+                            calls.get(2));
+    // a reset scope is attached again at the end
+    scope02.resetScope();
+    scope02.addHandler(TestEvent.TYPE,
+                       value -> calls.add("scope02"));
+    calls.clear();
+    eventBus.fireEvent(new TestEvent("event02"));
+    Assertions.assertEquals(3,
+                            calls.size());
+    Assertions.assertEquals("scope01",
+                            calls.get(1));
+    Assertions.assertEquals("scope02",
+                            calls.get(2));
+  }
+
+  @Test
+  void testResetScopeWhileFiring() {
+    SimpleEventBus eventBus = new SimpleEventBus();
+    SimpleEventBus scope01 = eventBus.createScope();
+    SimpleEventBus scope02 = eventBus.createScope();
+    SimpleEventBus scope03 = eventBus.createScope();
+    SimpleEventBus scope04 = eventBus.createScope();
+    List<String> calls = new ArrayList<>();
+    scope01.addHandler(TestEvent.TYPE,
+                       value -> {
+                         calls.add("scope01: " + value);
+                         scope02.resetScope();
+                         scope04.addHandler(TestEvent.TYPE,
+                                            value04 -> calls.add("scope04: " + value04));
+                       });
+    scope02.addHandler(TestEvent.TYPE,
+                       value -> calls.add("scope02: " + value));
+    scope03.addHandler(TestEvent.TYPE,
+                       value -> calls.add("scope03: " + value));
+    // handlers of a scope reset during the dispatch are not called,
+    // scopes attached during the dispatch are called with the next event
+    eventBus.fireEvent(new TestEvent("event01"));
+    Assertions.assertEquals(2,
+                            calls.size());
+    Assertions.assertEquals("scope01: event01",
+                            calls.get(0));
+    Assertions.assertEquals("scope03: event01",
+                            calls.get(1));
+    scope01.resetScope();
+    eventBus.fireEvent(new TestEvent("event02"));
+    Assertions.assertEquals(4,
+                            calls.size());
+    Assertions.assertEquals("scope03: event02",
+                            calls.get(2));
+    Assertions.assertEquals("scope04: event02",
+                            calls.get(3));
+  }
+
+  @Test
+  void testResetNestedScope() {
+    SimpleEventBus eventBus = new SimpleEventBus();
+    SimpleEventBus scope = eventBus.createScope();
+    SimpleEventBus nestedScope = scope.createScope();
+    List<String> calls = new ArrayList<>();
+    nestedScope.addHandler(TestEvent.TYPE,
+                           value -> calls.add("nested: " + value));
+    eventBus.fireEvent(new TestEvent("event01"));
+    // resetting the scope resets the nested scope
+    scope.resetScope();
+    eventBus.fireEvent(new TestEvent("event02"));
+    nestedScope.addHandler(TestEvent.TYPE,
+                           value -> calls.add("nested: " + value));
+    eventBus.fireEvent(new TestEvent("event03"));
+    Assertions.assertEquals(2,
+                            calls.size());
+    Assertions.assertEquals("nested: event01",
+                            calls.get(0));
+    Assertions.assertEquals("nested: event03",
+                            calls.get(1));
+  }
+
+  @Test
+  void testResettableEventBus() {
+    SimpleEventBus eventBus = new SimpleEventBus();
+    ResettableEventBus resettableEventBus = new ResettableEventBus(eventBus);
+    List<String> calls = new ArrayList<>();
+    resettableEventBus.addHandler(TestEvent.TYPE,
+                                  value -> calls.add("handler01: " + value));
+    resettableEventBus.addHandler(TestEvent.TYPE,
+                                  value -> calls.add("handler02: " + value));
+    Assertions.assertEquals(2,
+                            resettableEventBus.getRegistrationSize());
+    eventBus.fireEvent(new TestEvent("event01"));
+    resettableEventBus.removeHandlers();
+    eventBus.fireEvent(new TestEvent("event02"));
+    Assertions.assertEquals(2,
+                            calls.size());
+    Assertions.assertEquals(0,
+                            resettableEventBus.getRegistrationSize());
+  }
+
+  @Test
+  void testFireEventDeferred() {
+    SimpleEventBus eventBus = new SimpleEventBus();
+    List<String> calls = new ArrayList<>();
+    eventBus.addHandler(TestEvent.TYPE,
+                        value -> calls.add("handler01: " + value));
+    eventBus.fireEventDeferred(new TestEvent("event01"));
+    eventBus.fireEventDeferred(new TestEvent("event02"));
+    Assertions.assertTrue(calls.isEmpty());
+    eventBus.flushDeferredEvents();
+    Assertions.assertEquals(2,
+                            calls.size());
+    Assertions.assertEquals("handler01: event01",
+                            calls.get(0));
+    Assertions.assertEquals("handler01: event02",
+                            calls.get(1));
+  }
+
+  @Test
+  void testFireEventCoalesced() {
+    SimpleEventBus eventBus = new SimpleEventBus();
+    List<String> calls = new ArrayList<>();
+    eventBus.addHandler(TestEvent.TYPE,
+                        value -> calls.add("handler01: " + value));
+    eventBus.fireEventCoalesced(new TestEvent("event01"),
+                                "key01");
+    eventBus.fireEventCoalesced(new TestEvent("event02"),
+                                "key02");
+    eventBus.fireEventCoalesced(new TestEvent("event03"),
+                                "key01");
+    eventBus.flushDeferredEvents();
+    Assertions.assertEquals(2,
+                            calls.size());
+    Assertions.assertEquals("handler01: event03",
+                            calls.get(0));
+    Assertions.assertEquals("handler01: event02",
+                            calls.get(1));
+  }
+
+  @Test
+  void testDeferredScheduler() {
+    SimpleEventBus eventBus = new SimpleEventBus();
+    List<Runnable> tasks = new ArrayList<>();
+    eventBus.setDeferredScheduler(tasks::add);
+    List<String> calls = new ArrayList<>();
+    eventBus.addHandler(TestEvent.TYPE,
+                        value -> calls.add("handler01: " + value));
+    eventBus.fireEventCoalesced(new TestEvent("event01"),
+                                "key01");
+    eventBus.fireEventCoalesced(new TestEvent("event02"),
+                                "key01");
+    // only one flush is scheduled
+    Assertions.assertEquals(1,
+                            tasks.size());
+    tasks.get(0)
+         .run();
+    Assertions.assertEquals(1,
+                            calls.size());
+    Assertions.assertEquals("handler01: event02",
+                            calls.get(0));
+  }
+
+  interface TestHandler {
+
+    void onTest(String value);
+
+  }
+
+  static class TestEvent
+      extends Event<TestHandler> {
+
+    static final Type<TestHandler> TYPE = new Type<>();
+
+    private final String value;
+
+    TestEvent(String value) {
+      this.value = value;
+    }
+
+    @Override
+    public Type<TestHandler> getAssociatedType() {
+      return TYPE;
+    }
+
+    @Override
+    protected void dispatch(TestHandler handler) {
+      handler.onTest(this.value);
+    }
+
+  }
+
+}